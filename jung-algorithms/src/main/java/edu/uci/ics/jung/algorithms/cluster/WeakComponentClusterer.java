@@ -9,11 +9,11 @@
 */
 package edu.uci.ics.jung.algorithms.cluster;
 
-import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import com.google.common.base.Function;
 
@@ -43,28 +43,27 @@ public class WeakComponentClusterer<V,E> implements Function<Graph<V,E>, Set<Set
 
         Set<Set<V>> clusterSet = new HashSet<Set<V>>();
 
-        HashSet<V> unvisitedVertices = new HashSet<V>(graph.getVertices());
+        final HashSet<V> unvisitedVertices = new HashSet<V>(graph.getVertices());
 
         while (!unvisitedVertices.isEmpty()) {
-        	Set<V> cluster = new HashSet<V>();
+        	final Set<V> cluster = new HashSet<V>();
             V root = unvisitedVertices.iterator().next();
             unvisitedVertices.remove(root);
             cluster.add(root);
 
-            Queue<V> queue = new LinkedList<V>();
+            final Queue<V> queue = new LinkedList<V>();
             queue.add(root);
 
-            while (!queue.isEmpty()) {
-                V currentVertex = queue.remove();
-                Collection<V> neighbors = graph.getNeighbors(currentVertex);
-
-                for(V neighbor : neighbors) {
-                    if (unvisitedVertices.contains(neighbor)) {
+            Consumer<V> visitor = new Consumer<V>() {
+                public void accept(V neighbor) {
+                    if (unvisitedVertices.remove(neighbor)) {
                         queue.add(neighbor);
-                        unvisitedVertices.remove(neighbor);
                         cluster.add(neighbor);
                     }
                 }
+            };
+            while (!queue.isEmpty()) {
+                graph.forEachNeighbor(queue.remove(), visitor);
             }
             clusterSet.add(cluster);
         }
@@ -12,6 +12,7 @@
 package edu.uci.ics.jung.algorithms.filters;
 
 import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
 
 import edu.uci.ics.jung.graph.Graph;
 
@@ -67,4 +68,17 @@ public class EdgePredicateFilter<V, E> implements Filter<V, E>
         return filtered;
     }
 
+    /**
+     * Returns a read-only view of <code>g</code> containing all of its vertices
+     * and the edges that pass this filter's predicate.
+     * Unlike <code>apply</code>, this does not copy <code>g</code>.
+     * 
+     * @param g the graph to be filtered
+     * @return a view of the filtered graph, backed by <code>g</code>
+     * @see FilteredGraphView
+     */
+    public FilteredGraphView<V,E> view(Graph<V,E> g)
+    {
+        return new FilteredGraphView<V,E>(g, Predicates.alwaysTrue(), edge_pred);
+    }
 }
@@ -13,7 +13,12 @@ package edu.uci.ics.jung.algorithms.filters;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
+import com.google.common.base.Predicates;
+
+import edu.uci.ics.jung.graph.Graph;
 import edu.uci.ics.jung.graph.Hypergraph;
 
 /**
@@ -73,6 +78,33 @@ public class FilterUtils
 		return subgraph;
 	}
 	
+	/**
+	 * Returns a read-only view of the subgraph of <code>graph</code> induced by 
+	 * <code>vertices</code>.  Unlike <code>createInducedSubgraph</code>, no 
+	 * vertices or edges are copied; the view is backed by <code>graph</code>, 
+	 * and may be copied later via {@link FilteredGraphView#materialize}.
+	 * 
+	 * @param <V> the vertex type
+	 * @param <E> the edge type
+	 * @param vertices the subset of <code>graph</code>'s vertices around 
+	 * which the subgraph is to be constructed
+	 * @param graph the graph whose subgraph is to be viewed
+	 * @return a view of the subgraph induced by <code>vertices</code>
+	 * @throws IllegalArgumentException if any vertex in 
+	 * <code>vertices</code> is not in <code>graph</code>
+	 */
+	public static <V,E> FilteredGraphView<V,E> createInducedSubgraphView(Collection<V> 
+		vertices, Graph<V,E> graph)
+	{
+		for (V v : vertices)
+			if (!graph.containsVertex(v))
+				throw new IllegalArgumentException("Vertex " + v + 
+					" is not an element of " + graph);
+		Set<V> vertex_set = vertices instanceof Set ? (Set<V>)vertices : new HashSet<V>(vertices);
+		return new FilteredGraphView<V,E>(graph, Predicates.in(vertex_set), 
+				Predicates.alwaysTrue());
+	}
+	
 	/**
 	 * Creates the induced subgraphs of <code>graph</code> associated with each 
 	 * element of <code>vertex_collections</code>.
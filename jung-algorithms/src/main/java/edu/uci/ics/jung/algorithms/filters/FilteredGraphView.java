@@ -0,0 +1,376 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.filters;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
+import com.google.common.base.Supplier;
+import com.google.common.collect.Collections2;
+
+import edu.uci.ics.jung.graph.AbstractGraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * A read-only view of those parts of a graph that pass a vertex
+ * <code>Predicate</code> and an edge <code>Predicate</code>.  No vertices or
+ * edges are copied: each query is answered by consulting the backing graph and
+ * the predicates, so changes to the backing graph are visible in the view.
+ * An edge is part of the view if it passes the edge predicate and both of its
+ * endpoints pass the vertex predicate.
+ *
+ * <p>Since nothing is cached, counts such as {@code getVertexCount()} and
+ * {@code getEdgeCount()} take time proportional to the size of the backing
+ * graph; callers that need repeated whole-graph passes over a small view
+ * should use {@link #materialize(Supplier)}.
+ */
+@SuppressWarnings("serial")
+public class FilteredGraphView<V,E> extends AbstractGraph<V,E>
+{
+    protected final Graph<V,E> graph;
+    protected final Predicate<? super V> vertex_pred;
+    protected final Predicate<? super E> edge_pred;
+
+    /**
+     * If true, an edge passes iff its endpoints do, so the neighbors of a
+     * vertex in the view are exactly its neighbors in the backing graph
+     * which pass the vertex predicate.
+     */
+    private final boolean vertices_only;
+
+    private final Predicate<E> edge_filter = new Predicate<E>()
+    {
+        public boolean apply(E edge)
+        {
+            return acceptEdge(edge);
+        }
+    };
+
+    /**
+     * Creates a view of <code>graph</code> restricted to the vertices which pass
+     * <code>vertex_pred</code> and the edges which pass <code>edge_pred</code>
+     * and whose endpoints pass <code>vertex_pred</code>.
+     *
+     * @param graph the backing graph
+     * @param vertex_pred the predicate that specifies which vertices are in the view
+     * @param edge_pred the predicate that specifies which edges are in the view
+     */
+    public FilteredGraphView(Graph<V,E> graph, Predicate<? super V> vertex_pred,
+            Predicate<? super E> edge_pred)
+    {
+        if (graph == null || vertex_pred == null || edge_pred == null)
+            throw new IllegalArgumentException("graph and predicates may not be null");
+        this.graph = graph;
+        this.vertex_pred = vertex_pred;
+        this.edge_pred = edge_pred;
+        this.vertices_only = edge_pred.equals(Predicates.alwaysTrue());
+    }
+
+    /**
+     * @return the graph that backs this view
+     */
+    public Graph<V,E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Copies the vertices and edges of this view into a new graph obtained
+     * from <code>factory</code>.  The copy uses the same vertex and edge objects,
+     * and is not affected by subsequent changes to the backing graph.
+     *
+     * @param factory the source of the new graph
+     * @return a new graph containing the vertices and edges of this view
+     */
+    public Graph<V,E> materialize(Supplier<? extends Graph<V,E>> factory)
+    {
+        Graph<V,E> copy = factory.get();
+        for (V v : getVertices())
+            copy.addVertex(v);
+        for (E e : getEdges())
+            copy.addEdge(e, graph.getEndpoints(e), graph.getEdgeType(e));
+        return copy;
+    }
+
+    /**
+     * @return true iff <code>edge</code>, which must be in the backing graph,
+     * is in this view
+     */
+    protected boolean acceptEdge(E edge)
+    {
+        if (!edge_pred.apply(edge))
+            return false;
+        Pair<V> endpoints = graph.getEndpoints(edge);
+        return vertex_pred.apply(endpoints.getFirst()) &&
+            vertex_pred.apply(endpoints.getSecond());
+    }
+
+    private Collection<E> filterEdges(Collection<E> edges)
+    {
+        if (edges == null)
+            return null;
+        return Collections.unmodifiableCollection(Collections2.filter(edges, edge_filter));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<V> filterVertices(Collection<V> vertices)
+    {
+        if (vertices == null)
+            return null;
+        return Collections.unmodifiableCollection(
+                Collections2.filter(vertices, (Predicate<V>)vertex_pred));
+    }
+
+    private Collection<V> collectOpposites(V vertex, Collection<E> edges)
+    {
+        Set<V> opposites = new HashSet<V>();
+        for (E e : edges)
+            if (acceptEdge(e))
+                opposites.add(graph.getOpposite(vertex, e));
+        return Collections.unmodifiableCollection(opposites);
+    }
+
+    public boolean containsVertex(V vertex)
+    {
+        return graph.containsVertex(vertex) && vertex_pred.apply(vertex);
+    }
+
+    public boolean containsEdge(E edge)
+    {
+        return graph.containsEdge(edge) && acceptEdge(edge);
+    }
+
+    public Collection<V> getVertices()
+    {
+        return filterVertices(graph.getVertices());
+    }
+
+    public Collection<E> getEdges()
+    {
+        return filterEdges(graph.getEdges());
+    }
+
+    public Collection<E> getEdges(EdgeType edge_type)
+    {
+        return filterEdges(graph.getEdges(edge_type));
+    }
+
+    public int getVertexCount()
+    {
+        return getVertices().size();
+    }
+
+    public int getEdgeCount()
+    {
+        return getEdges().size();
+    }
+
+    public int getEdgeCount(EdgeType edge_type)
+    {
+        return getEdges(edge_type).size();
+    }
+
+    public EdgeType getDefaultEdgeType()
+    {
+        return graph.getDefaultEdgeType();
+    }
+
+    /**
+     * Returns the modification count of the backing graph.  Changes in the
+     * behavior of the predicates are not counted.
+     */
+    @Override
+    public long getModificationCount()
+    {
+        return graph.getModificationCount();
+    }
+
+    public Collection<E> getInEdges(V vertex)
+    {
+        if (!containsVertex(vertex))
+            return null;
+        return filterEdges(graph.getInEdges(vertex));
+    }
+
+    public Collection<E> getOutEdges(V vertex)
+    {
+        if (!containsVertex(vertex))
+            return null;
+        return filterEdges(graph.getOutEdges(vertex));
+    }
+
+    public Collection<E> getIncidentEdges(V vertex)
+    {
+        if (!containsVertex(vertex))
+            return null;
+        return filterEdges(graph.getIncidentEdges(vertex));
+    }
+
+    public Collection<V> getPredecessors(V vertex)
+    {
+        if (!containsVertex(vertex))
+            return null;
+        if (vertices_only)
+            return filterVertices(graph.getPredecessors(vertex));
+        return collectOpposites(vertex, graph.getInEdges(vertex));
+    }
+
+    public Collection<V> getSuccessors(V vertex)
+    {
+        if (!containsVertex(vertex))
+            return null;
+        if (vertices_only)
+            return filterVertices(graph.getSuccessors(vertex));
+        return collectOpposites(vertex, graph.getOutEdges(vertex));
+    }
+
+    public Collection<V> getNeighbors(V vertex)
+    {
+        if (!containsVertex(vertex))
+            return null;
+        if (vertices_only)
+            return filterVertices(graph.getNeighbors(vertex));
+        return collectOpposites(vertex, graph.getIncidentEdges(vertex));
+    }
+
+    @Override
+    public E findEdge(V v1, V v2)
+    {
+        if (!containsVertex(v1) || !containsVertex(v2))
+            return null;
+        if (vertices_only)
+            return graph.findEdge(v1, v2);
+        for (E e : graph.findEdgeSet(v1, v2))
+            if (edge_pred.apply(e))
+                return e;
+        return null;
+    }
+
+    @Override
+    public Collection<E> findEdgeSet(V v1, V v2)
+    {
+        if (!containsVertex(v1) || !containsVertex(v2))
+            return null;
+        return filterEdges(graph.findEdgeSet(v1, v2));
+    }
+
+    public Pair<V> getEndpoints(E edge)
+    {
+        if (!containsEdge(edge))
+            return null;
+        return graph.getEndpoints(edge);
+    }
+
+    public EdgeType getEdgeType(E edge)
+    {
+        if (!containsEdge(edge))
+            return null;
+        return graph.getEdgeType(edge);
+    }
+
+    public V getSource(E directed_edge)
+    {
+        if (!containsEdge(directed_edge))
+            return null;
+        return graph.getSource(directed_edge);
+    }
+
+    public V getDest(E directed_edge)
+    {
+        if (!containsEdge(directed_edge))
+            return null;
+        return graph.getDest(directed_edge);
+    }
+
+    public boolean isSource(V vertex, E edge)
+    {
+        return containsEdge(edge) && graph.isSource(vertex, edge);
+    }
+
+    public boolean isDest(V vertex, E edge)
+    {
+        return containsEdge(edge) && graph.isDest(vertex, edge);
+    }
+
+    @Override
+    public void forEachInEdge(V vertex, Consumer<? super E> action)
+    {
+        if (containsVertex(vertex))
+            graph.forEachInEdge(vertex, filterConsumer(action));
+    }
+
+    @Override
+    public void forEachOutEdge(V vertex, Consumer<? super E> action)
+    {
+        if (containsVertex(vertex))
+            graph.forEachOutEdge(vertex, filterConsumer(action));
+    }
+
+    @Override
+    public void forEachIncidentEdge(V vertex, Consumer<? super E> action)
+    {
+        if (containsVertex(vertex))
+            graph.forEachIncidentEdge(vertex, filterConsumer(action));
+    }
+
+    private Consumer<E> filterConsumer(final Consumer<? super E> action)
+    {
+        return new Consumer<E>()
+        {
+            public void accept(E edge)
+            {
+                if (acceptEdge(edge))
+                    action.accept(edge);
+            }
+        };
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>: views are read-only.
+     */
+    public boolean addVertex(V vertex)
+    {
+        throw new UnsupportedOperationException("filtered views are read-only");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>: views are read-only.
+     */
+    @Override
+    public boolean addEdge(E edge, Pair<? extends V> endpoints, EdgeType edgeType)
+    {
+        throw new UnsupportedOperationException("filtered views are read-only");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>: views are read-only.
+     */
+    public boolean removeVertex(V vertex)
+    {
+        throw new UnsupportedOperationException("filtered views are read-only");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>: views are read-only.
+     */
+    public boolean removeEdge(E edge)
+    {
+        throw new UnsupportedOperationException("filtered views are read-only");
+    }
+}
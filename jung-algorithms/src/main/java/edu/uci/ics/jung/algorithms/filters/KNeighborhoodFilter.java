@@ -18,6 +18,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import com.google.common.base.Predicates;
+
 import edu.uci.ics.jung.algorithms.filters.Filter;
 import edu.uci.ics.jung.graph.Graph;
 import edu.uci.ics.jung.graph.util.Pair;
@@ -70,6 +72,45 @@ public class KNeighborhoodFilter<V,E> implements Filter<V,E> {
 	 */
 	@SuppressWarnings("unchecked")
 	public Graph<V,E> apply(Graph<V,E> graph) {
+		Set<V> acceptedVertices = collectNeighborhood(graph);
+		Graph<V,E> ug = null;
+		try {
+			ug = graph.getClass().newInstance();
+			for(E edge : graph.getEdges()) {
+				Pair<V> endpoints = graph.getEndpoints(edge);
+				if(acceptedVertices.containsAll(endpoints)) {
+					ug.addEdge(edge, endpoints.getFirst(), endpoints.getSecond());
+				}
+			}
+		} 
+        catch (InstantiationException e)
+        {
+            throw new RuntimeException("Unable to create copy of existing graph: ", e);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new RuntimeException("Unable to create copy of existing graph: ", e);
+        }
+		return ug;
+	}
+
+	/**
+	 * Returns a read-only view of the subgraph of <code>graph</code> induced by 
+	 * the k-neighborhood around the root node(s).  Only the neighborhood itself
+	 * is computed; no vertices or edges are copied.  Unlike <code>apply</code>,
+	 * the view includes root nodes that are not incident to any edge in the
+	 * neighborhood.
+	 * 
+	 * @param graph the graph whose neighborhood is to be viewed
+	 * @return a view of the k-neighborhood, backed by <code>graph</code>
+	 * @see FilteredGraphView
+	 */
+	public FilteredGraphView<V,E> view(Graph<V,E> graph) {
+		return new FilteredGraphView<V,E>(graph, 
+				Predicates.in(collectNeighborhood(graph)), Predicates.alwaysTrue());
+	}
+
+	private Set<V> collectNeighborhood(Graph<V,E> graph) {
 		// generate a Set of Vertices we want
 		// add all to the UG
 		int currentDepth = 0;
@@ -119,24 +160,6 @@ public class KNeighborhoodFilter<V,E> implements Filter<V,E> {
 			currentVertices = newVertices;
 			currentDepth++;
 		}
-		Graph<V,E> ug = null;
-		try {
-			ug = graph.getClass().newInstance();
-			for(E edge : graph.getEdges()) {
-				Pair<V> endpoints = graph.getEndpoints(edge);
-				if(acceptedVertices.containsAll(endpoints)) {
-					ug.addEdge(edge, endpoints.getFirst(), endpoints.getSecond());
-				}
-			}
-		} 
-        catch (InstantiationException e)
-        {
-            throw new RuntimeException("Unable to create copy of existing graph: ", e);
-        }
-        catch (IllegalAccessException e)
-        {
-            throw new RuntimeException("Unable to create copy of existing graph: ", e);
-        }
-		return ug;
+		return acceptedVertices;
 	}
 }
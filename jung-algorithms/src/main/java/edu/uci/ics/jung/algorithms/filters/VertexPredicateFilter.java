@@ -14,6 +14,7 @@ package edu.uci.ics.jung.algorithms.filters;
 import java.util.Collection;
 
 import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
 
 import edu.uci.ics.jung.graph.Graph;
 
@@ -72,4 +73,17 @@ public class VertexPredicateFilter<V,E> implements Filter<V,E>
         return filtered;
     }
 
+    /**
+     * Returns a read-only view of <code>g</code> containing the vertices that
+     * pass this filter's predicate and the edges whose endpoints all pass it.
+     * Unlike <code>apply</code>, this does not copy <code>g</code>.
+     * 
+     * @param g the graph to be filtered
+     * @return a view of the filtered graph, backed by <code>g</code>
+     * @see FilteredGraphView
+     */
+    public FilteredGraphView<V,E> view(Graph<V,E> g)
+    {
+        return new FilteredGraphView<V,E>(g, vertex_pred, Predicates.alwaysTrue());
+    }
 }
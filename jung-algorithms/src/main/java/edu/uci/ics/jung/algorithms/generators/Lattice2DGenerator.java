@@ -131,6 +131,20 @@ public class Lattice2DGenerator<V,E> implements GraphGenerator<V,E>
         return graph;
     }
 
+    /**
+     * Returns a lattice of this generator's specifications whose structure is
+     * computed on demand rather than stored.  The graph and element factories
+     * are not used: the vertices are the integers 0 through
+     * {@code row_count * col_count - 1}, numbered row-wise as in {@link #get()}.
+     *
+     * @return an implicit lattice of this generator's specifications
+     * @see Lattice2DGraph
+     */
+    public Lattice2DGraph getImplicitGraph()
+    {
+        return new Lattice2DGraph(row_count, col_count, is_toroidal, is_directed);
+    }
+
     /**
      * Returns the number of edges found in a lattice of this generator's specifications.
      * (This is useful for subclasses that may modify the generated graphs to add more edges.)
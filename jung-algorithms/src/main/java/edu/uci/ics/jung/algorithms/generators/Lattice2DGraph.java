@@ -0,0 +1,552 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.generators;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.google.common.collect.ContiguousSet;
+import com.google.common.collect.DiscreteDomain;
+import com.google.common.collect.Range;
+
+import edu.uci.ics.jung.graph.AbstractGraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * An m x n lattice, optionally toroidal, whose structure is computed on demand
+ * rather than stored: each vertex is connected to its neighbors to the left,
+ * right, up, and down, as in the graphs created by {@code Lattice2DGenerator}.
+ * Additional "long-range" edges (such as those created by
+ * {@code KleinbergSmallWorldGenerator}) may be added, and are the only
+ * part of the graph that occupies memory in proportion to its size.
+ *
+ * <p>The vertices are the integers 0 through m*n - 1, numbered row-wise, and
+ * the edges are {@code Long} identifiers.  Lattice edges are identified by their
+ * source and their direction; long-range edges by the order in which they were added.
+ * If the lattice is directed, there are lattice edges in both directions
+ * between adjacent vertices.  Vertices and lattice edges cannot be added or
+ * removed.
+ */
+@SuppressWarnings("serial")
+public class Lattice2DGraph extends AbstractGraph<Integer, Long>
+{
+    // directions of lattice edges; undirected lattices only use DOWN and RIGHT
+    private static final int DOWN = 0;
+    private static final int RIGHT = 1;
+    private static final int UP = 2;
+    private static final int LEFT = 3;
+
+    protected final int row_count;
+    protected final int col_count;
+    protected final boolean is_toroidal;
+    protected final EdgeType edge_type;
+    private final int vertex_count;
+    private final int direction_count;
+    private final int lattice_edge_count;
+
+    // long-range edges: endpoints, and singly linked lists of each vertex's edges
+    private int long_range_count;
+    private int[] sources;
+    private int[] targets;
+    private int[] next_out;
+    private int[] next_in;
+    private int[] first_out;
+    private int[] first_in;
+
+    /**
+     * Creates a {@code row_count} x {@code col_count} lattice.
+     * @param row_count the number of rows in the lattice
+     * @param col_count the number of columns in the lattice
+     * @param is_toroidal if true, the lattice wraps from top to bottom and left to right
+     * @param is_directed if true, the lattice has directed edges in both directions between
+     * adjacent vertices; otherwise it has one undirected edge between them
+     */
+    public Lattice2DGraph(int row_count, int col_count, boolean is_toroidal, boolean is_directed)
+    {
+        if (row_count < 2 || col_count < 2)
+            throw new IllegalArgumentException("Row and column counts must each be at least 2.");
+        if ((long)row_count * col_count > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Lattice has too many vertices: " +
+                row_count + " x " + col_count);
+        this.row_count = row_count;
+        this.col_count = col_count;
+        this.is_toroidal = is_toroidal;
+        this.edge_type = is_directed ? EdgeType.DIRECTED : EdgeType.UNDIRECTED;
+        this.vertex_count = row_count * col_count;
+        this.direction_count = is_directed ? 4 : 2;
+        int boundary_adjustment = is_toroidal ? 0 : 1;
+        long lattice_edges = ((long)col_count * (row_count - boundary_adjustment) +
+            (long)row_count * (col_count - boundary_adjustment)) * (is_directed ? 2 : 1);
+        if (lattice_edges > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Lattice has too many edges: " +
+                row_count + " x " + col_count);
+        this.lattice_edge_count = (int)lattice_edges;
+    }
+
+    /**
+     * @return the number of rows in this lattice
+     */
+    public int getRowCount()
+    {
+        return row_count;
+    }
+
+    /**
+     * @return the number of columns in this lattice
+     */
+    public int getColumnCount()
+    {
+        return col_count;
+    }
+
+    /**
+     * @return true if this lattice wraps from top to bottom and left to right
+     */
+    public boolean isToroidal()
+    {
+        return is_toroidal;
+    }
+
+    /**
+     * @param row the row of the vertex
+     * @param col the column of the vertex
+     * @return the vertex at position ({@code row mod row_count, col mod col_count})
+     */
+    public int getVertex(int row, int col)
+    {
+        return mod(row, row_count) * col_count + mod(col, col_count);
+    }
+
+    /**
+     * @param vertex a vertex of this graph
+     * @return the row of {@code vertex}
+     */
+    public int getRow(int vertex)
+    {
+        return vertex / col_count;
+    }
+
+    /**
+     * @param vertex a vertex of this graph
+     * @return the column of {@code vertex}
+     */
+    public int getColumn(int vertex)
+    {
+        return vertex % col_count;
+    }
+
+    private static int mod(int i, int modulus)
+    {
+        int i_mod = i % modulus;
+        return i_mod >= 0 ? i_mod : i_mod + modulus;
+    }
+
+    /**
+     * Adds a long-range edge from {@code source} to {@code target}, whose type
+     * is the type of this lattice's edges.
+     * @param source the source of the new edge
+     * @param target the target of the new edge
+     * @return the new edge
+     */
+    public Long addLongRangeEdge(int source, int target)
+    {
+        if (!containsVertex(source) || !containsVertex(target))
+            throw new IllegalArgumentException("Lattice does not contain both " +
+                source + " and " + target);
+        if (first_out == null)
+        {
+            first_out = new int[vertex_count];
+            first_in = new int[vertex_count];
+            Arrays.fill(first_out, -1);
+            Arrays.fill(first_in, -1);
+            sources = new int[16];
+            targets = new int[16];
+            next_out = new int[16];
+            next_in = new int[16];
+        }
+        int k = long_range_count++;
+        if (k == sources.length)
+        {
+            int capacity = 2 * k;
+            sources = Arrays.copyOf(sources, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            next_out = Arrays.copyOf(next_out, capacity);
+            next_in = Arrays.copyOf(next_in, capacity);
+        }
+        sources[k] = source;
+        targets[k] = target;
+        next_out[k] = first_out[source];
+        first_out[source] = k;
+        next_in[k] = first_in[target];
+        first_in[target] = k;
+        modification_count++;
+        return getLongRangeEdge(k);
+    }
+
+    /**
+     * @return the number of long-range edges in this graph
+     */
+    public int getLongRangeEdgeCount()
+    {
+        return long_range_count;
+    }
+
+    /**
+     * @return the vertex adjacent to {@code vertex} in the specified direction,
+     * or -1 if there is none
+     */
+    private int getNeighbor(int vertex, int direction)
+    {
+        int row = vertex / col_count;
+        int col = vertex % col_count;
+        switch (direction)
+        {
+            case DOWN:  row++; break;
+            case RIGHT: col++; break;
+            case UP:    row--; break;
+            case LEFT:  col--; break;
+        }
+        if (is_toroidal)
+            return getVertex(row, col);
+        if (row < 0 || row >= row_count || col < 0 || col >= col_count)
+            return -1;
+        return row * col_count + col;
+    }
+
+    private static long getLatticeEdge(int source, int direction)
+    {
+        return 4L * source + direction;
+    }
+
+    private Long getLongRangeEdge(int k)
+    {
+        return 4L * vertex_count + k;
+    }
+
+    /**
+     * @return the index of {@code edge} among the long-range edges, or -1 if
+     * it is not a long-range edge of this graph
+     */
+    private int getLongRangeIndex(Long edge)
+    {
+        long k = edge - 4L * vertex_count;
+        return k >= 0 && k < long_range_count ? (int)k : -1;
+    }
+
+    private boolean isLatticeEdge(Long edge)
+    {
+        long id = edge;
+        if (id < 0 || id >= 4L * vertex_count)
+            return false;
+        int direction = (int)(id % 4);
+        return direction < direction_count && getNeighbor((int)(id / 4), direction) >= 0;
+    }
+
+    /**
+     * Adds to {@code edges} the lattice edges incident to {@code vertex} in the specified
+     * roles (as source or as target; for undirected lattices, both are the same).
+     */
+    private void addLatticeEdges(int vertex, boolean out, boolean in, List<Long> edges)
+    {
+        for (int direction = 0; direction < 4; direction++)
+        {
+            int neighbor = getNeighbor(vertex, direction);
+            if (neighbor < 0)
+                continue;
+            int opposite = (direction + 2) % 4;
+            if (direction < direction_count)
+            {
+                // vertex is the source of this edge
+                if (out)
+                    edges.add(getLatticeEdge(vertex, direction));
+                if (in && edge_type == EdgeType.DIRECTED)
+                    edges.add(getLatticeEdge(neighbor, opposite));
+            }
+            else if (out || in)
+            {
+                // undirected lattice: the edge belongs to the neighbor
+                edges.add(getLatticeEdge(neighbor, opposite));
+            }
+        }
+    }
+
+    private void addLongRangeEdges(int vertex, boolean out, boolean in, List<Long> edges)
+    {
+        if (first_out == null)
+            return;
+        boolean undirected = edge_type == EdgeType.UNDIRECTED;
+        if (out || undirected)
+            for (int k = first_out[vertex]; k >= 0; k = next_out[k])
+                edges.add(getLongRangeEdge(k));
+        if (in || undirected)
+            for (int k = first_in[vertex]; k >= 0; k = next_in[k])
+                if (!((out || undirected) && sources[k] == vertex)) // self-loops are already listed
+                    edges.add(getLongRangeEdge(k));
+    }
+
+    private Collection<Long> getEdges(Integer vertex, boolean out, boolean in)
+    {
+        if (!containsVertex(vertex))
+            return null;
+        List<Long> edges = new ArrayList<Long>(4);
+        addLatticeEdges(vertex, out, in, edges);
+        addLongRangeEdges(vertex, out, in, edges);
+        return Collections.unmodifiableList(edges);
+    }
+
+    private Collection<Integer> getOpposites(Integer vertex, Collection<Long> edges)
+    {
+        if (edges == null)
+            return null;
+        List<Integer> opposites = new ArrayList<Integer>(edges.size());
+        for (Long edge : edges)
+        {
+            Integer opposite = getOpposite(vertex, edge);
+            // small lattices and repeated long-range edges may have parallel edges
+            if (!opposites.contains(opposite))
+                opposites.add(opposite);
+        }
+        return Collections.unmodifiableList(opposites);
+    }
+
+    public Collection<Long> getInEdges(Integer vertex)
+    {
+        return getEdges(vertex, edge_type == EdgeType.UNDIRECTED, true);
+    }
+
+    public Collection<Long> getOutEdges(Integer vertex)
+    {
+        return getEdges(vertex, true, edge_type == EdgeType.UNDIRECTED);
+    }
+
+    public Collection<Long> getIncidentEdges(Integer vertex)
+    {
+        return getEdges(vertex, true, true);
+    }
+
+    public Collection<Integer> getPredecessors(Integer vertex)
+    {
+        return getOpposites(vertex, getInEdges(vertex));
+    }
+
+    public Collection<Integer> getSuccessors(Integer vertex)
+    {
+        return getOpposites(vertex, getOutEdges(vertex));
+    }
+
+    public Collection<Integer> getNeighbors(Integer vertex)
+    {
+        return getOpposites(vertex, getIncidentEdges(vertex));
+    }
+
+    public Pair<Integer> getEndpoints(Long edge)
+    {
+        if (edge == null)
+            return null;
+        int k = getLongRangeIndex(edge);
+        if (k >= 0)
+            return new Pair<Integer>(sources[k], targets[k]);
+        if (!isLatticeEdge(edge))
+            return null;
+        int source = (int)(edge / 4);
+        return new Pair<Integer>(source, getNeighbor(source, (int)(edge % 4)));
+    }
+
+    public Integer getSource(Long directed_edge)
+    {
+        if (edge_type != EdgeType.DIRECTED)
+            return null;
+        Pair<Integer> endpoints = getEndpoints(directed_edge);
+        return endpoints == null ? null : endpoints.getFirst();
+    }
+
+    public Integer getDest(Long directed_edge)
+    {
+        if (edge_type != EdgeType.DIRECTED)
+            return null;
+        Pair<Integer> endpoints = getEndpoints(directed_edge);
+        return endpoints == null ? null : endpoints.getSecond();
+    }
+
+    public boolean isSource(Integer vertex, Long edge)
+    {
+        Integer source = getSource(edge);
+        return source != null && source.equals(vertex);
+    }
+
+    public boolean isDest(Integer vertex, Long edge)
+    {
+        Integer dest = getDest(edge);
+        return dest != null && dest.equals(vertex);
+    }
+
+    public boolean containsVertex(Integer vertex)
+    {
+        return vertex != null && vertex >= 0 && vertex < vertex_count;
+    }
+
+    public boolean containsEdge(Long edge)
+    {
+        return edge != null && (getLongRangeIndex(edge) >= 0 || isLatticeEdge(edge));
+    }
+
+    public int getVertexCount()
+    {
+        return vertex_count;
+    }
+
+    public int getEdgeCount()
+    {
+        return lattice_edge_count + long_range_count;
+    }
+
+    public int getEdgeCount(EdgeType edge_type)
+    {
+        return edge_type == this.edge_type ? getEdgeCount() : 0;
+    }
+
+    public EdgeType getEdgeType(Long edge)
+    {
+        return containsEdge(edge) ? edge_type : null;
+    }
+
+    public EdgeType getDefaultEdgeType()
+    {
+        return edge_type;
+    }
+
+    /**
+     * Returns a view of the vertices of this graph, which are the integers
+     * from 0 through {@code getVertexCount() - 1}.
+     */
+    public Collection<Integer> getVertices()
+    {
+        return ContiguousSet.create(Range.closedOpen(0, vertex_count), DiscreteDomain.integers());
+    }
+
+    /**
+     * Returns a view of the edges of this graph; the lattice edges are
+     * generated as the view is iterated over.
+     */
+    public Collection<Long> getEdges()
+    {
+        return new AbstractCollection<Long>()
+        {
+            @Override
+            public Iterator<Long> iterator()
+            {
+                return new EdgeIterator();
+            }
+
+            @Override
+            public int size()
+            {
+                return getEdgeCount();
+            }
+
+            @Override
+            public boolean contains(Object o)
+            {
+                return o instanceof Long && containsEdge((Long)o);
+            }
+        };
+    }
+
+    public Collection<Long> getEdges(EdgeType edge_type)
+    {
+        return edge_type == this.edge_type ? getEdges() : Collections.<Long>emptySet();
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>: the vertices of a lattice are fixed.
+     */
+    public boolean addVertex(Integer vertex)
+    {
+        throw new UnsupportedOperationException("the vertices of a lattice are fixed");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>: use {@link #addLongRangeEdge(int, int)}.
+     */
+    @Override
+    public boolean addEdge(Long edge, Pair<? extends Integer> endpoints, EdgeType edgeType)
+    {
+        throw new UnsupportedOperationException("use addLongRangeEdge() to add edges to a lattice");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>: the vertices of a lattice are fixed.
+     */
+    public boolean removeVertex(Integer vertex)
+    {
+        throw new UnsupportedOperationException("the vertices of a lattice are fixed");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>: the edges of a lattice are fixed.
+     */
+    public boolean removeEdge(Long edge)
+    {
+        throw new UnsupportedOperationException("the edges of a lattice are fixed");
+    }
+
+    /**
+     * Iterates over the lattice edges in order of source and direction,
+     * followed by the long-range edges.
+     */
+    private class EdgeIterator implements Iterator<Long>
+    {
+        private long next = -1;
+
+        EdgeIterator()
+        {
+            advance();
+        }
+
+        private void advance()
+        {
+            long lattice_limit = 4L * vertex_count;
+            for (next++; next < lattice_limit; next++)
+            {
+                int direction = (int)(next % 4);
+                if (direction < direction_count && getNeighbor((int)(next / 4), direction) >= 0)
+                    return;
+            }
+        }
+
+        public boolean hasNext()
+        {
+            return next < 4L * vertex_count + long_range_count;
+        }
+
+        public Long next()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            Long edge = next;
+            advance();
+            return edge;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
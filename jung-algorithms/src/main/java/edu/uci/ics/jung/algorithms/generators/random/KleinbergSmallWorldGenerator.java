@@ -18,6 +18,7 @@ import java.util.Random;
 import com.google.common.base.Supplier;
 
 import edu.uci.ics.jung.algorithms.generators.Lattice2DGenerator;
+import edu.uci.ics.jung.algorithms.generators.Lattice2DGraph;
 import edu.uci.ics.jung.algorithms.util.WeightedChoice;
 import edu.uci.ics.jung.graph.Graph;
 
@@ -144,49 +145,109 @@ public class KleinbergSmallWorldGenerator<V, E> extends Lattice2DGenerator<V, E>
     public Graph<V,E> get() 
     {
         Graph<V, E> graph = super.get();
-        
-        // TODO: For toroidal graphs, we can make this more clever by pre-creating the WeightedChoice object
-        // and using the output as an offset to the current vertex location.
-        WeightedChoice<V> weighted_choice;
+        LongRangeSampler sampler = new LongRangeSampler();
         
         // Add long range connections
         for (int i = 0; i < graph.getVertexCount(); i++)
         {
             V source = getVertex(i);
-            int row = getRow(i);
-            int col = getCol(i);
-            int row_offset = row < row_count/2 ? -row_count : row_count;
-            int col_offset = col < col_count/2 ? -col_count : col_count;
+            for (int j = 0; j < this.num_connections; j++)
+                graph.addEdge(edge_factory.get(), source, getVertex(sampler.nextTarget(i)));
+        }
+
+        return graph;
+    }
+
+    /**
+     * Generates a random small world network according to the parameters given,
+     * whose lattice is computed on demand; only the long range connections
+     * are stored.
+     * @return a random small world graph whose vertices are the integers
+     * 0 through {@code row_count * col_count - 1}
+     */
+    @Override
+    public Lattice2DGraph getImplicitGraph()
+    {
+        Lattice2DGraph graph = super.getImplicitGraph();
+        LongRangeSampler sampler = new LongRangeSampler();
+        for (int i = 0; i < graph.getVertexCount(); i++)
+            for (int j = 0; j < this.num_connections; j++)
+                graph.addLongRangeEdge(i, sampler.nextTarget(i));
+        return graph;
+    }
+
+    /**
+     * Chooses long range targets with probability proportional to d^-alpha,
+     * where d &ge; 2 is the lattice distance from the source.  Rather than
+     * weighting every vertex for every source, a distance is chosen according to
+     * the number of (row, column) offsets at that distance, and then one of those
+     * offsets is chosen uniformly.  For non-toroidal lattices, offsets that
+     * fall outside the lattice are rejected and the choice (including the
+     * distance) is repeated.
+     */
+    private class LongRangeSampler
+    {
+        private final int max_row_offset;
+        private final int max_col_offset;
+        private final WeightedChoice<Integer> distances;
 
-            Map<V, Float> vertex_weights = new HashMap<V, Float>();
-            for (int j = 0; j < row_count; j++)
+        LongRangeSampler()
+        {
+            max_row_offset = is_toroidal ? row_count / 2 : row_count - 1;
+            max_col_offset = is_toroidal ? col_count / 2 : col_count - 1;
+            Map<Integer, Double> distance_weights = new HashMap<Integer, Double>();
+            for (int d = 2; d <= max_row_offset + max_col_offset; d++)
             {
-                for (int k = 0; k < col_count; k++)
-                {
-                    if (j == row && k == col)
-                        continue;
-                    int v_dist = Math.abs(j - row);
-                    int h_dist = Math.abs(k - col);
-                    if (is_toroidal)
-                    {
-                        v_dist = Math.min(v_dist, Math.abs(j - row+row_offset));
-                        h_dist = Math.min(h_dist, Math.abs(k - col+col_offset));
-                    }
-                    int distance = v_dist + h_dist;
-                    if (distance < 2)
-                        continue;
-                    else
-                        vertex_weights.put(getVertex(j,k), (float)Math.pow(distance, -clustering_exponent));
-                }
+                int offset_count = 0;
+                for (int a = Math.max(0, d - max_col_offset); a <= Math.min(d, max_row_offset); a++)
+                    offset_count += getMultiplicity(a, row_count) * getMultiplicity(d - a, col_count);
+                distance_weights.put(d, offset_count * Math.pow(d, -clustering_exponent));
             }
+            distances = new WeightedChoice<Integer>(distance_weights, random);
+        }
 
-            for (int j = 0; j < this.num_connections; j++) {
-                weighted_choice = new WeightedChoice<V>(vertex_weights, random);
-                V target = weighted_choice.nextItem();
-                graph.addEdge(edge_factory.get(), source, target);
-            }
+        /**
+         * @return the number of distinct offsets whose absolute value is
+         * {@code offset} along an axis of the specified size
+         */
+        private int getMultiplicity(int offset, int size)
+        {
+            if (offset == 0 || (is_toroidal && 2 * offset == size))
+                return 1;
+            return 2;
         }
 
-        return graph;
+        /**
+         * @return the index of a long range target for the vertex with index {@code source}
+         */
+        int nextTarget(int source)
+        {
+            int row = getRow(source);
+            int col = getCol(source);
+            while (true)
+            {
+                int d = distances.nextItem();
+                int min_a = Math.max(0, d - max_col_offset);
+                int a;
+                int row_multiplicity;
+                int col_multiplicity;
+                // offsets at distance d are chosen uniformly: the split is drawn
+                // again (keeping d) until it is accepted in proportion to the
+                // number of offsets that it represents
+                do
+                {
+                    a = min_a + random.nextInt(Math.min(d, max_row_offset) - min_a + 1);
+                    row_multiplicity = getMultiplicity(a, row_count);
+                    col_multiplicity = getMultiplicity(d - a, col_count);
+                }
+                while (random.nextInt(4) >= row_multiplicity * col_multiplicity);
+                int target_row = row + (row_multiplicity == 2 && random.nextBoolean() ? -a : a);
+                int target_col = col + (col_multiplicity == 2 && random.nextBoolean() ? a - d : d - a);
+                if (is_toroidal)
+                    return getIndex(target_row, target_col);
+                if (target_row >= 0 && target_row < row_count && target_col >= 0 && target_col < col_count)
+                    return target_row * col_count + target_col;
+            }
+        }
     }
 }
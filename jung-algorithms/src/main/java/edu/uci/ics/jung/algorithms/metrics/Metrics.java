@@ -13,7 +13,9 @@ package edu.uci.ics.jung.algorithms.metrics;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import edu.uci.ics.jung.graph.Graph;
 
@@ -44,16 +46,25 @@ public class Metrics
     public static <V,E> Map<V, Double> clusteringCoefficients(Graph<V,E> graph)
     {
         Map<V,Double> coefficients = new HashMap<V,Double>();
+        final List<V> neighbors = new ArrayList<V>();
+        Consumer<V> collector = new Consumer<V>()
+        {
+            public void accept(V w)
+            {
+                neighbors.add(w);
+            }
+        };
         
         for (V v : graph.getVertices())
         {
-            int n = graph.getNeighborCount(v);
+            neighbors.clear();
+            graph.forEachNeighbor(v, collector);
+            int n = neighbors.size();
             if (n < 2)
                 coefficients.put(v, new Double(0));
             else
             {
                 // how many of v's neighbors are connected to each other?
-                ArrayList<V> neighbors = new ArrayList<V>(graph.getNeighbors(v));
                 double edge_count = 0;
                 for (int i = 0; i < n; i++)
                 {
@@ -61,7 +72,9 @@ public class Metrics
                     for (int j = i+1; j < n; j++ )
                     {
                         V x = neighbors.get(j);
-                        edge_count += graph.isNeighbor(w, x) ? 1 : 0;
+                        // equivalent to isNeighbor(w, x), without building w's neighbor set
+                        if (graph.findEdge(w, x) != null || graph.findEdge(x, w) != null)
+                            edge_count++;
                     }
                 }
                 double possible_edges = (n * (n - 1))/2.0;
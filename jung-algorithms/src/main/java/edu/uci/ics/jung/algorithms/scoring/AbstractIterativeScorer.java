@@ -11,13 +11,21 @@
  */
 package edu.uci.ics.jung.algorithms.scoring;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import com.google.common.base.Function;
 
 import edu.uci.ics.jung.algorithms.scoring.util.DelegateToEdgeTransformer;
 import edu.uci.ics.jung.algorithms.scoring.util.VEPair;
+import edu.uci.ics.jung.algorithms.util.AttributeColumn;
 import edu.uci.ics.jung.algorithms.util.IterativeContext;
 import edu.uci.ics.jung.graph.Hypergraph;
 
@@ -26,6 +34,22 @@ import edu.uci.ics.jung.graph.Hypergraph;
  * Generally, any (concrete) subclass will function by creating an instance, and then either calling
  * <code>evaluate</code> (if the user wants to iterate until the algorithms is 'done') or 
  * repeatedly call <code>step</code> (if the user wants to observe the values at each step).
+ * <p>
+ * Subclasses which implement <code>ArrayScorer</code> may instead be evaluated
+ * by an array-based engine (see <code>setUseArrays</code>).  On the first step, the engine takes a snapshot
+ * of the graph in which each vertex has an integer index, and the weighted links
+ * along which each vertex collects its value are stored in flat arrays; each step 
+ * then updates arrays of values, with no hashing, boxing or allocation per vertex 
+ * or edge.  If a <code>ForkJoinPool</code> has been supplied 
+ * (see <code>setPool</code>), the vertices are partitioned among its workers, each 
+ * of which pulls values into the vertices of its own partition.
+ * The edge weights and vertex priors are read once, when the snapshot is taken, 
+ * so they must not change during evaluation; nor may the graph.
+ * <p>
+ * The array engine of some subclasses can also update values in place 
+ * (see <code>setIterationMode</code>), and can accelerate convergence by 
+ * periodic Aitken extrapolation (see <code>setExtrapolationInterval</code>).
+ * The largest change in any value at each step is recorded in the residual history.
  */
 public abstract class AbstractIterativeScorer<V,E,T> implements IterativeContext, VertexScorer<V,T>
 {
@@ -83,6 +107,77 @@ public abstract class AbstractIterativeScorer<V,E,T> implements IterativeContext
 
     protected boolean hyperedges_are_self_loops = false;
 
+    /**
+     * The minimum number of vertices that the array engine assigns to a parallel task.
+     */
+    private static final int MIN_VERTICES_PER_TASK = 1024;
+
+    /**
+     * The number of tasks into which the array engine divides the vertices per worker, 
+     * so that workers which finish early can take on more vertices.
+     */
+    private static final int TASKS_PER_WORKER = 4;
+
+    /**
+     * Whether <code>step</code> uses the array-based engine.
+     */
+    private boolean use_arrays;
+
+    /**
+     * The pool whose workers the array-based engine uses, or null if it runs in the calling thread.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * The vertices of the array engine's snapshot, in index order; null if there is no snapshot.
+     */
+    protected List<V> vertex_list;
+
+    /**
+     * The index of each vertex in the array engine's snapshot; null if there is no snapshot.
+     */
+    protected Map<V, Integer> vertex_index;
+
+    /**
+     * The graph's modification count when the array engine's snapshot was taken.
+     */
+    private long snapshot_modifications;
+
+    /**
+     * The order in which the array engine updates vertices within each step.
+     */
+    private IterationMode iteration_mode = IterationMode.JACOBI;
+
+    /**
+     * The largest ratio of successive changes in a value for which it is extrapolated;
+     * ratios closer to 1 give unreliably large extrapolations.
+     */
+    private static final double MAX_EXTRAPOLATION_RATIO = 0.99;
+
+    /**
+     * The number of steps between Aitken extrapolations; 0 if there are none.
+     */
+    private int extrapolation_interval;
+
+    /**
+     * The largest change in any value at each step so far.
+     */
+    private List<Double> residual_history = new ArrayList<Double>();
+
+    /**
+     * For <code>PRIORITIZED</code> iteration: a bound on the change in each vertex's
+     * value if it were updated now, and the links from each vertex to those which
+     * depend on it.  Null until the first prioritized step.
+     */
+    private double[] priority_residuals;
+    private LinkArrays dependents;
+
+    /**
+     * The values after the two previous steps, for extrapolation; null if not yet recorded.
+     */
+    private double[] previous_values;
+    private double[] earlier_values;
+
     /**
      * Sets the output value for this vertex.
      * @param v the vertex whose output value is to be set
@@ -124,7 +219,7 @@ public abstract class AbstractIterativeScorer<V,E,T> implements IterativeContext
     }
     
     /**
-     * The largest change seen so far among all vertex scores.
+     * The largest change among all vertex scores in the most recent step.
      */
     protected double max_delta;
     
@@ -169,10 +264,29 @@ public abstract class AbstractIterativeScorer<V,E,T> implements IterativeContext
         this.output_reversed = true;
         this.current_values = new HashMap<V, T>();
         this.output = new HashMap<V, T>();
+        this.residual_history = new ArrayList<Double>();
+        discardSnapshot();
+    }
+
+    /**
+     * Discards the array engine's snapshot, and the state derived from it.
+     */
+    private void discardSnapshot()
+    {
+        this.vertex_list = null;
+        this.vertex_index = null;
+        this.priority_residuals = null;
+        this.dependents = null;
+        this.previous_values = null;
+        this.earlier_values = null;
     }
     
     /**
      * Steps through this scoring algorithm until a termination condition is reached.
+     * Evaluation stops after <code>max_iterations</code> steps, or after the first
+     * step in which every score changes by less than the tolerance.  (Earlier
+     * versions compared the tolerance with the largest change in any step so far,
+     * rather than in the most recent step, and so could take more steps.)
      */
     public void evaluate()
     {
@@ -184,7 +298,7 @@ public abstract class AbstractIterativeScorer<V,E,T> implements IterativeContext
     /**
      * Returns true if the total number of iterations is greater than or equal to 
      * <code>max_iterations</code>
-     * or if the maximum value change observed is less than <code>tolerance</code>.
+     * or if the maximum value change in the most recent step is less than <code>tolerance</code>.
      */
     public boolean done()
     {
@@ -196,7 +310,13 @@ public abstract class AbstractIterativeScorer<V,E,T> implements IterativeContext
      */
     public void step()
     {
+        if (use_arrays)
+        {
+            stepWithArrays();
+            return;
+        }
         swapOutputForCurrent();
+        max_delta = 0;
         
         for (V v : graph.getVertices())
         {
@@ -205,6 +325,7 @@ public abstract class AbstractIterativeScorer<V,E,T> implements IterativeContext
         }
         total_iterations++;
         afterStep();
+        residual_history.add(max_delta);
     }
 
     /**
@@ -237,9 +358,571 @@ public abstract class AbstractIterativeScorer<V,E,T> implements IterativeContext
         if (!graph.containsVertex(v))
             throw new IllegalArgumentException("Vertex " + v + " not an element of this graph");
         
+        if (use_arrays && vertex_index != null)
+            return arrayScorer().getArrayValue(vertex_index.get(v));
         return output.get(v);
     }
 
+    /**
+     * Performs one step of the array-based engine, taking the snapshot first if necessary.
+     */
+    private void stepWithArrays()
+    {
+        if (vertex_list == null)
+        {
+            vertex_list = new ArrayList<V>(graph.getVertices());
+            vertex_index = new HashMap<V, Integer>(vertex_list.size() * 2);
+            for (int i = 0; i < vertex_list.size(); i++)
+                vertex_index.put(vertex_list.get(i), i);
+            snapshot_modifications = graph.getModificationCount();
+            arrayScorer().initializeArrays();
+        }
+        else if (graph.getModificationCount() != snapshot_modifications)
+            throw new IllegalStateException("Graph modified since evaluation started; call initialize()");
+        
+        max_delta = arrayScorer().stepArrays();
+        total_iterations++;
+        residual_history.add(max_delta);
+        if (extrapolation_interval > 0)
+            extrapolate();
+    }
+
+    /**
+     * Records the values after this step and, every <code>extrapolation_interval</code>
+     * steps, replaces each value by the Aitken extrapolation of its last three values.
+     * A value is extrapolated only if its last two changes have the same sign and 
+     * the latter is smaller, that is, if it appears to be converging geometrically;
+     * values which oscillate, or have already converged, are left alone.
+     * The largest jump made by extrapolation counts as a change in this step, 
+     * so that <code>done()</code> succeeds only once a step has confirmed the 
+     * extrapolated values.
+     */
+    private void extrapolate()
+    {
+        double[] values = arrayScorer().getArrayValues();
+        if (earlier_values != null && total_iterations % extrapolation_interval == 0)
+        {
+            double[] unextrapolated = Arrays.copyOf(values, values.length);
+            double earlier_total = 0;
+            double previous_total = 0;
+            double total = 0;
+            for (int i = 0; i < values.length; i++)
+            {
+                earlier_total += earlier_values[i];
+                previous_total += previous_values[i];
+                total += values[i];
+                values[i] = extrapolate(earlier_values[i], previous_values[i], values[i]);
+            }
+            afterExtrapolation(values, extrapolate(earlier_total, previous_total, total));
+            for (int i = 0; i < values.length; i++)
+                max_delta = Math.max(max_delta, Math.abs(values[i] - unextrapolated[i]));
+            residual_history.set(residual_history.size() - 1, max_delta);
+            // the extrapolated values start a new sequence
+            earlier_values = null;
+            previous_values = null;
+            if (priority_residuals != null)
+                Arrays.fill(priority_residuals, Double.POSITIVE_INFINITY);
+            return;
+        }
+        earlier_values = previous_values;
+        previous_values = Arrays.copyOf(values, values.length);
+    }
+
+    /**
+     * Returns the Aitken extrapolation of a sequence from its last three values,
+     * or the last value if the sequence does not appear to be converging geometrically.
+     */
+    private static double extrapolate(double earlier, double previous, double value)
+    {
+        double change = value - previous;
+        double previous_change = previous - earlier;
+        if (previous_change == 0)
+            return value;
+        double ratio = change / previous_change;
+        if (ratio > 0 && ratio < MAX_EXTRAPOLATION_RATIO)
+            return value + change * ratio / (1 - ratio);
+        return value;
+    }
+
+    /**
+     * The operations by which a subclass is evaluated by the array-based engine;
+     * only instances which implement this interface support the engine.
+     * @param <T> the type of the scores
+     */
+    protected interface ArrayScorer<T>
+    {
+        /**
+         * Sets up the array engine's state after the vertices have been indexed
+         * (in <code>vertex_list</code> and <code>vertex_index</code>).  Implementations
+         * should take the initial value of each vertex from <code>getOutputValue</code>.
+         */
+        void initializeArrays();
+
+        /**
+         * Performs one step of the array-based engine, including any work that
+         * <code>afterStep</code> does for the map-based one.
+         * @return the largest change in any vertex's value
+         */
+        double stepArrays();
+
+        /**
+         * @param i the index of a vertex in the array engine's snapshot
+         * @return the array engine's output value for that vertex
+         */
+        T getArrayValue(int i);
+
+        /**
+         * Returns the array in which the array engine holds the output value of each 
+         * vertex, by index; used for extrapolation.
+         * @return the array engine's output values, or null if it does not hold 
+         * one <code>double</code> per vertex (in which case extrapolation is not supported)
+         */
+        double[] getArrayValues();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArrayScorer<T> arrayScorer()
+    {
+        return (ArrayScorer<T>)this;
+    }
+
+    /**
+     * Restores any invariants of the values (such as normalization) after the array
+     * engine has extrapolated them.
+     * @param values the extrapolated values, by vertex index
+     * @param total the extrapolation of the total of the values (in the same way as
+     * each value); this is their current total if the steps preserve it
+     */
+    protected void afterExtrapolation(double[] values, double total) {}
+
+    /**
+     * Returns true if the array engine of this instance supports the specified iteration mode.
+     * @param mode the iteration mode
+     * @return true if this instance supports <code>mode</code>
+     */
+    protected boolean supportsIterationMode(IterationMode mode)
+    {
+        return mode == IterationMode.JACOBI;
+    }
+
+    /**
+     * Returns true if the array engine of this instance supports extrapolation,
+     * which requires <code>getArrayValues</code> to return the values.
+     * @return true if this instance supports extrapolation
+     */
+    protected boolean supportsExtrapolation()
+    {
+        return false;
+    }
+
+    /**
+     * Sets the order in which vertices are updated within each step.  Modes other
+     * than <code>JACOBI</code> update values in place, and so switch on the 
+     * array-based engine; they run in the thread calling <code>step</code>, 
+     * regardless of any pool.
+     * @param mode the iteration mode to use
+     * @throws UnsupportedOperationException if this instance does not support <code>mode</code>
+     */
+    public void setIterationMode(IterationMode mode)
+    {
+        if (!supportsIterationMode(mode))
+            throw new UnsupportedOperationException(getClass().getSimpleName() + 
+                " does not support " + mode + " iteration");
+        if (mode != IterationMode.JACOBI && !use_arrays)
+            setUseArrays(true);
+        this.iteration_mode = mode;
+        this.priority_residuals = null;
+    }
+
+    /**
+     * @return the order in which vertices are updated within each step
+     */
+    public IterationMode getIterationMode()
+    {
+        return iteration_mode;
+    }
+
+    /**
+     * Specifies that every <code>interval</code> steps, the array engine replaces 
+     * each value by the Aitken (delta-squared) extrapolation of its values after 
+     * the last three steps, which can greatly reduce the number of steps needed when 
+     * convergence is slow.  An interval of 0 (the default) disables extrapolation;
+     * otherwise the interval must be at least 3, and the array engine is switched on.
+     * @param interval the number of steps between extrapolations, or 0
+     * @throws UnsupportedOperationException if this instance does not support extrapolation
+     */
+    public void setExtrapolationInterval(int interval)
+    {
+        if (interval != 0 && interval < 3)
+            throw new IllegalArgumentException("Extrapolation interval must be 0 or at least 3: " + interval);
+        if (interval > 0)
+        {
+            if (!supportsExtrapolation())
+                throw new UnsupportedOperationException(getClass().getSimpleName() + 
+                    " does not support extrapolation");
+            if (!use_arrays)
+                setUseArrays(true);
+        }
+        this.extrapolation_interval = interval;
+        this.previous_values = null;
+        this.earlier_values = null;
+    }
+
+    /**
+     * @return the number of steps between extrapolations, or 0 if there are none
+     */
+    public int getExtrapolationInterval()
+    {
+        return extrapolation_interval;
+    }
+
+    /**
+     * Returns the largest change in the value of any vertex at each step so far,
+     * in order; the size of the list is the number of steps taken.
+     * @return the residual of each step so far
+     */
+    public List<Double> getResidualHistory()
+    {
+        return Collections.unmodifiableList(residual_history);
+    }
+
+    /**
+     * An update of the value of a single vertex, in place, by the array engine.
+     */
+    protected interface VertexUpdate
+    {
+        /**
+         * Updates the value of the vertex with index <code>i</code>.
+         * @param i the index of the vertex to update
+         * @return the absolute change in the vertex's value
+         */
+        double update(int i);
+    }
+
+    /**
+     * Updates every vertex in place, in index order (a Gauss-Seidel sweep).
+     * @param update the update to apply to each vertex
+     * @return the largest change in any vertex's value
+     */
+    protected double updateInOrder(VertexUpdate update)
+    {
+        double delta = 0;
+        for (int i = 0; i < vertex_list.size(); i++)
+            delta = Math.max(delta, update.update(i));
+        return delta;
+    }
+
+    /**
+     * Updates in place each vertex whose value may change by at least the tolerance, 
+     * in decreasing order of the bound on that change.  When a vertex's value changes 
+     * by d, the bound for each vertex collecting from it along a link of weight c
+     * rises by d * c * <code>getResidualScale</code>.
+     * @param links the links along which vertices collect values
+     * @param update the update to apply to each vertex
+     * @return the largest change in any vertex's value
+     */
+    protected double updateByPriority(LinkArrays links, VertexUpdate update)
+    {
+        int n = vertex_list.size();
+        if (priority_residuals == null)
+        {
+            priority_residuals = new double[n];
+            Arrays.fill(priority_residuals, Double.POSITIVE_INFINITY);
+        }
+        if (dependents == null)
+            dependents = links.transpose();
+        final double[] residuals = priority_residuals;
+        List<Integer> active = new ArrayList<Integer>();
+        for (int i = 0; i < n; i++)
+        {
+            if (residuals[i] > 0 && residuals[i] >= tolerance)
+                active.add(i);
+        }
+        Collections.sort(active, new Comparator<Integer>()
+        {
+            public int compare(Integer i, Integer j)
+            {
+                return Double.compare(residuals[j], residuals[i]);
+            }
+        });
+        double delta = 0;
+        for (int i : active)
+        {
+            residuals[i] = 0;
+            double diff = update.update(i);
+            delta = Math.max(delta, diff);
+            if (diff == 0)
+                continue;
+            for (int j = dependents.offsets[i]; j < dependents.offsets[i + 1]; j++)
+            {
+                int target = dependents.sources[j];
+                residuals[target] += diff * Math.abs(dependents.coefficients[j]) * getResidualScale(target);
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Raises the bound on the change in the value of vertex <code>i</code> 
+     * that <code>PRIORITIZED</code> iteration uses, for changes whose effect 
+     * is not expressed by the links.
+     * @param i the index of the vertex
+     * @param residual the amount by which to raise the bound
+     */
+    protected void addResidual(int i, double residual)
+    {
+        if (priority_residuals != null)
+            priority_residuals[i] += residual;
+    }
+
+    /**
+     * Returns the factor by which a change in the values collected by vertex <code>i</code>
+     * along its links is scaled in the change of its own value.
+     * @param i the index of the vertex
+     * @return the scale of changes in the value of vertex <code>i</code>
+     */
+    protected double getResidualScale(int i)
+    {
+        return 1;
+    }
+
+    /**
+     * Specifies whether <code>step</code> uses the array-based engine.
+     * The engine may be switched on or off between steps; when it is switched off,
+     * its values are copied back to the maps used by the map-based steps.
+     * Has no effect if the engine is already on (or off, respectively).
+     * @param use_arrays true if the array-based engine is to be used
+     * @throws UnsupportedOperationException if this instance does not support the array-based engine
+     */
+    public void setUseArrays(boolean use_arrays)
+    {
+        if (use_arrays == this.use_arrays)
+            return;
+        if (use_arrays && !(this instanceof ArrayScorer))
+            throw new UnsupportedOperationException(getClass().getSimpleName() + 
+                " does not support the array-based engine");
+        if (!use_arrays && vertex_list != null)
+        {
+            for (int i = 0; i < vertex_list.size(); i++)
+                setOutputValue(vertex_list.get(i), arrayScorer().getArrayValue(i));
+        }
+        if (!use_arrays)
+        {
+            this.iteration_mode = IterationMode.JACOBI;
+            this.extrapolation_interval = 0;
+        }
+        this.use_arrays = use_arrays;
+        discardSnapshot();
+    }
+
+    /**
+     * Returns true if <code>step</code> uses the array-based engine.
+     * @return true if the array-based engine is in use
+     */
+    public boolean isUsingArrays()
+    {
+        return use_arrays;
+    }
+
+    /**
+     * Sets the pool whose workers the array-based engine uses to update the vertices.
+     * If <code>pool</code> is null (the default), all vertices are updated by the 
+     * thread calling <code>step</code>.
+     * @param pool the pool to use, or null
+     */
+    public void setPool(ForkJoinPool pool)
+    {
+        this.pool = pool;
+    }
+
+    /**
+     * @return the pool whose workers the array-based engine uses, or null if none has been set
+     */
+    public ForkJoinPool getPool()
+    {
+        return pool;
+    }
+
+    /**
+     * Applies <code>update</code> to the indices of all vertices in the array engine's
+     * snapshot, dividing them among the workers of the pool, if there is one.
+     * @param update the update to apply to each range of vertex indices
+     * @return the largest value returned by <code>update</code> for any range
+     */
+    protected double updateAll(IndexRangeUpdate update)
+    {
+        int n = vertex_list.size();
+        if (pool == null || n < 2 * MIN_VERTICES_PER_TASK)
+            return update.update(0, n);
+        int chunk_size = Math.max(MIN_VERTICES_PER_TASK, 
+            n / (TASKS_PER_WORKER * pool.getParallelism()));
+        return pool.invoke(new IndexRangeTask(update, 0, n, chunk_size));
+    }
+
+    /**
+     * An update to the array engine's values for a range of vertex indices.
+     * Updates of distinct ranges may run concurrently, so an update may write only
+     * the values of the vertices in its own range.
+     */
+    protected interface IndexRangeUpdate
+    {
+        /**
+         * Updates the values of the vertices with indices from <code>from</code>
+         * (inclusive) to <code>to</code> (exclusive).
+         * @param from the first index to update
+         * @param to one more than the last index to update
+         * @return the largest change in the value of any vertex in the range
+         */
+        double update(int from, int to);
+    }
+
+    @SuppressWarnings("serial")
+    private static class IndexRangeTask extends RecursiveTask<Double>
+    {
+        private final IndexRangeUpdate update;
+        private final int from;
+        private final int to;
+        private final int chunk_size;
+
+        IndexRangeTask(IndexRangeUpdate update, int from, int to, int chunk_size)
+        {
+            this.update = update;
+            this.from = from;
+            this.to = to;
+            this.chunk_size = chunk_size;
+        }
+
+        @Override
+        protected Double compute()
+        {
+            if (to - from <= chunk_size)
+                return update.update(from, to);
+            int middle = (from + to) >>> 1;
+            IndexRangeTask right = new IndexRangeTask(update, middle, to, chunk_size);
+            right.fork();
+            double left_delta = new IndexRangeTask(update, from, middle, chunk_size).compute();
+            return Math.max(left_delta, right.join());
+        }
+    }
+
+    /**
+     * Takes a snapshot of the weighted links along which each vertex collects values 
+     * from its neighbors: for each vertex v and each edge e in its in-edges (or out-edges), 
+     * each vertex w incident to e (other than v, unless hyperedges are self-loops) 
+     * contributes with the weight <code>getEdgeWeight(w, e) / getAdjustedIncidentCount(e)</code>.
+     * @param in_edges if true, values are collected along in-edges; otherwise along out-edges
+     * @return the links for the vertices in the array engine's snapshot
+     */
+    protected LinkArrays buildLinks(boolean in_edges)
+    {
+        int n = vertex_list.size();
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < n; i++)
+        {
+            V v = vertex_list.get(i);
+            int count = 0;
+            for (E e : in_edges ? graph.getInEdges(v) : graph.getOutEdges(v))
+            {
+                for (V w : graph.getIncidentVertices(e))
+                {
+                    if (!w.equals(v) || hyperedges_are_self_loops)
+                        count++;
+                }
+            }
+            offsets[i + 1] = offsets[i] + count;
+        }
+        int[] sources = new int[offsets[n]];
+        double[] coefficients = new double[offsets[n]];
+        int j = 0;
+        for (int i = 0; i < n; i++)
+        {
+            V v = vertex_list.get(i);
+            for (E e : in_edges ? graph.getInEdges(v) : graph.getOutEdges(v))
+            {
+                int incident_count = getAdjustedIncidentCount(e);
+                for (V w : graph.getIncidentVertices(e))
+                {
+                    if (!w.equals(v) || hyperedges_are_self_loops)
+                    {
+                        sources[j] = vertex_index.get(w);
+                        coefficients[j] = getEdgeWeightValue(w, e) / incident_count;
+                        j++;
+                    }
+                }
+            }
+        }
+        return new LinkArrays(offsets, sources, coefficients);
+    }
+
+    /**
+     * The weighted links along which each vertex in the array engine's snapshot
+     * collects values, stored in compressed sparse row form.
+     */
+    protected static final class LinkArrays
+    {
+        private final int[] offsets;
+        private final int[] sources;
+        private final double[] coefficients;
+
+        LinkArrays(int[] offsets, int[] sources, double[] coefficients)
+        {
+            this.offsets = offsets;
+            this.sources = sources;
+            this.coefficients = coefficients;
+        }
+
+        /**
+         * @param values the values of all vertices, by index
+         * @param i the index of the collecting vertex
+         * @return the weighted sum of the values of the vertices linked to vertex <code>i</code>
+         */
+        public double pull(double[] values, int i)
+        {
+            double sum = 0;
+            for (int j = offsets[i]; j < offsets[i + 1]; j++)
+                sum += values[sources[j]] * coefficients[j];
+            return sum;
+        }
+
+        /**
+         * @param i the index of the collecting vertex
+         * @return the sum of the weights of the links to vertex <code>i</code>
+         */
+        public double weightSum(int i)
+        {
+            double sum = 0;
+            for (int j = offsets[i]; j < offsets[i + 1]; j++)
+                sum += coefficients[j];
+            return sum;
+        }
+
+        /**
+         * @return links with the same weights, listing for each vertex the vertices which collect from it
+         */
+        public LinkArrays transpose()
+        {
+            int n = offsets.length - 1;
+            int[] t_offsets = new int[n + 1];
+            for (int j = 0; j < sources.length; j++)
+                t_offsets[sources[j] + 1]++;
+            for (int i = 0; i < n; i++)
+                t_offsets[i + 1] += t_offsets[i];
+            int[] next = Arrays.copyOf(t_offsets, n);
+            int[] t_sources = new int[sources.length];
+            double[] t_coefficients = new double[sources.length];
+            for (int i = 0; i < n; i++)
+            {
+                for (int j = offsets[i]; j < offsets[i + 1]; j++)
+                {
+                    int k = next[sources[j]]++;
+                    t_sources[k] = i;
+                    t_coefficients[k] = coefficients[j];
+                }
+            }
+            return new LinkArrays(t_offsets, t_sources, t_coefficients);
+        }
+    }
+
     /**
      * Returns the maximum number of iterations that this instance will use.
      * @return the maximum number of iterations that <code>evaluate</code> will use
@@ -318,6 +1001,23 @@ public abstract class AbstractIterativeScorer<V,E,T> implements IterativeContext
     {
         return edge_weights.apply(new VEPair<V,E>(v,e));
     }
+
+    /**
+     * Gets the edge weight for <code>e</code> in the context of its (incident) vertex <code>v</code>
+     * as a <code>double</code>.  If the edge weights were specified by a 
+     * <code>Function</code> of the edge alone, it is called directly, so that no 
+     * <code>VEPair</code> is allocated and an <code>AttributeColumn</code> is read without boxing.
+     * @param v the vertex incident to e as a context in which the edge weight is to be calculated
+     * @param e the edge whose weight is to be returned
+     * @return the edge weight for <code>e</code> in the context of its (incident) vertex <code>v</code>
+     */
+    protected double getEdgeWeightValue(V v, E e)
+    {
+        if (edge_weights instanceof DelegateToEdgeTransformer)
+            return AttributeColumn.getDouble(
+                ((DelegateToEdgeTransformer<V,E>)edge_weights).getDelegate(), e);
+        return getEdgeWeight(v, e).doubleValue();
+    }
     
     /**
      * Collects the 'potential' from v (its current value) if it has no outgoing edges; this
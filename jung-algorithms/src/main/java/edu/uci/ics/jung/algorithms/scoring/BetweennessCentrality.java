@@ -12,6 +12,7 @@
 package edu.uci.ics.jung.algorithms.scoring;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -19,10 +20,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import com.google.common.base.Function;
 import com.google.common.base.Functions;
 
+import edu.uci.ics.jung.algorithms.util.AttributeColumn;
+import edu.uci.ics.jung.algorithms.util.IndexedIntGraph;
+import edu.uci.ics.jung.algorithms.util.IntBinaryHeap;
 import edu.uci.ics.jung.algorithms.util.MapBinaryHeap;
 import edu.uci.ics.jung.graph.Graph;
 import edu.uci.ics.jung.graph.UndirectedGraph;
@@ -30,6 +37,13 @@ import edu.uci.ics.jung.graph.UndirectedGraph;
 /**
  * Computes betweenness centrality for each vertex and edge in the graph.
  * 
+ * <p>The constructors which take a <code>ForkJoinPool</code> divide the 
+ * shortest path computations among the pool's workers; the graph must not
+ * be modified while they run.  Each worker thread holds one set of score
+ * arrays, of size proportional to that of the graph, and these are summed
+ * once at the end.  The scores may differ from those calculated 
+ * sequentially by rounding error, as they are summed in a different order.
+ * 
  * @see "Ulrik Brandes: A Faster Algorithm for Betweenness Centrality. Journal of Mathematical Sociology 25(2):163-177, 2001."
  */
 public class BetweennessCentrality<V, E> 
@@ -39,6 +53,12 @@ public class BetweennessCentrality<V, E>
 	protected Map<V, Double> vertex_scores;
 	protected Map<E, Double> edge_scores;
 	protected Map<V, BetweennessData> vertex_data;
+
+	/**
+	 * The number of chunks into which the source vertices are divided per 
+	 * worker, so that workers which finish early can take on more sources.
+	 */
+	private static final int CHUNKS_PER_WORKER = 4;
 		
 	/**
 	 * Calculates betweenness scores based on the all-pairs unweighted shortest paths
@@ -63,18 +83,53 @@ public class BetweennessCentrality<V, E>
 	public BetweennessCentrality(Graph<V, E> graph, 
 			Function<? super E, ? extends Number> edge_weights) 
 	{
-		// reject negative-weight edges up front
+		checkWeights(graph, edge_weights);
+		initialize(graph);
+		computeBetweenness(new MapBinaryHeap<V>(new BetweennessComparator()), 
+			edge_weights);
+	}
+
+	/**
+	 * Calculates betweenness scores based on the all-pairs unweighted shortest paths
+	 * in the graph, using the workers of <code>pool</code>.
+	 * @param graph the graph for which the scores are to be calculated
+	 * @param pool the pool whose workers are to calculate the scores
+	 */
+	public BetweennessCentrality(Graph<V, E> graph, ForkJoinPool pool) 
+	{
+		initialize(graph);
+		computeBetweenness(pool, false, Functions.<Integer>constant(1));
+	}
+
+	/**
+	 * Calculates betweenness scores based on the all-pairs weighted shortest paths in the
+	 * graph, using the workers of <code>pool</code>.
+	 * @param graph the graph for which the scores are to be calculated
+	 * @param edge_weights the edge weights to be used in the path length calculations
+	 * @param pool the pool whose workers are to calculate the scores
+	 * @see #BetweennessCentrality(Graph, Function)
+	 */
+	public BetweennessCentrality(Graph<V, E> graph, 
+			Function<? super E, ? extends Number> edge_weights, ForkJoinPool pool) 
+	{
+		checkWeights(graph, edge_weights);
+		initialize(graph);
+		computeBetweenness(pool, true, edge_weights);
+	}
+
+	/**
+	 * Rejects negative-weight edges up front.
+	 */
+	private static <E> void checkWeights(Graph<?, E> graph, 
+			Function<? super E, ? extends Number> edge_weights)
+	{
 		for (E e : graph.getEdges())
 		{
-			double e_weight = edge_weights.apply(e).doubleValue();
+			double e_weight = AttributeColumn.getDouble(edge_weights, e);
         	if (e_weight < 0)
         		throw new IllegalArgumentException(String.format(
         				"Weight for edge '%s' is < 0: %d", e, e_weight)); 
 		}
-			
-		initialize(graph);
-		computeBetweenness(new MapBinaryHeap<V>(new BetweennessComparator()), 
-			edge_weights);
 	}
 
 	protected void initialize(Graph<V,E> graph)
@@ -94,26 +149,110 @@ public class BetweennessCentrality<V, E>
 	protected void computeBetweenness(Queue<V> queue, 
 			Function<? super E, ? extends Number> edge_weights)
 	{
+		Dependencies dependencies = new Dependencies(queue, edge_weights,
+			vertex_data, vertex_scores, edge_scores);
 		for (V v : graph.getVertices())
+			dependencies.accumulate(v);
+
+		adjustUndirectedScores();
+        vertex_data.clear();
+	}
+
+	/**
+	 * Computes the scores using the workers of <code>pool</code>.  The source
+	 * vertices are divided among the workers; each worker thread accumulates
+	 * the dependencies of the sources it processes in its own arrays, indexed
+	 * by the ids of an <code>IndexedIntGraph</code> snapshot of the graph, and
+	 * these are summed once all sources have been processed.
+	 * @param pool the pool whose workers are to compute the scores
+	 * @param weighted if true, <code>edge_weights</code> may have values other than 1
+	 * @param edge_weights the edge weights to be used in the path length calculations
+	 */
+	protected void computeBetweenness(ForkJoinPool pool, boolean weighted,
+			Function<? super E, ? extends Number> edge_weights)
+	{
+		Workers workers = new Workers(weighted, edge_weights);
+		int vertex_count = workers.indexed.getVertexCount();
+		int chunk_size = Math.max(1, vertex_count / (CHUNKS_PER_WORKER * pool.getParallelism()));
+		pool.invoke(new SourceTask(workers, 0, vertex_count, chunk_size));
+
+		double[] vertex_totals = new double[vertex_count];
+		double[] edge_totals = new double[workers.indexed.getEdgeCount()];
+		for (WorkerDependencies dependencies : workers.accumulators.values())
+		{
+			for (int v = 0; v < vertex_totals.length; v++)
+				vertex_totals[v] += dependencies.vertex_scores[v];
+			for (int e = 0; e < edge_totals.length; e++)
+				edge_totals[e] += dependencies.edge_scores[e];
+		}
+		for (int v = 0; v < vertex_totals.length; v++)
+			vertex_scores.put(workers.indexed.getVertex(v), vertex_totals[v]);
+		for (int e = 0; e < edge_totals.length; e++)
+			edge_scores.put(workers.indexed.getEdge(e), edge_totals[e]);
+
+		adjustUndirectedScores();
+	}
+
+	private void adjustUndirectedScores()
+	{
+        if(graph instanceof UndirectedGraph) 
+        {
+    		for (V v : graph.getVertices()) { 
+    			double v_score = vertex_scores.get(v).doubleValue();
+    			v_score /= 2.0;
+    			vertex_scores.put(v, v_score);
+    		}
+    		for (E e : graph.getEdges()) {
+    			double e_score = edge_scores.get(e).doubleValue();
+    			e_score /= 2.0;
+    			edge_scores.put(e, e_score);
+    		}
+        }
+	}
+
+	/**
+	 * Computes the dependencies of a sequence of source vertices, and adds
+	 * them to the scores in the specified maps.
+	 */
+	private class Dependencies
+	{
+		final Queue<V> queue;
+		final Function<? super E, ? extends Number> edge_weights;
+		final Map<V, BetweennessData> vertex_data;
+		final Map<V, Double> vertex_scores;
+		final Map<E, Double> edge_scores;
+
+		Dependencies(Queue<V> queue, Function<? super E, ? extends Number> edge_weights,
+				Map<V, BetweennessData> vertex_data, Map<V, Double> vertex_scores,
+				Map<E, Double> edge_scores)
+		{
+			this.queue = queue;
+			this.edge_weights = edge_weights;
+			this.vertex_data = vertex_data;
+			this.vertex_scores = vertex_scores;
+			this.edge_scores = edge_scores;
+		}
+
+		void accumulate(V v)
 		{
 			// initialize the betweenness data for this new vertex
 			for (V s : graph.getVertices()) 
-				this.vertex_data.put(s, new BetweennessData());
+			{
+				BetweennessData s_data = vertex_data.get(s);
+				if (s_data == null)
+					vertex_data.put(s, new BetweennessData());
+				else
+					s_data.reset();
+			}
 
-//			if (v.equals(new Integer(0)))
-//				System.out.println("pause");
-			
             vertex_data.get(v).numSPs = 1;
             vertex_data.get(v).distance = 0;
 
             Stack<V> stack = new Stack<V>();
-//            Buffer<V> queue = new UnboundedFifoBuffer<V>();
-//            queue.add(v);
             queue.offer(v);
 
             while (!queue.isEmpty()) 
             {
-//                V w = queue.remove();
             	V w = queue.poll();
                 stack.push(w);
             	BetweennessData w_data = vertex_data.get(w);
@@ -124,13 +263,7 @@ public class BetweennessCentrality<V, E>
                 	V x = graph.getOpposite(w, e);
                 	if (x.equals(w))
                 		continue;
-                	double wx_weight = edge_weights.apply(e).doubleValue();
-                	
-                	
-//                for(V x : graph.getSuccessors(w)) 
-//                {
-//                	if (x.equals(w))
-//                		continue;
+                	double wx_weight = AttributeColumn.getDouble(edge_weights, e);
                 	
                 	// FIXME: the other problem is that I need to 
                 	// keep putting the neighbors of things we've just 
@@ -156,8 +289,6 @@ public class BetweennessCentrality<V, E>
                 	
                     if (x_data.distance < 0) 
                     {
-//                        queue.add(x);
-//                        vertex_data.get(x).distance = vertex_data.get(w).distance + 1;
                     	x_data.distance = x_potential_dist;
                       	queue.offer(x);
                     }
@@ -171,30 +302,23 @@ public class BetweennessCentrality<V, E>
                     	// invalidate previously identified incoming edges
                     	// (we have a new shortest path distance to x)
                     	x_data.incomingEdges.clear(); 
+                    	// and the shortest paths counted so far
+                    	x_data.numSPs = 0;
                         // update x's position in queue
                     	((MapBinaryHeap<V>)queue).update(x);
                     }
-//                  if (vertex_data.get(x).distance == vertex_data.get(w).distance + 1) 
-                    // 
-//                    if (x_data.distance == x_potential_dist) 
-//                    {
-//                        x_data.numSPs += w_data.numSPs;
-////                        vertex_data.get(x).predecessors.add(w);
-//                        x_data.incomingEdges.add(e);
-//                    }
                 }
                 for (E e: graph.getOutEdges(w))
                 {
                 	V x = graph.getOpposite(w, e);
                 	if (x.equals(w))
                 		continue;
-                	double e_weight = edge_weights.apply(e).doubleValue();
+                	double e_weight = AttributeColumn.getDouble(edge_weights, e);
                 	BetweennessData x_data = vertex_data.get(x);
                 	double x_potential_dist = w_data.distance + e_weight;
                     if (x_data.distance == x_potential_dist) 
                     {
                         x_data.numSPs += w_data.numSPs;
-//                        vertex_data.get(x).predecessors.add(w);
                         x_data.incomingEdges.add(e);
                     }
                 }
@@ -203,7 +327,6 @@ public class BetweennessCentrality<V, E>
     		{
     		    V x = stack.pop();
 
-//    		    for (V w : vertex_data.get(x).predecessors) 
     		    for (E e : vertex_data.get(x).incomingEdges)
     		    {
     		    	V w = graph.getOpposite(x, e);
@@ -211,10 +334,6 @@ public class BetweennessCentrality<V, E>
     		        	vertex_data.get(w).numSPs / vertex_data.get(x).numSPs *
     		        	(1.0 + vertex_data.get(x).dependency);
     		        vertex_data.get(w).dependency +=  partialDependency;
-//    		        E w_x = graph.findEdge(w, x);
-//    		        double w_x_score = edge_scores.get(w_x).doubleValue();
-//    		        w_x_score += partialDependency;
-//    		        edge_scores.put(w_x, w_x_score);
     		        double e_score = edge_scores.get(e).doubleValue();
     		        edge_scores.put(e, e_score + partialDependency);
     		    }
@@ -225,23 +344,219 @@ public class BetweennessCentrality<V, E>
     		    	vertex_scores.put(x, x_score);
     		    }
     		}
-        }
+		}
+	}
 
-        if(graph instanceof UndirectedGraph) 
-        {
-    		for (V v : graph.getVertices()) { 
-    			double v_score = vertex_scores.get(v).doubleValue();
-    			v_score /= 2.0;
-    			vertex_scores.put(v, v_score);
-    		}
-    		for (E e : graph.getEdges()) {
-    			double e_score = edge_scores.get(e).doubleValue();
-    			e_score /= 2.0;
-    			edge_scores.put(e, e_score);
-    		}
-        }
+	/**
+	 * The state shared by the tasks of a parallel computation: an indexed 
+	 * snapshot of the graph, the weight of each edge, and the accumulator of
+	 * each worker thread.
+	 */
+	private class Workers
+	{
+		final IndexedIntGraph<V, E> indexed;
+		final boolean weighted;
+		final double[] edge_weights;
+		final int arc_count;
+		final Map<Thread, WorkerDependencies> accumulators = 
+			new ConcurrentHashMap<Thread, WorkerDependencies>();
 
-        vertex_data.clear();
+		Workers(boolean weighted, Function<? super E, ? extends Number> edge_weights)
+		{
+			this.indexed = new IndexedIntGraph<V, E>(graph);
+			this.weighted = weighted;
+			this.edge_weights = new double[indexed.getEdgeCount()];
+			for (int e = 0; e < this.edge_weights.length; e++)
+				this.edge_weights[e] = AttributeColumn.getDouble(edge_weights, indexed.getEdge(e));
+			int arcs = 0;
+			for (int v = 0; v < indexed.getVertexCount(); v++)
+				arcs += indexed.outDegree(v);
+			this.arc_count = arcs;
+		}
+
+		/**
+		 * Returns the accumulator of the current thread, creating it if necessary.
+		 * Only the current thread adds its own entry, so no two threads race to
+		 * create the same accumulator.
+		 */
+		WorkerDependencies current()
+		{
+			Thread thread = Thread.currentThread();
+			WorkerDependencies dependencies = accumulators.get(thread);
+			if (dependencies == null)
+			{
+				dependencies = new WorkerDependencies(this);
+				accumulators.put(thread, dependencies);
+			}
+			return dependencies;
+		}
+	}
+
+	/**
+	 * Accumulates the dependencies of the sources processed by one worker
+	 * thread into arrays indexed by vertex and edge id.  The per-source 
+	 * search state is also held in arrays, which are reset rather than 
+	 * reallocated for each source.
+	 */
+	private class WorkerDependencies
+	{
+		final Workers workers;
+		final double[] vertex_scores;
+		final double[] edge_scores;
+
+		final double[] distance;
+		final double[] num_sps;
+		final double[] dependency;
+		final int[] stack;
+		final int[] fifo;
+		final IntBinaryHeap heap;
+		// the incoming edges of each vertex on shortest paths from the source, as
+		// linked lists: pred_head[x] is the first entry for x, or -1 if there are none
+		final int[] pred_head;
+		final int[] pred_next;
+		final int[] pred_edge;
+		final int[] pred_vertex;
+		int pred_count;
+
+		WorkerDependencies(Workers workers)
+		{
+			int vertex_count = workers.indexed.getVertexCount();
+			this.workers = workers;
+			this.vertex_scores = new double[vertex_count];
+			this.edge_scores = new double[workers.indexed.getEdgeCount()];
+			this.distance = new double[vertex_count];
+			this.num_sps = new double[vertex_count];
+			this.dependency = new double[vertex_count];
+			this.stack = new int[vertex_count];
+			this.fifo = workers.weighted ? null : new int[vertex_count];
+			this.heap = workers.weighted ? new IntBinaryHeap(distance) : null;
+			this.pred_head = new int[vertex_count];
+			this.pred_next = new int[workers.arc_count];
+			this.pred_edge = new int[workers.arc_count];
+			this.pred_vertex = new int[workers.arc_count];
+		}
+
+		/**
+		 * Adds the dependencies of source <code>s</code>; this follows 
+		 * <code>Dependencies.accumulate</code> step for step.
+		 */
+		void accumulate(int s)
+		{
+			IndexedIntGraph<V, E> indexed = workers.indexed;
+			double[] edge_weights = workers.edge_weights;
+			Arrays.fill(distance, -1);
+			Arrays.fill(num_sps, 0);
+			Arrays.fill(dependency, 0);
+			Arrays.fill(pred_head, -1);
+			pred_count = 0;
+
+			num_sps[s] = 1;
+			distance[s] = 0;
+
+			int stack_size = 0;
+			int fifo_head = 0;
+			int fifo_tail = 0;
+			if (heap != null)
+				heap.offer(s);
+			else
+				fifo[fifo_tail++] = s;
+
+			while (heap != null ? !heap.isEmpty() : fifo_head < fifo_tail)
+			{
+				int w = heap != null ? heap.poll() : fifo[fifo_head++];
+				stack[stack_size++] = w;
+				int degree = indexed.outDegree(w);
+
+				for (int i = 0; i < degree; i++)
+				{
+					int x = indexed.outNeighbor(w, i);
+					if (x == w)
+						continue;
+					double x_potential_dist = distance[w] + edge_weights[indexed.outEdge(w, i)];
+					if (distance[x] < 0)
+					{
+						distance[x] = x_potential_dist;
+						if (heap != null)
+							heap.offer(x);
+						else
+							fifo[fifo_tail++] = x;
+					}
+					// as in Dependencies, this can only happen with weighted edges
+					if (distance[x] > x_potential_dist)
+					{
+						distance[x] = x_potential_dist;
+						pred_head[x] = -1;
+						num_sps[x] = 0;
+						heap.update(x);
+					}
+				}
+				for (int i = 0; i < degree; i++)
+				{
+					int x = indexed.outNeighbor(w, i);
+					if (x == w)
+						continue;
+					int e = indexed.outEdge(w, i);
+					if (distance[x] == distance[w] + edge_weights[e])
+					{
+						num_sps[x] += num_sps[w];
+						pred_edge[pred_count] = e;
+						pred_vertex[pred_count] = w;
+						pred_next[pred_count] = pred_head[x];
+						pred_head[x] = pred_count++;
+					}
+				}
+			}
+			while (stack_size > 0)
+			{
+				int x = stack[--stack_size];
+				for (int p = pred_head[x]; p >= 0; p = pred_next[p])
+				{
+					int w = pred_vertex[p];
+					double partialDependency = num_sps[w] / num_sps[x] * (1.0 + dependency[x]);
+					dependency[w] += partialDependency;
+					edge_scores[pred_edge[p]] += partialDependency;
+				}
+				if (x != s)
+					vertex_scores[x] += dependency[x];
+			}
+		}
+	}
+
+	/**
+	 * Computes the dependencies of a range of source vertex ids, splitting the
+	 * range among further tasks if it is larger than the chunk size.  Each 
+	 * range is added to the accumulator of the worker thread which runs it.
+	 */
+	@SuppressWarnings("serial")
+	private class SourceTask extends RecursiveAction
+	{
+		final Workers workers;
+		final int from;
+		final int to;
+		final int chunk_size;
+
+		SourceTask(Workers workers, int from, int to, int chunk_size)
+		{
+			this.workers = workers;
+			this.from = from;
+			this.to = to;
+			this.chunk_size = chunk_size;
+		}
+
+		@Override
+		protected void compute()
+		{
+			if (to - from <= chunk_size)
+			{
+				WorkerDependencies dependencies = workers.current();
+				for (int s = from; s < to; s++)
+					dependencies.accumulate(s);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new SourceTask(workers, from, middle, chunk_size),
+				new SourceTask(workers, middle, to, chunk_size));
+		}
 	}
 
 //	protected void computeWeightedBetweenness(Function<E, ? extends Number> edge_weights)
@@ -330,6 +645,17 @@ public class BetweennessCentrality<V, E>
             incomingEdges = new ArrayList<E>();
             dependency = 0;
         }
+
+        /**
+         * Restores the initial state, so that this instance may be reused for another source.
+         */
+        void reset()
+        {
+            distance = -1;
+            numSPs = 0;
+            incomingEdges.clear();
+            dependency = 0;
+        }
         
         @Override
         public String toString()
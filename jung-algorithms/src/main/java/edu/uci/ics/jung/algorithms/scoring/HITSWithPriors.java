@@ -11,6 +11,8 @@
  */
 package edu.uci.ics.jung.algorithms.scoring;
 
+import java.util.Arrays;
+
 import com.google.common.base.Function;
 import com.google.common.base.Functions;
 
@@ -27,6 +29,7 @@ import edu.uci.ics.jung.graph.Hypergraph;
  */
 public class HITSWithPriors<V, E> 
 	extends AbstractIterativeScorerWithPriors<V,E,HITS.Scores>
+	implements AbstractIterativeScorer.ArrayScorer<HITS.Scores>
 {
     /**
      * The sum of the potential, at each step, associated with vertices with no outedges (authority)
@@ -34,6 +37,30 @@ public class HITSWithPriors<V, E>
      */
     protected HITS.Scores disappearing_potential;
 
+    /**
+     * The links along which each vertex collects authority (from the hub scores of 
+     * its in-neighbors) and hub score (from the authority of its out-neighbors),
+     * for the array-based engine.
+     */
+    private LinkArrays in_links;
+    private LinkArrays out_links;
+
+    /**
+     * The array engine's current and output values, and the priors, by vertex index.
+     */
+    private double[] current_hubs;
+    private double[] current_authorities;
+    private double[] output_hubs;
+    private double[] output_authorities;
+    private double[] hub_priors;
+    private double[] authority_priors;
+
+    /**
+     * The indices of the vertices with no outgoing edges, and of those with no incoming edges.
+     */
+    private int[] no_out_edges;
+    private int[] no_in_edges;
+
     /**
      * Creates an instance for the specified graph, edge weights, vertex prior probabilities,
      * and random jump probability (alpha).
@@ -168,6 +195,142 @@ public class HITSWithPriors<V, E>
     	}
 	}
     
+    public void initializeArrays()
+    {
+        int n = vertex_list.size();
+        in_links = buildLinks(true);
+        out_links = buildLinks(false);
+        current_hubs = new double[n];
+        current_authorities = new double[n];
+        output_hubs = new double[n];
+        output_authorities = new double[n];
+        hub_priors = new double[n];
+        authority_priors = new double[n];
+        int[] no_out = new int[n];
+        int[] no_in = new int[n];
+        int no_out_count = 0;
+        int no_in_count = 0;
+        for (int i = 0; i < n; i++)
+        {
+            V v = vertex_list.get(i);
+            HITS.Scores value = getOutputValue(v);
+            output_hubs[i] = value.hub;
+            output_authorities[i] = value.authority;
+            HITS.Scores prior = getVertexPrior(v);
+            hub_priors[i] = prior.hub;
+            authority_priors[i] = prior.authority;
+            if (graph.outDegree(v) == 0)
+            {
+                if (!isDisconnectedGraphOK())
+                    throw new IllegalArgumentException("Outdegree of " + v + " must be > 0");
+                no_out[no_out_count++] = i;
+            }
+            if (graph.inDegree(v) == 0)
+            {
+                if (!isDisconnectedGraphOK())
+                    throw new IllegalArgumentException("Indegree of " + v + " must be > 0");
+                no_in[no_in_count++] = i;
+            }
+        }
+        no_out_edges = Arrays.copyOf(no_out, no_out_count);
+        no_in_edges = Arrays.copyOf(no_in, no_in_count);
+    }
+
+    public double stepArrays()
+    {
+        // the output of the last step is the input to this one
+        final double[] hubs = output_hubs;
+        final double[] authorities = output_authorities;
+        final double[] new_hubs = current_hubs;
+        final double[] new_authorities = current_authorities;
+        current_hubs = hubs;
+        current_authorities = authorities;
+        output_hubs = new_hubs;
+        output_authorities = new_authorities;
+
+        double hub_potential = 0;
+        for (int i : no_out_edges)
+            hub_potential += authorities[i];
+        double authority_potential = 0;
+        for (int i : no_in_edges)
+            authority_potential += hubs[i];
+
+        double delta = updateAll(new IndexRangeUpdate()
+        {
+            public double update(int from, int to)
+            {
+                double max_diff = 0;
+                for (int i = from; i < to; i++)
+                {
+                    double v_auth = in_links.pull(hubs, i);
+                    double v_hub = out_links.pull(authorities, i);
+                    if (alpha > 0)
+                    {
+                        v_auth = v_auth * (1 - alpha) + authority_priors[i] * alpha;
+                        v_hub = v_hub * (1 - alpha) + hub_priors[i] * alpha;
+                    }
+                    new_hubs[i] = v_hub;
+                    new_authorities[i] = v_auth;
+                    max_diff = Math.max(max_diff, Math.max(Math.abs(hubs[i] - v_hub),
+                                                           Math.abs(authorities[i] - v_auth)));
+                }
+                return max_diff;
+            }
+        });
+
+        if (hub_potential > 0 || authority_potential > 0)
+        {
+            for (int i = 0; i < new_hubs.length; i++)
+            {
+                new_hubs[i] += (1 - alpha) * (hub_potential * hub_priors[i]);
+                new_authorities[i] += (1 - alpha) * (authority_potential * authority_priors[i]);
+            }
+        }
+
+        normalizeArrays(new_hubs, new_authorities);
+        return delta;
+    }
+
+    /**
+     * Normalizes the array engine's scores so that the sum of their squares = 1.
+     * This is the array engine's counterpart to <code>normalizeScores</code>,
+     * and should be overridden along with it.
+     * @param hubs the hub scores, by vertex index
+     * @param authorities the authority scores, by vertex index
+     */
+    protected void normalizeArrays(double[] hubs, double[] authorities)
+    {
+        double hub_ssum = 0;
+        double auth_ssum = 0;
+        for (int i = 0; i < hubs.length; i++)
+        {
+            hub_ssum += hubs[i] * hubs[i];
+            auth_ssum += authorities[i] * authorities[i];
+        }
+
+        hub_ssum = Math.sqrt(hub_ssum);
+        auth_ssum = Math.sqrt(auth_ssum);
+
+        for (int i = 0; i < hubs.length; i++)
+        {
+            hubs[i] /= hub_ssum;
+            authorities[i] /= auth_ssum;
+        }
+    }
+
+    public HITS.Scores getArrayValue(int i)
+    {
+        return new HITS.Scores(output_hubs[i], output_authorities[i]);
+    }
+
+    /**
+     * Returns null, since the array engine holds two values for each vertex.
+     */
+    public double[] getArrayValues()
+    {
+        return null;
+    }
+
 	/**
 	 * Collects the "disappearing potential" associated with vertices that have either 
 	 * no incoming edges, no outgoing edges, or both.  Vertices that have no incoming edges
@@ -0,0 +1,644 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.scoring;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.base.Function;
+import com.google.common.base.Preconditions;
+
+import edu.uci.ics.jung.algorithms.scoring.util.DelegateToEdgeTransformer;
+import edu.uci.ics.jung.algorithms.scoring.util.UniformDegreeWeight;
+import edu.uci.ics.jung.algorithms.scoring.util.VEPair;
+import edu.uci.ics.jung.algorithms.util.AttributeColumn;
+import edu.uci.ics.jung.graph.Hypergraph;
+import edu.uci.ics.jung.graph.event.GraphEvent;
+import edu.uci.ics.jung.graph.event.GraphEventListener;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+/**
+ * Maintains the scores of {@link PageRankWithPriors} as the graph changes,
+ * by updating them locally rather than recomputing them from scratch.
+ *
+ * <p>The scores are the solution of
+ * <code>x = alpha * p + (1 - alpha) * A x</code>, where <code>p</code> holds
+ * the vertex priors and column <code>u</code> of <code>A</code> holds the
+ * transition probabilities along the outgoing edges of <code>u</code> (or
+ * <code>p</code> itself, if <code>u</code> has no outgoing edges).  This
+ * instance keeps, for each vertex, its score and its <i>residual</i>:
+ * the amount by which the two sides of that equation differ.  A vertex
+ * whose residual exceeds the tolerance is <i>pushed</i>: the residual is
+ * added to its score, and passed on, scaled by <code>1 - alpha</code>, to
+ * the residuals of the vertices to which it links.  Pushing continues
+ * until no residual exceeds the tolerance, at which point the total error
+ * in the scores is at most the total residual divided by <code>alpha</code>.
+ *
+ * <p>When edges are added or removed, only the transition probabilities of
+ * their source vertices change; this changes the residuals of those
+ * vertices' neighbors, and pushing from them adjusts the scores in their
+ * vicinity.  Thus the work done for a change is proportional to the amount
+ * by which the scores change, rather than to the size of the graph.
+ * (The share of a vertex with no outgoing edges goes to every vertex with
+ * a nonzero prior; such shares are accumulated, and distributed only when
+ * their total exceeds the tolerance.)
+ *
+ * <p>An instance is first evaluated, either from scratch by
+ * <code>evaluate()</code>, or from the scores of a previous evaluation (for
+ * example, by a <code>PageRankWithPriors</code> on the same graph) by
+ * <code>evaluate(VertexScorer)</code>.  Changes may then be reported by
+ * <code>applyChanges</code>, or the instance may be registered as a listener
+ * of an <code>ObservableGraph</code> which wraps the graph:
+ * <pre>
+ * ObservableGraph&lt;V,E&gt; graph = new ObservableGraph&lt;V,E&gt;(g);
+ * IncrementalPageRank&lt;V,E&gt; ipr = new IncrementalPageRank&lt;V,E&gt;(graph, priors, 0.15);
+ * ipr.evaluate();
+ * graph.addGraphEventListener(ipr);
+ * </pre>
+ * Changes made within a batch of the <code>ObservableGraph</code> are
+ * applied together when the batch ends.
+ *
+ * <p>The transition probabilities of each vertex are computed, as they are
+ * by <code>PageRankWithPriors</code>, from the edge weights, and are then
+ * recorded; they are recomputed only for the sources of added and removed
+ * edges, so the weight of an edge must depend only on the edges of its
+ * source (as with the default, uniform, weights).  Similarly, the prior of
+ * each vertex is read when it is evaluated or added; if the priors of other
+ * vertices then change (as with a uniform prior over all vertices, when a
+ * vertex is added or removed), <code>updatePriors()</code> must be called.
+ *
+ * <p>The public methods of this class are synchronized, so changes may be
+ * reported by a thread other than that which queries the scores.
+ *
+ * @see "Fast Incremental and Personalized PageRank by B. Bahmani, A. Chowdhury and A. Goel, 2010"
+ * @see "Local Computation of PageRank Contributions by R. Andersen et al., 2007"
+ */
+public class IncrementalPageRank<V,E> implements VertexScorer<V,Double>, GraphEventListener<V,E>
+{
+    /**
+     * The graph whose vertices are scored.
+     */
+    protected Hypergraph<V,E> graph;
+
+    /**
+     * The edge weights, denoting transition probabilities from source to destination.
+     */
+    protected Function<VEPair<V,E>, ? extends Number> edge_weights;
+
+    /**
+     * The prior probability of each vertex being visited on a 'jump'.
+     */
+    protected Function<? super V, ? extends Number> vertex_priors;
+
+    /**
+     * The probability of making a 'jump' at each step.
+     */
+    protected double alpha;
+
+    /**
+     * The default tolerance, relative to the average score, which is
+     * <code>1/n</code> for <code>n</code> vertices if the priors sum to 1.
+     */
+    private static final double DEFAULT_RELATIVE_TOLERANCE = 1.0e-3;
+
+    /**
+     * The largest residual that is left unpushed.  Unless it has been set
+     * explicitly, each evaluation sets it to
+     * <code>DEFAULT_RELATIVE_TOLERANCE / n</code>.
+     */
+    protected double tolerance;
+
+    /**
+     * True if the tolerance has been set by <code>setTolerance</code>.
+     */
+    private boolean tolerance_set;
+
+    private Map<V, Double> scores;
+    private Map<V, Double> residuals;
+    private Map<V, Double> priors;
+
+    /**
+     * The transition probabilities along the outgoing edges of each vertex
+     * which has any, keyed by destination.
+     */
+    private Map<V, Map<V, Double>> transitions;
+
+    /**
+     * The vertices with no outgoing edges.
+     */
+    private Set<V> dangling;
+
+    /**
+     * The vertices from which each edge leads, so that the sources of
+     * an edge can be found once it has been removed.
+     */
+    private Map<E, Collection<V>> edge_sources;
+
+    /**
+     * The total score of the vertices with no outgoing edges.
+     */
+    private double dangling_score;
+
+    /**
+     * Residual which is yet to be distributed according to the priors; the
+     * residual of each vertex <code>v</code> is its recorded residual plus
+     * <code>pending_residual * p(v)</code>.
+     */
+    private double pending_residual;
+
+    private long push_count;
+
+    /**
+     * Creates an instance with the specified graph, edge weights, vertex priors, and
+     * 'random jump' probability (alpha).
+     * @param graph the input graph
+     * @param edge_weights the edge weights, denoting transition probabilities from source to destination
+     * @param vertex_priors the prior probabilities for each vertex
+     * @param alpha the probability of executing a 'random jump' at each step
+     */
+    public IncrementalPageRank(Hypergraph<V,E> graph,
+            Function<? super E, ? extends Number> edge_weights,
+            Function<? super V, ? extends Number> vertex_priors, double alpha)
+    {
+        Preconditions.checkArgument(alpha > 0 && alpha <= 1, "alpha must be in (0, 1]: %s", alpha);
+        this.graph = graph;
+        this.edge_weights = new DelegateToEdgeTransformer<V,E>(edge_weights);
+        this.vertex_priors = vertex_priors;
+        this.alpha = alpha;
+    }
+
+    /**
+     * Creates an instance with the specified graph, vertex priors, and
+     * 'random jump' probability (alpha).  The outgoing edge weights for each
+     * vertex will be equal and sum to 1.
+     * @param graph the input graph
+     * @param vertex_priors the prior probabilities for each vertex
+     * @param alpha the probability of executing a 'random jump' at each step
+     */
+    public IncrementalPageRank(Hypergraph<V,E> graph,
+            Function<? super V, ? extends Number> vertex_priors, double alpha)
+    {
+        Preconditions.checkArgument(alpha > 0 && alpha <= 1, "alpha must be in (0, 1]: %s", alpha);
+        this.graph = graph;
+        this.edge_weights = new UniformDegreeWeight<V,E>(graph);
+        this.vertex_priors = vertex_priors;
+        this.alpha = alpha;
+    }
+
+    /**
+     * Computes the scores from scratch, starting from scores of zero.
+     */
+    public synchronized void evaluate()
+    {
+        evaluate(null);
+    }
+
+    /**
+     * Computes the scores, starting from those of <code>initial_scores</code>
+     * (which should be close to the scores sought), and pushing residuals
+     * until none exceeds the tolerance.  This requires a single pass over
+     * the graph, to compute the residuals, plus whatever pushes are needed.
+     * @param initial_scores the scores from which to start, or
+     * <code>null</code> to start from scores of zero
+     */
+    public synchronized void evaluate(VertexScorer<V, ? extends Number> initial_scores)
+    {
+        int n = graph.getVertexCount();
+        if (!tolerance_set)
+            tolerance = DEFAULT_RELATIVE_TOLERANCE / Math.max(1, n);
+        scores = new HashMap<V, Double>(n * 2);
+        residuals = new HashMap<V, Double>(n * 2);
+        priors = new HashMap<V, Double>(n * 2);
+        transitions = new HashMap<V, Map<V, Double>>(n * 2);
+        dangling = new HashSet<V>();
+        edge_sources = new HashMap<E, Collection<V>>(graph.getEdgeCount() * 2);
+        dangling_score = 0;
+        pending_residual = 0;
+        push_count = 0;
+
+        for (V v : graph.getVertices())
+        {
+            Number initial = initial_scores == null ? null : initial_scores.getVertexScore(v);
+            double score = initial == null ? 0 : initial.doubleValue();
+            double prior = getPrior(v);
+            scores.put(v, score);
+            priors.put(v, prior);
+            residuals.put(v, alpha * prior - score);
+        }
+        for (E e : graph.getEdges())
+            edge_sources.put(e, getSources(e));
+        for (V u : graph.getVertices())
+        {
+            Map<V, Double> column = computeTransitions(u);
+            double score = scores.get(u);
+            if (column == null)
+            {
+                dangling.add(u);
+                dangling_score += score;
+            }
+            else
+            {
+                transitions.put(u, column);
+                for (Map.Entry<V, Double> entry : column.entrySet())
+                    addResidual(entry.getKey(), (1 - alpha) * entry.getValue() * score, null);
+            }
+        }
+        pending_residual = (1 - alpha) * dangling_score;
+        push(scores.keySet());
+    }
+
+    /**
+     * Updates the scores to reflect changes which have been made to the graph.
+     * The collections may be empty, but not <code>null</code>;
+     * <code>removed_edges</code> must include the edges that were incident to
+     * each removed vertex.  Vertices incident to added edges are added to the
+     * scores if necessary, whether or not they are in <code>added_vertices</code>.
+     * @param added_vertices the vertices that have been added to the graph
+     * @param removed_vertices the vertices that have been removed from the graph
+     * @param added_edges the edges that have been added to the graph
+     * @param removed_edges the edges that have been removed from the graph
+     * @throws IllegalStateException if this instance has not been evaluated
+     */
+    public synchronized void applyChanges(Collection<? extends V> added_vertices,
+            Collection<? extends V> removed_vertices, Collection<? extends E> added_edges,
+            Collection<? extends E> removed_edges)
+    {
+        checkEvaluated();
+        Set<V> changed = new LinkedHashSet<V>();
+
+        // the vertices whose outgoing edges have changed
+        Set<V> sources = new LinkedHashSet<V>();
+        for (E e : removed_edges)
+        {
+            Collection<V> edge_source = edge_sources.remove(e);
+            if (edge_source != null)
+                sources.addAll(edge_source);
+        }
+        for (E e : added_edges)
+        {
+            if (!graph.containsEdge(e))
+                continue;
+            Collection<V> edge_source = getSources(e);
+            edge_sources.put(e, edge_source);
+            sources.addAll(edge_source);
+        }
+
+        for (V v : removed_vertices)
+        {
+            sources.remove(v);
+            removeVertex(v, changed);
+        }
+        for (V v : added_vertices)
+            addVertex(v, changed);
+        for (E e : added_edges)
+            if (graph.containsEdge(e))
+                for (V v : graph.getIncidentVertices(e))
+                    addVertex(v, changed);
+
+        for (V u : sources)
+        {
+            // if events are dispatched by an executor, u may since have been removed
+            if (!scores.containsKey(u) || !graph.containsVertex(u))
+                continue;
+            double score = scores.get(u);
+            setTransitions(u, -score, changed);
+            Map<V, Double> column = computeTransitions(u);
+            if (column == null)
+            {
+                transitions.remove(u);
+                dangling.add(u);
+            }
+            else
+            {
+                for (V v : column.keySet())
+                    addVertex(v, changed);
+                transitions.put(u, column);
+                dangling.remove(u);
+            }
+            setTransitions(u, score, changed);
+        }
+        push(changed);
+    }
+
+    /**
+     * Rereads the prior of each vertex, and updates the scores to reflect any
+     * changes.  This requires a pass over the vertices.
+     * @throws IllegalStateException if this instance has not been evaluated
+     */
+    public synchronized void updatePriors()
+    {
+        checkEvaluated();
+        Set<V> changed = new LinkedHashSet<V>();
+        // the residual of v is alpha * p(v) + (1 - alpha) * dangling_score * p(v) + ...,
+        // of which pending_residual * p(v) is not recorded
+        double scale = alpha + (1 - alpha) * dangling_score - pending_residual;
+        for (Map.Entry<V, Double> entry : priors.entrySet())
+        {
+            double prior = getPrior(entry.getKey());
+            double difference = prior - entry.getValue();
+            if (difference != 0)
+            {
+                entry.setValue(prior);
+                addResidual(entry.getKey(), scale * difference, changed);
+            }
+        }
+        push(changed);
+    }
+
+    /**
+     * Applies the changes reported by <code>event</code>.
+     */
+    public void handleGraphEvent(GraphEvent<V,E> event)
+    {
+        if (scores == null)
+            return;
+        List<V> no_vertices = Collections.emptyList();
+        List<E> no_edges = Collections.emptyList();
+        switch (event.getType())
+        {
+            case VERTEX_ADDED:
+                applyChanges(Collections.singleton(((GraphEvent.Vertex<V,E>)event).getVertex()),
+                    no_vertices, no_edges, no_edges);
+                break;
+            case VERTEX_REMOVED:
+                applyChanges(no_vertices,
+                    Collections.singleton(((GraphEvent.Vertex<V,E>)event).getVertex()),
+                    no_edges, no_edges);
+                break;
+            case EDGE_ADDED:
+                applyChanges(no_vertices, no_vertices,
+                    Collections.singleton(((GraphEvent.Edge<V,E>)event).getEdge()), no_edges);
+                break;
+            case EDGE_REMOVED:
+                applyChanges(no_vertices, no_vertices, no_edges,
+                    Collections.singleton(((GraphEvent.Edge<V,E>)event).getEdge()));
+                break;
+            case BATCH:
+                GraphEvent.Batch<V,E> batch = (GraphEvent.Batch<V,E>)event;
+                applyChanges(batch.getAddedVertices(), batch.getRemovedVertices(),
+                    batch.getAddedEdges(), batch.getRemovedEdges());
+                break;
+        }
+    }
+
+    /**
+     * @return the score of <code>v</code>
+     * @throws IllegalStateException if this instance has not been evaluated
+     */
+    public synchronized Double getVertexScore(V v)
+    {
+        checkEvaluated();
+        return scores.get(v);
+    }
+
+    /**
+     * @return the number of pushes made since this instance was last evaluated
+     */
+    public synchronized long getPushCount()
+    {
+        return push_count;
+    }
+
+    /**
+     * @return the largest residual that is left unpushed; unless it has been
+     * set by <code>setTolerance</code>, this is 0 until the first evaluation
+     */
+    public double getTolerance()
+    {
+        return tolerance;
+    }
+
+    /**
+     * Sets the largest residual that is left unpushed.  The total error in
+     * the scores is at most the total residual divided by alpha, so this
+     * should be set well below the smallest score of interest.  By default,
+     * each evaluation sets it to a thousandth of the average score (that is,
+     * to <code>0.001 / n</code> for <code>n</code> vertices), so that the
+     * accuracy of the scores does not depend on the size of the graph.
+     * Takes effect when the scores are next updated.
+     * @param tolerance the largest residual that is to be left unpushed
+     */
+    public synchronized void setTolerance(double tolerance)
+    {
+        Preconditions.checkArgument(tolerance > 0, "tolerance must be positive: %s", tolerance);
+        this.tolerance = tolerance;
+        this.tolerance_set = true;
+    }
+
+    /**
+     * @return the probability of making a 'jump' (non-link-following step)
+     */
+    public double getAlpha()
+    {
+        return alpha;
+    }
+
+    /**
+     * @return the Function which maps each vertex to its prior probability
+     */
+    public Function<? super V, ? extends Number> getVertexPriors()
+    {
+        return vertex_priors;
+    }
+
+    /**
+     * Pushes residuals, starting from <code>candidates</code>, until no
+     * residual exceeds the tolerance.
+     */
+    private void push(Collection<V> candidates)
+    {
+        Deque<V> queue = new ArrayDeque<V>();
+        Set<V> queued = new HashSet<V>();
+        for (V v : candidates)
+            enqueue(v, queue, queued);
+        while (true)
+        {
+            while (!queue.isEmpty())
+            {
+                V u = queue.poll();
+                queued.remove(u);
+                double residual = residuals.get(u);
+                if (Math.abs(residual) <= tolerance)
+                    continue;
+                push_count++;
+                residuals.put(u, 0.0);
+                scores.put(u, scores.get(u) + residual);
+                if (dangling.contains(u))
+                {
+                    dangling_score += residual;
+                    pending_residual += (1 - alpha) * residual;
+                }
+                else
+                {
+                    for (Map.Entry<V, Double> entry : transitions.get(u).entrySet())
+                    {
+                        V v = entry.getKey();
+                        addResidual(v, (1 - alpha) * entry.getValue() * residual, null);
+                        enqueue(v, queue, queued);
+                    }
+                }
+            }
+            if (Math.abs(pending_residual) <= tolerance)
+                break;
+
+            // distribute the shares of vertices with no outgoing edges
+            double pending = pending_residual;
+            pending_residual = 0;
+            for (Map.Entry<V, Double> entry : priors.entrySet())
+            {
+                if (entry.getValue() != 0)
+                {
+                    addResidual(entry.getKey(), pending * entry.getValue(), null);
+                    enqueue(entry.getKey(), queue, queued);
+                }
+            }
+        }
+    }
+
+    private void enqueue(V v, Deque<V> queue, Set<V> queued)
+    {
+        Double residual = residuals.get(v);
+        if (residual != null && Math.abs(residual) > tolerance && queued.add(v))
+            queue.add(v);
+    }
+
+    /**
+     * Adds <code>amount</code> to the residual of <code>v</code>, if it is
+     * still scored, and records <code>v</code> in <code>changed</code> if
+     * that is not <code>null</code>.
+     */
+    private void addResidual(V v, double amount, Set<V> changed)
+    {
+        Double residual = residuals.get(v);
+        if (residual == null)
+            return;
+        residuals.put(v, residual + amount);
+        if (changed != null)
+            changed.add(v);
+    }
+
+    /**
+     * Adds the effect of <code>score</code> passing along the recorded
+     * transitions of <code>u</code> to the residuals.
+     */
+    private void setTransitions(V u, double score, Set<V> changed)
+    {
+        if (dangling.contains(u))
+        {
+            dangling_score += score;
+            pending_residual += (1 - alpha) * score;
+        }
+        else
+        {
+            for (Map.Entry<V, Double> entry : transitions.get(u).entrySet())
+                addResidual(entry.getKey(), (1 - alpha) * entry.getValue() * score, changed);
+        }
+    }
+
+    /**
+     * Adds <code>v</code>, with no outgoing edges and a score of zero, if it is not
+     * already scored.
+     */
+    private void addVertex(V v, Set<V> changed)
+    {
+        if (scores.containsKey(v) || !graph.containsVertex(v))
+            return;
+        double prior = getPrior(v);
+        scores.put(v, 0.0);
+        priors.put(v, prior);
+        dangling.add(v);
+        residuals.put(v, (alpha + (1 - alpha) * dangling_score - pending_residual) * prior);
+        changed.add(v);
+    }
+
+    /**
+     * Removes <code>v</code>, and the effect of its score on the residuals.
+     */
+    private void removeVertex(V v, Set<V> changed)
+    {
+        if (!scores.containsKey(v))
+            return;
+        setTransitions(v, -scores.get(v), changed);
+        scores.remove(v);
+        residuals.remove(v);
+        priors.remove(v);
+        transitions.remove(v);
+        dangling.remove(v);
+        changed.remove(v);
+    }
+
+    /**
+     * Returns the transition probabilities along the outgoing edges of
+     * <code>u</code>, keyed by destination, or <code>null</code> if
+     * <code>u</code> has no outgoing edges.  As in <code>PageRankWithPriors</code>,
+     * the weight of a hyperedge is divided among the vertices to which it
+     * leads, and self-loops are ignored.
+     */
+    private Map<V, Double> computeTransitions(V u)
+    {
+        if (graph.outDegree(u) == 0)
+            return null;
+        Map<V, Double> column = new HashMap<V, Double>();
+        for (E e : graph.getOutEdges(u))
+        {
+            int incident_count = graph.getIncidentCount(e) - 1;
+            double weight = getEdgeWeight(u, e);
+            for (V v : graph.getIncidentVertices(e))
+            {
+                if (v.equals(u))
+                    continue;
+                Double total = column.get(v);
+                column.put(v, (total == null ? 0 : total) + weight / incident_count);
+            }
+        }
+        return column;
+    }
+
+    /**
+     * Returns the vertices from which <code>e</code> leads.
+     */
+    private Collection<V> getSources(E e)
+    {
+        if (graph.getEdgeType(e) == EdgeType.DIRECTED)
+            return Collections.singletonList(graph.getSource(e));
+        return new ArrayList<V>(graph.getIncidentVertices(e));
+    }
+
+    private double getEdgeWeight(V v, E e)
+    {
+        if (edge_weights instanceof DelegateToEdgeTransformer)
+            return AttributeColumn.getDouble(
+                ((DelegateToEdgeTransformer<V,E>)edge_weights).getDelegate(), e);
+        return edge_weights.apply(new VEPair<V,E>(v, e)).doubleValue();
+    }
+
+    private double getPrior(V v)
+    {
+        Number prior = vertex_priors.apply(v);
+        return prior == null ? 0 : prior.doubleValue();
+    }
+
+    private void checkEvaluated()
+    {
+        if (scores == null)
+            throw new IllegalStateException("scores have not been evaluated");
+    }
+}
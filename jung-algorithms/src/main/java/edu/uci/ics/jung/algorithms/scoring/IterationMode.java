@@ -0,0 +1,44 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.scoring;
+
+/**
+ * The order in which an iterative scorer updates the values of the vertices
+ * within each step.
+ *
+ * @see AbstractIterativeScorer#setIterationMode(IterationMode)
+ */
+public enum IterationMode
+{
+    /**
+     * Each step computes every vertex's new value from the values of the
+     * previous step (Jacobi iteration).  This is the default, and the only mode
+     * in which the array-based engine can use several threads.
+     */
+    JACOBI,
+
+    /**
+     * Each step updates the vertices in turn, in place, so that each update
+     * uses the values already updated in that step (Gauss-Seidel iteration).
+     * This typically needs fewer steps than <code>JACOBI</code> to converge.
+     */
+    GAUSS_SEIDEL,
+
+    /**
+     * Each step updates, in place, only those vertices whose values may still
+     * change by at least the tolerance, largest potential change first; an
+     * update of a vertex raises the potential change of the vertices which
+     * depend on it.  This concentrates work where the values have not yet
+     * converged, which suits graphs of high diameter.
+     */
+    PRIORITIZED
+}
@@ -154,4 +154,30 @@ public class KStepMarkov<V,E> extends PageRankWithPriors<V,E>
         return Math.abs(getCurrentValue(v) - new_value);
     }
 
+    /**
+     * Only <code>JACOBI</code> iteration is supported, since the scores
+     * after each step are the probabilities after that many steps.
+     */
+    @Override
+    protected boolean supportsIterationMode(IterationMode mode)
+    {
+        return mode == IterationMode.JACOBI;
+    }
+
+    @Override
+    protected boolean supportsExtrapolation()
+    {
+        return false;
+    }
+
+    /**
+     * Adds the value received in this step to the current value, if this
+     * instance is cumulative.
+     */
+    @Override
+    protected double getArrayOutput(double new_value, double current_value)
+    {
+        return cumulative ? new_value + current_value : new_value;
+    }
+
 }
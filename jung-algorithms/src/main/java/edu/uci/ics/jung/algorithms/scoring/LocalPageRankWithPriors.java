@@ -0,0 +1,362 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.scoring;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import com.google.common.base.Function;
+import com.google.common.base.Preconditions;
+
+import edu.uci.ics.jung.algorithms.scoring.util.DelegateToEdgeTransformer;
+import edu.uci.ics.jung.algorithms.scoring.util.ScoringUtils;
+import edu.uci.ics.jung.algorithms.scoring.util.UniformDegreeWeight;
+import edu.uci.ics.jung.algorithms.scoring.util.VEPair;
+import edu.uci.ics.jung.algorithms.util.AttributeColumn;
+import edu.uci.ics.jung.graph.Hypergraph;
+
+/**
+ * Approximates the scores of {@link PageRankWithPriors} for priors which are
+ * concentrated on a few 'root' vertices, exploring only the vicinity of
+ * those roots.
+ *
+ * <p>When the priors are nonzero only for a few roots (as when ranking
+ * vertices by their relevance to a single vertex), the scores are
+ * concentrated near the roots, but <code>PageRankWithPriors</code> visits
+ * every vertex and edge at each step.  This class instead uses the 'forward
+ * push' method: each vertex has an approximate score and a <i>residual</i>,
+ * the latter initially equal to its prior.  A vertex <code>u</code> whose
+ * residual exceeds <code>epsilon</code> times its out-degree is
+ * <i>pushed</i>: <code>alpha</code> times the residual is added to its
+ * score, and the remainder is passed on to the residuals of the vertices
+ * to which it links (or, if it has no outgoing edges, to the roots,
+ * according to the priors).  Pushing stops when no vertex has a large
+ * enough residual.
+ *
+ * <p>The approximate scores never exceed the exact ones, and the total by
+ * which they fall short is at most the total residual that remains, which
+ * is less than <code>epsilon</code> times the total out-degree of the
+ * vertices which hold it; for undirected graphs with uniform edge weights, the
+ * score of each vertex <code>v</code> falls short by at most
+ * <code>epsilon * degree(v)</code>.  If the priors sum to 1, the number of
+ * pushes is at most <code>1 / (alpha * epsilon)</code>, independent of the
+ * size of the graph, and only vertices within reach of the roots are visited.
+ *
+ * <p>Only the vertices which have been reached have nonzero scores; these
+ * are available from <code>getVertexScores</code> and
+ * <code>getTopVertices</code>.
+ *
+ * @see "Local Graph Partitioning using PageRank Vectors by R. Andersen, F. Chung and K. Lang, 2006"
+ */
+public class LocalPageRankWithPriors<V,E> implements VertexScorer<V,Double>
+{
+    /**
+     * The graph whose vertices are scored.
+     */
+    protected Hypergraph<V,E> graph;
+
+    /**
+     * The edge weights, denoting transition probabilities from source to destination.
+     */
+    protected Function<VEPair<V,E>, ? extends Number> edge_weights;
+
+    /**
+     * The vertices whose priors may be nonzero.
+     */
+    protected Collection<V> roots;
+
+    /**
+     * The prior probability of each root being visited on a 'jump'.
+     */
+    protected Function<? super V, ? extends Number> vertex_priors;
+
+    /**
+     * The probability of making a 'jump' at each step.
+     */
+    protected double alpha;
+
+    /**
+     * The residual, per unit of out-degree, below which a vertex is not pushed.
+     */
+    protected double epsilon = 1.0e-4;
+
+    private Map<V, Double> scores;
+    private Map<V, Double> residuals;
+    private Map<V, Double> priors;
+    private long push_count;
+
+    /**
+     * Creates an instance with the specified graph, edge weights, roots, vertex priors,
+     * and 'random jump' probability (alpha).
+     * @param graph the input graph
+     * @param edge_weights the edge weights, denoting transition probabilities from source to destination
+     * @param roots the vertices whose priors may be nonzero
+     * @param vertex_priors the prior probabilities for each root
+     * @param alpha the probability of executing a 'random jump' at each step
+     */
+    public LocalPageRankWithPriors(Hypergraph<V,E> graph,
+            Function<? super E, ? extends Number> edge_weights, Collection<V> roots,
+            Function<? super V, ? extends Number> vertex_priors, double alpha)
+    {
+        Preconditions.checkArgument(alpha > 0 && alpha <= 1, "alpha must be in (0, 1]: %s", alpha);
+        this.graph = graph;
+        this.edge_weights = new DelegateToEdgeTransformer<V,E>(edge_weights);
+        this.roots = roots;
+        this.vertex_priors = vertex_priors;
+        this.alpha = alpha;
+    }
+
+    /**
+     * Creates an instance with the specified graph, roots, vertex priors, and
+     * 'random jump' probability (alpha).  The outgoing edge weights for each
+     * vertex will be equal and sum to 1.
+     * @param graph the input graph
+     * @param roots the vertices whose priors may be nonzero
+     * @param vertex_priors the prior probabilities for each root
+     * @param alpha the probability of executing a 'random jump' at each step
+     */
+    public LocalPageRankWithPriors(Hypergraph<V,E> graph, Collection<V> roots,
+            Function<? super V, ? extends Number> vertex_priors, double alpha)
+    {
+        Preconditions.checkArgument(alpha > 0 && alpha <= 1, "alpha must be in (0, 1]: %s", alpha);
+        this.graph = graph;
+        this.edge_weights = new UniformDegreeWeight<V,E>(graph);
+        this.roots = roots;
+        this.vertex_priors = vertex_priors;
+        this.alpha = alpha;
+    }
+
+    /**
+     * Creates an instance with the specified graph, roots, and 'random jump'
+     * probability (alpha).  Each root has the same prior, and the outgoing
+     * edge weights for each vertex will be equal and sum to 1.
+     * @param graph the input graph
+     * @param roots the vertices to which random jumps are made
+     * @param alpha the probability of executing a 'random jump' at each step
+     */
+    public LocalPageRankWithPriors(Hypergraph<V,E> graph, Collection<V> roots, double alpha)
+    {
+        this(graph, roots, ScoringUtils.getUniformRootPrior(roots), alpha);
+    }
+
+    /**
+     * Computes the approximate scores.
+     */
+    public void evaluate()
+    {
+        scores = new HashMap<V, Double>();
+        residuals = new HashMap<V, Double>();
+        priors = new HashMap<V, Double>();
+        push_count = 0;
+
+        Deque<V> queue = new ArrayDeque<V>();
+        Set<V> queued = new HashSet<V>();
+        for (V root : roots)
+        {
+            Number prior = vertex_priors.apply(root);
+            if (prior != null && prior.doubleValue() != 0)
+            {
+                priors.put(root, prior.doubleValue());
+                residuals.put(root, prior.doubleValue());
+                enqueue(root, queue, queued);
+            }
+        }
+
+        while (!queue.isEmpty())
+        {
+            V u = queue.poll();
+            queued.remove(u);
+            double residual = residuals.get(u);
+            if (!exceedsThreshold(u, residual))
+                continue;
+            push_count++;
+            residuals.put(u, 0.0);
+            Double score = scores.get(u);
+            scores.put(u, (score == null ? 0 : score) + alpha * residual);
+            double remainder = (1 - alpha) * residual;
+            if (graph.outDegree(u) == 0)
+            {
+                // potential which would disappear is redistributed according to the priors
+                for (Map.Entry<V, Double> entry : priors.entrySet())
+                    addResidual(entry.getKey(), remainder * entry.getValue(), queue, queued);
+                continue;
+            }
+            // as in PageRankWithPriors, the weight of a hyperedge is divided among
+            // the vertices to which it leads, and self-loops are ignored
+            for (E e : graph.getOutEdges(u))
+            {
+                double share = remainder * getEdgeWeight(u, e) / (graph.getIncidentCount(e) - 1);
+                for (V v : graph.getIncidentVertices(e))
+                    if (!v.equals(u))
+                        addResidual(v, share, queue, queued);
+            }
+        }
+    }
+
+    private void addResidual(V v, double amount, Deque<V> queue, Set<V> queued)
+    {
+        Double residual = residuals.get(v);
+        residuals.put(v, (residual == null ? 0 : residual) + amount);
+        enqueue(v, queue, queued);
+    }
+
+    private void enqueue(V v, Deque<V> queue, Set<V> queued)
+    {
+        if (exceedsThreshold(v, residuals.get(v)) && queued.add(v))
+            queue.add(v);
+    }
+
+    private boolean exceedsThreshold(V v, double residual)
+    {
+        return residual > epsilon * Math.max(1, graph.outDegree(v));
+    }
+
+    private double getEdgeWeight(V v, E e)
+    {
+        if (edge_weights instanceof DelegateToEdgeTransformer)
+            return AttributeColumn.getDouble(
+                ((DelegateToEdgeTransformer<V,E>)edge_weights).getDelegate(), e);
+        return edge_weights.apply(new VEPair<V,E>(v, e)).doubleValue();
+    }
+
+    /**
+     * @return the approximate score of <code>v</code>, which is 0 if
+     * <code>v</code> was not reached
+     * @throws IllegalStateException if this instance has not been evaluated
+     */
+    public Double getVertexScore(V v)
+    {
+        checkEvaluated();
+        Double score = scores.get(v);
+        return score == null ? 0.0 : score;
+    }
+
+    /**
+     * @return the approximate scores of the vertices which were reached; all
+     * other vertices have a score of 0
+     * @throws IllegalStateException if this instance has not been evaluated
+     */
+    public Map<V, Double> getVertexScores()
+    {
+        checkEvaluated();
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * Returns the <code>k</code> vertices with the highest approximate scores,
+     * highest first.  Fewer are returned if fewer were reached.
+     * @param k the maximum number of vertices to return
+     * @return the top-scoring vertices
+     * @throws IllegalStateException if this instance has not been evaluated
+     */
+    public List<V> getTopVertices(int k)
+    {
+        checkEvaluated();
+        Preconditions.checkArgument(k >= 0, "k must be non-negative: %s", k);
+        Comparator<V> by_score = new Comparator<V>()
+        {
+            public int compare(V v1, V v2)
+            {
+                return Double.compare(scores.get(v1), scores.get(v2));
+            }
+        };
+        // keeps the k highest scores seen so far, lowest at the head
+        PriorityQueue<V> top = new PriorityQueue<V>(Math.max(1, k), by_score);
+        for (V v : scores.keySet())
+        {
+            if (top.size() < k)
+                top.add(v);
+            else if (k > 0 && by_score.compare(v, top.peek()) > 0)
+            {
+                top.poll();
+                top.add(v);
+            }
+        }
+        List<V> ranked = new ArrayList<V>(top);
+        Collections.sort(ranked, Collections.reverseOrder(by_score));
+        return ranked;
+    }
+
+    /**
+     * @return the total residual that remains; the approximate scores fall
+     * short of the exact ones by at most this much in total
+     * @throws IllegalStateException if this instance has not been evaluated
+     */
+    public double getResidualTotal()
+    {
+        checkEvaluated();
+        double total = 0;
+        for (double residual : residuals.values())
+            total += residual;
+        return total;
+    }
+
+    /**
+     * @return the number of pushes made by the last evaluation
+     */
+    public long getPushCount()
+    {
+        return push_count;
+    }
+
+    /**
+     * @return the residual, per unit of out-degree, below which a vertex is not pushed
+     */
+    public double getEpsilon()
+    {
+        return epsilon;
+    }
+
+    /**
+     * Sets the residual, per unit of out-degree, below which a vertex is not
+     * pushed.  Smaller values give more accurate scores, at the cost of
+     * more pushes, and of exploring further from the roots.
+     * @param epsilon the residual, per unit of out-degree, below which a vertex is not pushed
+     */
+    public void setEpsilon(double epsilon)
+    {
+        Preconditions.checkArgument(epsilon > 0, "epsilon must be positive: %s", epsilon);
+        this.epsilon = epsilon;
+    }
+
+    /**
+     * @return the probability of making a 'jump' (non-link-following step)
+     */
+    public double getAlpha()
+    {
+        return alpha;
+    }
+
+    /**
+     * @return the Function which maps each root to its prior probability
+     */
+    public Function<? super V, ? extends Number> getVertexPriors()
+    {
+        return vertex_priors;
+    }
+
+    private void checkEvaluated()
+    {
+        if (scores == null)
+            throw new IllegalStateException("scores have not been evaluated");
+    }
+}
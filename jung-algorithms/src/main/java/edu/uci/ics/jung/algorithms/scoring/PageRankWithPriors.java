@@ -11,6 +11,8 @@
  */
 package edu.uci.ics.jung.algorithms.scoring;
 
+import java.util.Arrays;
+
 import com.google.common.base.Function;
 
 import edu.uci.ics.jung.algorithms.scoring.util.UniformDegreeWeight;
@@ -28,11 +30,39 @@ import edu.uci.ics.jung.graph.Hypergraph;
  */
 public class PageRankWithPriors<V, E> 
 	extends AbstractIterativeScorerWithPriors<V,E,Double>
+	implements AbstractIterativeScorer.ArrayScorer<Double>
 {
     /**
      * Maintains the amount of potential associated with vertices with no out-edges.
      */
     protected double disappearing_potential = 0.0;
+
+    /**
+     * The links along which each vertex collects potential, for the array-based engine.
+     */
+    private LinkArrays in_links;
+
+    /**
+     * The array engine's current and output values, and the prior of each vertex, by index.
+     */
+    private double[] current_scores;
+    private double[] output_scores;
+    private double[] priors;
+
+    /**
+     * The indices of the vertices with no outgoing edges.
+     */
+    private int[] dangling;
+
+    /**
+     * Whether each vertex, by index, has no outgoing edges.
+     */
+    private boolean[] is_dangling;
+
+    /**
+     * The total value of the vertices with no outgoing edges, maintained during in-place updates.
+     */
+    private double in_place_potential;
     
     /**
      * Creates an instance with the specified graph, edge weights, vertex priors, and 
@@ -102,7 +132,8 @@ public class PageRankWithPriors<V, E>
      * Cleans up after each step.  In this case that involves allocating the disappearing
      * potential (thus maintaining normalization of the scores) according to the vertex 
      * probability priors, and then calling 
-     * <code>super.afterStep</code>.
+     * <code>super.afterStep</code>.  Since this changes the scores, the largest
+     * change for this step is then measured again.
      */
     @Override
     protected void afterStep()
@@ -110,10 +141,13 @@ public class PageRankWithPriors<V, E>
         // distribute disappearing potential according to priors
         if (disappearing_potential > 0)
         {
+            max_delta = 0;
             for (V v : graph.getVertices())
             {
-                setOutputValue(v, getOutputValue(v) + 
-                        (1 - alpha) * (disappearing_potential * getVertexPrior(v)));
+                double value = getOutputValue(v) + 
+                        (1 - alpha) * (disappearing_potential * getVertexPrior(v));
+                setOutputValue(v, value);
+                updateMaxDelta(v, Math.abs(value - getCurrentValue(v)));
             }
             disappearing_potential = 0;
         }
@@ -121,6 +155,176 @@ public class PageRankWithPriors<V, E>
         super.afterStep();
     }
     
+    public void initializeArrays()
+    {
+        int n = vertex_list.size();
+        in_links = buildLinks(true);
+        current_scores = new double[n];
+        output_scores = new double[n];
+        priors = new double[n];
+        is_dangling = new boolean[n];
+        int dangling_count = 0;
+        int[] dangling_indices = new int[n];
+        for (int i = 0; i < n; i++)
+        {
+            V v = vertex_list.get(i);
+            output_scores[i] = getOutputValue(v);
+            priors[i] = getVertexPrior(v);
+            if (graph.outDegree(v) == 0)
+            {
+                if (!isDisconnectedGraphOK())
+                    throw new IllegalArgumentException("Outdegree of " + v + " must be > 0");
+                dangling_indices[dangling_count++] = i;
+                is_dangling[i] = true;
+            }
+        }
+        dangling = Arrays.copyOf(dangling_indices, dangling_count);
+    }
+
+    public double stepArrays()
+    {
+        if (getIterationMode() != IterationMode.JACOBI)
+            return stepInPlace();
+
+        // the output of the last step is the input to this one
+        final double[] current = output_scores;
+        final double[] output = current_scores;
+        current_scores = current;
+        output_scores = output;
+
+        double potential = 0;
+        for (int i : dangling)
+            potential += current[i];
+        // disappearing potential is distributed according to priors
+        final double scaled_potential = (1 - alpha) * potential;
+
+        return updateAll(new IndexRangeUpdate()
+        {
+            public double update(int from, int to)
+            {
+                double max_diff = 0;
+                for (int i = from; i < to; i++)
+                {
+                    double v_input = in_links.pull(current, i);
+                    double new_value = alpha > 0 ? 
+                            v_input * (1 - alpha) + priors[i] * alpha :
+                            v_input;
+                    new_value += scaled_potential * priors[i];
+                    output[i] = getArrayOutput(new_value, current[i]);
+                    max_diff = Math.max(max_diff, Math.abs(current[i] - new_value));
+                }
+                return max_diff;
+            }
+        });
+    }
+
+    /**
+     * Updates the scores in place, in the order given by the iteration mode.
+     * The potential of the vertices with no outgoing edges is maintained as their 
+     * scores change, so that each update distributes their latest total.
+     */
+    private double stepInPlace()
+    {
+        final double[] scores = output_scores;
+        in_place_potential = 0;
+        for (int i : dangling)
+            in_place_potential += scores[i];
+        final double scale = 1 - alpha;
+
+        VertexUpdate update = new VertexUpdate()
+        {
+            public double update(int i)
+            {
+                double v_input = in_links.pull(scores, i);
+                double new_value = alpha > 0 ? 
+                        v_input * scale + priors[i] * alpha :
+                        v_input;
+                new_value += scale * in_place_potential * priors[i];
+                double diff = new_value - scores[i];
+                scores[i] = new_value;
+                if (is_dangling[i])
+                    in_place_potential += diff;
+                return Math.abs(diff);
+            }
+        };
+        if (getIterationMode() == IterationMode.GAUSS_SEIDEL)
+            return updateInOrder(update);
+
+        double potential = in_place_potential;
+        double delta = updateByPriority(in_links, update);
+        // a change in the potential changes every vertex's share of it
+        double potential_change = Math.abs(in_place_potential - potential);
+        if (potential_change > 0)
+        {
+            for (int i = 0; i < scores.length; i++)
+                addResidual(i, scale * potential_change * priors[i]);
+        }
+        return delta;
+    }
+
+    @Override
+    protected boolean supportsIterationMode(IterationMode mode)
+    {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsExtrapolation()
+    {
+        return true;
+    }
+
+    @Override
+    protected double getResidualScale(int i)
+    {
+        return 1 - alpha;
+    }
+
+    public double[] getArrayValues()
+    {
+        return output_scores;
+    }
+
+    /**
+     * Ensures that no extrapolated score is negative, and rescales the scores
+     * so that they sum to <code>total</code>: this is 1 if the priors, and the 
+     * weights of the edges out of each vertex, sum to 1, since each step then
+     * preserves the total (which extrapolating each score separately does not).
+     */
+    @Override
+    protected void afterExtrapolation(double[] values, double total)
+    {
+        double extrapolated_total = 0;
+        for (int i = 0; i < values.length; i++)
+        {
+            values[i] = Math.max(0, values[i]);
+            extrapolated_total += values[i];
+        }
+        if (extrapolated_total > 0)
+        {
+            double scale = total / extrapolated_total;
+            for (int i = 0; i < values.length; i++)
+                values[i] *= scale;
+        }
+    }
+
+    /**
+     * Returns the array engine's output value for a vertex, given the value it 
+     * has received in this step.  Called concurrently by the engine's workers.
+     * @param new_value the value received by the vertex in this step
+     * @param current_value the value of the vertex before this step
+     * @return the output value for the vertex
+     */
+    protected double getArrayOutput(double new_value, double current_value)
+    {
+        return new_value;
+    }
+
+    public Double getArrayValue(int i)
+    {
+        return output_scores[i];
+    }
+
     /**
      * Collects the "disappearing potential" associated with vertices that have 
      * no outgoing edges.  Vertices that have no outgoing edges do not directly 
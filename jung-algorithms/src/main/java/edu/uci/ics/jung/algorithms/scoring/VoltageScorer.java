@@ -47,10 +47,31 @@ import edu.uci.ics.jung.graph.Hypergraph;
  *  
  */
 public class VoltageScorer<V, E> extends AbstractIterativeScorer<V, E, Double>
-        implements VertexScorer<V, Double>
+        implements VertexScorer<V, Double>, AbstractIterativeScorer.ArrayScorer<Double>
 {
     protected Map<V, ? extends Number> source_voltages;
     protected Collection<V> sinks;
+
+    /**
+     * The links along which each vertex collects voltage, for the array-based engine.
+     */
+    private LinkArrays in_links;
+
+    /**
+     * The array engine's current and output voltages, by vertex index.
+     */
+    private double[] current_voltages;
+    private double[] output_voltages;
+
+    /**
+     * The voltage of each source or sink, by vertex index; NaN for all other vertices.
+     */
+    private double[] fixed_voltages;
+
+    /**
+     * The total weight of the links to each vertex, by index.
+     */
+    private double[] weight_sums;
     
     /**
      * Creates an instance with the specified graph, edge weights, source voltages,
@@ -195,6 +216,134 @@ public class VoltageScorer<V, E> extends AbstractIterativeScorer<V, E, Double>
         }
     }
     
+    public void initializeArrays()
+    {
+        int n = vertex_list.size();
+        in_links = buildLinks(true);
+        current_voltages = new double[n];
+        output_voltages = new double[n];
+        fixed_voltages = new double[n];
+        weight_sums = new double[n];
+        for (int i = 0; i < n; i++)
+        {
+            V v = vertex_list.get(i);
+            output_voltages[i] = getOutputValue(v);
+            weight_sums[i] = in_links.weightSum(i);
+            Number source_volts = source_voltages.get(v);
+            if (source_volts != null)
+                fixed_voltages[i] = source_volts.doubleValue();
+            else if (sinks.contains(v))
+                fixed_voltages[i] = 0.0;
+            else
+                fixed_voltages[i] = Double.NaN;
+        }
+    }
+
+    public double stepArrays()
+    {
+        if (getIterationMode() != IterationMode.JACOBI)
+        {
+            final double[] voltages = output_voltages;
+            VertexUpdate update = new VertexUpdate()
+            {
+                public double update(int i)
+                {
+                    double new_value = getVoltage(voltages, i);
+                    double diff = Math.abs(voltages[i] - new_value);
+                    voltages[i] = new_value;
+                    return diff;
+                }
+            };
+            return getIterationMode() == IterationMode.GAUSS_SEIDEL ?
+                    updateInOrder(update) : updateByPriority(in_links, update);
+        }
+
+        // the output of the last step is the input to this one
+        final double[] current = output_voltages;
+        final double[] output = current_voltages;
+        current_voltages = current;
+        output_voltages = output;
+
+        return updateAll(new IndexRangeUpdate()
+        {
+            public double update(int from, int to)
+            {
+                double max_diff = 0;
+                for (int i = from; i < to; i++)
+                {
+                    output[i] = getVoltage(current, i);
+                    max_diff = Math.max(max_diff, Math.abs(current[i] - output[i]));
+                }
+                return max_diff;
+            }
+        });
+    }
+
+    /**
+     * @param voltages the voltages of all vertices, by index
+     * @param i the index of a vertex
+     * @return the voltage of vertex <code>i</code> implied by <code>voltages</code>
+     */
+    private double getVoltage(double[] voltages, int i)
+    {
+        // if it's a voltage source or sink, we're done
+        if (!Double.isNaN(fixed_voltages[i]))
+            return fixed_voltages[i];
+        double voltage_sum = in_links.pull(voltages, i);
+        double weight_sum = weight_sums[i];
+        // if either is 0, new value is 0
+        if (voltage_sum == 0 || weight_sum == 0)
+            return 0.0;
+        return voltage_sum / weight_sum;
+    }
+
+    @Override
+    protected boolean supportsIterationMode(IterationMode mode)
+    {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsExtrapolation()
+    {
+        return true;
+    }
+
+    /**
+     * The voltage of a vertex is the weighted average of its neighbors' voltages;
+     * those of sources and sinks do not change.
+     */
+    @Override
+    protected double getResidualScale(int i)
+    {
+        if (!Double.isNaN(fixed_voltages[i]) || weight_sums[i] == 0)
+            return 0;
+        return 1 / weight_sums[i];
+    }
+
+    public double[] getArrayValues()
+    {
+        return output_voltages;
+    }
+
+    /**
+     * Restores the voltages of the sources and sinks after extrapolation.
+     */
+    @Override
+    protected void afterExtrapolation(double[] values, double total)
+    {
+        for (int i = 0; i < values.length; i++)
+        {
+            if (!Double.isNaN(fixed_voltages[i]))
+                values[i] = fixed_voltages[i];
+        }
+    }
+
+    public Double getArrayValue(int i)
+    {
+        return output_voltages[i];
+    }
+
     /**
      * @see edu.uci.ics.jung.algorithms.scoring.AbstractIterativeScorer#update(Object)
      */
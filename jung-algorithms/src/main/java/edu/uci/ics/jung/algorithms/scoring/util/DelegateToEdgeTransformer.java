@@ -37,6 +37,14 @@ public class DelegateToEdgeTransformer<V,E> implements
         this.delegate = delegate;
     }
     
+    /**
+     * @return the Function to which this instance delegates
+     */
+    public Function<? super E,? extends Number> getDelegate()
+    {
+        return delegate;
+    }
+    
     /**
      * @see Function#apply(Object)
      */
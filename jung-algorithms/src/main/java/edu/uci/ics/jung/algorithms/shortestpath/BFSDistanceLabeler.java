@@ -17,6 +17,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import edu.uci.ics.jung.graph.Hypergraph;
 
@@ -116,19 +117,17 @@ public class BFSDistanceLabeler<V, E> {
 
         initialize(graph,rootSet);
 
-        int distance = 1;
+        SuccessorVisitor visitor = new SuccessorVisitor();
+        visitor.distance = 1;
         while (true) {
-            List<V> newList = new ArrayList<V>();
+            visitor.newList = new ArrayList<V>();
             for(V currentVertex : mCurrentList) {
-            	if(graph.containsVertex(currentVertex)) {
-            		for(V next : graph.getSuccessors(currentVertex)) {
-            			visitNewVertex(currentVertex,next, distance, newList);
-            		}
-            	}
+            	visitor.predecessor = currentVertex;
+            	graph.forEachSuccessor(currentVertex, visitor);
             }
-            if (newList.size() == 0) break;
-            mCurrentList = newList;
-            distance++;
+            if (visitor.newList.size() == 0) break;
+            mCurrentList = visitor.newList;
+            visitor.distance++;
         }
 
         for(V v : mUnvisitedVertices) {
@@ -146,6 +145,20 @@ public class BFSDistanceLabeler<V, E> {
         labelDistances(graph, Collections.singleton(root));
     }
 
+    /**
+     * Visits the successors of <code>predecessor</code>; reused for each vertex
+     * so that traversal does not allocate.
+     */
+    private class SuccessorVisitor implements Consumer<V> {
+        V predecessor;
+        int distance;
+        List<V> newList;
+
+        public void accept(V next) {
+            visitNewVertex(predecessor, next, distance, newList);
+        }
+    }
+
     private void visitNewVertex(V predecessor, V neighbor, int distance, List<V> newList) {
         if (mUnvisitedVertices.contains(neighbor)) {
             distanceDecorator.put(neighbor, new Integer(distance));
@@ -22,7 +22,9 @@ import java.util.Set;
 import com.google.common.base.Function;
 import com.google.common.base.Functions;
 
+import edu.uci.ics.jung.algorithms.util.AttributeColumn;
 import edu.uci.ics.jung.algorithms.util.BasicMapEntry;
+import edu.uci.ics.jung.algorithms.util.BoundedCache;
 import edu.uci.ics.jung.algorithms.util.MapBinaryHeap;
 import edu.uci.ics.jung.graph.Graph;
 import edu.uci.ics.jung.graph.Hypergraph;
@@ -55,9 +57,17 @@ import edu.uci.ics.jung.graph.Hypergraph;
  * are ordered (that is, returned 
  * by the iterator) by nondecreasing distance from <code>source</code>.
  * 
- * <p>Users are cautioned that distances calculated should be assumed to
- * be invalidated by changes to the graph, and should invoke <code>reset()</code>
- * when appropriate so that the distances can be recalculated.
+ * <p>By default, the data stored for each source is kept until it is 
+ * discarded by <code>reset</code>.  Alternatively, the stored data may be
+ * bounded (see <code>setCacheBound</code>), in which case the data for the
+ * least recently or least frequently used sources is evicted as needed.
+ * 
+ * <p>Stored distances are discarded automatically when vertices or edges
+ * are added to or removed from the graph, if the graph tracks such changes
+ * (see {@link Hypergraph#getModificationCount()}).  Users are cautioned that
+ * other changes, such as changes to edge weights, are not detected; users 
+ * should invoke <code>reset()</code> when appropriate so that the distances 
+ * can be recalculated.
  * 
  * @author Joshua O'Madadhain
  * @author Tom Nelson converted to jung2
@@ -67,9 +77,11 @@ public class DijkstraDistance<V,E> implements Distance<V>
     protected Hypergraph<V,E> g;
     protected Function<? super E,? extends Number> nev;
     protected Map<V,SourceData> sourceMap;   // a map of source vertices to an instance of SourceData
+    protected BoundedCache<V,SourceData> source_cache; // sourceMap, if the stored data is bounded
     protected boolean cached;
     protected double max_distance;
     protected int max_targets;
+    protected long graph_modifications; // modification count of g when the stored distances were valid
     
     /**
      * <p>Creates an instance of <code>DijkstraShortestPath</code> for 
@@ -88,6 +100,7 @@ public class DijkstraDistance<V,E> implements Distance<V>
         this.cached = cached;
         this.max_distance = Double.POSITIVE_INFINITY;
         this.max_targets = Integer.MAX_VALUE;
+        this.graph_modifications = g.getModificationCount();
     }
     
     /**
@@ -147,6 +160,7 @@ public class DijkstraDistance<V,E> implements Distance<V>
      */
     protected LinkedHashMap<V,Number> singleSourceShortestPath(V source, Collection<V> targets, int numDests)
     {
+        checkForModifications();
         SourceData sd = getSourceData(source);
 
         Set<V> to_get = new HashSet<V>();
@@ -197,7 +211,7 @@ public class DijkstraDistance<V,E> implements Distance<V>
                 {
                     if (!sd.distances.containsKey(w))
                     {
-                        double edge_weight = nev.apply(e).doubleValue();
+                        double edge_weight = AttributeColumn.getDouble(nev, e);
                         if (edge_weight < 0)
                             throw new IllegalArgumentException("Edges weights must be non-negative");
                         double new_dist = v_dist + edge_weight;
@@ -215,16 +229,44 @@ public class DijkstraDistance<V,E> implements Distance<V>
                 }
             }
         }
+        if (source_cache != null)
+            source_cache.updateWeight(source);
         return sd.distances;
     }
 
+    /**
+     * Clears all stored distances if vertices or edges have been added to or
+     * removed from the graph since they were calculated.
+     */
+    protected void checkForModifications()
+    {
+        long modifications = g.getModificationCount();
+        if (modifications != graph_modifications)
+        {
+            reset();
+            graph_modifications = modifications;
+        }
+    }
+
     protected SourceData getSourceData(V source)
     {
-        SourceData sd = sourceMap.get(source);
+        SourceData sd = lookupSourceData(source);
         if (sd == null)
             sd = new SourceData(source);
         return sd;
     }
+
+    /**
+     * Returns the data stored for <code>source</code>, or <code>null</code> if
+     * there is none.  If the stored data is bounded, this is recorded as a use
+     * of the data for <code>source</code>, and as a cache hit or miss.
+     * @param source the vertex whose stored data is to be returned
+     * @return the data stored for {@code source}
+     */
+    protected SourceData lookupSourceData(V source)
+    {
+        return source_cache == null ? sourceMap.get(source) : source_cache.lookup(source);
+    }
     
     /**
      * Returns the set of edges incident to <code>v</code> that should be tested.
@@ -388,9 +430,8 @@ public class DijkstraDistance<V,E> implements Distance<V>
     public void setMaxDistance(double max_dist)
     {
         this.max_distance = max_dist;
-        for (V v : sourceMap.keySet())
+        for (SourceData sd : sourceMap.values())
         {
-            SourceData sd = sourceMap.get(v);
             sd.reached_max = (this.max_distance <= sd.dist_reached) || (sd.distances.size() >= max_targets);
         }
     }
@@ -418,17 +459,17 @@ public class DijkstraDistance<V,E> implements Distance<V>
     public void setMaxTargets(int max_targets)
     {
         this.max_targets = max_targets;
-        for (V v : sourceMap.keySet())
+        for (SourceData sd : sourceMap.values())
         {
-            SourceData sd = sourceMap.get(v);
             sd.reached_max = (this.max_distance <= sd.dist_reached) || (sd.distances.size() >= max_targets);
         }
     }
     
     /**
      * Clears all stored distances for this instance.  
-     * Should be called whenever the graph is modified (edge weights 
-     * changed or edges added/removed).  If the user knows that
+     * Should be called whenever the graph is modified in a way that this
+     * instance cannot detect (for instance, edge weights changed, or edges
+     * added/removed in a graph that does not track modifications).  If the user knows that
      * some currently calculated distances are unaffected by a
      * change, <code>reset(V)</code> may be appropriate instead.
      * 
@@ -436,7 +477,10 @@ public class DijkstraDistance<V,E> implements Distance<V>
      */
     public void reset()
     {
-        sourceMap = new HashMap<V,SourceData>();
+        if (source_cache != null)
+            source_cache.clear();
+        else
+            sourceMap = new HashMap<V,SourceData>();
     }
         
     /**
@@ -462,7 +506,54 @@ public class DijkstraDistance<V,E> implements Distance<V>
      */
     public void reset(V source)
     {
-        sourceMap.put(source, null);
+        sourceMap.remove(source);
+    }
+
+    /**
+     * Bounds the data stored by this instance, when caching is enabled.
+     * Once the total weight of the data stored for all sources exceeds
+     * <code>max_weight</code>, the data for sources is evicted, least 
+     * recently or least frequently used first, until it does not.
+     * The data for each source weighs either 1, so that 
+     * <code>max_weight</code> bounds the number of sources for which data
+     * is stored, or (if <code>weigh_by_entries</code> is <code>true</code>)
+     * the number of vertices for which it holds distances, final or 
+     * tentative, which is roughly proportional to the memory it occupies.
+     * The data for the source of the current request is never evicted
+     * during that request.  Any data that is currently stored is discarded.
+     * 
+     * @param policy    the policy by which the data for sources is chosen for eviction
+     * @param max_weight the maximum total weight of the stored data
+     * @param weigh_by_entries  <code>true</code> if data is weighed by the number 
+     *     of vertices for which it holds distances, and <code>false</code> if the 
+     *     data for each source weighs 1
+     * @see #getSourceCache()
+     */
+    public void setCacheBound(BoundedCache.Policy policy, long max_weight, boolean weigh_by_entries)
+    {
+        Function<SourceData,Integer> weigher = !weigh_by_entries ? null :
+            new Function<SourceData,Integer>() 
+            {
+                public Integer apply(SourceData sd)
+                {
+                    return sd.distances.size() + sd.estimatedDistances.size();
+                }
+            };
+        source_cache = new BoundedCache<V,SourceData>(policy, max_weight, weigher);
+        sourceMap = source_cache;
+    }
+
+    /**
+     * Returns the bounded store of data for each source, from which the
+     * number of cache hits, misses and evictions may be obtained, or
+     * <code>null</code> if the stored data is not bounded.
+     * 
+     * @return the bounded store of data for each source, or <code>null</code>
+     * @see #setCacheBound(BoundedCache.Policy, long, boolean)
+     */
+    public BoundedCache<V,?> getSourceCache()
+    {
+        return source_cache;
     }
 
     /**
@@ -93,7 +93,7 @@ public class DijkstraShortestPath<V,E> extends DijkstraDistance<V,E> implements
     @Override
     protected SourceData getSourceData(V source)
     {
-        SourceData sd = sourceMap.get(source);
+        SourceData sd = lookupSourceData(source);
         if (sd == null)
             sd = new SourcePathData(source);
         return sd;
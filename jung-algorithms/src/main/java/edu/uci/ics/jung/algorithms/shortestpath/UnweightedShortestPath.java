@@ -12,18 +12,25 @@ package edu.uci.ics.jung.algorithms.shortestpath;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.google.common.base.Function;
+
+import edu.uci.ics.jung.algorithms.util.BoundedCache;
 import edu.uci.ics.jung.graph.Hypergraph;
 
 /**
  * Computes the shortest path distances for graphs whose edges are not weighted (using BFS).
  * 
+ * <p>The distances and incoming edges from each source are stored until they
+ * are discarded by <code>reset</code>, or, if the stored data is bounded
+ * (see <code>setCacheBound</code>), until they are evicted.
+ * 
  * @author Scott White
  */
 public class UnweightedShortestPath<V, E> 
     implements ShortestPath<V,E>, Distance<V>
 {
-	private Map<V,Map<V,Number>> mDistanceMap;
-	private Map<V,Map<V,E>> mIncomingEdgeMap;
+	private Map<V,SourceData<V,E>> mSourceMap;
+	private BoundedCache<V,SourceData<V,E>> mSourceCache;
 	private Hypergraph<V,E> mGraph;
     private Map<V, Number> distances = new HashMap<V,Number>();
 
@@ -33,8 +40,7 @@ public class UnweightedShortestPath<V, E>
 	 */
 	public UnweightedShortestPath(Hypergraph<V,E> g)
 	{
-		mDistanceMap = new HashMap<V,Map<V,Number>>();
-		mIncomingEdgeMap = new HashMap<V,Map<V,E>>();
+		mSourceMap = new HashMap<V,SourceData<V,E>>();
 		mGraph = g;
 	}
 
@@ -52,13 +58,7 @@ public class UnweightedShortestPath<V, E>
      */
 	public Map<V,Number> getDistanceMap(V source)
 	{
-		Map<V,Number> sourceSPMap = mDistanceMap.get(source);
-		if (sourceSPMap == null)
-		{
-			computeShortestPathsFromSource(source);
-			sourceSPMap = mDistanceMap.get(source);
-		}
-		return sourceSPMap;
+		return getSourceData(source).distances;
 	}
 
 	/**
@@ -66,21 +66,28 @@ public class UnweightedShortestPath<V, E>
 	 */
 	public Map<V,E> getIncomingEdgeMap(V source)
 	{
-		Map<V,E> sourceIEMap = mIncomingEdgeMap.get(source);
-		if (sourceIEMap == null)
+		return getSourceData(source).incomingEdges;
+	}
+
+	private SourceData<V,E> getSourceData(V source)
+	{
+		SourceData<V,E> sd = mSourceCache == null ? 
+				mSourceMap.get(source) : mSourceCache.lookup(source);
+		if (sd == null)
 		{
-			computeShortestPathsFromSource(source);
-			sourceIEMap = mIncomingEdgeMap.get(source);
+			sd = computeShortestPathsFromSource(source);
+			mSourceMap.put(source, sd);
 		}
-		return sourceIEMap;
+		return sd;
 	}
 
 
 	/**
 	 * Computes the shortest path distances from a given node to all other nodes.
 	 * @param source the source node
+	 * @return the distances and incoming edges from the source
 	 */
-	private void computeShortestPathsFromSource(V source)
+	private SourceData<V,E> computeShortestPathsFromSource(V source)
 	{
 		BFSDistanceLabeler<V,E> labeler = new BFSDistanceLabeler<V,E>();
 		labeler.labelDistances(mGraph, source);
@@ -116,8 +123,7 @@ public class UnweightedShortestPath<V, E>
                 }
             }
 		}
-		mDistanceMap.put(source, currentSourceSPMap);
-		mIncomingEdgeMap.put(source, currentSourceEdgeMap);
+		return new SourceData<V,E>(currentSourceSPMap, currentSourceEdgeMap);
 	}
     
     /**
@@ -131,8 +137,7 @@ public class UnweightedShortestPath<V, E>
      */
     public void reset()
     {
-        mDistanceMap.clear();
-        mIncomingEdgeMap.clear();
+        mSourceMap.clear();
     }
     
     /**
@@ -146,7 +151,66 @@ public class UnweightedShortestPath<V, E>
      */
     public void reset(V v)
     {
-        mDistanceMap.remove(v);
-        mIncomingEdgeMap.remove(v);
+        mSourceMap.remove(v);
+    }
+
+    /**
+     * Bounds the distances and incoming edges stored by this instance.
+     * Once the total weight of the data stored for all sources exceeds
+     * <code>max_weight</code>, the data for sources is evicted, least 
+     * recently or least frequently used first, until it does not.
+     * The data for each source weighs either 1, so that 
+     * <code>max_weight</code> bounds the number of sources for which data
+     * is stored, or (if <code>weigh_by_entries</code> is <code>true</code>)
+     * the number of vertices reachable from that source.  Any data that is 
+     * currently stored is discarded.
+     * 
+     * @param policy the policy by which the data for sources is chosen for eviction
+     * @param max_weight the maximum total weight of the stored data
+     * @param weigh_by_entries <code>true</code> if data is weighed by the number 
+     *     of vertices for which it holds distances, and <code>false</code> if the 
+     *     data for each source weighs 1
+     * @see #getSourceCache()
+     */
+    public void setCacheBound(BoundedCache.Policy policy, long max_weight, boolean weigh_by_entries)
+    {
+        Function<SourceData<V,E>,Integer> weigher = !weigh_by_entries ? null :
+            new Function<SourceData<V,E>,Integer>() 
+            {
+                public Integer apply(SourceData<V,E> sd)
+                {
+                    return sd.distances.size();
+                }
+            };
+        mSourceCache = new BoundedCache<V,SourceData<V,E>>(policy, max_weight, weigher);
+        mSourceMap = mSourceCache;
+    }
+
+    /**
+     * Returns the bounded store of data for each source, from which the
+     * number of cache hits, misses and evictions may be obtained, or
+     * <code>null</code> if the stored data is not bounded.
+     * 
+     * @return the bounded store of data for each source, or <code>null</code>
+     * @see #setCacheBound(BoundedCache.Policy, long, boolean)
+     */
+    public BoundedCache<V,?> getSourceCache()
+    {
+        return mSourceCache;
+    }
+
+    /**
+     * The distances and incoming edges from a single source.
+     */
+    private static class SourceData<V,E>
+    {
+        private final Map<V,Number> distances;
+        private final Map<V,E> incomingEdges;
+
+        private SourceData(Map<V,Number> distances, Map<V,E> incomingEdges)
+        {
+            this.distances = distances;
+            this.incomingEdges = incomingEdges;
+        }
     }
 }
@@ -14,6 +14,8 @@ package edu.uci.ics.jung.algorithms.transformation;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 import com.google.common.base.Predicate;
 import com.google.common.base.Supplier;
@@ -75,7 +77,7 @@ public class FoldingTransformer<V,E>
         Graph<V,E> newGraph = graph_factory.get();
 
         // get vertices for the specified partition
-        Collection<V> vertices = g.getVertices(p);
+        Set<V> vertices = getPartition(g, p);
         for (V v : vertices)
         {
             newGraph.addVertex(v);
@@ -93,6 +95,20 @@ public class FoldingTransformer<V,E>
         return newGraph;
     }
 
+    /**
+     * Returns the vertices of <code>g</code>'s partition <code>p</code> as a
+     * <code>Set</code>, so that membership tests take constant time;
+     * implementations which index their partitions (such as
+     * <code>DelegateKPartiteGraph</code>) already return one, and are not copied.
+     */
+    private static <V,E> Set<V> getPartition(KPartiteGraph<V,E> g, Predicate<V> p)
+    {
+        Collection<V> vertices = g.getVertices(p);
+        if (vertices instanceof Set)
+            return (Set<V>)vertices;
+        return new HashSet<V>(vertices);
+    }
+
     /**
      * Converts <code>g</code> into a unipartite graph whose vertices are the
      * vertices of <code>g</code>'s partition <code>p</code>, and whose edges
@@ -123,7 +139,7 @@ public class FoldingTransformer<V,E>
         Graph<V, Collection<V>> newGraph = graph_factory.get();
 
         // get vertices for the specified partition, copy into new graph
-        Collection<V> vertices = g.getVertices(p);
+        Set<V> vertices = getPartition(g, p);
 
         for (V v : vertices)
         {
@@ -0,0 +1,118 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import com.google.common.base.Function;
+
+import edu.uci.ics.jung.graph.IntGraph;
+
+/**
+ * Base class for columns which store one primitive value for each vertex, or
+ * each edge, of an <code>IntGraph</code>.  Values are held in a flat array 
+ * indexed by the element's id in that graph, so that algorithms which work with
+ * ids can read them with no hashing or boxing, and a column takes a fraction of 
+ * the memory of a <code>Map</code> from elements to boxed values.
+ * <p>
+ * Values are read and written by id with <code>getValue(int)</code> and 
+ * <code>setValue(int, ...)</code>, and by element with the typed accessors
+ * of each subclass (such as <code>DoubleColumn.getDouble</code>).
+ * Each subclass also implements <code>SettableTransformer</code>, so that 
+ * a column may be passed wherever a <code>Function</code> from elements to 
+ * values is expected; however, that path boxes each value, and algorithms 
+ * which detect a column should use its primitive accessors instead.
+ *
+ * @param <T> the element type (the vertex or edge type of the graph)
+ */
+public abstract class AttributeColumn<T>
+{
+    protected final IntGraph<?,?> graph;
+    protected final boolean vertices;
+    
+    /**
+     * @param graph the graph whose ids index this column
+     * @param vertices if true, the column is indexed by vertex id; 
+     * otherwise it is indexed by edge id
+     */
+    protected AttributeColumn(IntGraph<?,?> graph, boolean vertices)
+    {
+        if (graph == null)
+            throw new IllegalArgumentException("graph may not be null");
+        this.graph = graph;
+        this.vertices = vertices;
+    }
+    
+    /**
+     * @return the graph whose ids index this column
+     */
+    public IntGraph<?,?> getGraph()
+    {
+        return graph;
+    }
+    
+    /**
+     * @return the number of values in this column
+     */
+    public int size()
+    {
+        return vertices ? graph.getVertexCount() : graph.getEdgeCount();
+    }
+    
+    /**
+     * @param id the id of an element
+     * @return the element with the specified id
+     */
+    @SuppressWarnings("unchecked")
+    public T getElement(int id)
+    {
+        return vertices ? (T)graph.getVertex(id) : (T)graph.getEdge(id);
+    }
+    
+    /**
+     * @param element an element of the graph
+     * @return the id of <code>element</code>, which indexes its value in this column
+     * @throws IllegalArgumentException if <code>element</code> is not in the graph
+     */
+    @SuppressWarnings("unchecked")
+    public int getId(T element)
+    {
+        int id = vertices 
+            ? ((IntGraph<T,?>)graph).getVertexId(element) 
+            : ((IntGraph<?,T>)graph).getEdgeId(element);
+        if (id < 0)
+            throw new IllegalArgumentException(element + " is not an element of this column's graph");
+        return id;
+    }
+    
+    /**
+     * Returns the value that <code>values</code> assigns to <code>element</code>
+     * as a <code>double</code>.  If <code>values</code> is a column, the value 
+     * is read directly from its array rather than boxed and unboxed.
+     * Algorithms which accept a <code>Function</code> for weights can use this 
+     * method to take advantage of columns.
+     * 
+     * @param <T> the element type
+     * @param values the source of the value
+     * @param element the element whose value is to be returned
+     * @return the value of <code>element</code>
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> double getDouble(Function<? super T, ? extends Number> values, T element)
+    {
+        if (values instanceof DoubleColumn)
+            return ((DoubleColumn<? super T>)values).getDouble(element);
+        if (values instanceof IntColumn)
+            return ((IntColumn<? super T>)values).getInt(element);
+        if (values instanceof LongColumn)
+            return ((LongColumn<? super T>)values).getLong(element);
+        return values.apply(element).doubleValue();
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.google.common.base.Function;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheStats;
+
+/**
+ * A map whose total weight is bounded: when an entry is added, or its weight
+ * is updated, entries are evicted until the total weight is at most the
+ * maximum weight.  Entries are chosen for eviction either by least recent
+ * use or by least frequent use (ties being broken by least recent use).
+ * The weight of each entry is either 1 (so that the number of entries is
+ * bounded) or is given by a weigher.
+ *
+ * <p>Unlike the caches built by Guava's <code>CacheBuilder</code>, this
+ * class can evict by frequency of use, and can weigh an entry again after
+ * its value has changed, which suits values (such as the partial results
+ * of a search) which grow as they are used.  The entry most recently
+ * added, looked up or weighed is never evicted, even if its weight alone
+ * exceeds the maximum, so that a caller may continue to use it.
+ *
+ * <p>A use of an entry is recorded, and counted as a hit or a miss, only
+ * by <code>lookup</code>; the methods of <code>Map</code> (including
+ * <code>get</code>) neither affect the order of eviction nor are counted.
+ * Null values are not permitted.  This class is not thread-safe.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class BoundedCache<K,V> extends AbstractMap<K,V>
+{
+    /**
+     * The policies by which entries are chosen for eviction.
+     */
+    public enum Policy
+    {
+        /** Evicts the entry whose last use was the earliest. */
+        LEAST_RECENTLY_USED,
+        /** Evicts the entry which has been used the fewest times since it was added. */
+        LEAST_FREQUENTLY_USED
+    }
+
+    private final Policy policy;
+    private final long max_weight;
+    private final Function<? super V, ? extends Number> weigher;
+
+    private final Map<K, Node<K,V>> nodes = new HashMap<K, Node<K,V>>();
+
+    /**
+     * The entries, in the order in which they are to be evicted.
+     */
+    private final TreeSet<Node<K,V>> eviction_order;
+
+    private long total_weight;
+    private long clock;
+    private long hit_count;
+    private long miss_count;
+    private long eviction_count;
+
+    /**
+     * Creates an instance with the specified eviction policy, maximum weight and weigher.
+     * @param policy the policy by which entries are chosen for eviction
+     * @param max_weight the maximum total weight of the entries
+     * @param weigher returns the (non-negative) weight of a value, or
+     *     <code>null</code> if each entry has a weight of 1
+     */
+    public BoundedCache(Policy policy, long max_weight, Function<? super V, ? extends Number> weigher)
+    {
+        Preconditions.checkNotNull(policy);
+        Preconditions.checkArgument(max_weight >= 0, "max_weight must be non-negative: %s", max_weight);
+        this.policy = policy;
+        this.max_weight = max_weight;
+        this.weigher = weigher;
+        this.eviction_order = new TreeSet<Node<K,V>>(policy == Policy.LEAST_RECENTLY_USED ?
+            new Comparator<Node<K,V>>()
+            {
+                public int compare(Node<K,V> n1, Node<K,V> n2)
+                {
+                    return Long.compare(n1.last_use, n2.last_use);
+                }
+            } :
+            new Comparator<Node<K,V>>()
+            {
+                public int compare(Node<K,V> n1, Node<K,V> n2)
+                {
+                    int by_frequency = Long.compare(n1.use_count, n2.use_count);
+                    return by_frequency != 0 ? by_frequency : Long.compare(n1.last_use, n2.last_use);
+                }
+            });
+    }
+
+    /**
+     * Creates an instance with the specified eviction policy which holds at
+     * most <code>max_size</code> entries.
+     * @param policy the policy by which entries are chosen for eviction
+     * @param max_size the maximum number of entries
+     */
+    public BoundedCache(Policy policy, int max_size)
+    {
+        this(policy, max_size, null);
+    }
+
+    /**
+     * Returns the value for <code>key</code>, recording a hit and a use of
+     * its entry if there is one, and a miss otherwise.
+     * @param key the key whose value is to be returned
+     * @return the value for <code>key</code>, or <code>null</code> if there is none
+     */
+    public V lookup(K key)
+    {
+        Node<K,V> node = nodes.get(key);
+        if (node == null)
+        {
+            miss_count++;
+            return null;
+        }
+        hit_count++;
+        eviction_order.remove(node);
+        node.use_count++;
+        node.last_use = clock++;
+        eviction_order.add(node);
+        return node.value;
+    }
+
+    /**
+     * Weighs the entry for <code>key</code> again, as its value may have
+     * changed, and evicts other entries if necessary.
+     * @param key the key whose entry is to be weighed
+     */
+    public void updateWeight(K key)
+    {
+        Node<K,V> node = nodes.get(key);
+        if (node == null)
+            return;
+        total_weight -= node.weight;
+        node.weight = weigh(node.value);
+        total_weight += node.weight;
+        evict(node);
+    }
+
+    /**
+     * Adds or replaces the entry for <code>key</code>, which counts as its
+     * first use, and evicts other entries if necessary.
+     */
+    @Override
+    public V put(K key, V value)
+    {
+        Preconditions.checkNotNull(value);
+        V previous = remove(key);
+        Node<K,V> node = new Node<K,V>(key, value, weigh(value));
+        node.use_count = 1;
+        node.last_use = clock++;
+        nodes.put(key, node);
+        eviction_order.add(node);
+        total_weight += node.weight;
+        evict(node);
+        return previous;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Node<K,V> node = nodes.get(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return nodes.containsKey(key);
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        Node<K,V> node = nodes.remove(key);
+        if (node == null)
+            return null;
+        eviction_order.remove(node);
+        total_weight -= node.weight;
+        return node.value;
+    }
+
+    @Override
+    public void clear()
+    {
+        nodes.clear();
+        eviction_order.clear();
+        total_weight = 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return nodes.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the entries.
+     */
+    @Override
+    public Set<Map.Entry<K,V>> entrySet()
+    {
+        return new AbstractSet<Map.Entry<K,V>>()
+        {
+            @Override
+            public Iterator<Map.Entry<K,V>> iterator()
+            {
+                return Collections.<Map.Entry<K,V>>unmodifiableCollection(nodes.values()).iterator();
+            }
+
+            @Override
+            public int size()
+            {
+                return nodes.size();
+            }
+        };
+    }
+
+    /**
+     * @return the policy by which entries are chosen for eviction
+     */
+    public Policy getPolicy()
+    {
+        return policy;
+    }
+
+    /**
+     * @return the maximum total weight of the entries
+     */
+    public long getMaxWeight()
+    {
+        return max_weight;
+    }
+
+    /**
+     * @return the total weight of the entries
+     */
+    public long getWeight()
+    {
+        return total_weight;
+    }
+
+    /**
+     * Returns the number of hits, misses and evictions since this instance
+     * was created or its statistics were reset.  Since this class does not
+     * load values, the load statistics are always 0.
+     * @return the statistics of this instance
+     */
+    public CacheStats getStats()
+    {
+        return new CacheStats(hit_count, miss_count, 0, 0, 0, eviction_count);
+    }
+
+    /**
+     * Resets the counts of hits, misses and evictions to 0.
+     */
+    public void resetStats()
+    {
+        hit_count = 0;
+        miss_count = 0;
+        eviction_count = 0;
+    }
+
+    private long weigh(V value)
+    {
+        if (weigher == null)
+            return 1;
+        long weight = weigher.apply(value).longValue();
+        Preconditions.checkState(weight >= 0, "weight must be non-negative: %s", weight);
+        return weight;
+    }
+
+    /**
+     * Evicts entries other than <code>in_use</code> until the total weight is
+     * at most the maximum weight.
+     */
+    private void evict(Node<K,V> in_use)
+    {
+        Iterator<Node<K,V>> iterator = eviction_order.iterator();
+        while (total_weight > max_weight && iterator.hasNext())
+        {
+            Node<K,V> node = iterator.next();
+            if (node == in_use)
+                continue;
+            iterator.remove();
+            nodes.remove(node.key);
+            total_weight -= node.weight;
+            eviction_count++;
+        }
+    }
+
+    private static class Node<K,V> implements Map.Entry<K,V>
+    {
+        private final K key;
+        private final V value;
+        private long weight;
+        private long use_count;
+        private long last_use;
+
+        private Node(K key, V value, long weight)
+        {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+
+        public K getKey()
+        {
+            return key;
+        }
+
+        public V getValue()
+        {
+            return value;
+        }
+
+        public V setValue(V value)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof Map.Entry))
+                return false;
+            Map.Entry<?,?> entry = (Map.Entry<?,?>)o;
+            return key.equals(entry.getKey()) && value.equals(entry.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return key.hashCode() ^ value.hashCode();
+        }
+    }
+}
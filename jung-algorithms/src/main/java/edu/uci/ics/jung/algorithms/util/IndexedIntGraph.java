@@ -0,0 +1,246 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import com.google.common.collect.BiMap;
+
+import edu.uci.ics.jung.graph.AbstractHypergraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.Hypergraph;
+import edu.uci.ics.jung.graph.IntGraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+/**
+ * An <code>IntGraph</code> snapshot of an arbitrary <code>Hypergraph</code>.
+ * Vertices and edges are numbered in the iteration order of the graph's
+ * <code>getVertices()</code> and <code>getEdges()</code> (as by <code>Indexer</code>),
+ * and the arcs of each vertex are copied into flat <code>int</code> arrays,
+ * so that algorithms can be run against the snapshot without per-edge
+ * hash lookups or boxing.
+ * <p>
+ * The snapshot is not updated if the original graph changes.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ * @see Indexer
+ */
+public class IndexedIntGraph<V,E> implements IntGraph<V,E>
+{
+    protected final Object[] vertices;
+    protected final Object[] edges;
+    protected final BiMap<V,Integer> vertex_index;
+    protected final BiMap<E,Integer> edge_index;
+
+    // CSR arrays: the arcs of vertex v are at [offsets[v], offsets[v+1])
+    protected final int[] out_offsets;
+    protected final int[] out_neighbors;
+    protected final int[] out_edges;
+    protected final int[] in_offsets;
+    protected final int[] in_neighbors;
+    protected final int[] in_edges;
+
+    /**
+     * Creates a snapshot of <code>graph</code>.
+     * @param graph the graph to be copied
+     */
+    public IndexedIntGraph(Hypergraph<V,E> graph)
+    {
+        this.vertex_index = Indexer.create(graph.getVertices());
+        this.edge_index = Indexer.create(graph.getEdges());
+        this.vertices = new Object[vertex_index.size()];
+        for (Map.Entry<V,Integer> entry : vertex_index.entrySet())
+            vertices[entry.getValue()] = entry.getKey();
+        this.edges = new Object[edge_index.size()];
+        for (Map.Entry<E,Integer> entry : edge_index.entrySet())
+            edges[entry.getValue()] = entry.getKey();
+
+        ArcBuilder out = new ArcBuilder(vertices.length, edges.length);
+        for (int v = 0; v < vertices.length; v++)
+        {
+            V vertex = getVertex(v);
+            for (E e : graph.getOutEdges(vertex))
+                addArcs(graph, out, vertex, e);
+            out.endVertex(v);
+        }
+        this.out_offsets = out.offsets;
+        this.out_neighbors = out.neighbors();
+        this.out_edges = out.edges();
+
+        if (graph.getEdgeCount(EdgeType.DIRECTED) == 0)
+        {
+            // in-arcs and out-arcs are identical; share the arrays
+            this.in_offsets = out_offsets;
+            this.in_neighbors = out_neighbors;
+            this.in_edges = out_edges;
+        }
+        else
+        {
+            ArcBuilder in = new ArcBuilder(vertices.length, edges.length);
+            for (int v = 0; v < vertices.length; v++)
+            {
+                V vertex = getVertex(v);
+                for (E e : graph.getInEdges(vertex))
+                    addArcs(graph, in, vertex, e);
+                in.endVertex(v);
+            }
+            this.in_offsets = in.offsets;
+            this.in_neighbors = in.neighbors();
+            this.in_edges = in.edges();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addArcs(Hypergraph<V,E> graph, ArcBuilder arcs, V v, E e)
+    {
+        int e_id = edge_index.get(e);
+        if (graph instanceof Graph)
+        {
+            arcs.add(vertex_index.get(((Graph<V,E>)graph).getOpposite(v, e)), e_id);
+            return;
+        }
+        Collection<V> opposites = graph instanceof AbstractHypergraph
+            ? ((AbstractHypergraph<V,E>)graph).getOpposite(v, e)
+            : graph.getIncidentVertices(e);
+        for (V w : opposites)
+            if (!w.equals(v))
+                arcs.add(vertex_index.get(w), e_id);
+    }
+
+    /**
+     * Accumulates arcs in growable arrays, one vertex at a time.
+     */
+    private static class ArcBuilder
+    {
+        final int[] offsets;
+        int[] neighbors;
+        int[] edges;
+        int size;
+
+        ArcBuilder(int vertex_count, int expected_arcs)
+        {
+            this.offsets = new int[vertex_count + 1];
+            this.neighbors = new int[Math.max(expected_arcs, 16)];
+            this.edges = new int[neighbors.length];
+        }
+
+        void add(int neighbor, int edge)
+        {
+            if (size == neighbors.length)
+            {
+                neighbors = Arrays.copyOf(neighbors, size * 2);
+                edges = Arrays.copyOf(edges, size * 2);
+            }
+            neighbors[size] = neighbor;
+            edges[size] = edge;
+            size++;
+        }
+
+        void endVertex(int v)
+        {
+            offsets[v + 1] = size;
+        }
+
+        int[] neighbors()
+        {
+            return Arrays.copyOf(neighbors, size);
+        }
+
+        int[] edges()
+        {
+            return Arrays.copyOf(edges, size);
+        }
+    }
+
+    /**
+     * @return the bidirectional map from vertices to their ids
+     */
+    public BiMap<V,Integer> getVertexIndex()
+    {
+        return vertex_index;
+    }
+
+    /**
+     * @return the bidirectional map from edges to their ids
+     */
+    public BiMap<E,Integer> getEdgeIndex()
+    {
+        return edge_index;
+    }
+
+    public int getVertexCount()
+    {
+        return vertices.length;
+    }
+
+    public int getEdgeCount()
+    {
+        return edges.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V getVertex(int id)
+    {
+        return (V)vertices[id];
+    }
+
+    public int getVertexId(V vertex)
+    {
+        Integer id = vertex_index.get(vertex);
+        return id == null ? -1 : id;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E getEdge(int id)
+    {
+        return (E)edges[id];
+    }
+
+    public int getEdgeId(E edge)
+    {
+        Integer id = edge_index.get(edge);
+        return id == null ? -1 : id;
+    }
+
+    public int outDegree(int v)
+    {
+        return out_offsets[v + 1] - out_offsets[v];
+    }
+
+    public int outNeighbor(int v, int i)
+    {
+        return out_neighbors[out_offsets[v] + i];
+    }
+
+    public int outEdge(int v, int i)
+    {
+        return out_edges[out_offsets[v] + i];
+    }
+
+    public int inDegree(int v)
+    {
+        return in_offsets[v + 1] - in_offsets[v];
+    }
+
+    public int inNeighbor(int v, int i)
+    {
+        return in_neighbors[in_offsets[v] + i];
+    }
+
+    public int inEdge(int v, int i)
+    {
+        return in_edges[in_offsets[v] + i];
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An array-based binary min-heap of the <code>int</code> ids
+ * <code>0..capacity-1</code> (such as those of an <code>IntGraph</code>),
+ * ordered by the values of a caller-owned <code>double</code> array.
+ * Like <code>MapBinaryHeap</code>, it supports <code>update</code> of an
+ * element whose key has decreased, but it tracks the position of each
+ * element in an <code>int</code> array rather than a hash table, so that it
+ * may be cleared and reused (for instance, for each source of a
+ * shortest-path search) without allocation or boxing.
+ *
+ * @see MapBinaryHeap
+ */
+public class IntBinaryHeap
+{
+    private final double[] keys;
+    private final int[] heap;
+    // the position of each id in heap, or -1 if it is not in the heap
+    private final int[] positions;
+    private int size;
+
+    /**
+     * Creates an empty heap whose elements are ordered by their values in <code>keys</code>.
+     * @param keys the keys of the elements, indexed by id; the heap may
+     *     contain ids in <code>[0, keys.length)</code>
+     */
+    public IntBinaryHeap(double[] keys)
+    {
+        this.keys = keys;
+        this.heap = new int[keys.length];
+        this.positions = new int[keys.length];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Adds <code>id</code> to the heap; it must not already be in the heap.
+     * @param id the element to add
+     */
+    public void offer(int id)
+    {
+        if (positions[id] >= 0)
+            throw new IllegalArgumentException("Element " + id + " is already in the heap");
+        heap[size] = id;
+        positions[id] = size;
+        size++;
+        siftUp(positions[id]);
+    }
+
+    /**
+     * Restores the heap ordering after the key of <code>id</code> has
+     * decreased; has no effect if <code>id</code> is not in the heap.
+     * @param id the element whose key has decreased
+     */
+    public void update(int id)
+    {
+        if (positions[id] >= 0)
+            siftUp(positions[id]);
+    }
+
+    /**
+     * Removes and returns the element with the smallest key.
+     * @return the element with the smallest key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int poll()
+    {
+        if (size == 0)
+            throw new NoSuchElementException();
+        int top = heap[0];
+        positions[top] = -1;
+        size--;
+        if (size > 0)
+        {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * @param id the element to look for
+     * @return true if <code>id</code> is in the heap
+     */
+    public boolean contains(int id)
+    {
+        return positions[id] >= 0;
+    }
+
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Removes all elements from the heap.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+            positions[heap[i]] = -1;
+        size = 0;
+    }
+
+    private void siftUp(int position)
+    {
+        int id = heap[position];
+        while (position > 0)
+        {
+            int parent = (position - 1) >>> 1;
+            if (keys[heap[parent]] <= keys[id])
+                break;
+            move(heap[parent], position);
+            position = parent;
+        }
+        move(id, position);
+    }
+
+    private void siftDown(int position)
+    {
+        int id = heap[position];
+        while (true)
+        {
+            int child = 2 * position + 1;
+            if (child >= size)
+                break;
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]])
+                child++;
+            if (keys[id] <= keys[heap[child]])
+                break;
+            move(heap[child], position);
+            position = child;
+        }
+        move(id, position);
+    }
+
+    private void move(int id, int position)
+    {
+        heap[position] = id;
+        positions[id] = position;
+    }
+}
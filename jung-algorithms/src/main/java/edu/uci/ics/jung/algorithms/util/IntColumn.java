@@ -0,0 +1,136 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import com.google.common.base.Function;
+
+import edu.uci.ics.jung.graph.IntGraph;
+
+/**
+ * A column of <code>int</code> values, one for each vertex or each edge of an 
+ * <code>IntGraph</code>.  Values default to 0.
+ *
+ * @param <T> the element type (the vertex or edge type of the graph)
+ * @see AttributeColumn
+ */
+public class IntColumn<T> extends AttributeColumn<T> implements SettableTransformer<T, Integer>
+{
+    protected final int[] values;
+    
+    protected IntColumn(IntGraph<?,?> graph, boolean vertices)
+    {
+        super(graph, vertices);
+        this.values = new int[size()];
+    }
+    
+    /**
+     * @param <V> the vertex type
+     * @param graph the graph whose vertex ids index the column
+     * @return a new column with one value for each vertex of <code>graph</code>
+     */
+    public static <V> IntColumn<V> forVertices(IntGraph<V,?> graph)
+    {
+        return new IntColumn<V>(graph, true);
+    }
+    
+    /**
+     * @param <E> the edge type
+     * @param graph the graph whose edge ids index the column
+     * @return a new column with one value for each edge of <code>graph</code>
+     */
+    public static <E> IntColumn<E> forEdges(IntGraph<?,E> graph)
+    {
+        return new IntColumn<E>(graph, false);
+    }
+    
+    /**
+     * @param <V> the vertex type
+     * @param graph the graph whose vertex ids index the column
+     * @param values the values to be copied into the column
+     * @return a new column holding the value of <code>values</code> for each vertex of <code>graph</code>
+     */
+    public static <V> IntColumn<V> forVertices(IntGraph<V,?> graph, Function<? super V, ? extends Number> values)
+    {
+        IntColumn<V> column = forVertices(graph);
+        column.setAll(values);
+        return column;
+    }
+    
+    /**
+     * @param <E> the edge type
+     * @param graph the graph whose edge ids index the column
+     * @param values the values to be copied into the column
+     * @return a new column holding the value of <code>values</code> for each edge of <code>graph</code>
+     */
+    public static <E> IntColumn<E> forEdges(IntGraph<?,E> graph, Function<? super E, ? extends Number> values)
+    {
+        IntColumn<E> column = forEdges(graph);
+        column.setAll(values);
+        return column;
+    }
+    
+    /**
+     * Sets the value of each element to that specified by <code>values</code>.
+     * @param values the source of the new values
+     */
+    public void setAll(Function<? super T, ? extends Number> values)
+    {
+        for (int id = 0; id < this.values.length; id++)
+            this.values[id] = values.apply(getElement(id)).intValue();
+    }
+    
+    /**
+     * @param id the id of an element
+     * @return the value of the element with the specified id
+     */
+    public int getValue(int id)
+    {
+        return values[id];
+    }
+    
+    /**
+     * @param id the id of an element
+     * @param value the new value of the element with the specified id
+     */
+    public void setValue(int id, int value)
+    {
+        values[id] = value;
+    }
+    
+    /**
+     * @param element an element of the graph
+     * @return the value of <code>element</code>
+     */
+    public int getInt(T element)
+    {
+        return values[getId(element)];
+    }
+    
+    /**
+     * @param element an element of the graph
+     * @param value the new value of <code>element</code>
+     */
+    public void setInt(T element, int value)
+    {
+        values[getId(element)] = value;
+    }
+    
+    public Integer apply(T element)
+    {
+        return values[getId(element)];
+    }
+    
+    public void set(T element, Integer value)
+    {
+        values[getId(element)] = value;
+    }
+}
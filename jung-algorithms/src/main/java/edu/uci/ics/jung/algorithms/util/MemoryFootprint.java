@@ -0,0 +1,283 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.base.Function;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Predicates;
+import com.google.common.base.Supplier;
+
+import edu.uci.ics.jung.algorithms.filters.FilteredGraphView;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.Hypergraph;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * A utility class for estimating how much heap is retained by graphs and by
+ * the state of the algorithms that run on them.
+ * <p>
+ * Measurements are made by comparing the heap in use, after garbage
+ * collection, before and after the objects to be measured are created.  Only
+ * memory newly retained by those objects is counted: anything they refer to
+ * that already existed (such as the vertex and edge objects of a graph, or the
+ * graph on which an algorithm runs) is excluded.  The results are estimates;
+ * they are most reliable for large structures, or when several copies are
+ * measured at once, and when no other threads are allocating.
+ * <p>
+ * For example, the following reports the heap retained by the distances
+ * that <code>DijkstraDistance</code> caches for a single source:
+ * <pre>
+ * long bytes = MemoryFootprint.measure(new Supplier&lt;Object&gt;() {
+ *     public Object get() {
+ *         DijkstraDistance&lt;V,E&gt; dd = new DijkstraDistance&lt;V,E&gt;(graph);
+ *         dd.getDistanceMap(source);
+ *         return dd;
+ *     }
+ * });
+ * </pre>
+ */
+public class MemoryFootprint
+{
+    private static final int MAX_GC_ROUNDS = 64;
+    private static final int STABLE_GC_ROUNDS = 8;
+    private static final long GC_PAUSE_MILLIS = 20;
+
+    /**
+     * Holds the objects being measured, so that they cannot be collected
+     * before the heap is sampled.
+     */
+    private static volatile Object retained;
+
+    private MemoryFootprint()
+    {
+    }
+
+    /**
+     * Returns the number of bytes of heap in use after garbage collection.
+     * Collection is requested repeatedly until the heap in use has not
+     * changed for several rounds, since objects which have just become
+     * unreachable are not always reclaimed by the first collection.
+     * @return the number of bytes of heap in use
+     */
+    public static long getUsedMemory()
+    {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        int stable_rounds = 0;
+        for (int i = 0; i < MAX_GC_ROUNDS && stable_rounds < STABLE_GC_ROUNDS; i++)
+        {
+            System.gc();
+            try
+            {
+                Thread.sleep(GC_PAUSE_MILLIS);
+            }
+            catch (InterruptedException ie)
+            {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long now = runtime.totalMemory() - runtime.freeMemory();
+            if (now < used)
+            {
+                used = now;
+                stable_rounds = 0;
+            }
+            else
+                stable_rounds++;
+        }
+        return used;
+    }
+
+    /**
+     * Returns the number of bytes of heap retained by an object obtained from
+     * <code>supplier</code>, averaged over <code>copies</code> objects which
+     * are all kept until the heap has been sampled.
+     * @param supplier the source of the objects to be measured
+     * @param copies the number of objects to obtain from <code>supplier</code>
+     * @return the estimated number of bytes retained by each object
+     */
+    public static long measure(Supplier<?> supplier, int copies)
+    {
+        Preconditions.checkArgument(copies > 0, "copies must be positive: %s", copies);
+        List<Object> objects = new ArrayList<Object>(copies);
+        try
+        {
+            long before = getUsedMemory();
+            for (int i = 0; i < copies; i++)
+                objects.add(supplier.get());
+            retained = objects;
+            long after = getUsedMemory();
+            return Math.max(0, after - before) / copies;
+        }
+        finally
+        {
+            retained = null;
+        }
+    }
+
+    /**
+     * Returns the number of bytes of heap retained by an object obtained from
+     * <code>supplier</code>.
+     * @param supplier the source of the object to be measured
+     * @return the estimated number of bytes retained by the object
+     */
+    public static long measure(Supplier<?> supplier)
+    {
+        return measure(supplier, 1);
+    }
+
+    /**
+     * Measures the heap retained by graphs created by <code>factory</code>
+     * and populated with the vertices and edges of <code>template</code>.
+     * Edges are added with the default edge type of each new graph, so
+     * <code>template</code> should have no edges which that graph would reject.
+     * @param <V> the vertex type
+     * @param <E> the edge type
+     * @param factory the source of the (empty) graphs to be measured
+     * @param template the graph whose vertices and edges are to be copied
+     * @return the footprint of graphs from <code>factory</code>
+     */
+    public static <V,E> GraphFootprint measureGraph(final Supplier<? extends Graph<V,E>> factory,
+            Graph<V,E> template)
+    {
+        return measureGraph(new Function<Graph<V,E>, Hypergraph<V,E>>()
+        {
+            public Hypergraph<V,E> apply(Graph<V,E> source)
+            {
+                Graph<V,E> graph = factory.get();
+                for (V v : source.getVertices())
+                    graph.addVertex(v);
+                for (E e : source.getEdges())
+                {
+                    Pair<V> endpoints = source.getEndpoints(e);
+                    graph.addEdge(e, endpoints.getFirst(), endpoints.getSecond());
+                }
+                return graph;
+            }
+        }, template);
+    }
+
+    /**
+     * Measures the heap retained by graphs which <code>copier</code> creates
+     * from <code>template</code>.  This is suitable for graphs (such as
+     * immutable ones) which are constructed from another graph rather than
+     * populated incrementally.  The heap retained per vertex is measured by
+     * copying a graph with the vertices of <code>template</code> and no edges;
+     * the remainder is attributed to the edges.
+     * @param <V> the vertex type
+     * @param <E> the edge type
+     * @param copier creates the graph to be measured from its argument
+     * @param template the graph whose vertices and edges are to be copied
+     * @return the footprint of the graphs created by <code>copier</code>
+     */
+    public static <V,E> GraphFootprint measureGraph(
+            final Function<? super Graph<V,E>, ? extends Hypergraph<V,E>> copier,
+            final Graph<V,E> template)
+    {
+        final Graph<V,E> vertices_only = 
+            new FilteredGraphView<V,E>(template, Predicates.alwaysTrue(), Predicates.alwaysFalse());
+        long vertex_bytes = measure(new Supplier<Object>()
+        {
+            public Object get()
+            {
+                return copier.apply(vertices_only);
+            }
+        });
+        final int[] counts = new int[2];
+        long total_bytes = measure(new Supplier<Object>()
+        {
+            public Object get()
+            {
+                Hypergraph<V,E> graph = copier.apply(template);
+                counts[0] = graph.getVertexCount();
+                counts[1] = graph.getEdgeCount();
+                return graph;
+            }
+        });
+        return new GraphFootprint(counts[0], counts[1], vertex_bytes, total_bytes);
+    }
+
+    /**
+     * The heap retained by a graph, in total and broken down by vertex and edge.
+     */
+    public static class GraphFootprint
+    {
+        private final int vertex_count;
+        private final int edge_count;
+        private final long vertex_bytes;
+        private final long total_bytes;
+
+        /**
+         * @param vertex_count the number of vertices in the measured graph
+         * @param edge_count the number of edges in the measured graph
+         * @param vertex_bytes the bytes retained by the graph with its vertices and no edges
+         * @param total_bytes the bytes retained by the graph with its vertices and edges
+         */
+        public GraphFootprint(int vertex_count, int edge_count, long vertex_bytes, long total_bytes)
+        {
+            this.vertex_count = vertex_count;
+            this.edge_count = edge_count;
+            this.vertex_bytes = vertex_bytes;
+            this.total_bytes = total_bytes;
+        }
+
+        /**
+         * @return the number of vertices in the measured graph
+         */
+        public int getVertexCount()
+        {
+            return vertex_count;
+        }
+
+        /**
+         * @return the number of edges in the measured graph
+         */
+        public int getEdgeCount()
+        {
+            return edge_count;
+        }
+
+        /**
+         * @return the number of bytes retained by the measured graph
+         */
+        public long getTotalBytes()
+        {
+            return total_bytes;
+        }
+
+        /**
+         * @return the number of bytes retained per vertex, not counting any edges
+         */
+        public double getBytesPerVertex()
+        {
+            return vertex_count == 0 ? 0 : (double)vertex_bytes / vertex_count;
+        }
+
+        /**
+         * @return the number of bytes retained per edge, beyond those retained by the vertices
+         */
+        public double getBytesPerEdge()
+        {
+            return edge_count == 0 ? 0 : (double)Math.max(0, total_bytes - vertex_bytes) / edge_count;
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format("%d vertices, %d edges: %d bytes (%.1f per vertex, %.1f per edge)",
+                vertex_count, edge_count, total_bytes, getBytesPerVertex(), getBytesPerEdge());
+        }
+    }
+}
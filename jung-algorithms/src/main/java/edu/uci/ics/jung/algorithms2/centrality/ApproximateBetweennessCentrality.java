@@ -0,0 +1,410 @@
+package edu.uci.ics.jung.algorithms2.centrality;
+
+import com.google.common.base.Function;
+import com.google.common.base.Functions;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import edu.uci.ics.jung.algorithms.scoring.EdgeScorer;
+import edu.uci.ics.jung.algorithms.scoring.VertexScorer;
+import edu.uci.ics.jung.algorithms2.util.FibonacciHeap;
+import edu.uci.ics.jung.algorithms2.util.FibonacciHeapNode;
+import edu.uci.ics.jung.graph.AbstractHypergraph;
+import edu.uci.ics.jung.graph.Hypergraph;
+import edu.uci.ics.jung.graph.UndirectedGraph;
+import edu.uci.ics.jung.graph.UndirectedHypergraph;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Estimates betweenness centrality for each vertex and edge in the graph by sampling shortest paths.
+ * <br>
+ * Each sample picks an ordered pair of distinct vertices (s, t) uniformly at random, and a shortest path
+ * from s to t uniformly at random among all such paths; each vertex strictly inside the path, and each edge
+ * on it, is credited with 1/r, where r is the number of samples.  This estimates the fraction of all
+ * (ordered) vertex pairs whose shortest paths pass through each vertex or edge.
+ * The number of samples is chosen, from a bound on the vertex diameter of the graph (the largest
+ * number of vertices on a shortest path), so that with probability at least 1 - δ every such
+ * estimate is within ε of its exact value.
+ * <br>
+ * Scores are reported on the same scale as {@link BetweennessCentrality}, that is, the estimated
+ * fractions are multiplied by n(n-1) (halved for undirected graphs), so the guarantee on each score is
+ * an absolute error of at most {@link #getEpsilon()} times n(n-1) (or n(n-1)/2).
+ * For graphs which are directed or weighted, the vertex diameter is bounded by the number of vertices,
+ * which is safe but may require more samples than necessary.
+ *
+ * @see "Matteo Riondato and Evgenios M. Kornaropoulos: Fast approximation of betweenness centrality through sampling.
+ * Data Mining and Knowledge Discovery 30(2):438-475, 2016."
+ * @see BetweennessCentrality
+ */
+public class ApproximateBetweennessCentrality<V, E> implements VertexScorer<V, Double>, EdgeScorer<E, Double> {
+
+    /**
+     * The universal constant of the sample size bound; 0.5 is the value suggested by Riondato and Kornaropoulos.
+     */
+    private static final double SAMPLE_SIZE_CONSTANT = 0.5;
+
+    private Hypergraph<V, E> graph;
+
+    private Map<V, Double> vertex_scores;
+
+    private Map<E, Double> edge_scores;
+
+    private int vertex_diameter;
+
+    private int samples;
+
+    private double epsilon;
+
+    private double delta;
+
+    /**
+     * Estimates betweenness scores based on the unweighted shortest paths in the graph.
+     *
+     * @param graph the graph for which the scores are to be estimated
+     * @param epsilon the largest acceptable error in the estimated fraction of shortest paths through any vertex or edge
+     * @param delta the largest acceptable probability that any estimate exceeds that error
+     * @param random the source of the samples
+     */
+    public ApproximateBetweennessCentrality(Hypergraph<V, E> graph, double epsilon, double delta, Random random) {
+        initialize(graph, epsilon, delta);
+        calculateBetweenness(false, Functions.<Double>constant(1.0), epsilon, random);
+    }
+
+    /**
+     * Estimates betweenness scores based on the unweighted shortest paths in the graph.
+     *
+     * @param graph the graph for which the scores are to be estimated
+     * @param epsilon the largest acceptable error in the estimated fraction of shortest paths through any vertex or edge
+     * @param delta the largest acceptable probability that any estimate exceeds that error
+     */
+    public ApproximateBetweennessCentrality(Hypergraph<V, E> graph, double epsilon, double delta) {
+        this(graph, epsilon, delta, new Random());
+    }
+
+    /**
+     * Estimates betweenness scores based on the weighted shortest paths in the graph.
+     *
+     * @param graph the graph for which the scores are to be estimated
+     * @param edge_weights the edge weights to be used in the path length calculations
+     * @param epsilon the largest acceptable error in the estimated fraction of shortest paths through any vertex or edge
+     * @param delta the largest acceptable probability that any estimate exceeds that error
+     * @param random the source of the samples
+     */
+    public ApproximateBetweennessCentrality(Hypergraph<V, E> graph, Function<? super E, Double> edge_weights,
+                                            double epsilon, double delta, Random random) {
+        // reject negative-weight edges up front
+        for (E e : graph.getEdges()) {
+            double e_weight = edge_weights.apply(e);
+            if (e_weight < 0) {
+                throw new IllegalArgumentException(String.format("Weight for edge '%s' is < 0: %s", e, e_weight));
+            }
+        }
+        initialize(graph, epsilon, delta);
+        calculateBetweenness(true, edge_weights, epsilon, random);
+    }
+
+    /**
+     * Estimates betweenness scores based on the weighted shortest paths in the graph.
+     *
+     * @param graph the graph for which the scores are to be estimated
+     * @param edge_weights the edge weights to be used in the path length calculations
+     * @param epsilon the largest acceptable error in the estimated fraction of shortest paths through any vertex or edge
+     * @param delta the largest acceptable probability that any estimate exceeds that error
+     */
+    public ApproximateBetweennessCentrality(Hypergraph<V, E> graph, Function<? super E, Double> edge_weights,
+                                            double epsilon, double delta) {
+        this(graph, edge_weights, epsilon, delta, new Random());
+    }
+
+    private void initialize(Hypergraph<V, E> graph, double epsilon, double delta) {
+        Preconditions.checkArgument(epsilon > 0 && epsilon < 1, "epsilon must be in (0, 1): %s", epsilon);
+        Preconditions.checkArgument(delta > 0 && delta < 1, "delta must be in (0, 1): %s", delta);
+        this.graph = graph;
+        this.delta = delta;
+        this.vertex_scores = new HashMap<>();
+        this.edge_scores = new HashMap<>();
+
+        for (V v : graph.getVertices()) {
+            this.vertex_scores.put(v, 0.0);
+        }
+
+        for (E e : graph.getEdges()) {
+            this.edge_scores.put(e, 0.0);
+        }
+    }
+
+    private boolean isUndirected() {
+        return graph instanceof UndirectedGraph || graph instanceof UndirectedHypergraph;
+    }
+
+    private void calculateBetweenness(boolean weighted, Function<? super E, Double> edge_weights, double epsilon,
+                                      Random random) {
+        List<V> vertices = new ArrayList<>(graph.getVertices());
+        int n = vertices.size();
+        if (n < 2) {
+            this.epsilon = 0;
+            return;
+        }
+
+        vertex_diameter = (weighted || !isUndirected()) ? n : Math.min(n, estimateUndirectedVertexDiameter());
+        double dimension = dimensionBound(vertex_diameter) + Math.log(1 / delta);
+        samples = (int) Math.ceil(SAMPLE_SIZE_CONSTANT / (epsilon * epsilon) * dimension);
+        this.epsilon = Math.sqrt(SAMPLE_SIZE_CONSTANT * dimension / samples);
+
+        double increment = 1.0 / samples;
+        for (int i = 0; i < samples; i++) {
+            V s = vertices.get(random.nextInt(n));
+            V t = vertices.get(random.nextInt(n - 1));
+            if (t.equals(s)) {
+                t = vertices.get(n - 1);
+            }
+            samplePath(s, t, weighted, edge_weights, random, increment);
+        }
+
+        // scale the estimated fractions of pairs to the scale of the exact scores
+        double scale = isUndirected() ? n * (n - 1.0) / 2 : n * (n - 1.0);
+        for (Map.Entry<V, Double> entry : vertex_scores.entrySet()) {
+            entry.setValue(entry.getValue() * scale);
+        }
+        for (Map.Entry<E, Double> entry : edge_scores.entrySet()) {
+            entry.setValue(entry.getValue() * scale);
+        }
+    }
+
+    /**
+     * Returns the bound on the VC dimension of the sets of shortest paths through a vertex or edge,
+     * for a graph whose shortest paths have at most {@code vertex_diameter} vertices (and so at most
+     * {@code vertex_diameter - 2} internal vertices and {@code vertex_diameter - 1} edges).
+     */
+    private static double dimensionBound(int vertex_diameter) {
+        int range_size = Math.max(1, vertex_diameter - 1);
+        return Math.floor(Math.log(range_size) / Math.log(2)) + 1;
+    }
+
+    /**
+     * Bounds the vertex diameter of an unweighted undirected graph: in each connected component,
+     * every shortest path has at most 2 * ecc(u) + 1 vertices, for any vertex u in the component.
+     */
+    private int estimateUndirectedVertexDiameter() {
+        Set<V> visited = new HashSet<>();
+        int bound = 1;
+        for (V root : graph.getVertices()) {
+            if (!visited.add(root)) {
+                continue;
+            }
+            Map<V, Integer> distances = new HashMap<>();
+            distances.put(root, 0);
+            ArrayDeque<V> queue = new ArrayDeque<>();
+            queue.add(root);
+            int eccentricity = 0;
+            while (!queue.isEmpty()) {
+                V v = queue.remove();
+                int v_distance = distances.get(v);
+                eccentricity = Math.max(eccentricity, v_distance);
+                for (V w : getNeighbors(v, graph.getOutEdges(v)).keySet()) {
+                    if (!distances.containsKey(w)) {
+                        distances.put(w, v_distance + 1);
+                        visited.add(w);
+                        queue.add(w);
+                    }
+                }
+            }
+            bound = Math.max(bound, 2 * eccentricity + 1);
+        }
+        return bound;
+    }
+
+    /**
+     * Finds the shortest paths from {@code s} until {@code t} is reached, then walks back from {@code t}
+     * along a uniformly chosen shortest path, crediting each edge and internal vertex with {@code increment}.
+     */
+    private void samplePath(V s, V t, boolean weighted, Function<? super E, Double> edge_weights, Random random,
+                            double increment) {
+        Map<V, Double> distance = new HashMap<>();
+        Map<V, Double> path_count = new HashMap<>();
+        Map<V, List<PredData>> pred = new HashMap<>();
+        Set<V> settled = new HashSet<>();
+
+        distance.put(s, 0.0);
+        path_count.put(s, 1.0);
+        pred.put(s, new ArrayList<PredData>());
+
+        FibonacciHeap<V> heap = new FibonacciHeap<>();
+        Map<V, FibonacciHeapNode<V>> nodes = new HashMap<>();
+        ArrayDeque<V> queue = new ArrayDeque<>();
+        if (weighted) {
+            FibonacciHeapNode<V> node = new FibonacciHeapNode<>(s);
+            heap.insert(node, 0.0);
+            nodes.put(s, node);
+        } else {
+            queue.add(s);
+        }
+
+        boolean found = false;
+        while (weighted ? !heap.isEmpty() : !queue.isEmpty()) {
+            V v = weighted ? heap.removeMin().getData() : queue.remove();
+            settled.add(v);
+            // all shortest paths to t are known once t itself is reached
+            if (v.equals(t)) {
+                found = true;
+                break;
+            }
+
+            double v_distance = distance.get(v);
+            double v_count = path_count.get(v);
+            for (Map.Entry<V, E> entry : getNeighbors(v, graph.getOutEdges(v)).entries()) {
+                V w = entry.getKey();
+                if (settled.contains(w)) {
+                    continue;
+                }
+                double dist = v_distance + edge_weights.apply(entry.getValue());
+                Double w_distance = distance.get(w);
+                if (w_distance == null || dist < w_distance) {
+                    // w found for the first time, or a shorter path to w found
+                    distance.put(w, dist);
+                    path_count.put(w, v_count);
+                    List<PredData> w_pred = new ArrayList<>();
+                    w_pred.add(new PredData(entry.getValue(), v));
+                    pred.put(w, w_pred);
+                    if (!weighted) {
+                        queue.add(w);
+                    } else if (w_distance == null) {
+                        FibonacciHeapNode<V> node = new FibonacciHeapNode<>(w);
+                        heap.insert(node, dist);
+                        nodes.put(w, node);
+                    } else {
+                        heap.decreaseKey(nodes.get(w), dist);
+                    }
+                } else if (dist == w_distance) {
+                    // another shortest path to w via v
+                    path_count.put(w, path_count.get(w) + v_count);
+                    pred.get(w).add(new PredData(entry.getValue(), v));
+                }
+            }
+        }
+        if (!found) {
+            return;
+        }
+
+        // walk back from t, choosing each predecessor with probability proportional to its number of paths from s
+        V w = t;
+        while (!w.equals(s)) {
+            double choice = random.nextDouble() * path_count.get(w);
+            List<PredData> w_pred = pred.get(w);
+            PredData chosen = w_pred.get(w_pred.size() - 1);
+            for (PredData p : w_pred) {
+                choice -= path_count.get(p.v);
+                if (choice < 0) {
+                    chosen = p;
+                    break;
+                }
+            }
+            edge_scores.put(chosen.e, edge_scores.get(chosen.e) + increment);
+            if (!chosen.v.equals(s)) {
+                vertex_scores.put(chosen.v, vertex_scores.get(chosen.v) + increment);
+            }
+            w = chosen.v;
+        }
+    }
+
+    private Multimap<V, E> getNeighbors(V v, Collection<E> vEdges) {
+        //resolve hyper-neighbors
+        Multimap<V, E> v_neighbors = HashMultimap.create();
+        for (E e : vEdges) {
+            if (graph instanceof AbstractHypergraph) {
+                for (V n : ((AbstractHypergraph<V, E>) graph).getOpposite(v, e)) {
+                    if (!n.equals(v)) {
+                        v_neighbors.put(n, e);
+                    }
+                }
+            } else {
+                // works for any Hypergraph, including decorators and compact implementations
+                for (V n : graph.getIncidentVertices(e)) {
+                    if (!n.equals(v)) {
+                        v_neighbors.put(n, e);
+                    }
+                }
+            }
+        }
+        return v_neighbors;
+    }
+
+    @Override
+    public Double getEdgeScore(E e) {
+        return edge_scores.get(e);
+    }
+
+    @Override
+    public Double getVertexScore(V v) {
+        return vertex_scores.get(v);
+    }
+
+    /**
+     * Returns the {@code k} vertices with the highest estimated scores, highest first.
+     *
+     * @param k the maximum number of vertices to return
+     * @return the top-scoring vertices
+     */
+    public List<V> getTopVertices(int k) {
+        List<V> ranked = new ArrayList<>(vertex_scores.keySet());
+        Collections.sort(ranked, new Comparator<V>() {
+            @Override
+            public int compare(V v1, V v2) {
+                return Double.compare(vertex_scores.get(v2), vertex_scores.get(v1));
+            }
+        });
+        return ranked.subList(0, Math.min(k, ranked.size()));
+    }
+
+    /**
+     * Returns the error bound achieved by the samples that were taken: with probability at least
+     * {@link #getDelta() 1 - delta}, the estimated fraction of shortest paths through each vertex and edge
+     * is within this amount of its exact value.  This is no greater than the requested epsilon.
+     *
+     * @return the achieved error bound on the estimated fractions
+     */
+    public double getEpsilon() {
+        return epsilon;
+    }
+
+    /**
+     * @return the probability with which the error bound may be exceeded
+     */
+    public double getDelta() {
+        return delta;
+    }
+
+    /**
+     * @return the number of shortest paths that were sampled
+     */
+    public int getSampleCount() {
+        return samples;
+    }
+
+    /**
+     * @return the bound on the number of vertices on any shortest path from which the sample count was derived
+     */
+    public int getVertexDiameterBound() {
+        return vertex_diameter;
+    }
+
+    private class PredData {
+        E e;
+        V v;
+
+        PredData(E edge, V vertex) {
+            this.e = edge;
+            this.v = vertex;
+        }
+    }
+}
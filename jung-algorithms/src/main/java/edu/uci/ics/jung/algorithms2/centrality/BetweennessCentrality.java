@@ -7,6 +7,8 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import edu.uci.ics.jung.algorithms.scoring.EdgeScorer;
 import edu.uci.ics.jung.algorithms.scoring.VertexScorer;
+import edu.uci.ics.jung.algorithms.util.IndexedIntGraph;
+import edu.uci.ics.jung.algorithms.util.IntBinaryHeap;
 import edu.uci.ics.jung.algorithms2.util.FibonacciHeap;
 import edu.uci.ics.jung.algorithms2.util.FibonacciHeapNode;
 import edu.uci.ics.jung.graph.AbstractGraph;
@@ -22,6 +24,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Computes betweenness centrality for each vertex and edge in the graph.
@@ -48,6 +53,12 @@ public class BetweennessCentrality<V, E> implements VertexScorer<V, Double>, Edg
 
     private Map<V, BetweennessVertexData> vertex_data;
 
+    /**
+     * The number of chunks into which the source vertices are divided per worker
+     * in parallel calculations, so that workers which finish early can take on more sources.
+     */
+    private static final int CHUNKS_PER_WORKER = 4;
+
     /**
      * Calculates betweenness scores based on the all-pairs unweighted shortest paths
      * in the graph.
@@ -73,6 +84,44 @@ public class BetweennessCentrality<V, E> implements VertexScorer<V, Double>, Edg
      * @param edge_weights the edge weights to be used in the path length calculations
      */
     public BetweennessCentrality(Hypergraph<V, E> graph, Function<? super E, Double> edge_weights, boolean normalize) {
+        checkWeights(graph, edge_weights);
+        initialize(graph);
+        calculateBetweenness(
+            true,
+            edge_weights,
+            normalize);
+    }
+
+    /**
+     * Calculates betweenness scores based on the all-pairs unweighted shortest paths
+     * in the graph, dividing the source vertices among the workers of {@code pool}.
+     * The graph must not be modified while the scores are calculated.
+     *
+     * @param graph the graph for which the scores are to be calculated
+     * @param pool the pool whose workers are to calculate the scores
+     */
+    public BetweennessCentrality(Hypergraph<V, E> graph, boolean normalize, ForkJoinPool pool) {
+        initialize(graph);
+        calculateBetweenness(pool, false, Functions.<Double>constant(1.0));
+    }
+
+    /**
+     * Calculates betweenness scores based on the all-pairs weighted shortest paths in the
+     * graph, dividing the source vertices among the workers of {@code pool}.
+     * The graph must not be modified while the scores are calculated.
+     *
+     * @param graph the graph for which the scores are to be calculated
+     * @param edge_weights the edge weights to be used in the path length calculations
+     * @param pool the pool whose workers are to calculate the scores
+     */
+    public BetweennessCentrality(Hypergraph<V, E> graph, Function<? super E, Double> edge_weights, boolean normalize,
+                                 ForkJoinPool pool) {
+        checkWeights(graph, edge_weights);
+        initialize(graph);
+        calculateBetweenness(pool, true, edge_weights);
+    }
+
+    private static <E> void checkWeights(Hypergraph<?, E> graph, Function<? super E, Double> edge_weights) {
         // reject negative-weight edges up front
         for (E e : graph.getEdges()) {
             double e_weight = edge_weights.apply(e);
@@ -80,12 +129,6 @@ public class BetweennessCentrality<V, E> implements VertexScorer<V, Double>, Edg
                 throw new IllegalArgumentException(String.format("Weight for edge '%s' is < 0: %d", e, e_weight));
             }
         }
-
-        initialize(graph);
-        calculateBetweenness(
-            true,
-            edge_weights,
-            normalize);
     }
 
     private void initialize(Hypergraph<V, E> graph) {
@@ -104,14 +147,88 @@ public class BetweennessCentrality<V, E> implements VertexScorer<V, Double>, Edg
     }
 
     private void calculateBetweenness(boolean weighted, Function<? super E, Double> edge_weights, boolean normalize) {
+        Dependencies dependencies = new Dependencies(weighted, edge_weights, vertex_data, vertex_scores, edge_scores);
         for (V s : graph.getVertices()) {
-            // System.out.println();
-            // System.out.println("--- s ---");
-            // System.out.println("s: " + s.toString());
+            dependencies.accumulate(s);
+        }
 
+        adjustUndirectedScores();
+        vertex_data.clear();
+    }
+
+    private void calculateBetweenness(ForkJoinPool pool, boolean weighted, Function<? super E, Double> edge_weights) {
+        Workers workers = new Workers(weighted, edge_weights);
+        int vertexCount = workers.indexed.getVertexCount();
+        int chunkSize = Math.max(1, vertexCount / (CHUNKS_PER_WORKER * pool.getParallelism()));
+        pool.invoke(new SourceTask(workers, 0, vertexCount, chunkSize));
+
+        // sum the arrays of the workers once, at the end
+        double[] vertexTotals = new double[vertexCount];
+        double[] edgeTotals = new double[workers.indexed.getEdgeCount()];
+        for (WorkerDependencies dependencies : workers.accumulators.values()) {
+            for (int v = 0; v < vertexTotals.length; v++) {
+                vertexTotals[v] += dependencies.vertex_scores[v];
+            }
+            for (int e = 0; e < edgeTotals.length; e++) {
+                edgeTotals[e] += dependencies.edge_scores[e];
+            }
+        }
+        for (int v = 0; v < vertexTotals.length; v++) {
+            vertex_scores.put(workers.indexed.getVertex(v), vertexTotals[v]);
+        }
+        for (int e = 0; e < edgeTotals.length; e++) {
+            edge_scores.put(workers.indexed.getEdge(e), edgeTotals[e]);
+        }
+
+        adjustUndirectedScores();
+    }
+
+    private void adjustUndirectedScores() {
+        // For undirected graph, divide scores by two as each shortest path considered twice.
+        if ((graph instanceof UndirectedGraph || graph instanceof UndirectedHypergraph)) {
+            for (V v : graph.getVertices()) {
+                double v_score = vertex_scores.get(v);
+                v_score /= 2.0;
+                vertex_scores.put(v, v_score);
+            }
+            for (E e : graph.getEdges()) {
+                double e_score = edge_scores.get(e);
+                e_score /= 2.0;
+                edge_scores.put(e, e_score);
+            }
+        }
+    }
+
+    /**
+     * Accumulates the pair dependencies of a sequence of source vertices into
+     * the specified score maps.
+     */
+    private class Dependencies {
+        final boolean weighted;
+        final Function<? super E, Double> edge_weights;
+        final Map<V, BetweennessVertexData> vertex_data;
+        final Map<V, Double> vertex_scores;
+        final Map<E, Double> edge_scores;
+
+        Dependencies(boolean weighted, Function<? super E, Double> edge_weights,
+                     Map<V, BetweennessVertexData> vertex_data, Map<V, Double> vertex_scores,
+                     Map<E, Double> edge_scores) {
+            this.weighted = weighted;
+            this.edge_weights = edge_weights;
+            this.vertex_data = vertex_data;
+            this.vertex_scores = vertex_scores;
+            this.edge_scores = edge_scores;
+        }
+
+        void accumulate(V s) {
             // initialize the betweenness data for this new vertex
             for (V v : graph.getVertices()) {
-                vertex_data.put(v, new BetweennessVertexData());
+                BetweennessVertexData v_data = vertex_data.get(v);
+                if (v_data == null) {
+                    vertex_data.put(v, new BetweennessVertexData());
+                } else {
+                    v_data.reset();
+                }
             }
 
             vertex_data.get(s).pathCount = 1; //sigma
@@ -127,9 +244,6 @@ public class BetweennessCentrality<V, E> implements VertexScorer<V, Double>, Edg
             }
             Q.insert(s, 0.0);
 
-            // System.out.println();
-            // System.out.println("--- path count ---");
-
             // 1. compute the length and the number of shortest paths between all s to v
             while (!Q.isEmpty()) {
                 V v = Q.remove();
@@ -138,61 +252,44 @@ public class BetweennessCentrality<V, E> implements VertexScorer<V, Double>, Edg
                 BetweennessVertexData v_data = vertex_data.get(v);
 
                 Multimap<V, E> v_opposite = getNeighbors(v, graph.getOutEdges(v));
-                // System.out.println();
-                // System.out.println("v: " + v.toString() + "; data: " + v_data.toString());
-                // System.out.println("neighbors: " + v_opposite.toString());
 
                 for (Map.Entry<V, E> v_opposite_entry : v_opposite.entries()) {
-                    // System.out.println();
-                    // System.out.println("edge(v-w): " + v_opposite_entry.getValue().toString());
-
                     V w = v_opposite_entry.getKey();
                     Double wv_weight = edge_weights.apply(v_opposite_entry.getValue());
                     BetweennessVertexData w_data = vertex_data.get(w);
                     Double dist = v_data.distance + wv_weight;
 
-                    // System.out.println(" w: " + w.toString() + "; data: " + w_data.toString());
-
                     // w found for the first time?
                     if (w_data.distance == Double.POSITIVE_INFINITY) {
                         Q.insert(w, dist);
                         w_data.distance = dist;
                     }
 
-                    // shortest path to w via v?
-                    if (w_data.distance >= dist) {
+                    // shorter path to w via v? discard the paths found so far
+                    if (w_data.distance > dist) {
                         w_data.distance = dist;
                         Q.update(w, dist);
-                        // MapBinaryHeap<V> tmp = (MapBinaryHeap<V>) Q;
-                        // if(tmp.contains(w)) {
-                        //     tmp.update(w);
-                        // }
+                        w_data.pathCount = 0;
+                        w_data.pred.clear();
+                    }
 
+                    // shortest path to w via v?
+                    if (w_data.distance == dist) {
                         w_data.pathCount = w_data.pathCount + v_data.pathCount;
                         w_data.pred.add(new PredData(v_opposite_entry.getValue(), v));
-                        // System.out.println("*w: " + w.toString() + "; data: " + w_data.toString());
                     }
                 }
             }
 
-            // System.out.println();
-            // System.out.println("--- pair-dependency ---");
-
             // 2. sum all pair dependencies. The pair-dependency of s and v in w
             // S returns vertices in order of non-increasing distance from s
             while (!S.isEmpty()) {
                 V w = S.pop();
 
-                // System.out.println();
-                // System.out.println(" w: " + w.toString() + "; data: " + vertex_data.get(w).toString());
-
                 for (PredData pred : vertex_data.get(w).pred) {
-                    // System.out.println(" v: " + v.toString() + "; data: " + vertex_data.get(v).toString());
-
                     Double delta = (vertex_data.get(pred.v).pathCount / vertex_data.get(w).pathCount) * (1.0 + vertex_data.get(w).delta);
                     if(delta > 0) {
                         vertex_data.get(pred.v).delta = vertex_data.get(pred.v).delta + delta;
-                        // System.out.println("*v: " + v.toString() + "; data: " + vertex_data.get(v).toString());
                     }
 
                     Double e_score = edge_scores.get(pred.e) + delta;
@@ -201,27 +298,206 @@ public class BetweennessCentrality<V, E> implements VertexScorer<V, Double>, Edg
 
                 if (!w.equals(s)) {
                     Double w_score = vertex_scores.get(w) + vertex_data.get(w).delta;
-                    // System.out.println("*w: " + w.toString() + "; bc: " + vertex_scores.get(w) + " -> " + w_score);
                     vertex_scores.put(w, w_score);
                 }
             }
         }
+    }
 
-        // For undirected graph, divide scores by two as each shortest path considered twice.
-        if ((graph instanceof UndirectedGraph || graph instanceof UndirectedHypergraph)) {
-            for (V v : graph.getVertices()) {
-                double v_score = vertex_scores.get(v);
-                v_score /= 2.0;
-                vertex_scores.put(v, v_score);
+    /**
+     * The state shared by the tasks of a parallel calculation: an indexed snapshot
+     * of the graph, the weight of each edge, and the accumulator of each worker thread.
+     */
+    private class Workers {
+        final IndexedIntGraph<V, E> indexed;
+        final boolean weighted;
+        final double[] edge_weights;
+        final int arc_count;
+        final Map<Thread, WorkerDependencies> accumulators = new ConcurrentHashMap<>();
+
+        Workers(boolean weighted, Function<? super E, Double> edge_weights) {
+            this.indexed = new IndexedIntGraph<>(graph);
+            this.weighted = weighted;
+            this.edge_weights = new double[indexed.getEdgeCount()];
+            for (int e = 0; e < this.edge_weights.length; e++) {
+                this.edge_weights[e] = edge_weights.apply(indexed.getEdge(e));
             }
-            for (E e : graph.getEdges()) {
-                double e_score = edge_scores.get(e);
-                e_score /= 2.0;
-                edge_scores.put(e, e_score);
+            int arcs = 0;
+            for (int v = 0; v < indexed.getVertexCount(); v++) {
+                arcs += indexed.outDegree(v);
             }
+            this.arc_count = arcs;
         }
 
-        vertex_data.clear();
+        /**
+         * Returns the accumulator of the current thread, creating it if necessary;
+         * only the current thread adds its own entry.
+         */
+        WorkerDependencies current() {
+            return accumulators.computeIfAbsent(Thread.currentThread(), t -> new WorkerDependencies(this));
+        }
+    }
+
+    /**
+     * Accumulates the pair dependencies of the sources processed by one worker thread
+     * into arrays indexed by vertex and edge id.  The per-source search state is also
+     * held in arrays, which are reset rather than reallocated for each source.
+     */
+    private class WorkerDependencies {
+        final Workers workers;
+        final double[] vertex_scores;
+        final double[] edge_scores;
+
+        final double[] distance;
+        final double[] pathCount;
+        final double[] delta;
+        final int[] stack;
+        final int[] fifo;
+        final IntBinaryHeap heap;
+        // the predecessors of each vertex as linked lists: predHead[w] is the first
+        // entry for w, or -1 if there are none
+        final int[] predHead;
+        final int[] predNext;
+        final int[] predEdge;
+        final int[] predVertex;
+        int predCount;
+
+        WorkerDependencies(Workers workers) {
+            int vertexCount = workers.indexed.getVertexCount();
+            this.workers = workers;
+            this.vertex_scores = new double[vertexCount];
+            this.edge_scores = new double[workers.indexed.getEdgeCount()];
+            this.distance = new double[vertexCount];
+            this.pathCount = new double[vertexCount];
+            this.delta = new double[vertexCount];
+            this.stack = new int[vertexCount];
+            this.fifo = workers.weighted ? null : new int[vertexCount];
+            this.heap = workers.weighted ? new IntBinaryHeap(distance) : null;
+            this.predHead = new int[vertexCount];
+            this.predNext = new int[workers.arc_count];
+            this.predEdge = new int[workers.arc_count];
+            this.predVertex = new int[workers.arc_count];
+        }
+
+        /**
+         * Adds the pair dependencies of source {@code s}; this follows
+         * {@link Dependencies#accumulate} step for step.
+         */
+        void accumulate(int s) {
+            IndexedIntGraph<V, E> indexed = workers.indexed;
+            double[] edge_weights = workers.edge_weights;
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            Arrays.fill(pathCount, 0);
+            Arrays.fill(delta, 0);
+            Arrays.fill(predHead, -1);
+            predCount = 0;
+
+            pathCount[s] = 1;
+            distance[s] = 0;
+
+            int stackSize = 0;
+            int fifoHead = 0;
+            int fifoTail = 0;
+            if (heap != null) {
+                heap.offer(s);
+            } else {
+                fifo[fifoTail++] = s;
+            }
+
+            // 1. compute the length and the number of shortest paths between all s to v
+            while (heap != null ? !heap.isEmpty() : fifoHead < fifoTail) {
+                int v = heap != null ? heap.poll() : fifo[fifoHead++];
+                stack[stackSize++] = v;
+
+                for (int i = 0; i < indexed.outDegree(v); i++) {
+                    int w = indexed.outNeighbor(v, i);
+                    if (w == v) {
+                        continue;
+                    }
+                    int e = indexed.outEdge(v, i);
+                    double dist = distance[v] + edge_weights[e];
+
+                    // w found for the first time?
+                    if (distance[w] == Double.POSITIVE_INFINITY) {
+                        distance[w] = dist;
+                        if (heap != null) {
+                            heap.offer(w);
+                        } else {
+                            fifo[fifoTail++] = w;
+                        }
+                    }
+
+                    // shorter path to w via v? discard the paths found so far
+                    if (distance[w] > dist) {
+                        distance[w] = dist;
+                        heap.update(w);
+                        pathCount[w] = 0;
+                        predHead[w] = -1;
+                    }
+
+                    // shortest path to w via v?
+                    if (distance[w] == dist) {
+                        pathCount[w] += pathCount[v];
+                        predEdge[predCount] = e;
+                        predVertex[predCount] = v;
+                        predNext[predCount] = predHead[w];
+                        predHead[w] = predCount++;
+                    }
+                }
+            }
+
+            // 2. sum all pair dependencies, in order of non-increasing distance from s
+            while (stackSize > 0) {
+                int w = stack[--stackSize];
+
+                for (int p = predHead[w]; p >= 0; p = predNext[p]) {
+                    int v = predVertex[p];
+                    double d = (pathCount[v] / pathCount[w]) * (1.0 + delta[w]);
+                    if (d > 0) {
+                        delta[v] += d;
+                    }
+                    edge_scores[predEdge[p]] += d;
+                }
+
+                if (w != s) {
+                    vertex_scores[w] += delta[w];
+                }
+            }
+        }
+    }
+
+    /**
+     * Accumulates the pair dependencies of a range of source vertex ids, splitting
+     * the range among further tasks if it is larger than the chunk size.  Each range
+     * is added to the accumulator of the worker thread which runs it.
+     */
+    @SuppressWarnings("serial")
+    private class SourceTask extends RecursiveAction {
+        final Workers workers;
+        final int from;
+        final int to;
+        final int chunkSize;
+
+        SourceTask(Workers workers, int from, int to, int chunkSize) {
+            this.workers = workers;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                WorkerDependencies dependencies = workers.current();
+                for (int s = from; s < to; s++) {
+                    dependencies.accumulate(s);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SourceTask(workers, from, middle, chunkSize),
+                      new SourceTask(workers, middle, to, chunkSize));
+        }
     }
 
     private Multimap<V, E> getNeighbors(V v, Collection<E> vEdges) {
@@ -267,6 +543,13 @@ public class BetweennessCentrality<V, E> implements VertexScorer<V, Double>, Edg
             delta = 0;
         }
 
+        void reset() {
+            distance = Double.POSITIVE_INFINITY;
+            pathCount = 0;
+            pred.clear();
+            delta = 0;
+        }
+
         @Override
         public String toString() {
             return MoreObjects.toStringHelper(this)
@@ -0,0 +1,114 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.filters;
+
+import static edu.uci.ics.jung.graph.util.GraphAssert.assertSameGraph;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import com.google.common.base.Predicate;
+
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.SparseMultigraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+public class TestFilteredGraphView extends TestCase
+{
+    private Graph<Integer,Integer> graph;
+
+    private static final Predicate<Integer> EVEN = new Predicate<Integer>()
+    {
+        public boolean apply(Integer i)
+        {
+            return i % 2 == 0;
+        }
+    };
+
+    @Override
+    protected void setUp()
+    {
+        graph = new SparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < 8; i++)
+            graph.addVertex(i);
+        graph.addEdge(10, 0, 1);
+        graph.addEdge(12, 0, 2);
+        graph.addEdge(14, 2, 4);
+        graph.addEdge(15, 4, 6);
+        graph.addEdge(16, 6, 0);
+        graph.addEdge(18, 3, 5);
+        graph.addEdge(20, 2, 4);
+        graph.addEdge(21, 4, 4);
+    }
+
+    public void testVertexViewMatchesCopy()
+    {
+        VertexPredicateFilter<Integer,Integer> filter = new VertexPredicateFilter<Integer,Integer>(EVEN);
+        assertSameGraph(filter.apply(graph), filter.view(graph));
+    }
+
+    public void testEdgeViewMatchesCopy()
+    {
+        EdgePredicateFilter<Integer,Integer> filter = new EdgePredicateFilter<Integer,Integer>(EVEN);
+        assertSameGraph(filter.apply(graph), filter.view(graph));
+    }
+
+    public void testInducedSubgraphView()
+    {
+        Set<Integer> vertices = new HashSet<Integer>(Arrays.asList(0, 2, 4, 5));
+        Graph<Integer,Integer> copy = FilterUtils.createInducedSubgraph(vertices, graph);
+        FilteredGraphView<Integer,Integer> view = FilterUtils.createInducedSubgraphView(vertices, graph);
+        assertSameGraph(copy, view);
+        assertSameGraph(copy, view.materialize(SparseMultigraph.<Integer,Integer>getFactory()));
+        try
+        {
+            FilterUtils.createInducedSubgraphView(Arrays.asList(0, 100), graph);
+            fail("vertex not in graph accepted");
+        }
+        catch (IllegalArgumentException iae) {}
+    }
+
+    public void testKNeighborhoodView()
+    {
+        KNeighborhoodFilter<Integer,Integer> filter = new KNeighborhoodFilter<Integer,Integer>(
+                0, 1, KNeighborhoodFilter.EdgeType.OUT);
+        assertSameGraph(filter.apply(graph), filter.view(graph));
+    }
+
+    public void testViewTracksBackingGraph()
+    {
+        FilteredGraphView<Integer,Integer> view =
+            new VertexPredicateFilter<Integer,Integer>(EVEN).view(graph);
+        assertEquals(6, view.getEdgeCount());
+        graph.addEdge(22, 6, 2, EdgeType.DIRECTED);
+        graph.addEdge(23, 6, 3);
+        graph.removeVertex(4);
+        assertEquals(3, view.getVertexCount());
+        assertEquals(3, view.getEdgeCount());
+        assertTrue(view.containsEdge(22));
+        assertFalse(view.containsEdge(23));
+        assertNull(view.getNeighbors(3));
+        assertEquals(new HashSet<Integer>(Arrays.asList(0, 2)), new HashSet<Integer>(view.getSuccessors(6)));
+        assertEquals(new HashSet<Integer>(Arrays.asList(0)), new HashSet<Integer>(view.getPredecessors(6)));
+        assertEquals(Integer.valueOf(22), view.findEdge(6, 2));
+        assertNull(view.findEdge(2, 6));
+        try
+        {
+            view.addVertex(8);
+            fail("vertex added to view");
+        }
+        catch (UnsupportedOperationException uoe) {}
+    }
+}
@@ -0,0 +1,189 @@
+package edu.uci.ics.jung.algorithms.generators;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import com.google.common.base.Supplier;
+
+import edu.uci.ics.jung.algorithms.generators.random.KleinbergSmallWorldGenerator;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.util.Pair;
+
+
+public class TestLattice2DGraph extends TestCase {
+
+    private Supplier<Graph<Integer,Integer>> graphFactory(final boolean directed) {
+        return new Supplier<Graph<Integer,Integer>>() {
+            public Graph<Integer,Integer> get() {
+                if (directed)
+                    return new DirectedSparseMultigraph<Integer,Integer>();
+                return new UndirectedSparseMultigraph<Integer,Integer>();
+            }
+        };
+    }
+
+    private static Supplier<Integer> counter() {
+        return new Supplier<Integer>() {
+            int count;
+            public Integer get() {
+                return count++;
+            }
+        };
+    }
+
+    private static List<Integer> sorted(Collection<Integer> c) {
+        List<Integer> list = new ArrayList<Integer>(c);
+        Collections.sort(list);
+        return list;
+    }
+
+    private static List<Integer> opposites(Graph<Integer,?> graph, Integer v, Collection<?> edges) {
+        List<Integer> list = new ArrayList<Integer>();
+        for (Object e : edges) {
+            @SuppressWarnings("unchecked")
+            Pair<Integer> endpoints = ((Graph<Integer,Object>)graph).getEndpoints(e);
+            list.add(endpoints.getFirst().equals(v) ? endpoints.getSecond() : endpoints.getFirst());
+        }
+        Collections.sort(list);
+        return list;
+    }
+
+    private static void checkEdges(Lattice2DGraph graph) {
+        HashSet<Long> edges = new HashSet<Long>();
+        for (Long e : graph.getEdges()) {
+            assertTrue(edges.add(e));
+            assertTrue(graph.containsEdge(e));
+            Pair<Integer> endpoints = graph.getEndpoints(e);
+            assertTrue(graph.getIncidentEdges(endpoints.getFirst()).contains(e));
+            assertTrue(graph.getIncidentEdges(endpoints.getSecond()).contains(e));
+        }
+        assertEquals(graph.getEdgeCount(), edges.size());
+    }
+
+    public void testMatchesGenerator() {
+        for (int rows = 2; rows <= 5; rows++) {
+            for (int cols = 2; cols <= 4; cols++) {
+                for (boolean toroidal : new boolean[] {true, false}) {
+                    for (boolean directed : new boolean[] {true, false}) {
+                        Lattice2DGenerator<Integer,Integer> generator =
+                            new Lattice2DGenerator<Integer,Integer>(graphFactory(directed),
+                                counter(), counter(), rows, cols, toroidal);
+                        Graph<Integer,Integer> expected = generator.get();
+                        Lattice2DGraph actual = generator.getImplicitGraph();
+
+                        assertEquals(expected.getVertexCount(), actual.getVertexCount());
+                        assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+                        assertEquals(generator.getGridEdgeCount(), actual.getEdgeCount());
+                        assertEquals(expected.getDefaultEdgeType(), actual.getDefaultEdgeType());
+                        for (Integer v : expected.getVertices()) {
+                            assertEquals(opposites(expected, v, expected.getOutEdges(v)),
+                                opposites(actual, v, actual.getOutEdges(v)));
+                            assertEquals(opposites(expected, v, expected.getInEdges(v)),
+                                opposites(actual, v, actual.getInEdges(v)));
+                            assertEquals(expected.degree(v), actual.degree(v));
+                            assertEquals(sorted(expected.getNeighbors(v)), sorted(actual.getNeighbors(v)));
+                            assertEquals(sorted(expected.getSuccessors(v)), sorted(actual.getSuccessors(v)));
+                        }
+                        checkEdges(actual);
+                    }
+                }
+            }
+        }
+    }
+
+    public void testLongRangeEdges() {
+        Lattice2DGraph graph = new Lattice2DGraph(3, 4, false, true);
+        int lattice_edges = graph.getEdgeCount();
+        Long e = graph.addLongRangeEdge(0, 11);
+        Long loop = graph.addLongRangeEdge(5, 5);
+        assertEquals(lattice_edges + 2, graph.getEdgeCount());
+        assertEquals(new Pair<Integer>(0, 11), graph.getEndpoints(e));
+        assertEquals(Integer.valueOf(0), graph.getSource(e));
+        assertEquals(Integer.valueOf(11), graph.getDest(e));
+        assertTrue(graph.getOutEdges(0).contains(e));
+        assertFalse(graph.getInEdges(0).contains(e));
+        assertTrue(graph.getPredecessors(11).contains(0));
+        assertEquals(1, Collections.frequency(graph.getIncidentEdges(5), loop));
+        assertEquals(Integer.valueOf(11), graph.getOpposite(0, e));
+        assertEquals(11, graph.getVertex(2, 3));
+        assertEquals(11, graph.getVertex(-1, -1));
+        assertEquals(2, graph.getRow(11));
+        assertEquals(3, graph.getColumn(11));
+        checkEdges(graph);
+
+        assertFalse(graph.containsEdge(4L * 12 + 2));
+        assertFalse(graph.containsVertex(12));
+        assertNull(graph.getNeighbors(12));
+        try {
+            graph.addLongRangeEdge(0, 12);
+            fail("edge added to a missing vertex");
+        } catch (IllegalArgumentException iae) {}
+        try {
+            graph.addEdge(100L, 0, 1);
+            fail("edge added to a lattice");
+        } catch (UnsupportedOperationException uoe) {}
+    }
+
+    public void testKleinbergImplicitGraph() {
+        for (boolean toroidal : new boolean[] {true, false}) {
+            KleinbergSmallWorldGenerator<Integer,Integer> generator =
+                new KleinbergSmallWorldGenerator<Integer,Integer>(graphFactory(false),
+                    counter(), counter(), 20, 30, 2.0, toroidal);
+            generator.setRandom(new Random(7));
+            generator.setConnectionCount(2);
+            Lattice2DGraph graph = generator.getImplicitGraph();
+            assertEquals(generator.getGridEdgeCount() + 2 * 600, graph.getEdgeCount());
+            assertEquals(2 * 600, graph.getLongRangeEdgeCount());
+
+            for (Long e : graph.getEdges()) {
+                if (e < 4L * graph.getVertexCount())
+                    continue; // lattice edge
+                Pair<Integer> endpoints = graph.getEndpoints(e);
+                int dr = Math.abs(graph.getRow(endpoints.getFirst()) - graph.getRow(endpoints.getSecond()));
+                int dc = Math.abs(graph.getColumn(endpoints.getFirst()) - graph.getColumn(endpoints.getSecond()));
+                if (toroidal) {
+                    dr = Math.min(dr, 20 - dr);
+                    dc = Math.min(dc, 30 - dc);
+                }
+                assertTrue(dr + dc >= 2);
+            }
+        }
+    }
+
+    public void testKleinbergDistanceDistribution() {
+        // on a 41 x 41 torus there are 4d offsets at each distance d <= 20
+        int size = 41;
+        double alpha = 2.0;
+        KleinbergSmallWorldGenerator<Integer,Integer> generator =
+            new KleinbergSmallWorldGenerator<Integer,Integer>(graphFactory(false),
+                counter(), counter(), size, size, alpha, true);
+        generator.setRandom(new Random(11));
+        generator.setConnectionCount(40);
+        Lattice2DGraph graph = generator.getImplicitGraph();
+
+        int[] distance_counts = new int[size + 1];
+        for (Long e : graph.getEdges()) {
+            if (e < 4L * graph.getVertexCount())
+                continue; // lattice edge
+            Pair<Integer> endpoints = graph.getEndpoints(e);
+            int dr = Math.abs(graph.getRow(endpoints.getFirst()) - graph.getRow(endpoints.getSecond()));
+            int dc = Math.abs(graph.getColumn(endpoints.getFirst()) - graph.getColumn(endpoints.getSecond()));
+            distance_counts[Math.min(dr, size - dr) + Math.min(dc, size - dc)]++;
+        }
+
+        // each offset is chosen with probability proportional to d^-alpha
+        for (int d : new int[] {2, 3, 5, 20}) {
+            double ratio = (distance_counts[d] / (4.0 * d)) / (distance_counts[10] / 40.0);
+            double expected = Math.pow(10.0 / d, alpha);
+            assertEquals("distance " + d, expected, ratio, 0.1 * expected);
+        }
+    }
+}
@@ -11,12 +11,16 @@
  */
 package edu.uci.ics.jung.algorithms.scoring;
 
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 import junit.framework.TestCase;
 
 import com.google.common.base.Function;
 
 import edu.uci.ics.jung.graph.DirectedSparseGraph;
 import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
 
 /**
  *
@@ -135,4 +139,58 @@ public class TestBetweennessCentrality extends TestCase
 //    				edge_weights.apply(e), bc.getEdgeScore(e)));
 //    	}
     }
+
+    public void testParallel()
+    {
+    	Random random = new Random(3);
+    	Graph<Integer, Integer> directed = new DirectedSparseGraph<Integer, Integer>();
+    	Graph<Integer, Integer> undirected = new UndirectedSparseGraph<Integer, Integer>();
+    	for (int i = 0; i < 80; i++)
+    	{
+    		directed.addVertex(i);
+    		undirected.addVertex(i);
+    	}
+    	for (int i = 0; i < 300; i++)
+    	{
+    		int v1 = random.nextInt(80);
+    		int v2 = random.nextInt(80);
+    		if (v1 != v2)
+    		{
+    			directed.addEdge(i, v1, v2);
+    			undirected.addEdge(i, v1, v2);
+    		}
+    	}
+    	final int weights[] = new int[300];
+    	for (int i = 0; i < weights.length; i++)
+    		weights[i] = 1 + random.nextInt(4);
+    	Function<Integer, Integer> edge_weights = new Function<Integer, Integer>()
+    	{
+			public Integer apply(Integer e) { return weights[e]; }
+    	};
+
+    	ForkJoinPool pool = new ForkJoinPool(4);
+    	try
+    	{
+    		for (Graph<Integer, Integer> graph : new Graph[] {directed, undirected})
+    		{
+    			assertSameScores(graph, new BetweennessCentrality<Integer, Integer>(graph),
+    					new BetweennessCentrality<Integer, Integer>(graph, pool));
+    			assertSameScores(graph, new BetweennessCentrality<Integer, Integer>(graph, edge_weights),
+    					new BetweennessCentrality<Integer, Integer>(graph, edge_weights, pool));
+    		}
+    	}
+    	finally
+    	{
+    		pool.shutdown();
+    	}
+    }
+
+    private void assertSameScores(Graph<Integer, Integer> graph,
+    		BetweennessCentrality<Integer, Integer> expected, BetweennessCentrality<Integer, Integer> actual)
+    {
+    	for (Integer v : graph.getVertices())
+    		assertEquals(expected.getVertexScore(v), actual.getVertexScore(v), 1e-9);
+    	for (Integer e : graph.getEdges())
+    		assertEquals(expected.getEdgeScore(e), actual.getEdgeScore(e), 1e-9);
+    }
 }
@@ -74,4 +74,21 @@ public class TestHITSWithPriors extends TestCase {
         Assert.assertEquals(1.0, hub_sum, 0.001);
         Assert.assertEquals(1.0, auth_sum, 0.001);
     }
+
+    public void testArrayEngine() {
+        HITSWithPriors<Number,Number> expected = 
+            new HITSWithPriors<Number,Number>(graph, ScoringUtils.getHITSUniformRootPrior(roots), 0.3);
+        expected.evaluate();
+        HITSWithPriors<Number,Number> ranker = 
+            new HITSWithPriors<Number,Number>(graph, ScoringUtils.getHITSUniformRootPrior(roots), 0.3);
+        ranker.setUseArrays(true);
+        ranker.evaluate();
+
+        Assert.assertEquals(expected.getIterations(), ranker.getIterations());
+        for (Number n : graph.getVertices())
+        {
+            Assert.assertEquals(expected.getVertexScore(n).hub, ranker.getVertexScore(n).hub, 1e-12);
+            Assert.assertEquals(expected.getVertexScore(n).authority, ranker.getVertexScore(n).authority, 1e-12);
+        }
+    }
 }
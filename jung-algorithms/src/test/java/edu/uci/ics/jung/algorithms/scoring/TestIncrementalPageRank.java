@@ -0,0 +1,191 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.scoring;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import com.google.common.base.Function;
+
+import edu.uci.ics.jung.algorithms.scoring.util.ScoringUtils;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.ObservableGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+
+public class TestIncrementalPageRank extends TestCase
+{
+    private static final double ALPHA = 0.15;
+    private static final double TOLERANCE = 1.0e-10;
+
+    private Random random;
+    private int next_edge;
+
+    @Override
+    protected void setUp()
+    {
+        random = new Random(7);
+        next_edge = 0;
+    }
+
+    private void addRandomEdges(Graph<Integer,Integer> graph, int vertex_count, int edge_count)
+    {
+        while (edge_count > 0)
+        {
+            int from = random.nextInt(vertex_count);
+            int to = random.nextInt(vertex_count);
+            if (from != to && graph.findEdge(from, to) == null)
+            {
+                graph.addEdge(next_edge++, from, to);
+                edge_count--;
+            }
+        }
+    }
+
+    private void removeRandomEdges(Graph<Integer,Integer> graph, int edge_count)
+    {
+        List<Integer> edges = new ArrayList<Integer>(graph.getEdges());
+        for (int i = 0; i < edge_count; i++)
+            graph.removeEdge(edges.remove(random.nextInt(edges.size())));
+    }
+
+    private static <V,E> void assertScores(Graph<V,E> graph, Function<V,Double> priors,
+            IncrementalPageRank<V,E> incremental)
+    {
+        PageRankWithPriors<V,E> expected = new PageRankWithPriors<V,E>(graph, priors, ALPHA);
+        expected.setTolerance(TOLERANCE);
+        expected.setMaxIterations(1000);
+        expected.evaluate();
+        for (V v : graph.getVertices())
+            assertEquals(expected.getVertexScore(v), incremental.getVertexScore(v), 1.0e-8);
+    }
+
+    public void testEdgeChanges()
+    {
+        Graph<Integer,Integer> g = new DirectedSparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < 200; i++)
+            g.addVertex(i);
+        addRandomEdges(g, 200, 600);
+        // a prior over a fixed set of vertices, which does not change as the graph does
+        Function<Integer,Double> priors =
+            ScoringUtils.getUniformRootPrior(new HashSet<Integer>(g.getVertices()));
+
+        PageRankWithPriors<Integer,Integer> pr = new PageRankWithPriors<Integer,Integer>(g, priors, ALPHA);
+        pr.setTolerance(TOLERANCE);
+        pr.setMaxIterations(1000);
+        pr.evaluate();
+
+        ObservableGraph<Integer,Integer> graph = new ObservableGraph<Integer,Integer>(g);
+        IncrementalPageRank<Integer,Integer> ipr =
+            new IncrementalPageRank<Integer,Integer>(graph, priors, ALPHA);
+        ipr.setTolerance(TOLERANCE);
+        ipr.evaluate(pr);
+        assertScores(graph, priors, ipr);
+        graph.addGraphEventListener(ipr);
+
+        // individual changes, including some that make vertices dangling
+        addRandomEdges(graph, 200, 10);
+        removeRandomEdges(graph, 10);
+        for (Integer e : new ArrayList<Integer>(graph.getOutEdges(3)))
+            graph.removeEdge(e);
+        assertEquals(0, graph.outDegree(3));
+        assertScores(graph, priors, ipr);
+
+        // a batch of changes
+        graph.beginBatch();
+        addRandomEdges(graph, 200, 30);
+        removeRandomEdges(graph, 30);
+        graph.addEdge(next_edge++, 3, 4);
+        graph.endBatch();
+        assertScores(graph, priors, ipr);
+    }
+
+    public void testVertexChanges()
+    {
+        Graph<Integer,Integer> g = new UndirectedSparseGraph<Integer,Integer>();
+        for (int i = 0; i < 100; i++)
+            g.addVertex(i);
+        addRandomEdges(g, 100, 300);
+        ObservableGraph<Integer,Integer> graph = new ObservableGraph<Integer,Integer>(g);
+        // a uniform prior over the vertices of the graph, which changes as they do
+        Function<Integer,Double> priors = ScoringUtils.getUniformRootPrior(graph.getVertices());
+
+        IncrementalPageRank<Integer,Integer> ipr =
+            new IncrementalPageRank<Integer,Integer>(graph, priors, ALPHA);
+        ipr.setTolerance(TOLERANCE);
+        ipr.evaluate();
+        assertScores(graph, priors, ipr);
+        graph.addGraphEventListener(ipr);
+
+        graph.removeVertex(5);
+        graph.removeVertex(17);
+        graph.addVertex(100);
+        graph.addEdge(next_edge++, 100, 1);
+        graph.addEdge(next_edge++, 101, 2);
+        ipr.updatePriors();
+        assertNull(ipr.getVertexScore(5));
+        assertScores(graph, priors, ipr);
+    }
+
+    public void testLocalUpdate()
+    {
+        Graph<Integer,Integer> g = new DirectedSparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < 5000; i++)
+            g.addVertex(i);
+        addRandomEdges(g, 5000, 20000);
+        Function<Integer,Double> priors =
+            ScoringUtils.getUniformRootPrior(new HashSet<Integer>(g.getVertices()));
+        ObservableGraph<Integer,Integer> graph = new ObservableGraph<Integer,Integer>(g);
+        IncrementalPageRank<Integer,Integer> ipr =
+            new IncrementalPageRank<Integer,Integer>(graph, priors, ALPHA);
+        ipr.setTolerance(1.0e-7);
+        ipr.evaluate();
+        long evaluation_pushes = ipr.getPushCount();
+        graph.addGraphEventListener(ipr);
+
+        addRandomEdges(graph, 5000, 1);
+        long update_pushes = ipr.getPushCount() - evaluation_pushes;
+        assertTrue(update_pushes + " pushes", update_pushes < evaluation_pushes / 100);
+    }
+
+    public void testDefaultTolerance()
+    {
+        Graph<Integer,Integer> g = new DirectedSparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < 4000; i++)
+            g.addVertex(i);
+        addRandomEdges(g, 4000, 16000);
+        Function<Integer,Double> priors =
+            ScoringUtils.getUniformRootPrior(new HashSet<Integer>(g.getVertices()));
+        IncrementalPageRank<Integer,Integer> ipr =
+            new IncrementalPageRank<Integer,Integer>(g, priors, ALPHA);
+        ipr.evaluate();
+        // the default tolerance is relative to the average score, 1/n
+        assertEquals(1.0e-3 / 4000, ipr.getTolerance());
+        PageRankWithPriors<Integer,Integer> expected = new PageRankWithPriors<Integer,Integer>(g, priors, ALPHA);
+        expected.setTolerance(TOLERANCE);
+        expected.setMaxIterations(1000);
+        expected.evaluate();
+        for (Integer v : g.getVertices())
+        {
+            double score = expected.getVertexScore(v);
+            assertEquals(score, ipr.getVertexScore(v), 0.01 * score);
+        }
+
+        ipr.setTolerance(1.0e-4);
+        ipr.evaluate();
+        assertEquals(1.0e-4, ipr.getTolerance());
+    }
+}
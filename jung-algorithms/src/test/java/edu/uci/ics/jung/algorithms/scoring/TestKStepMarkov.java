@@ -67,4 +67,23 @@ public class TestKStepMarkov extends TestCase
 //        System.out.println(rankings);
     }
 
+    public void testArrayEngine()
+    {
+        Set<Number> priors = new HashSet<Number>();
+        priors.add(1);
+        priors.add(2);
+        KStepMarkov<Number,Number> expected = 
+        	new KStepMarkov<Number,Number>(mGraph, Functions.forMap(edgeWeights), 
+        			ScoringUtils.getUniformRootPrior(priors),2);
+        expected.setCumulative(true);
+        KStepMarkov<Number,Number> ranker = 
+        	new KStepMarkov<Number,Number>(mGraph, Functions.forMap(edgeWeights), 
+        			ScoringUtils.getUniformRootPrior(priors),2);
+        ranker.setCumulative(true);
+        ranker.setUseArrays(true);
+        expected.evaluate();
+        ranker.evaluate();
+        for (Number n : mGraph.getVertices())
+        	assertEquals(expected.getVertexScore(n), ranker.getVertexScore(n), 1e-12);
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.scoring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import com.google.common.base.Function;
+
+import edu.uci.ics.jung.algorithms.scoring.util.ScoringUtils;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+
+public class TestLocalPageRankWithPriors extends TestCase
+{
+    private static final double ALPHA = 0.15;
+
+    private static void addRandomEdges(Graph<Integer,Integer> graph, int first_vertex,
+            int vertex_count, int edge_count, Random random)
+    {
+        for (int i = 0; i < vertex_count; i++)
+            graph.addVertex(first_vertex + i);
+        while (edge_count > 0)
+        {
+            int from = first_vertex + random.nextInt(vertex_count);
+            int to = first_vertex + random.nextInt(vertex_count);
+            if (from != to && graph.findEdge(from, to) == null)
+            {
+                graph.addEdge(graph.getEdgeCount(), from, to);
+                edge_count--;
+            }
+        }
+    }
+
+    private static PageRankWithPriors<Integer,Integer> getExact(Graph<Integer,Integer> graph,
+            Set<Integer> roots)
+    {
+        Function<Integer,Double> priors = ScoringUtils.getUniformRootPrior(roots);
+        PageRankWithPriors<Integer,Integer> exact =
+            new PageRankWithPriors<Integer,Integer>(graph, priors, ALPHA);
+        exact.setTolerance(1.0e-12);
+        exact.setMaxIterations(1000);
+        exact.evaluate();
+        return exact;
+    }
+
+    public void testErrorBound()
+    {
+        // two components; the second cannot be reached from the roots
+        Graph<Integer,Integer> graph = new DirectedSparseMultigraph<Integer,Integer>();
+        Random random = new Random(3);
+        addRandomEdges(graph, 0, 300, 900, random);
+        addRandomEdges(graph, 300, 300, 900, random);
+        Set<Integer> roots = Collections.singleton(0);
+        PageRankWithPriors<Integer,Integer> exact = getExact(graph, roots);
+
+        LocalPageRankWithPriors<Integer,Integer> local =
+            new LocalPageRankWithPriors<Integer,Integer>(graph, roots, ALPHA);
+        local.setEpsilon(1.0e-5);
+        local.evaluate();
+        assertTrue(local.getPushCount() <= 1 / (ALPHA * local.getEpsilon()));
+
+        double shortfall = 0;
+        for (Integer v : graph.getVertices())
+        {
+            double difference = exact.getVertexScore(v) - local.getVertexScore(v);
+            assertTrue(v + " overestimated by " + -difference, difference > -1.0e-10);
+            shortfall += difference;
+            if (v >= 300)
+                assertFalse(local.getVertexScores().containsKey(v));
+        }
+        assertTrue(shortfall + " > " + local.getResidualTotal(),
+            shortfall <= local.getResidualTotal() + 1.0e-10);
+    }
+
+    public void testUndirectedVertexBound()
+    {
+        Graph<Integer,Integer> graph = new UndirectedSparseGraph<Integer,Integer>();
+        addRandomEdges(graph, 0, 500, 1500, new Random(5));
+        Set<Integer> roots = Collections.singleton(7);
+        PageRankWithPriors<Integer,Integer> exact = getExact(graph, roots);
+
+        LocalPageRankWithPriors<Integer,Integer> local =
+            new LocalPageRankWithPriors<Integer,Integer>(graph, roots, ALPHA);
+        local.setEpsilon(1.0e-4);
+        local.evaluate();
+        for (Integer v : graph.getVertices())
+        {
+            double difference = exact.getVertexScore(v) - local.getVertexScore(v);
+            assertTrue(difference > -1.0e-10);
+            assertTrue(difference <= local.getEpsilon() * graph.degree(v) + 1.0e-10);
+        }
+    }
+
+    public void testTopVertices()
+    {
+        Graph<Integer,Integer> graph = new DirectedSparseMultigraph<Integer,Integer>();
+        addRandomEdges(graph, 0, 1000, 3000, new Random(11));
+        Set<Integer> roots = Collections.singleton(1);
+        final PageRankWithPriors<Integer,Integer> exact = getExact(graph, roots);
+        List<Integer> expected = new ArrayList<Integer>(graph.getVertices());
+        Collections.sort(expected, new Comparator<Integer>()
+        {
+            public int compare(Integer v1, Integer v2)
+            {
+                return Double.compare(exact.getVertexScore(v2), exact.getVertexScore(v1));
+            }
+        });
+
+        LocalPageRankWithPriors<Integer,Integer> local =
+            new LocalPageRankWithPriors<Integer,Integer>(graph, roots, ALPHA);
+        local.setEpsilon(1.0e-8);
+        local.evaluate();
+        assertEquals(expected.subList(0, 10), local.getTopVertices(10));
+        assertTrue(local.getTopVertices(0).isEmpty());
+    }
+}
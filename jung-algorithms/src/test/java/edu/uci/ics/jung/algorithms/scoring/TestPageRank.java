@@ -11,15 +11,20 @@ package edu.uci.ics.jung.algorithms.scoring;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import junit.framework.Assert;
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import com.google.common.base.Function;
 import com.google.common.base.Functions;
 import com.google.common.base.Supplier;
 
+import edu.uci.ics.jung.algorithms.util.DoubleColumn;
+import edu.uci.ics.jung.algorithms.util.IndexedIntGraph;
 import edu.uci.ics.jung.graph.DirectedGraph;
 import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
 import edu.uci.ics.jung.graph.Graph;
@@ -77,4 +82,122 @@ public class TestPageRank extends TestCase {
 //        Assert.assertTrue(NumericalPrecision.equal(((Ranking)ranker.getRankings().get(2)).rankScore,0.2,.001));
 //        Assert.assertTrue(NumericalPrecision.equal(((Ranking)ranker.getRankings().get(3)).rankScore,0,.001));
     }
+
+    public void testArrayEngine() {
+    	graph = new DirectedSparseMultigraph<Integer,Integer>();
+    	Random random = new Random(1);
+    	for (int i = 0; i < 5000; i++) {
+    		graph.addVertex(i);
+    	}
+    	// the last 100 vertices have no out-edges
+    	for (int i = 0; i < 20000; i++) {
+    		graph.addEdge(i, random.nextInt(4900), random.nextInt(5000));
+    	}
+
+    	PageRank<Integer, Integer> expected = new PageRank<Integer, Integer>(graph, 0.15);
+    	expected.evaluate();
+
+    	PageRank<Integer, Integer> arrays = new PageRank<Integer, Integer>(graph, 0.15);
+    	arrays.setUseArrays(true);
+    	arrays.evaluate();
+
+    	ForkJoinPool pool = new ForkJoinPool(4);
+    	try {
+    		PageRank<Integer, Integer> parallel = new PageRank<Integer, Integer>(graph, 0.15);
+    		parallel.setUseArrays(true);
+    		parallel.setPool(pool);
+    		parallel.evaluate();
+
+    		assertEquals(expected.getIterations(), arrays.getIterations());
+    		assertEquals(expected.getIterations(), parallel.getIterations());
+    		for (Integer v : graph.getVertices()) {
+    			assertEquals(expected.getVertexScore(v), arrays.getVertexScore(v), 1e-12);
+    			assertEquals(expected.getVertexScore(v), parallel.getVertexScore(v), 1e-12);
+    		}
+    	} finally {
+    		pool.shutdown();
+    	}
+
+    	// switching on the engine again keeps its values
+    	arrays.setUseArrays(true);
+    	assertTrue(arrays instanceof AbstractIterativeScorer.ArrayScorer);
+    	for (Integer v : graph.getVertices()) {
+    		assertEquals(expected.getVertexScore(v), arrays.getVertexScore(v), 1e-12);
+    	}
+
+    	// switching back to maps continues from the array engine's values
+    	arrays.setUseArrays(false);
+    	for (Integer v : graph.getVertices()) {
+    		assertEquals(expected.getVertexScore(v), arrays.getVertexScore(v), 1e-12);
+    	}
+    }
+
+    public void testArrayEngineWithColumn() {
+    	graph = new DirectedSparseMultigraph<Integer,Integer>();
+    	for(int i=0; i<4; i++) {
+    		graph.addVertex(i);
+    	}
+        addEdge(graph,0,1,1.0);
+        addEdge(graph,1,2,1.0);
+        addEdge(graph,2,3,0.5);
+        addEdge(graph,3,1,1.0);
+        addEdge(graph,2,1,0.5);
+
+        Function<Integer, Number> weights = Functions.forMap(edgeWeights);
+        DoubleColumn<Integer> column =
+        	DoubleColumn.forEdges(new IndexedIntGraph<Integer,Integer>(graph), weights);
+        PageRankWithPriors<Integer, Integer> pr = new PageRank<Integer, Integer>(graph, column, 0);
+        pr.setUseArrays(true);
+        pr.evaluate();
+
+        Assert.assertEquals(pr.getVertexScore(0), 0.0, pr.getTolerance());
+        Assert.assertEquals(pr.getVertexScore(1), 0.4, pr.getTolerance());
+        Assert.assertEquals(pr.getVertexScore(2), 0.4, pr.getTolerance());
+        Assert.assertEquals(pr.getVertexScore(3), 0.2, pr.getTolerance());
+    }
+
+    public void testIterationModes() {
+    	graph = new DirectedSparseMultigraph<Integer,Integer>();
+    	Random random = new Random(2);
+    	for (int i = 0; i < 2000; i++) {
+    		graph.addVertex(i);
+    	}
+    	for (int i = 0; i < 8000; i++) {
+    		graph.addEdge(i, random.nextInt(1950), random.nextInt(2000));
+    	}
+
+    	PageRank<Integer, Integer> expected = new PageRank<Integer, Integer>(graph, 0.15);
+    	expected.setTolerance(1e-12);
+    	expected.setMaxIterations(1000);
+    	expected.evaluate();
+    	assertTrue(expected.getIterations() < 1000);
+    	assertEquals(expected.getIterations(), expected.getResidualHistory().size());
+    	assertTrue(expected.getResidualHistory().get(expected.getIterations() - 1) < 1e-12);
+
+    	for (IterationMode mode : IterationMode.values()) {
+    		for (int interval : new int[] {0, 10}) {
+    			PageRank<Integer, Integer> pr = new PageRank<Integer, Integer>(graph, 0.15);
+    			pr.setTolerance(1e-12);
+    			pr.setMaxIterations(1000);
+    			pr.setIterationMode(mode);
+    			pr.setExtrapolationInterval(interval);
+    			pr.evaluate();
+    			String label = mode + "/" + interval;
+    			assertTrue(label, pr.getIterations() < 1000);
+    			if (mode != IterationMode.JACOBI || interval > 0)
+    				assertTrue(label, pr.getIterations() < expected.getIterations());
+    			// evaluation stops only after a step which changes no value by more than the tolerance
+    			assertTrue(label, pr.getResidualHistory().get(pr.getIterations() - 1) < 1e-12);
+    			double expected_total = 0;
+    			double total = 0;
+    			for (Integer v : graph.getVertices()) {
+    				assertEquals(label, expected.getVertexScore(v), pr.getVertexScore(v), 1e-9);
+    				expected_total += expected.getVertexScore(v);
+    				total += pr.getVertexScore(v);
+    			}
+    			// (less than 1, as the potential along self-loops is lost)
+    			assertEquals(label, expected_total, total, 1e-8);
+    		}
+    	}
+    }
 }
@@ -76,4 +76,54 @@ public class TestVoltageScore extends TestCase
             assertEquals(vr.getVertexScore(i), voltages[i], 0.01);
         }
     }
+
+    public final void testArrayEngine()
+    {
+        VoltageScorer<Number,Number> vr = new VoltageScorer<Number,Number>(g, Functions.<Number>constant(1), 0, 6);
+        vr.setUseArrays(true);
+        double[] voltages = {1.0, 0.75, 0.75, 0.5, 0.25, 0.25, 0};
+        
+        vr.evaluate();
+        for (int i = 0; i < 7; i++) {
+            assertEquals(vr.getVertexScore(i), voltages[i], 0.01);
+        }
+    }
+
+    public final void testIterationModes()
+    {
+        // a long path converges slowly with Jacobi iteration
+        Graph<Number,Number> path = new UndirectedSparseMultigraph<Number,Number>();
+        for (int i = 0; i < 50; i++)
+            path.addEdge(i, i, i + 1);
+
+        VoltageScorer<Number,Number> jacobi = new VoltageScorer<Number,Number>(path, Functions.<Number>constant(1), 0, 50);
+        jacobi.setMaxIterations(100000);
+        jacobi.setTolerance(1e-9);
+        jacobi.evaluate();
+        assertEquals(jacobi.getIterations(), jacobi.getResidualHistory().size());
+        int gauss_seidel_iterations = 0;
+        for (IterationMode mode : new IterationMode[] {IterationMode.GAUSS_SEIDEL, IterationMode.PRIORITIZED})
+        {
+            VoltageScorer<Number,Number> vr = new VoltageScorer<Number,Number>(path, Functions.<Number>constant(1), 0, 50);
+            vr.setMaxIterations(100000);
+            vr.setTolerance(1e-9);
+            vr.setIterationMode(mode);
+            vr.evaluate();
+            assertTrue(mode.toString(), vr.getIterations() < jacobi.getIterations());
+            for (int i = 0; i <= 50; i++)
+                assertEquals(mode.toString(), 1 - i / 50.0, vr.getVertexScore(i), 1e-5);
+            if (mode == IterationMode.GAUSS_SEIDEL)
+                gauss_seidel_iterations = vr.getIterations();
+        }
+
+        VoltageScorer<Number,Number> vr = new VoltageScorer<Number,Number>(path, Functions.<Number>constant(1), 0, 50);
+        vr.setMaxIterations(100000);
+        vr.setTolerance(1e-9);
+        vr.setIterationMode(IterationMode.GAUSS_SEIDEL);
+        vr.setExtrapolationInterval(20);
+        vr.evaluate();
+        assertTrue(vr.getIterations() < gauss_seidel_iterations);
+        for (int i = 0; i <= 50; i++)
+            assertEquals(1 - i / 50.0, vr.getVertexScore(i), 1e-5);
+    }
 }
@@ -4,6 +4,7 @@
  */
 package edu.uci.ics.jung.algorithms.shortestpath;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -19,6 +20,7 @@ import com.google.common.base.Functions;
 import com.google.common.base.Supplier;
 import com.google.common.collect.BiMap;
 
+import edu.uci.ics.jung.algorithms.util.BoundedCache;
 import edu.uci.ics.jung.algorithms.util.Indexer;
 import edu.uci.ics.jung.graph.DirectedGraph;
 import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
@@ -274,6 +276,62 @@ public class TestShortestPath extends TestCase
         }
     }
     
+    public void testDijkstraDetectsModifications()
+    {
+        DirectedGraph<String,Integer> graph = new DirectedSparseMultigraph<String,Integer>();
+        graph.addEdge(1, "a", "b");
+        graph.addEdge(2, "b", "c");
+        DijkstraShortestPath<String,Integer> dsp = new DijkstraShortestPath<String,Integer>(graph);
+        assertEquals(2, dsp.getDistance("a", "c").intValue());
+        assertEquals(Arrays.asList(1, 2), dsp.getPath("a", "c"));
+
+        // cached results are discarded without an explicit reset()
+        graph.addEdge(3, "a", "c");
+        assertEquals(1, dsp.getDistance("a", "c").intValue());
+        assertEquals(Arrays.asList(3), dsp.getPath("a", "c"));
+        graph.removeEdge(3);
+        assertEquals(2, dsp.getDistance("a", "c").intValue());
+        graph.removeVertex("b");
+        assertNull(dsp.getDistance("a", "c"));
+    }
+
+    public void testDijkstraBoundedCache()
+    {
+        DirectedGraph<Integer,Integer> graph = new DirectedSparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < 10; i++)
+            graph.addEdge(i, i, (i + 1) % 10);
+        DijkstraShortestPath<Integer,Integer> dsp = new DijkstraShortestPath<Integer,Integer>(graph);
+        dsp.setCacheBound(BoundedCache.Policy.LEAST_RECENTLY_USED, 15, true);
+        BoundedCache<Integer,?> cache = dsp.getSourceCache();
+
+        // holds all 10 distances
+        assertEquals(10, dsp.getDistanceMap(0, 10).size());
+        // holds 3 distances, and a tentative distance to 6
+        assertEquals(3, dsp.getDistanceMap(3, 3).size());
+        assertEquals(2, cache.size());
+        assertEquals(14, cache.getWeight());
+        // the data for 0 is evicted to make room for 6
+        assertEquals(4, dsp.getDistanceMap(6, 4).size());
+        assertFalse(cache.containsKey(0));
+        assertEquals(9, cache.getWeight());
+        // the data for 6 is now the least recently used
+        assertEquals(2, dsp.getDistance(3, 5).intValue());
+        assertEquals(9, dsp.getDistance(0, 9).intValue());
+        assertEquals(Arrays.asList(0, 1), dsp.getPath(0, 2));
+        assertFalse(cache.containsKey(6));
+        assertEquals(14, cache.getWeight());
+
+        assertEquals(2, cache.getStats().hitCount());
+        assertEquals(4, cache.getStats().missCount());
+        assertEquals(2, cache.getStats().evictionCount());
+
+        // limits the number of sources
+        dsp.setCacheBound(BoundedCache.Policy.LEAST_FREQUENTLY_USED, 2, false);
+        for (int i = 0; i < 5; i++)
+            assertEquals((10 + 5 - i) % 10, dsp.getDistance(i, 5).intValue());
+        assertEquals(2, dsp.getSourceCache().size());
+    }
+
     public void testDijkstra()
     {
         setUp();
@@ -12,6 +12,7 @@ import junit.framework.TestSuite;
 import com.google.common.base.Supplier;
 import com.google.common.collect.BiMap;
 
+import edu.uci.ics.jung.algorithms.util.BoundedCache;
 import edu.uci.ics.jung.algorithms.util.Indexer;
 import edu.uci.ics.jung.graph.DirectedGraph;
 import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
@@ -92,4 +93,21 @@ public class TestUnweightedShortestPath extends TestCase
 			Assert.assertNotNull(usp.getIncomingEdgeMap(id.inverse().get(0)).get(id.inverse().get(3)));
 
 		}
+
+	public void testBoundedCache() {
+		DirectedGraph<Integer,Integer> dg = new DirectedSparseMultigraph<Integer,Integer>();
+		for (int i = 0; i < 5; i++)
+			dg.addEdge(i, i, (i + 1) % 5);
+		UnweightedShortestPath<Integer,Integer> usp = new UnweightedShortestPath<Integer,Integer>(dg);
+		usp.setCacheBound(BoundedCache.Policy.LEAST_RECENTLY_USED, 2, false);
+		for (int i = 0; i < 5; i++) {
+			Assert.assertEquals((5 + 2 - i) % 5, usp.getDistance(i, 2).intValue());
+			Assert.assertEquals(Integer.valueOf((i + 1) % 5), usp.getIncomingEdgeMap(i).get((i + 2) % 5));
+		}
+		BoundedCache<Integer,?> cache = usp.getSourceCache();
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(5, cache.getStats().hitCount());
+		Assert.assertEquals(5, cache.getStats().missCount());
+		Assert.assertEquals(3, cache.getStats().evictionCount());
+	}
 }
@@ -0,0 +1,97 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import junit.framework.TestCase;
+
+import com.google.common.base.Function;
+
+import edu.uci.ics.jung.algorithms.shortestpath.DijkstraDistance;
+import edu.uci.ics.jung.graph.DirectedSparseGraph;
+import edu.uci.ics.jung.graph.Graph;
+
+public class TestAttributeColumn extends TestCase
+{
+    private Graph<String,Integer> graph;
+    private IndexedIntGraph<String,Integer> ig;
+
+    @Override
+    protected void setUp()
+    {
+        graph = new DirectedSparseGraph<String,Integer>();
+        graph.addEdge(1, "a", "b");
+        graph.addEdge(2, "b", "c");
+        graph.addEdge(3, "a", "c");
+        graph.addEdge(4, "c", "d");
+        graph.addEdge(5, "b", "d");
+        ig = new IndexedIntGraph<String,Integer>(graph);
+    }
+
+    public void testAccessors()
+    {
+        DoubleColumn<Integer> weights = DoubleColumn.forEdges(ig);
+        assertEquals(graph.getEdgeCount(), weights.size());
+        weights.setDouble(3, 2.5);
+        assertEquals(2.5, weights.getValue(ig.getEdgeId(3)), 0);
+        weights.setValue(ig.getEdgeId(4), 1.5);
+        assertEquals(1.5, weights.getDouble(4), 0);
+        weights.set(5, 0.5);
+        assertEquals(Double.valueOf(0.5), weights.apply(5));
+        assertEquals(0.0, weights.getDouble(1), 0);
+
+        IntColumn<String> labels = IntColumn.forVertices(ig);
+        assertEquals(graph.getVertexCount(), labels.size());
+        labels.setInt("c", 7);
+        assertEquals(Integer.valueOf(7), labels.apply("c"));
+        assertEquals("c", labels.getElement(labels.getId("c")));
+        try
+        {
+            labels.getInt("missing");
+            fail("element not in graph accepted");
+        }
+        catch (IllegalArgumentException iae) {}
+    }
+
+    public void testCopyFromFunction()
+    {
+        Function<Integer, Integer> squares = new Function<Integer, Integer>()
+        {
+            public Integer apply(Integer e)
+            {
+                return e * e;
+            }
+        };
+        LongColumn<Integer> column = LongColumn.forEdges(ig, squares);
+        for (Integer e : graph.getEdges())
+            assertEquals((long)(e * e), column.getLong(e));
+        assertEquals(16.0, AttributeColumn.getDouble(column, 4), 0);
+        assertEquals(16.0, AttributeColumn.getDouble(squares, 4), 0);
+    }
+
+    public void testDijkstraWithColumn()
+    {
+        Function<Integer, Double> weights = new Function<Integer, Double>()
+        {
+            public Double apply(Integer e)
+            {
+                return e == 3 ? 10.0 : e;
+            }
+        };
+        DijkstraDistance<String,Integer> expected =
+            new DijkstraDistance<String,Integer>(graph, weights);
+        DijkstraDistance<String,Integer> actual =
+            new DijkstraDistance<String,Integer>(graph, DoubleColumn.forEdges(ig, weights));
+        for (String v : graph.getVertices())
+            assertEquals(expected.getDistanceMap(v), actual.getDistanceMap(v));
+        assertEquals(6.0, actual.getDistance("a", "d").doubleValue(), 0);
+    }
+}
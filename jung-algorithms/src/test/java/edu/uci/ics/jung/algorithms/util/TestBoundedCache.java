@@ -0,0 +1,100 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import com.google.common.base.Function;
+import com.google.common.cache.CacheStats;
+
+import edu.uci.ics.jung.algorithms.util.BoundedCache.Policy;
+
+public class TestBoundedCache extends TestCase
+{
+    public void testLeastRecentlyUsed()
+    {
+        BoundedCache<String,Integer> cache = new BoundedCache<String,Integer>(Policy.LEAST_RECENTLY_USED, 2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(Integer.valueOf(1), cache.lookup("a"));
+        cache.put("c", 3);
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"));
+        assertTrue(cache.containsKey("c"));
+        assertNull(cache.lookup("b"));
+
+        CacheStats stats = cache.getStats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(1, stats.evictionCount());
+    }
+
+    public void testLeastFrequentlyUsed()
+    {
+        BoundedCache<String,Integer> cache = new BoundedCache<String,Integer>(Policy.LEAST_FREQUENTLY_USED, 2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.lookup("a");
+        cache.lookup("a");
+        cache.lookup("b");
+        // "a" has been used three times, "b" twice
+        cache.put("c", 3);
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"));
+        // "c" is the newest entry, but has been used the fewest times
+        cache.put("d", 4);
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("c"));
+        assertEquals(2, cache.size());
+    }
+
+    public void testWeigher()
+    {
+        Function<List<Integer>,Integer> size = new Function<List<Integer>,Integer>()
+        {
+            public Integer apply(List<Integer> list)
+            {
+                return list.size();
+            }
+        };
+        BoundedCache<String,List<Integer>> cache =
+            new BoundedCache<String,List<Integer>>(Policy.LEAST_RECENTLY_USED, 10, size);
+        List<Integer> a = new ArrayList<Integer>();
+        List<Integer> b = new ArrayList<Integer>();
+        cache.put("a", a);
+        cache.put("b", b);
+        for (int i = 0; i < 6; i++)
+            a.add(i);
+        cache.updateWeight("a");
+        assertEquals(6, cache.getWeight());
+
+        // the entry being weighed is kept even though it is the least recently used
+        for (int i = 0; i < 5; i++)
+            b.add(i);
+        cache.updateWeight("b");
+        assertEquals(5, cache.getWeight());
+        assertFalse(cache.containsKey("a"));
+
+        // an entry heavier than the maximum is kept until another is used
+        for (int i = 0; i < 10; i++)
+            b.add(i);
+        cache.updateWeight("b");
+        assertTrue(cache.containsKey("b"));
+        cache.put("c", new ArrayList<Integer>());
+        assertFalse(cache.containsKey("b"));
+        assertEquals(0, cache.getWeight());
+        assertEquals(2, cache.getStats().evictionCount());
+    }
+}
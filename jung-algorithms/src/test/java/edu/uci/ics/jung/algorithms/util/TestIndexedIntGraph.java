@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ * Created on Oct 16, 2026
+ *
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.Hypergraph;
+import edu.uci.ics.jung.graph.IntGraph;
+import edu.uci.ics.jung.graph.SetHypergraph;
+import edu.uci.ics.jung.graph.util.TestGraphs;
+
+public class TestIndexedIntGraph extends TestCase
+{
+    public void testDirectedGraph()
+    {
+        Graph<String,Number> g = TestGraphs.createTestGraph(true);
+        IntGraph<String,Number> ig = new IndexedIntGraph<String,Number>(g);
+        assertEquals(g.getVertexCount(), ig.getVertexCount());
+        assertEquals(g.getEdgeCount(), ig.getEdgeCount());
+        for (String v : g.getVertices())
+        {
+            int id = ig.getVertexId(v);
+            assertEquals(v, ig.getVertex(id));
+            assertEquals(g.outDegree(v), ig.outDegree(id));
+            assertEquals(g.inDegree(v), ig.inDegree(id));
+            List<String> succs = new ArrayList<String>();
+            for (int i = 0; i < ig.outDegree(id); i++)
+            {
+                Number e = ig.getEdge(ig.outEdge(id, i));
+                assertEquals(v, g.getSource(e));
+                succs.add(ig.getVertex(ig.outNeighbor(id, i)));
+            }
+            assertEquals(sorted(g.getSuccessors(v)), sorted(succs));
+            for (int i = 0; i < ig.inDegree(id); i++)
+                assertEquals(g.getSource(ig.getEdge(ig.inEdge(id, i))),
+                    ig.getVertex(ig.inNeighbor(id, i)));
+        }
+        assertEquals(-1, ig.getVertexId("not a vertex"));
+    }
+
+    public void testUndirectedGraph()
+    {
+        Graph<String,Number> g = TestGraphs.createTestGraph(false);
+        IntGraph<String,Number> ig = new IndexedIntGraph<String,Number>(g);
+        for (String v : g.getVertices())
+        {
+            int id = ig.getVertexId(v);
+            assertEquals(g.degree(v), ig.outDegree(id));
+            assertEquals(g.degree(v), ig.inDegree(id));
+        }
+    }
+
+    public void testHypergraph()
+    {
+        Hypergraph<String,String> h = new SetHypergraph<String,String>();
+        h.addEdge("abc", Arrays.asList("a", "b", "c"));
+        h.addEdge("cd", Arrays.asList("c", "d"));
+        IntGraph<String,String> ig = new IndexedIntGraph<String,String>(h);
+        int c = ig.getVertexId("c");
+        assertEquals(3, ig.outDegree(c));
+        List<String> neighbors = new ArrayList<String>();
+        for (int i = 0; i < ig.outDegree(c); i++)
+            neighbors.add(ig.getVertex(ig.outNeighbor(c, i)));
+        assertEquals(Arrays.asList("a", "b", "d"), sorted(neighbors));
+    }
+
+    private static <T extends Comparable<T>> List<T> sorted(Iterable<T> items)
+    {
+        List<T> list = new ArrayList<T>();
+        for (T t : items)
+            list.add(t);
+        Collections.sort(list);
+        return list;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class TestIntBinaryHeap extends TestCase
+{
+    public void testOrder()
+    {
+        Random random = new Random(17);
+        double[] keys = new double[200];
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = random.nextDouble();
+        IntBinaryHeap heap = new IntBinaryHeap(keys);
+        for (int i = 0; i < keys.length; i++)
+            heap.offer(i);
+
+        // decrease some keys after they have been added
+        for (int i = 0; i < keys.length; i += 3)
+        {
+            keys[i] /= 2;
+            heap.update(i);
+        }
+
+        double[] sorted = keys.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < keys.length; i++)
+            assertEquals(sorted[i], keys[heap.poll()]);
+        assertTrue(heap.isEmpty());
+    }
+
+    public void testReuse()
+    {
+        double[] keys = {3, 1, 2};
+        IntBinaryHeap heap = new IntBinaryHeap(keys);
+        heap.offer(0);
+        heap.offer(1);
+        assertEquals(1, heap.poll());
+        assertFalse(heap.contains(1));
+        // updating an element which is not in the heap has no effect
+        heap.update(1);
+        assertEquals(1, heap.size());
+
+        heap.clear();
+        assertFalse(heap.contains(0));
+        heap.offer(0);
+        heap.offer(2);
+        assertEquals(2, heap.poll());
+        assertEquals(0, heap.poll());
+    }
+}
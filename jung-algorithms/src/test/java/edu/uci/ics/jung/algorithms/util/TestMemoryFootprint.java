@@ -0,0 +1,55 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import junit.framework.TestCase;
+
+import com.google.common.base.Supplier;
+
+import edu.uci.ics.jung.algorithms.util.MemoryFootprint.GraphFootprint;
+import edu.uci.ics.jung.graph.DirectedSparseGraph;
+import edu.uci.ics.jung.graph.Graph;
+
+public class TestMemoryFootprint extends TestCase
+{
+    public void testMeasure()
+    {
+        long bytes = MemoryFootprint.measure(new Supplier<Object>()
+        {
+            public Object get()
+            {
+                return new long[1 << 18];
+            }
+        }, 4);
+        // 2 MB each, plus a header; allow for some imprecision
+        assertTrue("measured " + bytes, bytes > 0.9 * 8 * (1 << 18));
+        assertTrue("measured " + bytes, bytes < 1.1 * 8 * (1 << 18));
+    }
+
+    public void testMeasureGraph()
+    {
+        Graph<Integer,Integer> template = new DirectedSparseGraph<Integer,Integer>();
+        for (int i = 0; i < 5000; i++)
+        {
+            template.addEdge(2 * i, i, (i + 1) % 5000);
+            template.addEdge(2 * i + 1, i, (i + 7) % 5000);
+        }
+        GraphFootprint footprint = MemoryFootprint.measureGraph(
+            DirectedSparseGraph.<Integer,Integer>getFactory(), template);
+        assertEquals(5000, footprint.getVertexCount());
+        assertEquals(10000, footprint.getEdgeCount());
+        // each vertex and edge requires at least a map entry
+        assertTrue(footprint.toString(), footprint.getBytesPerVertex() > 16);
+        assertTrue(footprint.toString(), footprint.getBytesPerEdge() > 16);
+        assertTrue(footprint.getTotalBytes() > 5000 * 16 + 10000 * 16);
+    }
+}
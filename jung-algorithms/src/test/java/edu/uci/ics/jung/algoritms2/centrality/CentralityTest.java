@@ -2,6 +2,7 @@ package edu.uci.ics.jung.algoritms2.centrality;
 
 import com.google.common.base.Function;
 import com.google.common.collect.Sets;
+import edu.uci.ics.jung.algorithms2.centrality.ApproximateBetweennessCentrality;
 import edu.uci.ics.jung.algorithms2.centrality.BetweennessCentrality;
 import edu.uci.ics.jung.algorithms2.centrality.CentralityMode;
 import edu.uci.ics.jung.algorithms2.centrality.ClosenessCentrality;
@@ -11,11 +12,18 @@ import edu.uci.ics.jung.algoritms2.util.VertexData;
 import edu.uci.ics.jung.graph.DirectedSparseHypergraph;
 import edu.uci.ics.jung.graph.Hypergraph;
 import edu.uci.ics.jung.graph.UndirectedSparseHypergraph;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 public class CentralityTest {
 
     private static final boolean SHOULD_NORM = false;
@@ -339,4 +347,80 @@ public class CentralityTest {
 
         evalCentralities(g);
     }
+
+    @Test
+    public void parallelBetweennessMatchesSequential() {
+        Random random = new Random(7);
+        List<VertexData> vertices = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            vertices.add(new VertexData(i));
+        }
+        UndirectedSparseHypergraph<VertexData, EdgeData> g = new UndirectedSparseHypergraph<>();
+        for (int i = 0; i < 150; i++) {
+            Set<VertexData> endpoints = Sets.newHashSet(vertices.get(random.nextInt(60)), vertices.get(random.nextInt(60)),
+                                                        vertices.get(random.nextInt(60)));
+            g.addEdge(new EdgeData(i, 1.0 + random.nextInt(5), (double) endpoints.size()), endpoints);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BetweennessCentrality<VertexData, EdgeData> sequential = new BetweennessCentrality<>(g, SHOULD_NORM);
+            BetweennessCentrality<VertexData, EdgeData> parallel = new BetweennessCentrality<>(g, SHOULD_NORM, pool);
+            BetweennessCentrality<VertexData, EdgeData> sequentialW = new BetweennessCentrality<>(g, FREQ_FN, SHOULD_NORM);
+            BetweennessCentrality<VertexData, EdgeData> parallelW = new BetweennessCentrality<>(g, FREQ_FN, SHOULD_NORM, pool);
+            for (VertexData v : g.getVertices()) {
+                assertEquals(sequential.getVertexScore(v), parallel.getVertexScore(v), 1e-9);
+                assertEquals(sequentialW.getVertexScore(v), parallelW.getVertexScore(v), 1e-9);
+            }
+            for (EdgeData e : g.getEdges()) {
+                assertEquals(sequential.getEdgeScore(e), parallel.getEdgeScore(e), 1e-9);
+                assertEquals(sequentialW.getEdgeScore(e), parallelW.getEdgeScore(e), 1e-9);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void approximateBetweennessWithinBound() {
+        Random random = new Random(11);
+        List<VertexData> vertices = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            vertices.add(new VertexData(i));
+        }
+        UndirectedSparseHypergraph<VertexData, EdgeData> g = new UndirectedSparseHypergraph<>();
+        for (int i = 0; i < 49; i++) {
+            // a path, with some shortcuts, so that a few vertices are far more central than the rest
+            g.addEdge(new EdgeData(i, 1.0, 2.0), Sets.newHashSet(vertices.get(i), vertices.get(i + 1)));
+        }
+        for (int i = 49; i < 70; i++) {
+            g.addEdge(new EdgeData(i, 1.0 + random.nextInt(3), 2.0),
+                      Sets.newHashSet(vertices.get(random.nextInt(50)), vertices.get(random.nextInt(50))));
+        }
+
+        BetweennessCentrality<VertexData, EdgeData> exact = new BetweennessCentrality<>(g, SHOULD_NORM);
+        ApproximateBetweennessCentrality<VertexData, EdgeData> approx =
+            new ApproximateBetweennessCentrality<>(g, 0.05, 0.1, new Random(5));
+        assertTrue(approx.getEpsilon() <= 0.05);
+        assertTrue(approx.getSampleCount() > 0);
+        assertTrue(approx.getVertexDiameterBound() <= 50);
+        double bound = approx.getEpsilon() * 50 * 49 / 2;
+        for (VertexData v : g.getVertices()) {
+            assertEquals(exact.getVertexScore(v), approx.getVertexScore(v), bound);
+        }
+        for (EdgeData e : g.getEdges()) {
+            assertEquals(exact.getEdgeScore(e), approx.getEdgeScore(e), bound);
+        }
+        List<VertexData> top = approx.getTopVertices(3);
+        assertEquals(3, top.size());
+        assertTrue(approx.getVertexScore(top.get(0)) >= approx.getVertexScore(top.get(2)));
+
+        BetweennessCentrality<VertexData, EdgeData> exactW = new BetweennessCentrality<>(g, FREQ_FN, SHOULD_NORM);
+        ApproximateBetweennessCentrality<VertexData, EdgeData> approxW =
+            new ApproximateBetweennessCentrality<>(g, FREQ_FN, 0.05, 0.1, new Random(5));
+        assertEquals(50, approxW.getVertexDiameterBound());
+        for (VertexData v : g.getVertices()) {
+            assertEquals(exactW.getVertexScore(v), approxW.getVertexScore(v), approxW.getEpsilon() * 50 * 49 / 2);
+        }
+    }
 }
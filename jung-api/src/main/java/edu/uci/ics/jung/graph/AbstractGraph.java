@@ -11,6 +11,8 @@
  */
 package edu.uci.ics.jung.graph;
 
+import com.google.common.base.Function;
+
 import edu.uci.ics.jung.graph.util.EdgeType;
 import edu.uci.ics.jung.graph.util.Pair;
 
@@ -28,6 +30,19 @@ import java.util.Collections;
 @SuppressWarnings("serial")
 public abstract class AbstractGraph<V, E> implements Graph<V,E>, Serializable
 {
+    /**
+     * The number of structural modifications made to this graph; subclasses
+     * which may be modified should increment it whenever a vertex or edge is
+     * added or removed.
+     */
+    protected long modification_count;
+
+    @Override
+    public long getModificationCount()
+    {
+        return modification_count;
+    }
+
 	public boolean addEdge(E edge, Collection<? extends V> vertices)
 	{
 		return addEdge(edge, vertices, this.getDefaultEdgeType());
@@ -84,6 +99,91 @@ public abstract class AbstractGraph<V, E> implements Graph<V,E>, Serializable
      */
 	public abstract boolean addEdge(E edge, Pair<? extends V> endpoints, EdgeType edgeType);
 
+    /**
+     * Adds each of {@code edges} to this graph with the default edge type,
+     * connecting it to the endpoints returned by {@code endpoints}.
+     * 
+     * @param edges the edges to be added
+     * @param endpoints a function mapping each edge to its endpoints
+     * @return the number of edges that were added to this graph
+     * @see #addEdges(Iterable, Function, EdgeType)
+     */
+    public int addEdges(Iterable<? extends E> edges, 
+            Function<? super E, ? extends Pair<? extends V>> endpoints)
+    {
+        return addEdges(edges, endpoints, this.getDefaultEdgeType());
+    }
+
+    /**
+     * Adds each of {@code edges} to this graph with the specified edge type,
+     * connecting it to the endpoints returned by {@code endpoints}.  
+     * The result is the same as calling 
+     * {@code addEdge(edge, endpoints.apply(edge), edge_type)} for each edge in turn,
+     * and the same exceptions are thrown; implementations may override this
+     * method to avoid the redundant lookups and allocations that a sequence of
+     * individual calls would incur when loading a large graph.
+     * 
+     * @param edges the edges to be added
+     * @param endpoints a function mapping each edge to its endpoints
+     * @param edge_type the type of the edges to add
+     * @return the number of edges that were added to this graph
+     */
+    public int addEdges(Iterable<? extends E> edges, 
+            Function<? super E, ? extends Pair<? extends V>> endpoints, EdgeType edge_type)
+    {
+        checkBulkArguments(edges, endpoints);
+        int added = 0;
+        for (E edge : edges)
+            if (addEdge(edge, getBulkEndpoints(edge, endpoints), edge_type))
+                added++;
+        return added;
+    }
+
+    protected void checkBulkArguments(Iterable<? extends E> edges, 
+            Function<? super E, ? extends Pair<? extends V>> endpoints)
+    {
+        if (edges == null)
+            throw new IllegalArgumentException("edges may not be null");
+        if (endpoints == null)
+            throw new IllegalArgumentException("endpoint function may not be null");
+    }
+
+    /**
+     * Returns the endpoints that {@code endpoints} specifies for {@code edge}, 
+     * checking both for {@code null} as {@code getValidatedEndpoints} does.
+     * The returned <code>Pair</code> is not copied; since <code>Pair</code> 
+     * is immutable it may be stored directly.
+     */
+    @SuppressWarnings("unchecked")
+    protected Pair<V> getBulkEndpoints(E edge, 
+            Function<? super E, ? extends Pair<? extends V>> endpoints)
+    {
+        if (edge == null)
+            throw new IllegalArgumentException("input edge may not be null");
+        Pair<? extends V> pair = endpoints.apply(edge);
+        if (pair == null)
+            throw new IllegalArgumentException("endpoints may not be null");
+        return (Pair<V>)pair;
+    }
+
+    /**
+     * Returns {@code true} if {@code edge} is already present with 
+     * {@code existing_endpoints} (in which case it should not be added again), 
+     * {@code false} if it is not present.  
+     * 
+     * @throws IllegalArgumentException if {@code edge} is present with different endpoints
+     */
+    protected boolean isExistingEdge(E edge, Pair<V> existing_endpoints, Pair<V> new_endpoints)
+    {
+        if (existing_endpoints == null)
+            return false;
+        if (!existing_endpoints.equals(new_endpoints))
+            throw new IllegalArgumentException("edge " + edge +
+                    " already exists in this graph with endpoints " + existing_endpoints +
+                    " and cannot be added with endpoints " + new_endpoints);
+        return true;
+    }
+
     protected Pair<V> getValidatedEndpoints(E edge, Pair<? extends V> endpoints)
     {
         if (edge == null)
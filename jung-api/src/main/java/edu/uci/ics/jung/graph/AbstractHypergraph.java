@@ -22,6 +22,18 @@ import java.util.Collections;
 @SuppressWarnings("serial")
 public abstract class AbstractHypergraph<V, E> implements Hypergraph<V, E>, Serializable {
 
+    /**
+     * The number of structural modifications made to this graph; subclasses
+     * which may be modified should increment it whenever a vertex or edge is
+     * added or removed.
+     */
+    protected long modification_count;
+
+    @Override
+    public long getModificationCount() {
+        return modification_count;
+    }
+
     @Override
     public boolean addEdge(E edge, Collection<? extends V> vertices) {
         return addEdge(edge, vertices, this.getDefaultEdgeType());
@@ -2,6 +2,7 @@ package edu.uci.ics.jung.graph;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.function.Consumer;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
 import edu.uci.ics.jung.graph.util.Pair;
@@ -147,6 +148,14 @@ public class GraphDecorator<V,E> implements Graph<V,E>, Serializable {
 	{
 		return delegate.getDefaultEdgeType();
 	}
+
+	/**
+	 * @see edu.uci.ics.jung.graph.Hypergraph#getModificationCount()
+	 */
+	public long getModificationCount()
+	{
+		return delegate.getModificationCount();
+	}
 	
 	/**
 	 * @see edu.uci.ics.jung.graph.Graph#getEndpoints(java.lang.Object)
@@ -329,4 +338,46 @@ public class GraphDecorator<V,E> implements Graph<V,E>, Serializable {
 	public boolean containsVertex(V vertex) {
 		return delegate.containsVertex(vertex);
 	}
+
+	/**
+	 * @see edu.uci.ics.jung.graph.Hypergraph#forEachNeighbor(Object, Consumer)
+	 */
+	public void forEachNeighbor(V vertex, Consumer<? super V> visitor) {
+		delegate.forEachNeighbor(vertex, visitor);
+	}
+
+	/**
+	 * @see edu.uci.ics.jung.graph.Hypergraph#forEachPredecessor(Object, Consumer)
+	 */
+	public void forEachPredecessor(V vertex, Consumer<? super V> visitor) {
+		delegate.forEachPredecessor(vertex, visitor);
+	}
+
+	/**
+	 * @see edu.uci.ics.jung.graph.Hypergraph#forEachSuccessor(Object, Consumer)
+	 */
+	public void forEachSuccessor(V vertex, Consumer<? super V> visitor) {
+		delegate.forEachSuccessor(vertex, visitor);
+	}
+
+	/**
+	 * @see edu.uci.ics.jung.graph.Hypergraph#forEachIncidentEdge(Object, Consumer)
+	 */
+	public void forEachIncidentEdge(V vertex, Consumer<? super E> visitor) {
+		delegate.forEachIncidentEdge(vertex, visitor);
+	}
+
+	/**
+	 * @see edu.uci.ics.jung.graph.Hypergraph#forEachInEdge(Object, Consumer)
+	 */
+	public void forEachInEdge(V vertex, Consumer<? super E> visitor) {
+		delegate.forEachInEdge(vertex, visitor);
+	}
+
+	/**
+	 * @see edu.uci.ics.jung.graph.Hypergraph#forEachOutEdge(Object, Consumer)
+	 */
+	public void forEachOutEdge(V vertex, Consumer<? super E> visitor) {
+		delegate.forEachOutEdge(vertex, visitor);
+	}
 }
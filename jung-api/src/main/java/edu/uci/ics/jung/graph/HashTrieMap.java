@@ -0,0 +1,383 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A hash map whose contents may be frozen in constant time, used by
+ * <code>VersionedGraph</code> to index each snapshot.
+ * <p>
+ * Entries are stored in a hash array mapped trie: each node holds up to 32
+ * slots, selected by successive 5-bit fragments of the key's hash code, and
+ * each slot holds either an entry or a child node.  <code>freeze()</code>
+ * returns a read-only map which shares the trie with this one; the next
+ * <code>put</code> or <code>remove</code> of each key then copies only the
+ * nodes on the path to that key (at most 7, each of at most 32 slots), rather
+ * than the whole map.  Nodes created since the last call to <code>freeze()</code>
+ * are modified in place.
+ * <p>
+ * Keys may not be <code>null</code>.  This class is not thread-safe, but a
+ * frozen map may be read from any thread while this one continues to be
+ * modified by another.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+@SuppressWarnings({"serial", "unchecked"})
+class HashTrieMap<K,V> extends AbstractMap<K,V> implements Serializable {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    // 7 levels consume all 32 bits of the hash; the 8th holds colliding keys
+    private static final int MAX_DEPTH = 8;
+    private static final int READ_ONLY = -1;
+
+    private static final class Node implements Serializable {
+        int generation;
+        int bitmap;     // which hash fragments have slots; unused at the collision level
+        Object[] slots; // each either a Leaf or a Node
+
+        Node(int generation, int bitmap, Object[] slots) {
+            this.generation = generation;
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+    }
+
+    private static final class Leaf<K,V> implements Map.Entry<K,V>, Serializable {
+        final int hash;
+        final K key;
+        final V value;
+
+        Leaf(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public V setValue(V value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry))
+                return false;
+            Map.Entry<?,?> entry = (Map.Entry<?,?>)o;
+            return key.equals(entry.getKey()) &&
+                (value == null ? entry.getValue() == null : value.equals(entry.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+    }
+
+    private Node root;
+    private int size;
+    private int generation;   // nodes of this generation may be modified in place
+    private V previous;       // the value replaced or removed by the last put or remove
+
+    /**
+     * Creates an empty map.
+     */
+    HashTrieMap() {
+        this.root = new Node(0, 0, new Object[0]);
+    }
+
+    private HashTrieMap(Node root, int size, int generation) {
+        this.root = root;
+        this.size = size;
+        this.generation = generation;
+    }
+
+    /**
+     * Returns a read-only map with the current contents of this map, which
+     * is not affected by later changes to this map.
+     */
+    HashTrieMap<K,V> freeze() {
+        HashTrieMap<K,V> frozen = new HashTrieMap<K,V>(root, size, READ_ONLY);
+        generation++;
+        return frozen;
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private Leaf<K,V> find(Object key) {
+        int hash = hash(key);
+        Node node = root;
+        for (int shift = 0; ; shift += BITS) {
+            if (shift >= Integer.SIZE) {
+                for (Object collision : node.slots)
+                    if (((Leaf<K,V>)collision).key.equals(key))
+                        return (Leaf<K,V>)collision;
+                return null;
+            }
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((node.bitmap & bit) == 0)
+                return null;
+            Object slot = node.slots[Integer.bitCount(node.bitmap & (bit - 1))];
+            if (slot instanceof Leaf)
+                return ((Leaf<K,V>)slot).key.equals(key) ? (Leaf<K,V>)slot : null;
+            node = (Node)slot;
+        }
+    }
+
+    @Override
+    public V get(Object key) {
+        Leaf<K,V> leaf = find(key);
+        return leaf == null ? null : leaf.value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void checkWritable() {
+        if (generation == READ_ONLY)
+            throw new UnsupportedOperationException("frozen maps are read-only");
+    }
+
+    /**
+     * Returns <code>node</code> if it may be modified in place, and a copy of it otherwise.
+     */
+    private Node editable(Node node) {
+        return node.generation == generation ? node
+            : new Node(generation, node.bitmap, node.slots.clone());
+    }
+
+    @Override
+    public V put(K key, V value) {
+        checkWritable();
+        if (key == null)
+            throw new NullPointerException("key may not be null");
+        previous = null;
+        root = put(root, 0, new Leaf<K,V>(hash(key), key, value));
+        V replaced = previous;
+        previous = null;
+        return replaced;
+    }
+
+    private Node put(Node node, int shift, Leaf<K,V> leaf) {
+        node = editable(node);
+        if (shift >= Integer.SIZE) {
+            for (int i = 0; i < node.slots.length; i++) {
+                Leaf<K,V> collision = (Leaf<K,V>)node.slots[i];
+                if (collision.key.equals(leaf.key)) {
+                    previous = collision.value;
+                    node.slots[i] = leaf;
+                    return node;
+                }
+            }
+            node.slots = Arrays.copyOf(node.slots, node.slots.length + 1);
+            node.slots[node.slots.length - 1] = leaf;
+            size++;
+            return node;
+        }
+        int bit = 1 << ((leaf.hash >>> shift) & MASK);
+        int index = Integer.bitCount(node.bitmap & (bit - 1));
+        if ((node.bitmap & bit) == 0) {
+            Object[] slots = new Object[node.slots.length + 1];
+            System.arraycopy(node.slots, 0, slots, 0, index);
+            slots[index] = leaf;
+            System.arraycopy(node.slots, index, slots, index + 1, node.slots.length - index);
+            node.slots = slots;
+            node.bitmap |= bit;
+            size++;
+            return node;
+        }
+        Object slot = node.slots[index];
+        if (slot instanceof Node) {
+            node.slots[index] = put((Node)slot, shift + BITS, leaf);
+        } else {
+            Leaf<K,V> existing = (Leaf<K,V>)slot;
+            if (existing.key.equals(leaf.key)) {
+                previous = existing.value;
+                node.slots[index] = leaf;
+            } else {
+                node.slots[index] = pair(existing, leaf, shift + BITS);
+                size++;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Returns a new node, at the level given by <code>shift</code>, which holds
+     * two leaves whose hash codes agree below that level.
+     */
+    private Node pair(Leaf<K,V> first, Leaf<K,V> second, int shift) {
+        if (shift >= Integer.SIZE)
+            return new Node(generation, 0, new Object[] {first, second});
+        int first_fragment = (first.hash >>> shift) & MASK;
+        int second_fragment = (second.hash >>> shift) & MASK;
+        if (first_fragment == second_fragment)
+            return new Node(generation, 1 << first_fragment,
+                new Object[] {pair(first, second, shift + BITS)});
+        Object[] slots = first_fragment < second_fragment
+            ? new Object[] {first, second} : new Object[] {second, first};
+        return new Node(generation, (1 << first_fragment) | (1 << second_fragment), slots);
+    }
+
+    @Override
+    public V remove(Object key) {
+        checkWritable();
+        // check first, so that removing an absent key copies nothing
+        Leaf<K,V> leaf = find(key);
+        if (leaf == null)
+            return null;
+        root = remove(root, 0, leaf);
+        if (root == null)
+            root = new Node(generation, 0, new Object[0]);
+        size--;
+        return leaf.value;
+    }
+
+    /**
+     * Removes <code>leaf</code>, which must be present, from the subtree rooted
+     * at <code>node</code>; returns the new subtree, or <code>null</code> if it is empty.
+     */
+    private Node remove(Node node, int shift, Leaf<K,V> leaf) {
+        if (shift < Integer.SIZE) {
+            int bit = 1 << ((leaf.hash >>> shift) & MASK);
+            int index = Integer.bitCount(node.bitmap & (bit - 1));
+            Object slot = node.slots[index];
+            if (slot instanceof Node) {
+                Node child = remove((Node)slot, shift + BITS, leaf);
+                node = editable(node);
+                // a child left with a single entry is replaced by that entry
+                if (child != null && child.slots.length == 1 && child.slots[0] instanceof Leaf)
+                    node.slots[index] = child.slots[0];
+                else if (child != null)
+                    node.slots[index] = child;
+                else
+                    removeSlot(node, index, bit);
+                return node.slots.length == 0 ? null : node;
+            }
+            node = editable(node);
+            removeSlot(node, index, bit);
+            return node.slots.length == 0 ? null : node;
+        }
+        // colliding keys share a node with at least two entries
+        int index = 0;
+        while (node.slots[index] != leaf)
+            index++;
+        node = editable(node);
+        removeSlot(node, index, 0);
+        return node;
+    }
+
+    private static void removeSlot(Node node, int index, int bit) {
+        Object[] slots = new Object[node.slots.length - 1];
+        System.arraycopy(node.slots, 0, slots, 0, index);
+        System.arraycopy(node.slots, index + 1, slots, index, slots.length - index);
+        node.slots = slots;
+        node.bitmap &= ~bit;
+    }
+
+    @Override
+    public void clear() {
+        checkWritable();
+        root = new Node(generation, 0, new Object[0]);
+        size = 0;
+    }
+
+    /**
+     * Returns a view of the entries, which does not support removal.
+     */
+    @Override
+    public Set<Map.Entry<K,V>> entrySet() {
+        return new AbstractSet<Map.Entry<K,V>>() {
+            @Override
+            public Iterator<Map.Entry<K,V>> iterator() {
+                return new EntryIterator<K,V>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static class EntryIterator<K,V> implements Iterator<Map.Entry<K,V>> {
+        private final Object[][] path = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth;
+        private Leaf<K,V> next;
+
+        EntryIterator(Node root) {
+            path[0] = root.slots;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                if (positions[depth] == path[depth].length) {
+                    depth--;
+                    continue;
+                }
+                Object slot = path[depth][positions[depth]++];
+                if (slot instanceof Leaf) {
+                    next = (Leaf<K,V>)slot;
+                    return;
+                }
+                depth++;
+                path[depth] = ((Node)slot).slots;
+                positions[depth] = 0;
+            }
+        }
+
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        public Map.Entry<K,V> next() {
+            if (next == null)
+                throw new NoSuchElementException();
+            Leaf<K,V> current = next;
+            advance();
+            return current;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
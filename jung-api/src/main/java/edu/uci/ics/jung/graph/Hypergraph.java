@@ -12,6 +12,7 @@
 package edu.uci.ics.jung.graph;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
 
@@ -439,4 +440,122 @@ public interface Hypergraph<V, E>
      * <code>vertex</code> in this graph
      */
     Collection<V> getSuccessors(V vertex);
+
+    /**
+     * Returns the number of structural modifications (additions and removals
+     * of vertices and edges) that have been made to this graph, or -1 if this
+     * graph does not keep track of them.  The count never decreases, so a
+     * client that caches results computed from this graph may compare the
+     * value it saw when computing them with the current value to decide
+     * whether they are still valid.  Views and decorators report the count of
+     * the graph whose structure they reflect; immutable graphs return 0.
+     * <p>
+     * The default implementation returns -1.
+     * @return the number of structural modifications made to this graph, or -1
+     */
+    default long getModificationCount()
+    {
+        return -1;
+    }
+
+    /**
+     * Passes each neighbor of <code>vertex</code> (as defined by
+     * <code>getNeighbors</code>) to <code>visitor</code>, exactly once.
+     * Does nothing if <code>vertex</code> is not present.
+     * <p>
+     * The default implementation iterates over <code>getNeighbors(vertex)</code>;
+     * implementations are encouraged to override it (and the other
+     * <code>forEach</code> methods) so as to traverse their internal structures
+     * directly, rather than building a new collection on each call.
+     * The graph must not be modified while a traversal is in progress.
+     * @param vertex the vertex whose neighbors are to be visited
+     * @param visitor the consumer to which each neighbor is passed
+     */
+    default void forEachNeighbor(V vertex, Consumer<? super V> visitor)
+    {
+        Collection<V> neighbors = getNeighbors(vertex);
+        if (neighbors != null)
+            for (V v : neighbors)
+                visitor.accept(v);
+    }
+
+    /**
+     * Passes each predecessor of <code>vertex</code> (as defined by
+     * <code>getPredecessors</code>) to <code>visitor</code>, exactly once.
+     * Does nothing if <code>vertex</code> is not present.
+     * @param vertex the vertex whose predecessors are to be visited
+     * @param visitor the consumer to which each predecessor is passed
+     * @see #forEachNeighbor(Object, Consumer)
+     */
+    default void forEachPredecessor(V vertex, Consumer<? super V> visitor)
+    {
+        Collection<V> predecessors = getPredecessors(vertex);
+        if (predecessors != null)
+            for (V v : predecessors)
+                visitor.accept(v);
+    }
+
+    /**
+     * Passes each successor of <code>vertex</code> (as defined by
+     * <code>getSuccessors</code>) to <code>visitor</code>, exactly once.
+     * Does nothing if <code>vertex</code> is not present.
+     * @param vertex the vertex whose successors are to be visited
+     * @param visitor the consumer to which each successor is passed
+     * @see #forEachNeighbor(Object, Consumer)
+     */
+    default void forEachSuccessor(V vertex, Consumer<? super V> visitor)
+    {
+        Collection<V> successors = getSuccessors(vertex);
+        if (successors != null)
+            for (V v : successors)
+                visitor.accept(v);
+    }
+
+    /**
+     * Passes each edge incident to <code>vertex</code> (as defined by
+     * <code>getIncidentEdges</code>) to <code>visitor</code>, exactly once.
+     * Does nothing if <code>vertex</code> is not present.
+     * @param vertex the vertex whose incident edges are to be visited
+     * @param visitor the consumer to which each incident edge is passed
+     * @see #forEachNeighbor(Object, Consumer)
+     */
+    default void forEachIncidentEdge(V vertex, Consumer<? super E> visitor)
+    {
+        Collection<E> incident = getIncidentEdges(vertex);
+        if (incident != null)
+            for (E e : incident)
+                visitor.accept(e);
+    }
+
+    /**
+     * Passes each incoming edge of <code>vertex</code> (as defined by
+     * <code>getInEdges</code>) to <code>visitor</code>, exactly once.
+     * Does nothing if <code>vertex</code> is not present.
+     * @param vertex the vertex whose incoming edges are to be visited
+     * @param visitor the consumer to which each incoming edge is passed
+     * @see #forEachNeighbor(Object, Consumer)
+     */
+    default void forEachInEdge(V vertex, Consumer<? super E> visitor)
+    {
+        Collection<E> in_edges = getInEdges(vertex);
+        if (in_edges != null)
+            for (E e : in_edges)
+                visitor.accept(e);
+    }
+
+    /**
+     * Passes each outgoing edge of <code>vertex</code> (as defined by
+     * <code>getOutEdges</code>) to <code>visitor</code>, exactly once.
+     * Does nothing if <code>vertex</code> is not present.
+     * @param vertex the vertex whose outgoing edges are to be visited
+     * @param visitor the consumer to which each outgoing edge is passed
+     * @see #forEachNeighbor(Object, Consumer)
+     */
+    default void forEachOutEdge(V vertex, Consumer<? super E> visitor)
+    {
+        Collection<E> out_edges = getOutEdges(vertex);
+        if (out_edges != null)
+            for (E e : out_edges)
+                visitor.accept(e);
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+/**
+ * A primitive, <code>int</code>-indexed view of the structure of a graph.
+ * Vertices are identified by ids <code>0..getVertexCount()-1</code> and edges
+ * by ids <code>0..getEdgeCount()-1</code>; the methods <code>getVertex</code>,
+ * <code>getVertexId</code>, <code>getEdge</code>, and <code>getEdgeId</code>
+ * translate between these ids and the elements of the original graph.
+ * <p>
+ * Adjacency is expressed in terms of <i>arcs</i>: each arc leaving vertex
+ * <code>v</code> has a neighbor (the vertex at the other end) and an edge
+ * (the edge that connects them).  The arcs of <code>v</code> are accessed by
+ * position, for example:
+ * <pre>
+ * for (int i = 0; i &lt; g.outDegree(v); i++)
+ *     visit(g.outNeighbor(v, i), g.outEdge(v, i));
+ * </pre>
+ * which lets algorithms traverse the graph without boxing, hashing, or
+ * allocating collections.
+ * <p>
+ * For directed edges, an arc leaves the source and enters the destination.
+ * Undirected edges yield an arc in each direction (a self-loop yields one).
+ * A hyperedge yields one arc for each pair of distinct vertices that it connects,
+ * so for hypergraphs <code>outDegree(v)</code> is in general not the number of
+ * edges incident to <code>v</code>.
+ * <p>
+ * Instances are snapshots or views whose behavior is undefined if the underlying
+ * graph is modified.
+ *
+ * @param <V> the vertex type of the original graph
+ * @param <E> the edge type of the original graph
+ */
+public interface IntGraph<V, E>
+{
+    /**
+     * @return the number of vertices in this graph
+     */
+    int getVertexCount();
+
+    /**
+     * @return the number of edges in this graph
+     */
+    int getEdgeCount();
+
+    /**
+     * @param id the id of the vertex to be returned
+     * @return the vertex whose id is <code>id</code>
+     */
+    V getVertex(int id);
+
+    /**
+     * @param vertex the vertex whose id is to be returned
+     * @return the id of <code>vertex</code>, or -1 if it is not in this graph
+     */
+    int getVertexId(V vertex);
+
+    /**
+     * @param id the id of the edge to be returned
+     * @return the edge whose id is <code>id</code>
+     */
+    E getEdge(int id);
+
+    /**
+     * @param edge the edge whose id is to be returned
+     * @return the id of <code>edge</code>, or -1 if it is not in this graph
+     */
+    int getEdgeId(E edge);
+
+    /**
+     * @param v a vertex id
+     * @return the number of arcs leaving vertex <code>v</code>
+     */
+    int outDegree(int v);
+
+    /**
+     * @param v a vertex id
+     * @param i the position of the arc, in <code>[0, outDegree(v))</code>
+     * @return the id of the vertex at the other end of the <code>i</code>th arc leaving <code>v</code>
+     */
+    int outNeighbor(int v, int i);
+
+    /**
+     * @param v a vertex id
+     * @param i the position of the arc, in <code>[0, outDegree(v))</code>
+     * @return the id of the edge of the <code>i</code>th arc leaving <code>v</code>
+     */
+    int outEdge(int v, int i);
+
+    /**
+     * @param v a vertex id
+     * @return the number of arcs entering vertex <code>v</code>
+     */
+    int inDegree(int v);
+
+    /**
+     * @param v a vertex id
+     * @param i the position of the arc, in <code>[0, inDegree(v))</code>
+     * @return the id of the vertex at the other end of the <code>i</code>th arc entering <code>v</code>
+     */
+    int inNeighbor(int v, int i);
+
+    /**
+     * @param v a vertex id
+     * @param i the position of the arc, in <code>[0, inDegree(v))</code>
+     * @return the id of the edge of the <code>i</code>th arc entering <code>v</code>
+     */
+    int inEdge(int v, int i);
+}
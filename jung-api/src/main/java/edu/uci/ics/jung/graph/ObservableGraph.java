@@ -3,8 +3,11 @@ package edu.uci.ics.jung.graph;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 import edu.uci.ics.jung.graph.event.GraphEvent;
 import edu.uci.ics.jung.graph.event.GraphEventListener;
@@ -13,6 +16,21 @@ import edu.uci.ics.jung.graph.util.EdgeType;
 /**
  * A decorator class for graphs which generates events 
  * 
+ * <p>By default an event is sent to each listener, on the calling thread, 
+ * as each change is made.  Two mechanisms reduce this overhead when many
+ * changes are made at once:
+ * <ul>
+ * <li>Changes made between {@link #beginBatch()} and {@link #endBatch()} are
+ * collected, and reported when the batch ends in a single 
+ * {@link GraphEvent.Batch} event of type <code>BATCH</code>.
+ * <li>If an <code>Executor</code> is set with {@link #setExecutor(Executor)},
+ * events are dispatched by that executor rather than by the thread which
+ * modified the graph.  Listeners will see events in the order in which
+ * they were generated only if the executor runs its tasks in order (for example,
+ * one created by <code>Executors.newSingleThreadExecutor()</code>), and may
+ * see the graph in a later state than that which the event describes.
+ * </ul>
+ * 
  * @author Joshua O'Madadhain
  */
 @SuppressWarnings("serial")
@@ -20,6 +38,15 @@ public class ObservableGraph<V,E> extends GraphDecorator<V,E> {
 
 	List<GraphEventListener<V,E>> listenerList = 
 		Collections.synchronizedList(new LinkedList<GraphEventListener<V,E>>());
+	
+	private transient Executor executor;
+	
+	// changes made during the current batch, if batch_depth > 0
+	private transient int batch_depth;
+	private transient Set<V> added_vertices;
+	private transient Set<V> removed_vertices;
+	private transient Set<E> added_edges;
+	private transient Set<E> removed_edges;
 
     /**
      * Creates a new instance based on the provided {@code delegate}.
@@ -48,11 +75,122 @@ public class ObservableGraph<V,E> extends GraphDecorator<V,E> {
 		listenerList.remove(l);
 	}
 
-	protected void fireGraphEvent(GraphEvent<V,E> evt) {
-		for(GraphEventListener<V,E> listener : listenerList) {
-			listener.handleGraphEvent(evt);
-		 }
-	 }
+	/**
+	 * Specifies the executor which dispatches events to listeners; if 
+	 * <code>executor</code> is <code>null</code> (the default), events are
+	 * dispatched on the thread which modifies the graph.
+	 * 
+	 * @param executor the executor which is to dispatch events
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+	
+	/**
+	 * @return the executor which dispatches events, or <code>null</code> if 
+	 * events are dispatched on the thread which modifies the graph
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+	
+	/**
+	 * Starts a batch of changes.  Until the matching call to {@link #endBatch()},
+	 * changes to this graph do not generate individual events.  Batches may be
+	 * nested; only the outermost batch generates an event.
+	 */
+	public synchronized void beginBatch() {
+		if (batch_depth++ == 0) {
+			added_vertices = new LinkedHashSet<V>();
+			removed_vertices = new LinkedHashSet<V>();
+			added_edges = new LinkedHashSet<E>();
+			removed_edges = new LinkedHashSet<E>();
+		}
+	}
+	
+	/**
+	 * Ends a batch of changes.  If this ends the outermost batch, and the batch
+	 * changed the graph, a single {@link GraphEvent.Batch} event reporting the
+	 * net changes is sent to the listeners.
+	 * 
+	 * @throws IllegalStateException if no batch is in progress
+	 */
+	public void endBatch() {
+		GraphEvent.Batch<V,E> evt;
+		synchronized (this) {
+			if (batch_depth == 0)
+				throw new IllegalStateException("no batch is in progress");
+			if (--batch_depth > 0)
+				return;
+			evt = new GraphEvent.Batch<V,E>(delegate, added_vertices, removed_vertices, 
+					added_edges, removed_edges);
+			added_vertices = removed_vertices = null;
+			added_edges = removed_edges = null;
+		}
+		if (evt.size() > 0)
+			fireGraphEvent(evt);
+	}
+	
+	/**
+	 * @return <code>true</code> if a batch is in progress
+	 */
+	public synchronized boolean isBatching() {
+		return batch_depth > 0;
+	}
+
+	protected void fireGraphEvent(final GraphEvent<V,E> evt) {
+		if (executor == null) {
+			for(GraphEventListener<V,E> listener : listenerList) {
+				listener.handleGraphEvent(evt);
+			}
+			return;
+		}
+		final List<GraphEventListener<V,E>> listeners;
+		synchronized (listenerList) {
+			listeners = new ArrayList<GraphEventListener<V,E>>(listenerList);
+		}
+		executor.execute(new Runnable() {
+			public void run() {
+				for(GraphEventListener<V,E> listener : listeners) {
+					listener.handleGraphEvent(evt);
+				}
+			}
+		});
+	}
+	
+	private void vertexChanged(GraphEvent.Type type, V vertex) {
+		synchronized (this) {
+			if (batch_depth > 0) {
+				// a vertex added and removed (or vice versa) within the batch is unchanged 
+				if (type == GraphEvent.Type.VERTEX_ADDED) {
+					if (!removed_vertices.remove(vertex))
+						added_vertices.add(vertex);
+				} else {
+					if (!added_vertices.remove(vertex))
+						removed_vertices.add(vertex);
+				}
+				return;
+			}
+		}
+		fireGraphEvent(new GraphEvent.Vertex<V,E>(delegate, type, vertex));
+	}
+	
+	private void edgeChanged(GraphEvent.Type type, E edge) {
+		synchronized (this) {
+			if (batch_depth > 0) {
+				// an edge removed and added again may have new endpoints, so 
+				// both changes are reported
+				if (type == GraphEvent.Type.EDGE_ADDED) {
+					added_edges.add(edge);
+				} else {
+					if (!added_edges.remove(edge))
+						removed_edges.add(edge);
+				}
+				return;
+			}
+		}
+		fireGraphEvent(new GraphEvent.Edge<V,E>(delegate, type, edge));
+	}
 
 	/**
 	 * @see edu.uci.ics.jung.graph.Hypergraph#addEdge(java.lang.Object, java.util.Collection)
@@ -61,8 +199,7 @@ public class ObservableGraph<V,E> extends GraphDecorator<V,E> {
 	public boolean addEdge(E edge, Collection<? extends V> vertices) {
 		boolean state = super.addEdge(edge, vertices);
 		if(state) {
-			GraphEvent<V,E> evt = new GraphEvent.Edge<V,E>(delegate, GraphEvent.Type.EDGE_ADDED, edge);
-			fireGraphEvent(evt);
+			edgeChanged(GraphEvent.Type.EDGE_ADDED, edge);
 		}
 		return state;
 	}
@@ -74,8 +211,7 @@ public class ObservableGraph<V,E> extends GraphDecorator<V,E> {
   public boolean addEdge(E e, V v1, V v2, EdgeType edgeType) {
 		boolean state = super.addEdge(e, v1, v2, edgeType);
 		if(state) {
-			GraphEvent<V,E> evt = new GraphEvent.Edge<V,E>(delegate, GraphEvent.Type.EDGE_ADDED, e);
-			fireGraphEvent(evt);
+			edgeChanged(GraphEvent.Type.EDGE_ADDED, e);
 		}
 		return state;
 	}
@@ -87,8 +223,7 @@ public class ObservableGraph<V,E> extends GraphDecorator<V,E> {
   public boolean addEdge(E e, V v1, V v2) {
 		boolean state = super.addEdge(e, v1, v2);
 		if(state) {
-			GraphEvent<V,E> evt = new GraphEvent.Edge<V,E>(delegate, GraphEvent.Type.EDGE_ADDED, e);
-			fireGraphEvent(evt);
+			edgeChanged(GraphEvent.Type.EDGE_ADDED, e);
 		}
 		return state;
 	}
@@ -100,8 +235,7 @@ public class ObservableGraph<V,E> extends GraphDecorator<V,E> {
   public boolean addVertex(V vertex) {
 		boolean state = super.addVertex(vertex);
 		if(state) {
-			GraphEvent<V,E> evt = new GraphEvent.Vertex<V,E>(delegate, GraphEvent.Type.VERTEX_ADDED, vertex);
-			fireGraphEvent(evt);
+			vertexChanged(GraphEvent.Type.VERTEX_ADDED, vertex);
 		}
 		return state;
 	}
@@ -113,8 +247,7 @@ public class ObservableGraph<V,E> extends GraphDecorator<V,E> {
   public boolean removeEdge(E edge) {
 		boolean state = delegate.removeEdge(edge);
 		if(state) {
-			GraphEvent<V,E> evt = new GraphEvent.Edge<V,E>(delegate, GraphEvent.Type.EDGE_REMOVED, edge);
-			fireGraphEvent(evt);
+			edgeChanged(GraphEvent.Type.EDGE_REMOVED, edge);
 		}
 		return state;
 	}
@@ -133,8 +266,7 @@ public class ObservableGraph<V,E> extends GraphDecorator<V,E> {
 		
 		boolean state = delegate.removeVertex(vertex);
 		if(state) {
-			GraphEvent<V,E> evt = new GraphEvent.Vertex<V,E>(delegate, GraphEvent.Type.VERTEX_REMOVED, vertex);
-			fireGraphEvent(evt);
+			vertexChanged(GraphEvent.Type.VERTEX_REMOVED, vertex);
 		}
 		return state;
 	}
@@ -0,0 +1,423 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * A decorator class for graphs which can produce read-only, point-in-time
+ * snapshots of the decorated graph in constant time.
+ * <p>
+ * This class maintains a copy-on-write index of the graph's structure alongside
+ * the delegate.  <code>snapshot()</code> simply freezes the current index and
+ * hands it to the returned graph.  The vertex and edge maps are hash tries, so
+ * that a later mutation copies only the few trie nodes on the path to each
+ * vertex or edge that it changes (O(log n) rather than O(V+E)), and each
+ * vertex's adjacency sets are copied only when that vertex is first modified
+ * after the snapshot.  Snapshots thus share all unmodified structure with each
+ * other and with the live graph, and are never affected by later mutations;
+ * they may be read from any thread, for as long as necessary, while the live
+ * graph continues to be modified.
+ * <p>
+ * Mutations must be made through this decorator (rather than directly on the
+ * delegate) in order to be reflected in subsequent snapshots.  Mutations, and
+ * calls to <code>snapshot()</code>, are serialized on this instance; reads of the
+ * live graph go directly to the delegate, and are only as thread-safe as it is.
+ * Snapshots support only graphs whose edges each have exactly two endpoints.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ */
+@SuppressWarnings("serial")
+public class VersionedGraph<V,E> extends GraphDecorator<V,E> {
+
+    /**
+     * The incoming and outgoing edges of a vertex.  Instances are modified in
+     * place only during the generation in which they were created.
+     */
+    private static class Adjacency<E> implements Serializable {
+        final int generation;
+        final Set<E> in;
+        final Set<E> out;
+
+        Adjacency(int generation, Set<E> in, Set<E> out) {
+            this.generation = generation;
+            this.in = in;
+            this.out = out;
+        }
+    }
+
+    private static class EdgeRecord<V> implements Serializable {
+        final Pair<V> endpoints;
+        final EdgeType edge_type;
+
+        EdgeRecord(Pair<V> endpoints, EdgeType edge_type) {
+            this.endpoints = endpoints;
+            this.edge_type = edge_type;
+        }
+    }
+
+    private HashTrieMap<V, Adjacency<E>> vertices;
+    private HashTrieMap<E, EdgeRecord<V>> edges;
+    private int generation;     // incremented by each snapshot
+
+    /**
+     * Creates a new instance based on the provided {@code delegate}.
+     *
+     * @param delegate the graph on which this class operates
+     */
+    public VersionedGraph(Graph<V,E> delegate) {
+        super(delegate);
+        this.vertices = new HashTrieMap<V, Adjacency<E>>();
+        this.edges = new HashTrieMap<E, EdgeRecord<V>>();
+        for (V v : delegate.getVertices())
+            indexVertex(v);
+        for (E e : delegate.getEdges())
+            indexEdge(e);
+    }
+
+    /**
+     * Returns a read-only view of this graph as it is at the time of the call.
+     * The view is not affected by subsequent changes to this graph; all of its
+     * mutators throw <code>UnsupportedOperationException</code>.
+     *
+     * @return a snapshot of this graph
+     */
+    public synchronized Graph<V,E> snapshot() {
+        generation++;
+        return new Snapshot<V,E>(vertices.freeze(), edges.freeze(), delegate.getDefaultEdgeType());
+    }
+
+    private Adjacency<E> writableAdjacency(V vertex) {
+        Adjacency<E> adjacency = vertices.get(vertex);
+        if (adjacency.generation != generation) {
+            adjacency = new Adjacency<E>(generation,
+                new HashSet<E>(adjacency.in), new HashSet<E>(adjacency.out));
+            vertices.put(vertex, adjacency);
+        }
+        return adjacency;
+    }
+
+    private void indexVertex(V vertex) {
+        if (!vertices.containsKey(vertex))
+            vertices.put(vertex, new Adjacency<E>(generation, new HashSet<E>(), new HashSet<E>()));
+    }
+
+    private void indexEdge(E edge) {
+        Pair<V> endpoints = delegate.getEndpoints(edge);
+        EdgeType edge_type = delegate.getEdgeType(edge);
+        V v1 = endpoints.getFirst();
+        V v2 = endpoints.getSecond();
+        indexVertex(v1);
+        indexVertex(v2);
+        edges.put(edge, new EdgeRecord<V>(endpoints, edge_type));
+        writableAdjacency(v1).out.add(edge);
+        writableAdjacency(v2).in.add(edge);
+        if (edge_type == EdgeType.UNDIRECTED) {
+            writableAdjacency(v1).in.add(edge);
+            writableAdjacency(v2).out.add(edge);
+        }
+    }
+
+    private void unindexEdge(E edge) {
+        EdgeRecord<V> record = edges.remove(edge);
+        if (record == null)
+            return;
+        V v1 = record.endpoints.getFirst();
+        V v2 = record.endpoints.getSecond();
+        writableAdjacency(v1).out.remove(edge);
+        writableAdjacency(v2).in.remove(edge);
+        if (record.edge_type == EdgeType.UNDIRECTED) {
+            writableAdjacency(v1).in.remove(edge);
+            writableAdjacency(v2).out.remove(edge);
+        }
+    }
+
+    /**
+     * @see edu.uci.ics.jung.graph.Hypergraph#addEdge(java.lang.Object, java.util.Collection)
+     */
+    @Override
+    public synchronized boolean addEdge(E edge, Collection<? extends V> vertices) {
+        boolean state = super.addEdge(edge, vertices);
+        if (state)
+            indexEdge(edge);
+        return state;
+    }
+
+    /**
+     * @see edu.uci.ics.jung.graph.Hypergraph#addEdge(Object, Collection, EdgeType)
+     */
+    @Override
+    public synchronized boolean addEdge(E edge, Collection<? extends V> vertices,
+            EdgeType edge_type) {
+        boolean state = super.addEdge(edge, vertices, edge_type);
+        if (state)
+            indexEdge(edge);
+        return state;
+    }
+
+    /**
+     * @see edu.uci.ics.jung.graph.Graph#addEdge(java.lang.Object, java.lang.Object, java.lang.Object, edu.uci.ics.jung.graph.util.EdgeType)
+     */
+    @Override
+    public synchronized boolean addEdge(E e, V v1, V v2, EdgeType edgeType) {
+        boolean state = super.addEdge(e, v1, v2, edgeType);
+        if (state)
+            indexEdge(e);
+        return state;
+    }
+
+    /**
+     * @see edu.uci.ics.jung.graph.Graph#addEdge(java.lang.Object, java.lang.Object, java.lang.Object)
+     */
+    @Override
+    public synchronized boolean addEdge(E e, V v1, V v2) {
+        boolean state = super.addEdge(e, v1, v2);
+        if (state)
+            indexEdge(e);
+        return state;
+    }
+
+    /**
+     * @see edu.uci.ics.jung.graph.Hypergraph#addVertex(java.lang.Object)
+     */
+    @Override
+    public synchronized boolean addVertex(V vertex) {
+        boolean state = super.addVertex(vertex);
+        if (state)
+            indexVertex(vertex);
+        return state;
+    }
+
+    /**
+     * @see edu.uci.ics.jung.graph.Hypergraph#removeEdge(java.lang.Object)
+     */
+    @Override
+    public synchronized boolean removeEdge(E edge) {
+        boolean state = super.removeEdge(edge);
+        if (state)
+            unindexEdge(edge);
+        return state;
+    }
+
+    /**
+     * @see edu.uci.ics.jung.graph.Hypergraph#removeVertex(java.lang.Object)
+     */
+    @Override
+    public synchronized boolean removeVertex(V vertex) {
+        if (!delegate.containsVertex(vertex))
+            return false;
+        Collection<E> incident_edges = new ArrayList<E>(delegate.getIncidentEdges(vertex));
+        boolean state = super.removeVertex(vertex);
+        if (state) {
+            for (E e : incident_edges)
+                unindexEdge(e);
+            vertices.remove(vertex);
+        }
+        return state;
+    }
+
+    /**
+     * A read-only graph backed by a frozen copy-on-write index.
+     */
+    private static class Snapshot<V,E> extends AbstractGraph<V,E> {
+        private final Map<V, Adjacency<E>> vertices;
+        private final Map<E, EdgeRecord<V>> edges;
+        private final EdgeType default_edge_type;
+
+        Snapshot(Map<V, Adjacency<E>> vertices, Map<E, EdgeRecord<V>> edges,
+                EdgeType default_edge_type) {
+            this.vertices = vertices;
+            this.edges = edges;
+            this.default_edge_type = default_edge_type;
+        }
+
+        private V opposite(V vertex, E edge) {
+            Pair<V> endpoints = edges.get(edge).endpoints;
+            return vertex.equals(endpoints.getFirst()) ? endpoints.getSecond() : endpoints.getFirst();
+        }
+
+        private Collection<V> opposites(V vertex, Collection<E> incident, Set<V> opposites) {
+            for (E edge : incident)
+                opposites.add(opposite(vertex, edge));
+            return opposites;
+        }
+
+        public Collection<E> getEdges() {
+            return Collections.unmodifiableCollection(edges.keySet());
+        }
+
+        public Collection<V> getVertices() {
+            return Collections.unmodifiableCollection(vertices.keySet());
+        }
+
+        public boolean containsVertex(V vertex) {
+            return vertices.containsKey(vertex);
+        }
+
+        public boolean containsEdge(E edge) {
+            return edges.containsKey(edge);
+        }
+
+        public int getEdgeCount() {
+            return edges.size();
+        }
+
+        public int getVertexCount() {
+            return vertices.size();
+        }
+
+        public Collection<E> getInEdges(V vertex) {
+            Adjacency<E> adjacency = vertices.get(vertex);
+            return adjacency == null ? null : Collections.unmodifiableCollection(adjacency.in);
+        }
+
+        public Collection<E> getOutEdges(V vertex) {
+            Adjacency<E> adjacency = vertices.get(vertex);
+            return adjacency == null ? null : Collections.unmodifiableCollection(adjacency.out);
+        }
+
+        public Collection<E> getIncidentEdges(V vertex) {
+            Adjacency<E> adjacency = vertices.get(vertex);
+            if (adjacency == null)
+                return null;
+            Set<E> incident = new HashSet<E>(adjacency.in);
+            incident.addAll(adjacency.out);
+            return Collections.unmodifiableCollection(incident);
+        }
+
+        public Collection<V> getPredecessors(V vertex) {
+            Adjacency<E> adjacency = vertices.get(vertex);
+            if (adjacency == null)
+                return null;
+            return Collections.unmodifiableCollection(
+                opposites(vertex, adjacency.in, new HashSet<V>()));
+        }
+
+        public Collection<V> getSuccessors(V vertex) {
+            Adjacency<E> adjacency = vertices.get(vertex);
+            if (adjacency == null)
+                return null;
+            return Collections.unmodifiableCollection(
+                opposites(vertex, adjacency.out, new HashSet<V>()));
+        }
+
+        public Collection<V> getNeighbors(V vertex) {
+            Adjacency<E> adjacency = vertices.get(vertex);
+            if (adjacency == null)
+                return null;
+            Set<V> neighbors = new HashSet<V>();
+            opposites(vertex, adjacency.in, neighbors);
+            opposites(vertex, adjacency.out, neighbors);
+            return Collections.unmodifiableCollection(neighbors);
+        }
+
+        @Override
+        public E findEdge(V v1, V v2) {
+            Adjacency<E> adjacency = vertices.get(v1);
+            if (adjacency == null || !vertices.containsKey(v2))
+                return null;
+            for (E edge : adjacency.out)
+                if (opposite(v1, edge).equals(v2))
+                    return edge;
+            return null;
+        }
+
+        public Pair<V> getEndpoints(E edge) {
+            EdgeRecord<V> record = edges.get(edge);
+            return record == null ? null : record.endpoints;
+        }
+
+        public V getSource(E directed_edge) {
+            EdgeRecord<V> record = edges.get(directed_edge);
+            if (record == null || record.edge_type != EdgeType.DIRECTED)
+                return null;
+            return record.endpoints.getFirst();
+        }
+
+        public V getDest(E directed_edge) {
+            EdgeRecord<V> record = edges.get(directed_edge);
+            if (record == null || record.edge_type != EdgeType.DIRECTED)
+                return null;
+            return record.endpoints.getSecond();
+        }
+
+        public boolean isSource(V vertex, E edge) {
+            V source = getSource(edge);
+            return source != null && source.equals(vertex);
+        }
+
+        public boolean isDest(V vertex, E edge) {
+            V dest = getDest(edge);
+            return dest != null && dest.equals(vertex);
+        }
+
+        public EdgeType getEdgeType(E edge) {
+            EdgeRecord<V> record = edges.get(edge);
+            return record == null ? null : record.edge_type;
+        }
+
+        public EdgeType getDefaultEdgeType() {
+            return default_edge_type;
+        }
+
+        public Collection<E> getEdges(EdgeType edge_type) {
+            Collection<E> typed_edges = new ArrayList<E>();
+            for (Map.Entry<E, EdgeRecord<V>> entry : edges.entrySet())
+                if (entry.getValue().edge_type == edge_type)
+                    typed_edges.add(entry.getKey());
+            return Collections.unmodifiableCollection(typed_edges);
+        }
+
+        public int getEdgeCount(EdgeType edge_type) {
+            return getEdges(edge_type).size();
+        }
+
+        /**
+         * Throws <code>UnsupportedOperationException</code>; snapshots are read-only.
+         */
+        @Override
+        public boolean addEdge(E edge, Pair<? extends V> endpoints, EdgeType edgeType) {
+            throw new UnsupportedOperationException("snapshots are read-only");
+        }
+
+        /**
+         * Throws <code>UnsupportedOperationException</code>; snapshots are read-only.
+         */
+        public boolean addVertex(V vertex) {
+            throw new UnsupportedOperationException("snapshots are read-only");
+        }
+
+        /**
+         * Throws <code>UnsupportedOperationException</code>; snapshots are read-only.
+         */
+        public boolean removeEdge(E edge) {
+            throw new UnsupportedOperationException("snapshots are read-only");
+        }
+
+        /**
+         * Throws <code>UnsupportedOperationException</code>; snapshots are read-only.
+         */
+        public boolean removeVertex(V vertex) {
+            throw new UnsupportedOperationException("snapshots are read-only");
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package edu.uci.ics.jung.graph.event;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 import edu.uci.ics.jung.graph.Graph;
 
 /**
@@ -34,7 +39,9 @@ public abstract class GraphEvent<V,E> {
 		VERTEX_ADDED,
 		VERTEX_REMOVED,
 		EDGE_ADDED,
-		EDGE_REMOVED
+		EDGE_REMOVED,
+		/** A set of changes made during a batch; see {@link Batch}. */
+		BATCH
 	}
 	
     /**
@@ -101,6 +108,100 @@ public abstract class GraphEvent<V,E> {
 		
 	}
 	
+	/**
+	 * An event which reports, at once, the net changes made to a graph
+	 * over a batch of operations.  A vertex or edge which is added and then
+	 * removed within the batch is not reported; a vertex which is removed and
+	 * then added again is not reported either, although the removal of its
+	 * incident edges is.  Listeners should apply the changes in the order
+	 * edge removals, vertex removals, vertex additions, edge additions, 
+	 * which is the order used by {@link #toEvents()}.
+	 */
+	public static class Batch<V,E> extends GraphEvent<V,E> {
+		protected Collection<V> added_vertices;
+		protected Collection<V> removed_vertices;
+		protected Collection<E> added_edges;
+		protected Collection<E> removed_edges;
+		
+		/**
+		 * Creates a batch event for the specified graph and changes.
+		 * 
+		 * @param source the graph whose event this is
+		 * @param added_vertices the vertices added during the batch
+		 * @param removed_vertices the vertices removed during the batch
+		 * @param added_edges the edges added during the batch
+		 * @param removed_edges the edges removed during the batch
+		 */
+		public Batch(Graph<V,E> source, Collection<V> added_vertices, Collection<V> removed_vertices,
+				Collection<E> added_edges, Collection<E> removed_edges) {
+			super(source, Type.BATCH);
+			this.added_vertices = Collections.unmodifiableCollection(added_vertices);
+			this.removed_vertices = Collections.unmodifiableCollection(removed_vertices);
+			this.added_edges = Collections.unmodifiableCollection(added_edges);
+			this.removed_edges = Collections.unmodifiableCollection(removed_edges);
+		}
+		
+		/**
+		 * @return the vertices added during the batch, in the order in which they were added
+		 */
+		public Collection<V> getAddedVertices() {
+			return added_vertices;
+		}
+		
+		/**
+		 * @return the vertices removed during the batch, in the order in which they were removed
+		 */
+		public Collection<V> getRemovedVertices() {
+			return removed_vertices;
+		}
+		
+		/**
+		 * @return the edges added during the batch, in the order in which they were added
+		 */
+		public Collection<E> getAddedEdges() {
+			return added_edges;
+		}
+		
+		/**
+		 * @return the edges removed during the batch, in the order in which they were removed
+		 */
+		public Collection<E> getRemovedEdges() {
+			return removed_edges;
+		}
+		
+		/**
+		 * @return the total number of changes reported by this event
+		 */
+		public int size() {
+			return added_vertices.size() + removed_vertices.size() + 
+				added_edges.size() + removed_edges.size();
+		}
+		
+		/**
+		 * Returns the changes in this batch as individual vertex and edge events,
+		 * for listeners which do not handle batches themselves.
+		 * 
+		 * @return a list of individual events equivalent to this one
+		 */
+		public List<GraphEvent<V,E>> toEvents() {
+			List<GraphEvent<V,E>> events = new ArrayList<GraphEvent<V,E>>(size());
+			for (E e : removed_edges)
+				events.add(new Edge<V,E>(source, Type.EDGE_REMOVED, e));
+			for (V v : removed_vertices)
+				events.add(new Vertex<V,E>(source, Type.VERTEX_REMOVED, v));
+			for (V v : added_vertices)
+				events.add(new Vertex<V,E>(source, Type.VERTEX_ADDED, v));
+			for (E e : added_edges)
+				events.add(new Edge<V,E>(source, Type.EDGE_ADDED, e));
+			return events;
+		}
+		
+		@Override
+		public String toString() {
+			return "GraphEvent type:"+type+" with "+size()+" changes";
+		}
+	}
+	
 	/**
 	 * @return the source
 	 */
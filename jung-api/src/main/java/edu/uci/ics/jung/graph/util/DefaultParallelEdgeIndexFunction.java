@@ -27,7 +27,10 @@ import edu.uci.ics.jung.graph.Graph;
  * that are returned by <code>v.findEdgeSet(w)</code> for some 
  * <code>v</code> and <code>w</code>.
  * 
- * <p>At this time, users are responsible for resetting the indices 
+ * <p>The indices for a graph are discarded automatically when vertices or
+ * edges are added to or removed from it, if the graph tracks such changes
+ * (see {@link edu.uci.ics.jung.graph.Hypergraph#getModificationCount()}).
+ * For other graphs, users are responsible for resetting the indices 
  * (by calling <code>reset()</code>) if changes to the
  * graph make it appropriate.
  * 
@@ -38,6 +41,7 @@ import edu.uci.ics.jung.graph.Graph;
 public class DefaultParallelEdgeIndexFunction<V,E> implements EdgeIndexFunction<V,E>
 {
     protected Map<Context<Graph<V,E>,E>, Integer> edge_index = new HashMap<Context<Graph<V,E>,E>, Integer>();
+    protected Map<Graph<V,E>, Long> graph_modifications = new HashMap<Graph<V,E>, Long>();
     
     private DefaultParallelEdgeIndexFunction() {
     }
@@ -60,6 +64,7 @@ public class DefaultParallelEdgeIndexFunction<V,E> implements EdgeIndexFunction<
     {
     	checkNotNull(graph, "graph must not be null");
     	checkNotNull(e, "'e' must not be null");
+    	checkForModifications(graph);
         Integer index = edge_index.get(Context.<Graph<V,E>,E>getInstance(graph,e));
         	//edge_index.get(e);
         if(index == null) {
@@ -75,6 +80,26 @@ public class DefaultParallelEdgeIndexFunction<V,E> implements EdgeIndexFunction<
         return index.intValue();
     }
 
+    /**
+     * Discards the indices for <code>graph</code> if vertices or edges have
+     * been added to or removed from it since they were calculated.
+     */
+    protected void checkForModifications(Graph<V,E> graph) {
+    	long modifications = graph.getModificationCount();
+    	Long previous = graph_modifications.get(graph);
+    	if (previous != null && previous.longValue() == modifications) {
+    		return;
+    	}
+    	graph_modifications.put(graph, modifications);
+    	if (previous != null) {
+    		for (Iterator<Context<Graph<V,E>,E>> iterator = edge_index.keySet().iterator(); iterator.hasNext(); ) {
+    			if (iterator.next().graph == graph) {
+    				iterator.remove();
+    			}
+    		}
+    	}
+    }
+
     protected int getIndex(Graph<V,E> graph, E e, V v, V u) {
     	Collection<E> commonEdgeSet = new HashSet<E>(graph.getIncidentEdges(u));
     	commonEdgeSet.retainAll(graph.getIncidentEdges(v));
@@ -144,5 +169,6 @@ public class DefaultParallelEdgeIndexFunction<V,E> implements EdgeIndexFunction<
     public void reset()
     {
         edge_index.clear();
+        graph_modifications.clear();
     }
 }
@@ -2,6 +2,7 @@ package edu.uci.ics.jung.graph.util;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.function.Consumer;
 
 import edu.uci.ics.jung.graph.DirectedGraph;
 import edu.uci.ics.jung.graph.Forest;
@@ -149,6 +150,14 @@ public class Graphs {
 		{
 			return delegate.getDefaultEdgeType();
 		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.Hypergraph#getModificationCount()
+		 */
+		public synchronized long getModificationCount()
+		{
+			return delegate.getModificationCount();
+		}
 		
 		/**
 		 * @see edu.uci.ics.jung.graph.Graph#addEdge(Object, Object, Object, EdgeType)
@@ -293,6 +302,48 @@ public class Graphs {
 			return delegate.getSuccessors(vertex);
 		}
 
+		/**
+		 * @see edu.uci.ics.jung.graph.Hypergraph#forEachNeighbor(Object, Consumer)
+		 */
+		public synchronized void forEachNeighbor(V vertex, Consumer<? super V> visitor) {
+			delegate.forEachNeighbor(vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.Hypergraph#forEachPredecessor(Object, Consumer)
+		 */
+		public synchronized void forEachPredecessor(V vertex, Consumer<? super V> visitor) {
+			delegate.forEachPredecessor(vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.Hypergraph#forEachSuccessor(Object, Consumer)
+		 */
+		public synchronized void forEachSuccessor(V vertex, Consumer<? super V> visitor) {
+			delegate.forEachSuccessor(vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.Hypergraph#forEachIncidentEdge(Object, Consumer)
+		 */
+		public synchronized void forEachIncidentEdge(V vertex, Consumer<? super E> visitor) {
+			delegate.forEachIncidentEdge(vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.Hypergraph#forEachInEdge(Object, Consumer)
+		 */
+		public synchronized void forEachInEdge(V vertex, Consumer<? super E> visitor) {
+			delegate.forEachInEdge(vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.Hypergraph#forEachOutEdge(Object, Consumer)
+		 */
+		public synchronized void forEachOutEdge(V vertex, Consumer<? super E> visitor) {
+			delegate.forEachOutEdge(vertex, visitor);
+		}
+
 		/**
 		 * @see edu.uci.ics.jung.graph.Hypergraph#getVertices()
 		 */
@@ -580,6 +631,14 @@ public class Graphs {
 		{
 			return delegate.getDefaultEdgeType();
 		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.Hypergraph#getModificationCount()
+		 */
+		public long getModificationCount()
+		{
+			return delegate.getModificationCount();
+		}
 		
 		/**
 		 * @see edu.uci.ics.jung.graph.Graph#addEdge(Object, Object, Object, EdgeType)
@@ -746,6 +805,48 @@ public class Graphs {
 			return delegate.getSuccessors(vertex);
 		}
 
+		/**
+		 * @see edu.uci.ics.jung.graph.Hypergraph#forEachNeighbor(Object, Consumer)
+		 */
+		public void forEachNeighbor(V vertex, Consumer<? super V> visitor) {
+			delegate.forEachNeighbor(vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.Hypergraph#forEachPredecessor(Object, Consumer)
+		 */
+		public void forEachPredecessor(V vertex, Consumer<? super V> visitor) {
+			delegate.forEachPredecessor(vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.Hypergraph#forEachSuccessor(Object, Consumer)
+		 */
+		public void forEachSuccessor(V vertex, Consumer<? super V> visitor) {
+			delegate.forEachSuccessor(vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.Hypergraph#forEachIncidentEdge(Object, Consumer)
+		 */
+		public void forEachIncidentEdge(V vertex, Consumer<? super E> visitor) {
+			delegate.forEachIncidentEdge(vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.Hypergraph#forEachInEdge(Object, Consumer)
+		 */
+		public void forEachInEdge(V vertex, Consumer<? super E> visitor) {
+			delegate.forEachInEdge(vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.Hypergraph#forEachOutEdge(Object, Consumer)
+		 */
+		public void forEachOutEdge(V vertex, Consumer<? super E> visitor) {
+			delegate.forEachOutEdge(vertex, visitor);
+		}
+
 		/**
 		 * @see edu.uci.ics.jung.graph.Hypergraph#getVertices()
 		 */
@@ -14,8 +14,10 @@ package edu.uci.ics.jung.graph.util;
 import edu.uci.ics.jung.graph.Forest;
 import edu.uci.ics.jung.graph.Tree;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 
 /**
@@ -32,8 +34,16 @@ public class TreeUtils
 	public static <V,E> List<V> getRoots(Forest<V,E> forest) 
 	{
         List<V> roots = new ArrayList<V>();
-        for(Tree<V,E> tree : forest.getTrees()) {
-            roots.add(tree.getRoot());
+        if (forest instanceof Tree) {
+            roots.add(((Tree<V,E>)forest).getRoot());
+            return roots;
+        }
+        // a root is any vertex without a parent; this avoids building
+        // the trees returned by getTrees()
+        for(V v : forest.getVertices()) {
+            if (forest.getPredecessorCount(v) == 0) {
+                roots.add(v);
+            }
         }
         return roots;
 	}
@@ -41,6 +51,8 @@ public class TreeUtils
     /**
      * Returns the subtree of <code>tree</code> which is rooted at <code>root</code> as a <code>Forest</code>.
      * The tree returned is an independent entity, although it uses the same vertex and edge objects.
+     * (<code>DelegateTree</code> and <code>DelegateForest</code> also provide read-only
+     * subtree views, which do not copy the subtree.)
      * @param <V> the vertex type
      * @param <E> the edge type
      * @param forest the tree whose subtree is to be extracted
@@ -71,14 +83,15 @@ public class TreeUtils
      * @param root the root of the subtree to be extracted
 	 */
 	public static <V,E> void growSubTree(Forest<V,E> tree, Forest<V,E> subTree, V root) {
-		if(tree.getSuccessorCount(root) > 0) {
-			Collection<E> edges = tree.getOutEdges(root);
+		// explicit stack rather than recursion, so that deep trees don't overflow
+		Deque<V> stack = new ArrayDeque<V>();
+		stack.push(root);
+		while (!stack.isEmpty()) {
+			V parent = stack.pop();
+			Collection<E> edges = tree.getOutEdges(parent);
 			for(E e : edges) {
 				subTree.addEdge(e, tree.getEndpoints(e));
-			}
-			Collection<V> kids = tree.getSuccessors(root);
-			for(V kid : kids) {
-				growSubTree(tree, subTree, kid);
+				stack.push(tree.getOpposite(parent, e));
 			}
 		}
 	}
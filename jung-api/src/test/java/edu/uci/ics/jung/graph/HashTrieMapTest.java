@@ -0,0 +1,81 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class HashTrieMapTest extends TestCase {
+
+    /**
+     * A key whose hash code is shared by every key with the same value modulo 7.
+     */
+    private static class Colliding {
+        final int value;
+
+        Colliding(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Colliding && ((Colliding)o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value % 7;
+        }
+    }
+
+    public void testMatchesHashMap() {
+        checkRandomOperations(new Random(3), 2000, false);
+    }
+
+    public void testCollisions() {
+        checkRandomOperations(new Random(5), 100, true);
+    }
+
+    private void checkRandomOperations(Random random, int key_range, boolean colliding) {
+        HashTrieMap<Object,Integer> map = new HashTrieMap<Object,Integer>();
+        Map<Object,Integer> expected = new HashMap<Object,Integer>();
+        List<Map<Object,Integer>> frozen_expected = new ArrayList<Map<Object,Integer>>();
+        List<HashTrieMap<Object,Integer>> frozen = new ArrayList<HashTrieMap<Object,Integer>>();
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(key_range);
+            Object key = colliding ? new Colliding(value) : Integer.valueOf(value);
+            if (random.nextInt(3) == 0)
+                assertEquals(expected.remove(key), map.remove(key));
+            else
+                assertEquals(expected.put(key, i), map.put(key, i));
+            if (i % 1000 == 0) {
+                frozen.add(map.freeze());
+                frozen_expected.add(new HashMap<Object,Integer>(expected));
+            }
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.size(), map.size());
+        for (Object key : expected.keySet())
+            assertEquals(expected.get(key), map.get(key));
+
+        // later changes are not visible in earlier frozen maps
+        for (int i = 0; i < frozen.size(); i++)
+            assertEquals(frozen_expected.get(i), frozen.get(i));
+    }
+
+    public void testFrozenIsReadOnly() {
+        HashTrieMap<String,Integer> map = new HashTrieMap<String,Integer>();
+        map.put("a", 1);
+        HashTrieMap<String,Integer> frozen = map.freeze();
+        try {
+            frozen.put("b", 2);
+            fail("entry added to frozen map");
+        } catch (UnsupportedOperationException uoe) {}
+        map.remove("a");
+        assertTrue(map.isEmpty());
+        assertEquals(Integer.valueOf(1), frozen.get("a"));
+    }
+}
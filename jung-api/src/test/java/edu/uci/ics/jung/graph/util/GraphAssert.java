@@ -0,0 +1,63 @@
+package edu.uci.ics.jung.graph.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collection;
+import java.util.HashSet;
+
+import edu.uci.ics.jung.graph.Graph;
+
+/**
+ * Assertions shared by the tests of graph implementations and views.
+ */
+public final class GraphAssert {
+
+    private GraphAssert() {
+    }
+
+    /**
+     * Asserts that <code>actual</code> has the same vertices and edges as
+     * <code>expected</code>, and answers every structural query about them
+     * (incidence, adjacency, degrees, endpoints, edge types, and
+     * <code>findEdge</code>/<code>findEdgeSet</code> for every pair of vertices)
+     * in the same way.  Collections are compared without regard to order.
+     */
+    public static <V,E> void assertSameGraph(Graph<V,E> expected, Graph<V,E> actual) {
+        assertEquals(expected.getVertexCount(), actual.getVertexCount());
+        assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+        assertEquals(set(expected.getVertices()), set(actual.getVertices()));
+        assertEquals(set(expected.getEdges()), set(actual.getEdges()));
+        for (V v : expected.getVertices()) {
+            assertTrue(actual.containsVertex(v));
+            assertEquals(set(expected.getInEdges(v)), set(actual.getInEdges(v)));
+            assertEquals(set(expected.getOutEdges(v)), set(actual.getOutEdges(v)));
+            assertEquals(set(expected.getIncidentEdges(v)), set(actual.getIncidentEdges(v)));
+            assertEquals(set(expected.getPredecessors(v)), set(actual.getPredecessors(v)));
+            assertEquals(set(expected.getSuccessors(v)), set(actual.getSuccessors(v)));
+            assertEquals(set(expected.getNeighbors(v)), set(actual.getNeighbors(v)));
+            assertEquals(expected.getIncidentEdges(v).size(), actual.getIncidentEdges(v).size());
+            assertEquals(expected.degree(v), actual.degree(v));
+            assertEquals(expected.inDegree(v), actual.inDegree(v));
+            assertEquals(expected.outDegree(v), actual.outDegree(v));
+            assertEquals(expected.getNeighborCount(v), actual.getNeighborCount(v));
+            for (V w : expected.getVertices()) {
+                assertEquals(expected.findEdge(v, w) != null, actual.findEdge(v, w) != null);
+                assertEquals(set(expected.findEdgeSet(v, w)), set(actual.findEdgeSet(v, w)));
+                assertEquals(expected.isNeighbor(v, w), actual.isNeighbor(v, w));
+            }
+        }
+        for (E e : expected.getEdges()) {
+            assertTrue(actual.containsEdge(e));
+            assertEquals(expected.getEndpoints(e), actual.getEndpoints(e));
+            assertEquals(expected.getEdgeType(e), actual.getEdgeType(e));
+            assertEquals(expected.getSource(e), actual.getSource(e));
+            assertEquals(expected.getDest(e), actual.getDest(e));
+            assertEquals(expected.getIncidentCount(e), actual.getIncidentCount(e));
+        }
+    }
+
+    private static <T> HashSet<T> set(Collection<T> c) {
+        return c == null ? null : new HashSet<T>(c);
+    }
+}
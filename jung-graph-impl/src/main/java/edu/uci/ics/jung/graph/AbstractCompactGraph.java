@@ -0,0 +1,468 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.google.common.collect.Iterators;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * Base class for immutable graphs whose structure is stored in
+ * compressed sparse row (CSR) form: each vertex and edge is assigned an
+ * <code>int</code> id, and adjacency is kept in flat <code>int</code> arrays
+ * rather than in per-vertex maps or sets.
+ *
+ * <p>Instances are built in a single pass from an existing <code>Graph</code>,
+ * and cannot be modified thereafter; all mutators throw
+ * <code>UnsupportedOperationException</code>.  Vertex and edge ids follow the
+ * iteration order of the source graph's <code>getVertices()</code> and
+ * <code>getEdges()</code>, and the collections returned by this class
+ * are (with the exception of neighbor sets that need to be de-duplicated)
+ * views onto the internal arrays rather than copies.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ */
+@SuppressWarnings("serial")
+public abstract class AbstractCompactGraph<V,E> extends AbstractTypedGraph<V,E>
+{
+    protected final Object[] vertices;          // vertices, indexed by vertex id
+    protected final Object[] edges;             // edges, indexed by edge id
+    protected final Map<V, Integer> vertex_ids; // Map of vertices to vertex ids
+    protected final Map<E, Integer> edge_ids;   // Map of edges to edge ids
+    protected final int[] edge_first;           // edge id -> vertex id of first endpoint (source)
+    protected final int[] edge_second;          // edge id -> vertex id of second endpoint (destination)
+
+    /**
+     * Creates an instance with the vertices and edges of <code>graph</code>.
+     * Subclasses are responsible for building their adjacency indices from
+     * <code>edge_first</code> and <code>edge_second</code>.
+     * @param graph the graph whose structure is to be copied
+     * @param edge_type the type of all edges in this graph
+     * @throws IllegalArgumentException if <code>graph</code> contains an edge whose type
+     * is not <code>edge_type</code>
+     */
+    protected AbstractCompactGraph(Graph<V,E> graph, EdgeType edge_type)
+    {
+        super(edge_type);
+        int vertex_count = graph.getVertexCount();
+        int edge_count = graph.getEdgeCount();
+        this.vertices = new Object[vertex_count];
+        this.edges = new Object[edge_count];
+        this.vertex_ids = new HashMap<V, Integer>(capacityFor(vertex_count));
+        this.edge_ids = new HashMap<E, Integer>(capacityFor(edge_count));
+        this.edge_first = new int[edge_count];
+        this.edge_second = new int[edge_count];
+
+        int id = 0;
+        for (V v : graph.getVertices())
+        {
+            vertices[id] = v;
+            vertex_ids.put(v, id++);
+        }
+        id = 0;
+        for (E e : graph.getEdges())
+        {
+            validateEdgeType(graph.getEdgeType(e));
+            Pair<V> endpoints = graph.getEndpoints(e);
+            edges[id] = e;
+            edge_ids.put(e, id);
+            edge_first[id] = vertex_ids.get(endpoints.getFirst());
+            edge_second[id] = vertex_ids.get(endpoints.getSecond());
+            id++;
+        }
+    }
+
+    private static int capacityFor(int size)
+    {
+        return Math.max(16, (int)(size / 0.75f) + 1);
+    }
+
+    /**
+     * Builds a CSR index over the edges of this graph.  For each edge id <code>e</code>,
+     * <code>e</code> is filed under <code>keys[e]</code> and, if <code>also_keys</code>
+     * is non-null and <code>also_keys[e] != keys[e]</code>, also under <code>also_keys[e]</code>.
+     * The edges filed under vertex id <code>v</code> are then found in <code>ids</code>
+     * from index <code>offsets[v]</code> (inclusive) to <code>offsets[v+1]</code> (exclusive),
+     * in increasing order of edge id.
+     * @param keys the vertex id under which each edge is to be filed
+     * @param also_keys a second vertex id under which each edge is to be filed, or null
+     * @return a two-element array <code>{offsets, ids}</code>
+     */
+    protected int[][] buildIndex(int[] keys, int[] also_keys)
+    {
+        int[] offsets = new int[vertices.length + 1];
+        for (int e = 0; e < keys.length; e++)
+        {
+            offsets[keys[e] + 1]++;
+            if (also_keys != null && also_keys[e] != keys[e])
+                offsets[also_keys[e] + 1]++;
+        }
+        for (int v = 0; v < vertices.length; v++)
+            offsets[v + 1] += offsets[v];
+
+        int[] ids = new int[offsets[vertices.length]];
+        int[] next = new int[vertices.length];
+        System.arraycopy(offsets, 0, next, 0, vertices.length);
+        for (int e = 0; e < keys.length; e++)
+        {
+            ids[next[keys[e]]++] = e;
+            if (also_keys != null && also_keys[e] != keys[e])
+                ids[next[also_keys[e]]++] = e;
+        }
+        return new int[][] { offsets, ids };
+    }
+
+    /**
+     * Returns the id of <code>vertex</code>, or -1 if it is not in this graph.
+     * @param vertex the vertex whose id is to be returned
+     * @return the id of <code>vertex</code>, or -1 if it is not in this graph
+     */
+    protected int vertexId(V vertex)
+    {
+        Integer id = vertex_ids.get(vertex);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the id of <code>edge</code>, or -1 if it is not in this graph.
+     * @param edge the edge whose id is to be returned
+     * @return the id of <code>edge</code>, or -1 if it is not in this graph
+     */
+    protected int edgeId(E edge)
+    {
+        Integer id = edge_ids.get(edge);
+        return id == null ? -1 : id;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected V vertex(int id)
+    {
+        return (V)vertices[id];
+    }
+
+    @SuppressWarnings("unchecked")
+    protected E edge(int id)
+    {
+        return (E)edges[id];
+    }
+
+    /**
+     * Returns the id of the endpoint of edge <code>e</code> opposite to vertex <code>v</code>.
+     * @param v a vertex id
+     * @param e the id of an edge incident to <code>v</code>
+     * @return the id of the other endpoint of <code>e</code>
+     */
+    protected int opposite(int v, int e)
+    {
+        return edge_first[e] == v ? edge_second[e] : edge_first[e];
+    }
+
+    /**
+     * Returns an unmodifiable view of the edges whose ids are in
+     * <code>ids[from..to)</code>.
+     * @param ids the array of edge ids
+     * @param from the first index (inclusive) of the range
+     * @param to the last index (exclusive) of the range
+     * @return a view of the specified edges
+     */
+    protected Collection<E> edgeView(final int[] ids, final int from, final int to)
+    {
+        return new AbstractList<E>()
+        {
+            @Override
+            public E get(int index)
+            {
+                return edge(ids[from + index]);
+            }
+
+            @Override
+            public int size()
+            {
+                return to - from;
+            }
+        };
+    }
+
+    /**
+     * Returns an unmodifiable view of the vertices found at the end of the
+     * edges in <code>ids[from..to)</code> which is opposite to <code>v</code>.
+     * @param v the vertex id from which the edges are traversed
+     * @param ids the array of edge ids
+     * @param from the first index (inclusive) of the range
+     * @param to the last index (exclusive) of the range
+     * @return a view of the specified vertices
+     */
+    protected Collection<V> oppositeView(final int v, final int[] ids, final int from, final int to)
+    {
+        return new AbstractList<V>()
+        {
+            @Override
+            public V get(int index)
+            {
+                return vertex(opposite(v, ids[from + index]));
+            }
+
+            @Override
+            public int size()
+            {
+                return to - from;
+            }
+        };
+    }
+
+    /**
+     * Passes the edges whose ids are in <code>ids[from..to)</code> to <code>visitor</code>.
+     * @param ids the array of edge ids
+     * @param from the first index (inclusive) of the range
+     * @param to the last index (exclusive) of the range
+     * @param visitor the consumer to which the edges are passed
+     */
+    protected void visitEdges(int[] ids, int from, int to, Consumer<? super E> visitor)
+    {
+        for (int i = from; i < to; i++)
+            visitor.accept(edge(ids[i]));
+    }
+
+    /**
+     * Passes the vertices found at the end of the edges in <code>ids[from..to)</code>
+     * which is opposite to <code>v</code> to <code>visitor</code>.  If <code>visited</code>
+     * is non-null, vertices already in <code>visited</code> are skipped and the
+     * others are added to it.
+     * @param v the vertex id from which the edges are traversed
+     * @param ids the array of edge ids
+     * @param from the first index (inclusive) of the range
+     * @param to the last index (exclusive) of the range
+     * @param visited the vertices which are not to be passed to <code>visitor</code>, or null
+     * @param visitor the consumer to which the vertices are passed
+     */
+    protected void visitOpposites(int v, int[] ids, int from, int to, Set<V> visited,
+        Consumer<? super V> visitor)
+    {
+        for (int i = from; i < to; i++)
+        {
+            V w = vertex(opposite(v, ids[i]));
+            if (visited == null || visited.add(w))
+                visitor.accept(w);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if any two edges in each range of <code>ids</code>
+     * (as specified by <code>offsets</code>) lead to the same opposite vertex.
+     * @param offsets the range boundaries for each vertex id
+     * @param ids the edge ids
+     * @return <code>true</code> if the specified index contains parallel edges
+     */
+    protected boolean hasParallelEdges(int[] offsets, int[] ids)
+    {
+        int[] seen = new int[vertices.length];
+        for (int v = 0; v < vertices.length; v++)
+        {
+            for (int i = offsets[v]; i < offsets[v + 1]; i++)
+            {
+                int w = opposite(v, ids[i]);
+                if (seen[w] == v + 1)
+                    return true;
+                seen[w] = v + 1;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a view of this graph as an <code>IntGraph</code> whose vertex and
+     * edge ids are the ones used internally by this instance; no copying is done.
+     * @return an <code>IntGraph</code> view of this graph
+     */
+    public abstract IntGraph<V,E> asIntGraph();
+
+    /**
+     * Base class for the <code>IntGraph</code> views of subclasses; supplies
+     * the translation between ids and vertices/edges.
+     */
+    protected abstract class CompactIntGraph implements IntGraph<V,E>, Serializable
+    {
+        public int getVertexCount()
+        {
+            return vertices.length;
+        }
+
+        public int getEdgeCount()
+        {
+            return edges.length;
+        }
+
+        public V getVertex(int id)
+        {
+            return vertex(id);
+        }
+
+        public int getVertexId(V vertex)
+        {
+            return vertexId(vertex);
+        }
+
+        public E getEdge(int id)
+        {
+            return edge(id);
+        }
+
+        public int getEdgeId(E edge)
+        {
+            return edgeId(edge);
+        }
+    }
+
+    public Collection<V> getVertices()
+    {
+        return new AbstractCollection<V>()
+        {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Iterator<V> iterator()
+            {
+                return (Iterator<V>)Iterators.forArray(vertices);
+            }
+
+            @Override
+            public int size()
+            {
+                return vertices.length;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public boolean contains(Object o)
+            {
+                return containsVertex((V)o);
+            }
+        };
+    }
+
+    public Collection<E> getEdges()
+    {
+        return new AbstractCollection<E>()
+        {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Iterator<E> iterator()
+            {
+                return (Iterator<E>)Iterators.forArray(edges);
+            }
+
+            @Override
+            public int size()
+            {
+                return edges.length;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public boolean contains(Object o)
+            {
+                return containsEdge((E)o);
+            }
+        };
+    }
+
+    public boolean containsVertex(V vertex)
+    {
+        return vertex_ids.containsKey(vertex);
+    }
+
+    public boolean containsEdge(E edge)
+    {
+        return edge_ids.containsKey(edge);
+    }
+
+    public int getVertexCount()
+    {
+        return vertices.length;
+    }
+
+    public int getEdgeCount()
+    {
+        return edges.length;
+    }
+
+    public Pair<V> getEndpoints(E edge)
+    {
+        int e = edgeId(edge);
+        if (e < 0)
+            return null;
+        return new Pair<V>(vertex(edge_first[e]), vertex(edge_second[e]));
+    }
+
+    @Override
+    public V getOpposite(V vertex, E edge)
+    {
+        int e = edgeId(edge);
+        int v = vertexId(vertex);
+        if (e < 0 || v < 0 || (edge_first[e] != v && edge_second[e] != v))
+            throw new IllegalArgumentException(vertex + " is not incident to " + edge + " in this graph");
+        return vertex(opposite(v, e));
+    }
+
+    @Override
+    public int getIncidentCount(E edge)
+    {
+        int e = edgeId(edge);
+        if (e < 0)
+            return 0;
+        return edge_first[e] == edge_second[e] ? 1 : 2;
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>; this graph is immutable.
+     */
+    @Override
+    public boolean addEdge(E edge, Pair<? extends V> endpoints, EdgeType edgeType)
+    {
+        throw new UnsupportedOperationException("this graph is immutable");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>; this graph is immutable.
+     */
+    public boolean addVertex(V vertex)
+    {
+        throw new UnsupportedOperationException("this graph is immutable");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>; this graph is immutable.
+     */
+    public boolean removeVertex(V vertex)
+    {
+        throw new UnsupportedOperationException("this graph is immutable");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>; this graph is immutable.
+     */
+    public boolean removeEdge(E edge)
+    {
+        throw new UnsupportedOperationException("this graph is immutable");
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.google.common.collect.AbstractIterator;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+/**
+ * An immutable implementation of <code>DirectedGraph</code> which stores its
+ * adjacency in compressed sparse row form (one pair of <code>int</code> arrays
+ * for outgoing edges and one for incoming edges), rather than in per-vertex maps.
+ * This makes it considerably smaller than <code>DirectedSparseGraph</code> and
+ * makes iteration over incident edges and neighbors cache-friendly; it is
+ * intended for graphs which are loaded once and then analyzed many times.
+ *
+ * <p>Parallel edges in the source graph are preserved.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ * @see AbstractCompactGraph
+ */
+@SuppressWarnings("serial")
+public class CompactDirectedGraph<V,E> extends AbstractCompactGraph<V,E>
+        implements DirectedGraph<V,E>
+{
+    protected final int[] out_offsets;  // vertex id -> start of its range in out_edges
+    protected final int[] out_edges;    // outgoing edge ids, grouped by source
+    protected final int[] in_offsets;   // vertex id -> start of its range in in_edges
+    protected final int[] in_edges;     // incoming edge ids, grouped by destination
+    protected final boolean parallel_edges;
+
+    /**
+     * Creates an immutable copy of <code>graph</code>.
+     * @param graph the graph whose vertices and edges are to be copied
+     * @throws IllegalArgumentException if <code>graph</code> contains any undirected edges
+     */
+    public CompactDirectedGraph(Graph<V,E> graph)
+    {
+        super(graph, EdgeType.DIRECTED);
+        int[][] out = buildIndex(edge_first, null);
+        int[][] in = buildIndex(edge_second, null);
+        this.out_offsets = out[0];
+        this.out_edges = out[1];
+        this.in_offsets = in[0];
+        this.in_edges = in[1];
+        this.parallel_edges = hasParallelEdges(out_offsets, out_edges);
+    }
+
+    @Override
+    public IntGraph<V,E> asIntGraph()
+    {
+        return new CompactIntGraph()
+        {
+            public int outDegree(int v)
+            {
+                return out_offsets[v + 1] - out_offsets[v];
+            }
+
+            public int outNeighbor(int v, int i)
+            {
+                return edge_second[out_edges[out_offsets[v] + i]];
+            }
+
+            public int outEdge(int v, int i)
+            {
+                return out_edges[out_offsets[v] + i];
+            }
+
+            public int inDegree(int v)
+            {
+                return in_offsets[v + 1] - in_offsets[v];
+            }
+
+            public int inNeighbor(int v, int i)
+            {
+                return edge_first[in_edges[in_offsets[v] + i]];
+            }
+
+            public int inEdge(int v, int i)
+            {
+                return in_edges[in_offsets[v] + i];
+            }
+        };
+    }
+
+    public Collection<E> getInEdges(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        return edgeView(in_edges, in_offsets[v], in_offsets[v + 1]);
+    }
+
+    public Collection<E> getOutEdges(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        return edgeView(out_edges, out_offsets[v], out_offsets[v + 1]);
+    }
+
+    public Collection<V> getPredecessors(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        Collection<V> preds = oppositeView(v, in_edges, in_offsets[v], in_offsets[v + 1]);
+        return parallel_edges ? distinct(preds) : preds;
+    }
+
+    public Collection<V> getSuccessors(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        Collection<V> succs = oppositeView(v, out_edges, out_offsets[v], out_offsets[v + 1]);
+        return parallel_edges ? distinct(succs) : succs;
+    }
+
+    public Collection<V> getNeighbors(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        Collection<V> neighbors = new HashSet<V>();
+        for (int i = out_offsets[v]; i < out_offsets[v + 1]; i++)
+            neighbors.add(vertex(edge_second[out_edges[i]]));
+        for (int i = in_offsets[v]; i < in_offsets[v + 1]; i++)
+            neighbors.add(vertex(edge_first[in_edges[i]]));
+        return Collections.unmodifiableCollection(neighbors);
+    }
+
+    /**
+     * Returns a view of the edges incident to <code>vertex</code>: its outgoing
+     * edges followed by those of its incoming edges that are not self-loops.
+     */
+    public Collection<E> getIncidentEdges(V vertex)
+    {
+        final int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        return new AbstractCollection<E>()
+        {
+            @Override
+            public Iterator<E> iterator()
+            {
+                return new AbstractIterator<E>()
+                {
+                    int out = out_offsets[v];
+                    int in = in_offsets[v];
+
+                    @Override
+                    protected E computeNext()
+                    {
+                        if (out < out_offsets[v + 1])
+                            return edge(out_edges[out++]);
+                        while (in < in_offsets[v + 1])
+                        {
+                            int e = in_edges[in++];
+                            if (edge_first[e] != edge_second[e])
+                                return edge(e);
+                        }
+                        return endOfData();
+                    }
+                };
+            }
+
+            @Override
+            public int size()
+            {
+                return degree(v);
+            }
+        };
+    }
+
+    @Override
+    public int inDegree(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return in_offsets[v + 1] - in_offsets[v];
+    }
+
+    @Override
+    public int outDegree(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return out_offsets[v + 1] - out_offsets[v];
+    }
+
+    @Override
+    public int degree(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return degree(v);
+    }
+
+    private int degree(int v)
+    {
+        int self_loops = 0;
+        for (int i = out_offsets[v]; i < out_offsets[v + 1]; i++)
+            if (edge_second[out_edges[i]] == v)
+                self_loops++;
+        return out_offsets[v + 1] - out_offsets[v] + in_offsets[v + 1] - in_offsets[v] - self_loops;
+    }
+
+    @Override
+    public int getPredecessorCount(V vertex)
+    {
+        return parallel_edges ? super.getPredecessorCount(vertex) : inDegree(vertex);
+    }
+
+    @Override
+    public int getSuccessorCount(V vertex)
+    {
+        return parallel_edges ? super.getSuccessorCount(vertex) : outDegree(vertex);
+    }
+
+    @Override
+    public boolean isPredecessor(V v1, V v2)
+    {
+        return findEdge(v2, v1) != null;
+    }
+
+    @Override
+    public boolean isSuccessor(V v1, V v2)
+    {
+        return findEdge(v1, v2) != null;
+    }
+
+    @Override
+    public boolean isNeighbor(V v1, V v2)
+    {
+        if (!containsVertex(v1) || !containsVertex(v2))
+            throw new IllegalArgumentException("At least one of these not in this graph: " + v1 + ", " + v2);
+        return findEdge(v1, v2) != null || findEdge(v2, v1) != null;
+    }
+
+    @Override
+    public E findEdge(V v1, V v2)
+    {
+        int source = vertexId(v1);
+        int dest = vertexId(v2);
+        if (source < 0 || dest < 0)
+            return null;
+        // scan whichever of the two adjacency ranges is shorter
+        if (out_offsets[source + 1] - out_offsets[source] <= in_offsets[dest + 1] - in_offsets[dest])
+        {
+            for (int i = out_offsets[source]; i < out_offsets[source + 1]; i++)
+                if (edge_second[out_edges[i]] == dest)
+                    return edge(out_edges[i]);
+        }
+        else
+        {
+            for (int i = in_offsets[dest]; i < in_offsets[dest + 1]; i++)
+                if (edge_first[in_edges[i]] == source)
+                    return edge(in_edges[i]);
+        }
+        return null;
+    }
+
+    @Override
+    public Collection<E> findEdgeSet(V v1, V v2)
+    {
+        int source = vertexId(v1);
+        int dest = vertexId(v2);
+        if (source < 0 || dest < 0)
+            return null;
+        Collection<E> edge_collection = new ArrayList<E>(1);
+        for (int i = out_offsets[source]; i < out_offsets[source + 1]; i++)
+            if (edge_second[out_edges[i]] == dest)
+                edge_collection.add(edge(out_edges[i]));
+        return Collections.unmodifiableCollection(edge_collection);
+    }
+
+    public V getSource(E directed_edge)
+    {
+        int e = edgeId(directed_edge);
+        if (e < 0)
+            return null;
+        return vertex(edge_first[e]);
+    }
+
+    public V getDest(E directed_edge)
+    {
+        int e = edgeId(directed_edge);
+        if (e < 0)
+            return null;
+        return vertex(edge_second[e]);
+    }
+
+    public boolean isSource(V vertex, E edge)
+    {
+        int e = edgeId(edge);
+        int v = vertexId(vertex);
+        return e >= 0 && v >= 0 && edge_first[e] == v;
+    }
+
+    public boolean isDest(V vertex, E edge)
+    {
+        int e = edgeId(edge);
+        int v = vertexId(vertex);
+        return e >= 0 && v >= 0 && edge_second[e] == v;
+    }
+
+    private Collection<V> distinct(Collection<V> vertices)
+    {
+        return Collections.unmodifiableCollection(new LinkedHashSet<V>(vertices));
+    }
+
+    @Override
+    public void forEachNeighbor(V vertex, Consumer<? super V> visitor)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return;
+        Set<V> visited = new HashSet<V>();
+        visitOpposites(v, out_edges, out_offsets[v], out_offsets[v + 1], visited, visitor);
+        visitOpposites(v, in_edges, in_offsets[v], in_offsets[v + 1], visited, visitor);
+    }
+
+    @Override
+    public void forEachPredecessor(V vertex, Consumer<? super V> visitor)
+    {
+        int v = vertexId(vertex);
+        if (v >= 0)
+            visitOpposites(v, in_edges, in_offsets[v], in_offsets[v + 1],
+                parallel_edges ? new HashSet<V>() : null, visitor);
+    }
+
+    @Override
+    public void forEachSuccessor(V vertex, Consumer<? super V> visitor)
+    {
+        int v = vertexId(vertex);
+        if (v >= 0)
+            visitOpposites(v, out_edges, out_offsets[v], out_offsets[v + 1],
+                parallel_edges ? new HashSet<V>() : null, visitor);
+    }
+
+    @Override
+    public void forEachIncidentEdge(V vertex, Consumer<? super E> visitor)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return;
+        visitEdges(out_edges, out_offsets[v], out_offsets[v + 1], visitor);
+        for (int i = in_offsets[v]; i < in_offsets[v + 1]; i++)
+        {
+            int e = in_edges[i];
+            if (edge_first[e] != edge_second[e])
+                visitor.accept(edge(e));
+        }
+    }
+
+    @Override
+    public void forEachInEdge(V vertex, Consumer<? super E> visitor)
+    {
+        int v = vertexId(vertex);
+        if (v >= 0)
+            visitEdges(in_edges, in_offsets[v], in_offsets[v + 1], visitor);
+    }
+
+    @Override
+    public void forEachOutEdge(V vertex, Consumer<? super E> visitor)
+    {
+        int v = vertexId(vertex);
+        if (v >= 0)
+            visitEdges(out_edges, out_offsets[v], out_offsets[v + 1], visitor);
+    }
+}
@@ -0,0 +1,705 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.google.common.collect.Iterators;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+/**
+ * An immutable implementation of <code>Hypergraph</code> which stores its
+ * incidence structure in compressed sparse row form in both directions: the
+ * vertex ids of each hyperedge, and the hyperedge ids of each vertex, are each
+ * kept in a single pair of <code>int</code> arrays rather than in per-element
+ * sets.  This makes it much smaller than <code>SetHypergraph</code> for
+ * hypergraphs with many small hyperedges; it is intended for hypergraphs which
+ * are loaded once and then analyzed many times.
+ *
+ * <p>Instances are created either by copying an existing hypergraph or with a
+ * {@link Builder}, which avoids building an intermediate
+ * <code>SetHypergraph</code>.  As in <code>SetHypergraph</code>, all hyperedges
+ * are undirected, parallel hyperedges are permitted, duplicate vertices in a
+ * hyperedge are ignored, and the neighbors of a vertex include the vertex itself
+ * if it is incident to any hyperedge.  All mutators throw
+ * <code>UnsupportedOperationException</code>.
+ *
+ * @param <V> the vertex type
+ * @param <H> the hyperedge type
+ */
+@SuppressWarnings("serial")
+public class CompactHypergraph<V,H> implements Hypergraph<V,H>, MultiGraph<V,H>, Serializable
+{
+    protected final Object[] vertices;          // vertices, indexed by vertex id
+    protected final Object[] edges;             // hyperedges, indexed by edge id
+    protected final Map<V, Integer> vertex_ids; // Map of vertices to vertex ids
+    protected final Map<H, Integer> edge_ids;   // Map of hyperedges to edge ids
+    protected final int[] edge_offsets;         // edge id -> start of its range in edge_members
+    protected final int[] edge_members;         // incident vertex ids, grouped by edge, ascending
+    protected final int[] vertex_offsets;       // vertex id -> start of its range in vertex_edges
+    protected final int[] vertex_edges;         // incident edge ids, grouped by vertex, ascending
+
+    /**
+     * Creates an immutable copy of <code>hypergraph</code>.  Vertex and edge ids
+     * follow the iteration order of its <code>getVertices()</code> and <code>getEdges()</code>.
+     * @param hypergraph the hypergraph whose vertices and hyperedges are to be copied
+     * @throws IllegalArgumentException if <code>hypergraph</code> contains any directed edges
+     */
+    public CompactHypergraph(Hypergraph<V,H> hypergraph)
+    {
+        this(copy(hypergraph));
+    }
+
+    private static <V,H> Builder<V,H> copy(Hypergraph<V,H> hypergraph)
+    {
+        Builder<V,H> builder = new Builder<V,H>(hypergraph.getVertexCount(), hypergraph.getEdgeCount());
+        for (V v : hypergraph.getVertices())
+            builder.addVertex(v);
+        for (H h : hypergraph.getEdges())
+        {
+            if (hypergraph.getEdgeType(h) != EdgeType.UNDIRECTED)
+                throw new IllegalArgumentException("Edge type for this implementation " +
+                    "must be EdgeType.UNDIRECTED, not " + hypergraph.getEdgeType(h));
+            builder.addEdge(h, hypergraph.getIncidentVertices(h));
+        }
+        return builder;
+    }
+
+    private CompactHypergraph(Builder<V,H> builder)
+    {
+        builder.checkNotBuilt();
+        builder.built = true;
+        this.vertices = builder.vertices.toArray();
+        this.edges = builder.edges.toArray();
+        this.vertex_ids = builder.vertex_ids;
+        this.edge_ids = builder.edge_ids;
+        this.edge_offsets = Arrays.copyOf(builder.edge_offsets, edges.length + 1);
+        this.edge_members = Arrays.copyOf(builder.members, builder.member_count);
+
+        // file each edge under each of its vertices, in increasing order of edge id
+        this.vertex_offsets = new int[vertices.length + 1];
+        for (int i = 0; i < edge_members.length; i++)
+            vertex_offsets[edge_members[i] + 1]++;
+        for (int v = 0; v < vertices.length; v++)
+            vertex_offsets[v + 1] += vertex_offsets[v];
+        this.vertex_edges = new int[edge_members.length];
+        int[] next = Arrays.copyOf(vertex_offsets, vertices.length);
+        for (int e = 0; e < edges.length; e++)
+            for (int i = edge_offsets[e]; i < edge_offsets[e + 1]; i++)
+                vertex_edges[next[edge_members[i]]++] = e;
+    }
+
+    /**
+     * Collects the vertices and hyperedges of a <code>CompactHypergraph</code>
+     * without building any per-element sets.  Vertex and edge ids are assigned
+     * in the order in which vertices and hyperedges are first added.
+     * A builder may only be used to build one instance.
+     *
+     * @param <V> the vertex type
+     * @param <H> the hyperedge type
+     */
+    public static class Builder<V,H>
+    {
+        private final Map<V, Integer> vertex_ids;
+        private final List<Object> vertices;
+        private final Map<H, Integer> edge_ids;
+        private final List<Object> edges;
+        private int[] edge_offsets;
+        private int[] members;
+        private int member_count;
+        private boolean built;
+
+        /**
+         * Creates a builder.
+         */
+        public Builder()
+        {
+            this(16, 16);
+        }
+
+        /**
+         * Creates a builder with space for the specified numbers of vertices and hyperedges.
+         * @param expected_vertex_count the number of vertices expected
+         * @param expected_edge_count the number of hyperedges expected
+         */
+        public Builder(int expected_vertex_count, int expected_edge_count)
+        {
+            this.vertex_ids = new HashMap<V, Integer>(capacityFor(expected_vertex_count));
+            this.vertices = new ArrayList<Object>(expected_vertex_count);
+            this.edge_ids = new HashMap<H, Integer>(capacityFor(expected_edge_count));
+            this.edges = new ArrayList<Object>(expected_edge_count);
+            this.edge_offsets = new int[Math.max(16, expected_edge_count) + 1];
+            this.members = new int[Math.max(16, 2 * expected_edge_count)];
+        }
+
+        private static int capacityFor(int size)
+        {
+            return Math.max(16, (int)(size / 0.75f) + 1);
+        }
+
+        private void checkNotBuilt()
+        {
+            if (built)
+                throw new IllegalStateException("this builder has already been used");
+        }
+
+        private int vertexId(V vertex)
+        {
+            if (vertex == null)
+                throw new IllegalArgumentException("cannot add a null vertex");
+            Integer id = vertex_ids.get(vertex);
+            if (id == null)
+            {
+                id = vertices.size();
+                vertex_ids.put(vertex, id);
+                vertices.add(vertex);
+            }
+            return id;
+        }
+
+        /**
+         * Adds <code>vertex</code> if it has not already been added.
+         * @param vertex the vertex to add
+         * @return this builder
+         */
+        public Builder<V,H> addVertex(V vertex)
+        {
+            checkNotBuilt();
+            vertexId(vertex);
+            return this;
+        }
+
+        /**
+         * Adds <code>hyperedge</code>, connecting the vertices in <code>to_attach</code>
+         * and adding any that have not already been added.  Duplicates in
+         * <code>to_attach</code> are ignored.
+         * @param hyperedge the hyperedge to add
+         * @param to_attach the vertices incident to <code>hyperedge</code>
+         * @return this builder
+         * @throws IllegalArgumentException if <code>hyperedge</code> has already been added,
+         * or if it or any of its vertices is null
+         */
+        public Builder<V,H> addEdge(H hyperedge, Collection<? extends V> to_attach)
+        {
+            checkNotBuilt();
+            if (hyperedge == null)
+                throw new IllegalArgumentException("input hyperedge may not be null");
+            if (to_attach == null)
+                throw new IllegalArgumentException("endpoints may not be null");
+            if (edge_ids.containsKey(hyperedge))
+                throw new IllegalArgumentException("Edge " + hyperedge + " has already been added");
+
+            int e = edges.size();
+            int from = edge_offsets[e];
+            if (members.length - from < to_attach.size())
+                members = Arrays.copyOf(members, Math.max(2 * members.length, from + to_attach.size()));
+            int to = from;
+            for (V v : to_attach)
+                members[to++] = vertexId(v);
+            Arrays.sort(members, from, to);
+            int end = from;
+            for (int i = from; i < to; i++)
+                if (i == from || members[i] != members[i - 1])
+                    members[end++] = members[i];
+
+            edge_ids.put(hyperedge, e);
+            edges.add(hyperedge);
+            if (e + 2 > edge_offsets.length)
+                edge_offsets = Arrays.copyOf(edge_offsets, 2 * edge_offsets.length);
+            edge_offsets[e + 1] = end;
+            member_count = end;
+            return this;
+        }
+
+        /**
+         * @return a <code>CompactHypergraph</code> with the vertices and hyperedges added to this builder
+         * @throws IllegalStateException if this builder has already been used
+         */
+        public CompactHypergraph<V,H> build()
+        {
+            return new CompactHypergraph<V,H>(this);
+        }
+    }
+
+    /**
+     * Returns the id of <code>vertex</code>, or -1 if it is not in this hypergraph.
+     * @param vertex the vertex whose id is to be returned
+     * @return the id of <code>vertex</code>, or -1 if it is not in this hypergraph
+     */
+    protected int vertexId(V vertex)
+    {
+        Integer id = vertex_ids.get(vertex);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the id of <code>edge</code>, or -1 if it is not in this hypergraph.
+     * @param edge the hyperedge whose id is to be returned
+     * @return the id of <code>edge</code>, or -1 if it is not in this hypergraph
+     */
+    protected int edgeId(H edge)
+    {
+        Integer id = edge_ids.get(edge);
+        return id == null ? -1 : id;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected V vertex(int id)
+    {
+        return (V)vertices[id];
+    }
+
+    @SuppressWarnings("unchecked")
+    protected H edge(int id)
+    {
+        return (H)edges[id];
+    }
+
+    /**
+     * Returns an unmodifiable view of the vertices whose ids are in <code>ids[from..to)</code>.
+     */
+    private Collection<V> vertexView(final int[] ids, final int from, final int to)
+    {
+        return new AbstractList<V>()
+        {
+            @Override
+            public V get(int index)
+            {
+                return vertex(ids[from + index]);
+            }
+
+            @Override
+            public int size()
+            {
+                return to - from;
+            }
+        };
+    }
+
+    /**
+     * Returns an unmodifiable view of the hyperedges whose ids are in <code>ids[from..to)</code>.
+     */
+    private Collection<H> edgeView(final int[] ids, final int from, final int to)
+    {
+        return new AbstractList<H>()
+        {
+            @Override
+            public H get(int index)
+            {
+                return edge(ids[from + index]);
+            }
+
+            @Override
+            public int size()
+            {
+                return to - from;
+            }
+        };
+    }
+
+    /**
+     * Returns the ids of the vertices which share a hyperedge with vertex <code>v</code>,
+     * which is incident to more than one hyperedge, in ascending order.
+     * The members of its hyperedges are merged by sorting rather than with a set.
+     */
+    private int[] neighborIds(int v)
+    {
+        int size = 0;
+        for (int i = vertex_offsets[v]; i < vertex_offsets[v + 1]; i++)
+        {
+            int e = vertex_edges[i];
+            size += edge_offsets[e + 1] - edge_offsets[e];
+        }
+        int[] ids = new int[size];
+        size = 0;
+        for (int i = vertex_offsets[v]; i < vertex_offsets[v + 1]; i++)
+        {
+            int e = vertex_edges[i];
+            int length = edge_offsets[e + 1] - edge_offsets[e];
+            System.arraycopy(edge_members, edge_offsets[e], ids, size, length);
+            size += length;
+        }
+        Arrays.sort(ids);
+        int count = 0;
+        for (int i = 0; i < ids.length; i++)
+            if (i == 0 || ids[i] != ids[i - 1])
+                ids[count++] = ids[i];
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+
+    /**
+     * Returns the id of the first hyperedge incident to both <code>v1</code> and
+     * <code>v2</code> at or after position <code>i</code> of the range of
+     * <code>v1</code>, or -1 if there is none; both ranges are in ascending order.
+     */
+    private int nextCommonEdge(int v1, int v2, int i)
+    {
+        int j = vertex_offsets[v2];
+        while (i < vertex_offsets[v1 + 1] && j < vertex_offsets[v2 + 1])
+        {
+            if (vertex_edges[i] < vertex_edges[j])
+                i++;
+            else if (vertex_edges[i] > vertex_edges[j])
+                j++;
+            else
+                return i;
+        }
+        return -1;
+    }
+
+    public Collection<H> getEdges()
+    {
+        return new AbstractCollection<H>()
+        {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Iterator<H> iterator()
+            {
+                return (Iterator<H>)Iterators.forArray(edges);
+            }
+
+            @Override
+            public int size()
+            {
+                return edges.length;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public boolean contains(Object o)
+            {
+                return containsEdge((H)o);
+            }
+        };
+    }
+
+    public Collection<V> getVertices()
+    {
+        return new AbstractCollection<V>()
+        {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Iterator<V> iterator()
+            {
+                return (Iterator<V>)Iterators.forArray(vertices);
+            }
+
+            @Override
+            public int size()
+            {
+                return vertices.length;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public boolean contains(Object o)
+            {
+                return containsVertex((V)o);
+            }
+        };
+    }
+
+    public boolean containsVertex(V vertex)
+    {
+        return vertex_ids.containsKey(vertex);
+    }
+
+    public boolean containsEdge(H edge)
+    {
+        return edge_ids.containsKey(edge);
+    }
+
+    public int getEdgeCount()
+    {
+        return edges.length;
+    }
+
+    public int getVertexCount()
+    {
+        return vertices.length;
+    }
+
+    /**
+     * Returns the vertices which share a hyperedge with <code>vertex</code>
+     * (including <code>vertex</code> itself, if it is incident to any hyperedge).
+     * If <code>vertex</code> is incident to a single hyperedge, this is a view
+     * of that hyperedge's vertices; otherwise the vertices are merged without
+     * hashing.
+     */
+    public Collection<V> getNeighbors(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        int degree = vertex_offsets[v + 1] - vertex_offsets[v];
+        if (degree == 0)
+            return Collections.emptyList();
+        if (degree == 1)
+        {
+            int e = vertex_edges[vertex_offsets[v]];
+            return vertexView(edge_members, edge_offsets[e], edge_offsets[e + 1]);
+        }
+        int[] ids = neighborIds(v);
+        return vertexView(ids, 0, ids.length);
+    }
+
+    public Collection<H> getIncidentEdges(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        return edgeView(vertex_edges, vertex_offsets[v], vertex_offsets[v + 1]);
+    }
+
+    public Collection<V> getIncidentVertices(H edge)
+    {
+        int e = edgeId(edge);
+        if (e < 0)
+            return null;
+        return vertexView(edge_members, edge_offsets[e], edge_offsets[e + 1]);
+    }
+
+    public H findEdge(V v1, V v2)
+    {
+        int id1 = vertexId(v1);
+        int id2 = vertexId(v2);
+        if (id1 < 0 || id2 < 0)
+            return null;
+        int i = nextCommonEdge(id1, id2, vertex_offsets[id1]);
+        return i < 0 ? null : edge(vertex_edges[i]);
+    }
+
+    public Collection<H> findEdgeSet(V v1, V v2)
+    {
+        int id1 = vertexId(v1);
+        int id2 = vertexId(v2);
+        if (id1 < 0 || id2 < 0)
+            return null;
+        Collection<H> edge_collection = new ArrayList<H>();
+        for (int i = nextCommonEdge(id1, id2, vertex_offsets[id1]); i >= 0;
+             i = nextCommonEdge(id1, id2, i + 1))
+            edge_collection.add(edge(vertex_edges[i]));
+        return Collections.unmodifiableCollection(edge_collection);
+    }
+
+    /**
+     * Returns 0: this hypergraph is immutable.
+     */
+    public long getModificationCount()
+    {
+        return 0;
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>; this hypergraph is immutable.
+     */
+    public boolean addVertex(V vertex)
+    {
+        throw new UnsupportedOperationException("this hypergraph is immutable");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>; this hypergraph is immutable.
+     */
+    public boolean addEdge(H hyperedge, Collection<? extends V> to_attach)
+    {
+        throw new UnsupportedOperationException("this hypergraph is immutable");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>; this hypergraph is immutable.
+     */
+    public boolean addEdge(H hyperedge, Collection<? extends V> to_attach, EdgeType edge_type)
+    {
+        throw new UnsupportedOperationException("this hypergraph is immutable");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>; this hypergraph is immutable.
+     */
+    public boolean removeVertex(V vertex)
+    {
+        throw new UnsupportedOperationException("this hypergraph is immutable");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>; this hypergraph is immutable.
+     */
+    public boolean removeEdge(H hyperedge)
+    {
+        throw new UnsupportedOperationException("this hypergraph is immutable");
+    }
+
+    public boolean isNeighbor(V v1, V v2)
+    {
+        return findEdge(v1, v2) != null;
+    }
+
+    public boolean isIncident(V vertex, H edge)
+    {
+        int v = vertexId(vertex);
+        int e = edgeId(edge);
+        if (v < 0 || e < 0)
+            return false;
+        return Arrays.binarySearch(edge_members, edge_offsets[e], edge_offsets[e + 1], v) >= 0;
+    }
+
+    public int degree(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return 0;
+        return vertex_offsets[v + 1] - vertex_offsets[v];
+    }
+
+    public int getNeighborCount(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return 0;
+        int degree = vertex_offsets[v + 1] - vertex_offsets[v];
+        if (degree == 0)
+            return 0;
+        if (degree == 1)
+        {
+            int e = vertex_edges[vertex_offsets[v]];
+            return edge_offsets[e + 1] - edge_offsets[e];
+        }
+        return neighborIds(v).length;
+    }
+
+    public int getIncidentCount(H edge)
+    {
+        int e = edgeId(edge);
+        if (e < 0)
+            return 0;
+        return edge_offsets[e + 1] - edge_offsets[e];
+    }
+
+    public EdgeType getEdgeType(H edge)
+    {
+        return containsEdge(edge) ? EdgeType.UNDIRECTED : null;
+    }
+
+    public EdgeType getDefaultEdgeType()
+    {
+        return EdgeType.UNDIRECTED;
+    }
+
+    public int getEdgeCount(EdgeType edge_type)
+    {
+        return edge_type == EdgeType.UNDIRECTED ? edges.length : 0;
+    }
+
+    public Collection<H> getEdges(EdgeType edge_type)
+    {
+        if (edge_type == EdgeType.UNDIRECTED)
+            return getEdges();
+        return Collections.emptySet();
+    }
+
+    public Collection<H> getInEdges(V vertex)
+    {
+        return getIncidentEdges(vertex);
+    }
+
+    public Collection<H> getOutEdges(V vertex)
+    {
+        return getIncidentEdges(vertex);
+    }
+
+    public int inDegree(V vertex)
+    {
+        return degree(vertex);
+    }
+
+    public int outDegree(V vertex)
+    {
+        return degree(vertex);
+    }
+
+    public V getDest(H directed_edge)
+    {
+        return null;
+    }
+
+    public V getSource(H directed_edge)
+    {
+        return null;
+    }
+
+    public Collection<V> getPredecessors(V vertex)
+    {
+        return getNeighbors(vertex);
+    }
+
+    public Collection<V> getSuccessors(V vertex)
+    {
+        return getNeighbors(vertex);
+    }
+
+    @Override
+    public void forEachNeighbor(V vertex, Consumer<? super V> visitor)
+    {
+        Collection<V> neighbors = getNeighbors(vertex);
+        if (neighbors == null)
+            return;
+        for (V v : neighbors)
+            visitor.accept(v);
+    }
+
+    @Override
+    public void forEachPredecessor(V vertex, Consumer<? super V> visitor)
+    {
+        forEachNeighbor(vertex, visitor);
+    }
+
+    @Override
+    public void forEachSuccessor(V vertex, Consumer<? super V> visitor)
+    {
+        forEachNeighbor(vertex, visitor);
+    }
+
+    @Override
+    public void forEachIncidentEdge(V vertex, Consumer<? super H> visitor)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return;
+        for (int i = vertex_offsets[v]; i < vertex_offsets[v + 1]; i++)
+            visitor.accept(edge(vertex_edges[i]));
+    }
+
+    @Override
+    public void forEachInEdge(V vertex, Consumer<? super H> visitor)
+    {
+        forEachIncidentEdge(vertex, visitor);
+    }
+
+    @Override
+    public void forEachOutEdge(V vertex, Consumer<? super H> visitor)
+    {
+        forEachIncidentEdge(vertex, visitor);
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.function.Consumer;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+/**
+ * An immutable implementation of <code>UndirectedGraph</code> which stores its
+ * adjacency in compressed sparse row form (a single pair of <code>int</code>
+ * arrays in which each edge is listed under both of its endpoints), rather than
+ * in per-vertex maps.  This makes it considerably smaller than
+ * <code>UndirectedSparseGraph</code> and makes iteration over incident edges
+ * and neighbors cache-friendly; it is intended for graphs which are loaded
+ * once and then analyzed many times.
+ *
+ * <p>Parallel edges in the source graph are preserved.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ * @see AbstractCompactGraph
+ */
+@SuppressWarnings("serial")
+public class CompactUndirectedGraph<V,E> extends AbstractCompactGraph<V,E>
+        implements UndirectedGraph<V,E>
+{
+    protected final int[] offsets;          // vertex id -> start of its range in incident_edges
+    protected final int[] incident_edges;   // incident edge ids, grouped by vertex
+    protected final boolean parallel_edges;
+
+    /**
+     * Creates an immutable copy of <code>graph</code>.
+     * @param graph the graph whose vertices and edges are to be copied
+     * @throws IllegalArgumentException if <code>graph</code> contains any directed edges
+     */
+    public CompactUndirectedGraph(Graph<V,E> graph)
+    {
+        super(graph, EdgeType.UNDIRECTED);
+        int[][] index = buildIndex(edge_first, edge_second);
+        this.offsets = index[0];
+        this.incident_edges = index[1];
+        this.parallel_edges = hasParallelEdges(offsets, incident_edges);
+    }
+
+    @Override
+    public IntGraph<V,E> asIntGraph()
+    {
+        return new CompactIntGraph()
+        {
+            public int outDegree(int v)
+            {
+                return offsets[v + 1] - offsets[v];
+            }
+
+            public int outNeighbor(int v, int i)
+            {
+                return opposite(v, incident_edges[offsets[v] + i]);
+            }
+
+            public int outEdge(int v, int i)
+            {
+                return incident_edges[offsets[v] + i];
+            }
+
+            public int inDegree(int v)
+            {
+                return outDegree(v);
+            }
+
+            public int inNeighbor(int v, int i)
+            {
+                return outNeighbor(v, i);
+            }
+
+            public int inEdge(int v, int i)
+            {
+                return outEdge(v, i);
+            }
+        };
+    }
+
+    public Collection<E> getIncidentEdges(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        return edgeView(incident_edges, offsets[v], offsets[v + 1]);
+    }
+
+    public Collection<E> getInEdges(V vertex)
+    {
+        return getIncidentEdges(vertex);
+    }
+
+    public Collection<E> getOutEdges(V vertex)
+    {
+        return getIncidentEdges(vertex);
+    }
+
+    public Collection<V> getNeighbors(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        Collection<V> neighbors = oppositeView(v, incident_edges, offsets[v], offsets[v + 1]);
+        if (parallel_edges)
+            return Collections.unmodifiableCollection(new LinkedHashSet<V>(neighbors));
+        return neighbors;
+    }
+
+    public Collection<V> getPredecessors(V vertex)
+    {
+        return getNeighbors(vertex);
+    }
+
+    public Collection<V> getSuccessors(V vertex)
+    {
+        return getNeighbors(vertex);
+    }
+
+    @Override
+    public int degree(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return offsets[v + 1] - offsets[v];
+    }
+
+    @Override
+    public int inDegree(V vertex)
+    {
+        return degree(vertex);
+    }
+
+    @Override
+    public int outDegree(V vertex)
+    {
+        return degree(vertex);
+    }
+
+    @Override
+    public int getNeighborCount(V vertex)
+    {
+        return parallel_edges ? super.getNeighborCount(vertex) : degree(vertex);
+    }
+
+    @Override
+    public int getPredecessorCount(V vertex)
+    {
+        return getNeighborCount(vertex);
+    }
+
+    @Override
+    public int getSuccessorCount(V vertex)
+    {
+        return getNeighborCount(vertex);
+    }
+
+    @Override
+    public boolean isNeighbor(V v1, V v2)
+    {
+        if (!containsVertex(v1) || !containsVertex(v2))
+            throw new IllegalArgumentException("At least one of these not in this graph: " + v1 + ", " + v2);
+        return findEdge(v1, v2) != null;
+    }
+
+    @Override
+    public boolean isPredecessor(V v1, V v2)
+    {
+        return findEdge(v1, v2) != null;
+    }
+
+    @Override
+    public boolean isSuccessor(V v1, V v2)
+    {
+        return findEdge(v1, v2) != null;
+    }
+
+    @Override
+    public E findEdge(V v1, V v2)
+    {
+        int id1 = vertexId(v1);
+        int id2 = vertexId(v2);
+        if (id1 < 0 || id2 < 0)
+            return null;
+        // scan whichever of the two adjacency ranges is shorter
+        if (offsets[id1 + 1] - offsets[id1] > offsets[id2 + 1] - offsets[id2])
+        {
+            int tmp = id1;
+            id1 = id2;
+            id2 = tmp;
+        }
+        for (int i = offsets[id1]; i < offsets[id1 + 1]; i++)
+            if (opposite(id1, incident_edges[i]) == id2)
+                return edge(incident_edges[i]);
+        return null;
+    }
+
+    @Override
+    public Collection<E> findEdgeSet(V v1, V v2)
+    {
+        int id1 = vertexId(v1);
+        int id2 = vertexId(v2);
+        if (id1 < 0 || id2 < 0)
+            return null;
+        Collection<E> edge_collection = new ArrayList<E>(1);
+        for (int i = offsets[id1]; i < offsets[id1 + 1]; i++)
+            if (opposite(id1, incident_edges[i]) == id2)
+                edge_collection.add(edge(incident_edges[i]));
+        return Collections.unmodifiableCollection(edge_collection);
+    }
+
+    public V getSource(E directed_edge)
+    {
+        return null;
+    }
+
+    public V getDest(E directed_edge)
+    {
+        return null;
+    }
+
+    public boolean isSource(V vertex, E edge)
+    {
+        return false;
+    }
+
+    public boolean isDest(V vertex, E edge)
+    {
+        return false;
+    }
+
+    @Override
+    public void forEachNeighbor(V vertex, Consumer<? super V> visitor)
+    {
+        int v = vertexId(vertex);
+        if (v >= 0)
+            visitOpposites(v, incident_edges, offsets[v], offsets[v + 1],
+                parallel_edges ? new HashSet<V>() : null, visitor);
+    }
+
+    @Override
+    public void forEachPredecessor(V vertex, Consumer<? super V> visitor)
+    {
+        forEachNeighbor(vertex, visitor);
+    }
+
+    @Override
+    public void forEachSuccessor(V vertex, Consumer<? super V> visitor)
+    {
+        forEachNeighbor(vertex, visitor);
+    }
+
+    @Override
+    public void forEachIncidentEdge(V vertex, Consumer<? super E> visitor)
+    {
+        int v = vertexId(vertex);
+        if (v >= 0)
+            visitEdges(incident_edges, offsets[v], offsets[v + 1], visitor);
+    }
+
+    @Override
+    public void forEachInEdge(V vertex, Consumer<? super E> visitor)
+    {
+        forEachIncidentEdge(vertex, visitor);
+    }
+
+    @Override
+    public void forEachOutEdge(V vertex, Consumer<? super E> visitor)
+    {
+        forEachIncidentEdge(vertex, visitor);
+    }
+}
@@ -0,0 +1,550 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+
+import com.google.common.base.Supplier;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Striped;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * A thread-safe implementation of <code>Graph</code> that is suitable for sparse graphs
+ * and permits directed, undirected, and parallel edges.
+ * <p>
+ * Unlike the graphs returned by <code>Graphs.synchronizedGraph</code>, this class does
+ * not serialize all operations on a single monitor.  Vertices, edges, and adjacency
+ * sets are held in concurrent maps and sets, so reads never block; mutations
+ * lock only the (striped) locks associated with the endpoints of the edge involved,
+ * so that threads which add or remove edges among different vertices proceed in parallel.
+ * <p>
+ * The collections returned by this class are weakly consistent: iterating over
+ * them never throws <code>ConcurrentModificationException</code>, and reflects
+ * some (but not necessarily all) of the modifications made since the collection
+ * was obtained.  Collections which must be computed (such as <code>getNeighbors</code>)
+ * are snapshots.  As with the other graph implementations, no guarantee is made
+ * about the atomicity of compound operations performed by the caller.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ */
+@SuppressWarnings("serial")
+public class ConcurrentSparseMultigraph<V,E>
+    extends AbstractGraph<V,E>
+    implements MultiGraph<V,E>
+{
+    /**
+     * @param <V> the vertex type for the graph Supplier
+     * @param <E> the edge type for the graph Supplier
+     * @return a {@code Supplier} that creates an instance of this graph type
+     */
+    public static <V,E> Supplier<Graph<V,E>> getFactory()
+    {
+        return new Supplier<Graph<V,E>> () {
+            public Graph<V,E> get() {
+                return new ConcurrentSparseMultigraph<V,E>();
+            }
+        };
+    }
+
+    /**
+     * The endpoints and type of an edge; published atomically.
+     */
+    protected static class EdgeRecord<V> implements Serializable
+    {
+        protected final Pair<V> endpoints;
+        protected final EdgeType edge_type;
+
+        protected EdgeRecord(Pair<V> endpoints, EdgeType edge_type)
+        {
+            this.endpoints = endpoints;
+            this.edge_type = edge_type;
+        }
+    }
+
+    protected ConcurrentMap<V, Pair<Set<E>>> vertices; // Map of vertices to Pair of adjacency sets {incoming, outgoing}
+    protected ConcurrentMap<E, EdgeRecord<V>> edges;   // Map of edges to incident vertex pairs and edge types
+    protected final int stripe_count;
+    protected transient Striped<Lock> vertex_locks;
+    protected final AtomicLong modifications = new AtomicLong(); // used instead of modification_count
+
+    /**
+     * Creates a new instance whose number of lock stripes is proportional to the
+     * number of available processors.
+     */
+    public ConcurrentSparseMultigraph()
+    {
+        this(4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new instance with the specified number of lock stripes.
+     * @param stripe_count the number of locks among which vertices are distributed
+     */
+    public ConcurrentSparseMultigraph(int stripe_count)
+    {
+        if (stripe_count <= 0)
+            throw new IllegalArgumentException("stripe count must be positive: " + stripe_count);
+        this.stripe_count = stripe_count;
+        this.vertices = new ConcurrentHashMap<V, Pair<Set<E>>>();
+        this.edges = new ConcurrentHashMap<E, EdgeRecord<V>>();
+        this.vertex_locks = Striped.lock(stripe_count);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        this.vertex_locks = Striped.lock(stripe_count);
+    }
+
+    /**
+     * Acquires the locks for the specified vertices, in a globally consistent order.
+     */
+    private List<Lock> lock(V v1, V v2)
+    {
+        List<Lock> locks = Lists.newArrayList(vertex_locks.bulkGet(Arrays.asList(v1, v2)));
+        for (Lock lock : locks)
+            lock.lock();
+        return locks;
+    }
+
+    private static void unlock(List<Lock> locks)
+    {
+        for (int i = locks.size() - 1; i >= 0; i--)
+            locks.get(i).unlock();
+    }
+
+    public Collection<E> getEdges()
+    {
+        return Collections.unmodifiableCollection(edges.keySet());
+    }
+
+    public Collection<V> getVertices()
+    {
+        return Collections.unmodifiableCollection(vertices.keySet());
+    }
+
+    public boolean containsVertex(V vertex)
+    {
+        return vertex != null && vertices.containsKey(vertex);
+    }
+
+    public boolean containsEdge(E edge)
+    {
+        return edge != null && edges.containsKey(edge);
+    }
+
+    public boolean addVertex(V vertex)
+    {
+        if (vertex == null)
+            throw new IllegalArgumentException("vertex may not be null");
+        if (vertices.putIfAbsent(vertex, newAdjacency()) != null)
+            return false;
+        modifications.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public long getModificationCount()
+    {
+        return modifications.get();
+    }
+
+    private Pair<Set<E>> newAdjacency()
+    {
+        return new Pair<Set<E>>(Sets.<E>newConcurrentHashSet(), Sets.<E>newConcurrentHashSet());
+    }
+
+    public boolean removeVertex(V vertex)
+    {
+        if (!containsVertex(vertex))
+            return false;
+        Lock lock = vertex_locks.get(vertex);
+        while (true)
+        {
+            Pair<Set<E>> adjacency = vertices.get(vertex);
+            if (adjacency == null)
+                return false;
+            // edges are removed without holding this vertex's lock, so that
+            // removeEdge can acquire both endpoint locks in the usual order
+            for (E edge : new ArrayList<E>(adjacency.getFirst()))
+                removeEdge(edge);
+            for (E edge : new ArrayList<E>(adjacency.getSecond()))
+                removeEdge(edge);
+            lock.lock();
+            try
+            {
+                // retry if an edge was added to this vertex in the meantime
+                if (adjacency.getFirst().isEmpty() && adjacency.getSecond().isEmpty())
+                {
+                    if (!vertices.remove(vertex, adjacency))
+                        return false;
+                    modifications.incrementAndGet();
+                    return true;
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public boolean addEdge(E edge, Pair<? extends V> endpoints, EdgeType edgeType)
+    {
+        Pair<V> new_endpoints = getValidatedEndpoints(edge, endpoints);
+        if (new_endpoints == null)
+            return false;
+        V v1 = new_endpoints.getFirst();
+        V v2 = new_endpoints.getSecond();
+        if (v1 == null || v2 == null)
+            throw new IllegalArgumentException("endpoints may not be null");
+
+        List<Lock> locks = lock(v1, v2);
+        try
+        {
+            // (re)create the endpoints here, in case they were concurrently removed
+            addVertex(v1);
+            addVertex(v2);
+            EdgeType type = edgeType == EdgeType.DIRECTED ? EdgeType.DIRECTED : EdgeType.UNDIRECTED;
+            EdgeRecord<V> existing = edges.putIfAbsent(edge, new EdgeRecord<V>(new_endpoints, type));
+            if (existing != null)
+            {
+                if (existing.endpoints.equals(new_endpoints))
+                    return false;
+                throw new IllegalArgumentException("edge " + edge +
+                    " already exists in this graph with endpoints " + existing.endpoints +
+                    " and cannot be added with endpoints " + endpoints);
+            }
+            vertices.get(v1).getSecond().add(edge);
+            vertices.get(v2).getFirst().add(edge);
+            if (type == EdgeType.UNDIRECTED)
+            {
+                vertices.get(v1).getFirst().add(edge);
+                vertices.get(v2).getSecond().add(edge);
+            }
+            modifications.incrementAndGet();
+            return true;
+        }
+        finally
+        {
+            unlock(locks);
+        }
+    }
+
+    public boolean removeEdge(E edge)
+    {
+        EdgeRecord<V> record = edge == null ? null : edges.get(edge);
+        if (record == null)
+            return false;
+        V v1 = record.endpoints.getFirst();
+        V v2 = record.endpoints.getSecond();
+
+        List<Lock> locks = lock(v1, v2);
+        try
+        {
+            if (!edges.remove(edge, record))
+                return false;
+            vertices.get(v1).getSecond().remove(edge);
+            vertices.get(v2).getFirst().remove(edge);
+            if (record.edge_type == EdgeType.UNDIRECTED)
+            {
+                vertices.get(v1).getFirst().remove(edge);
+                vertices.get(v2).getSecond().remove(edge);
+            }
+            modifications.incrementAndGet();
+            return true;
+        }
+        finally
+        {
+            unlock(locks);
+        }
+    }
+
+    public Collection<E> getInEdges(V vertex)
+    {
+        Pair<Set<E>> adjacency = vertex == null ? null : vertices.get(vertex);
+        if (adjacency == null)
+            return null;
+        return Collections.unmodifiableCollection(adjacency.getFirst());
+    }
+
+    public Collection<E> getOutEdges(V vertex)
+    {
+        Pair<Set<E>> adjacency = vertex == null ? null : vertices.get(vertex);
+        if (adjacency == null)
+            return null;
+        return Collections.unmodifiableCollection(adjacency.getSecond());
+    }
+
+    /**
+     * Adds to <code>opposites</code> the vertex opposite <code>vertex</code> on each
+     * of <code>incident</code>, skipping edges which have been removed concurrently.
+     */
+    private void addOpposites(V vertex, Collection<E> incident, Collection<V> opposites)
+    {
+        for (E edge : incident)
+        {
+            EdgeRecord<V> record = edges.get(edge);
+            if (record == null)
+                continue;
+            V first = record.endpoints.getFirst();
+            opposites.add(vertex.equals(first) ? record.endpoints.getSecond() : first);
+        }
+    }
+
+    public Collection<V> getPredecessors(V vertex)
+    {
+        Pair<Set<E>> adjacency = vertex == null ? null : vertices.get(vertex);
+        if (adjacency == null)
+            return null;
+        Set<V> preds = new HashSet<V>();
+        addOpposites(vertex, adjacency.getFirst(), preds);
+        return Collections.unmodifiableCollection(preds);
+    }
+
+    public Collection<V> getSuccessors(V vertex)
+    {
+        Pair<Set<E>> adjacency = vertex == null ? null : vertices.get(vertex);
+        if (adjacency == null)
+            return null;
+        Set<V> succs = new HashSet<V>();
+        addOpposites(vertex, adjacency.getSecond(), succs);
+        return Collections.unmodifiableCollection(succs);
+    }
+
+    public Collection<V> getNeighbors(V vertex)
+    {
+        Pair<Set<E>> adjacency = vertex == null ? null : vertices.get(vertex);
+        if (adjacency == null)
+            return null;
+        Set<V> neighbors = new HashSet<V>();
+        addOpposites(vertex, adjacency.getFirst(), neighbors);
+        addOpposites(vertex, adjacency.getSecond(), neighbors);
+        return Collections.unmodifiableCollection(neighbors);
+    }
+
+    public Collection<E> getIncidentEdges(V vertex)
+    {
+        Pair<Set<E>> adjacency = vertex == null ? null : vertices.get(vertex);
+        if (adjacency == null)
+            return null;
+        Set<E> incident = new HashSet<E>(adjacency.getFirst());
+        incident.addAll(adjacency.getSecond());
+        return Collections.unmodifiableCollection(incident);
+    }
+
+    @Override
+    public E findEdge(V v1, V v2)
+    {
+        Pair<Set<E>> adjacency = v1 == null ? null : vertices.get(v1);
+        if (adjacency == null || !containsVertex(v2))
+            return null;
+        for (E edge : adjacency.getSecond())
+        {
+            EdgeRecord<V> record = edges.get(edge);
+            if (record == null)
+                continue;
+            V first = record.endpoints.getFirst();
+            if ((v1.equals(first) ? record.endpoints.getSecond() : first).equals(v2))
+                return edge;
+        }
+        return null;
+    }
+
+    @Override
+    public Collection<E> findEdgeSet(V v1, V v2)
+    {
+        Pair<Set<E>> adjacency = v1 == null ? null : vertices.get(v1);
+        if (adjacency == null || !containsVertex(v2))
+            return null;
+        Collection<E> edge_collection = new ArrayList<E>();
+        for (E edge : adjacency.getSecond())
+        {
+            EdgeRecord<V> record = edges.get(edge);
+            if (record == null)
+                continue;
+            V first = record.endpoints.getFirst();
+            if ((v1.equals(first) ? record.endpoints.getSecond() : first).equals(v2))
+                edge_collection.add(edge);
+        }
+        return Collections.unmodifiableCollection(edge_collection);
+    }
+
+    public Pair<V> getEndpoints(E edge)
+    {
+        EdgeRecord<V> record = edge == null ? null : edges.get(edge);
+        return record == null ? null : record.endpoints;
+    }
+
+    public V getSource(E edge)
+    {
+        EdgeRecord<V> record = edge == null ? null : edges.get(edge);
+        if (record == null || record.edge_type != EdgeType.DIRECTED)
+            return null;
+        return record.endpoints.getFirst();
+    }
+
+    public V getDest(E edge)
+    {
+        EdgeRecord<V> record = edge == null ? null : edges.get(edge);
+        if (record == null || record.edge_type != EdgeType.DIRECTED)
+            return null;
+        return record.endpoints.getSecond();
+    }
+
+    public boolean isSource(V vertex, E edge)
+    {
+        V source = getSource(edge);
+        return source != null && source.equals(vertex);
+    }
+
+    public boolean isDest(V vertex, E edge)
+    {
+        V dest = getDest(edge);
+        return dest != null && dest.equals(vertex);
+    }
+
+    public EdgeType getEdgeType(E edge)
+    {
+        EdgeRecord<V> record = edge == null ? null : edges.get(edge);
+        return record == null ? null : record.edge_type;
+    }
+
+    public Collection<E> getEdges(EdgeType edge_type)
+    {
+        Collection<E> typed_edges = new ArrayList<E>();
+        for (Map.Entry<E, EdgeRecord<V>> entry : edges.entrySet())
+            if (entry.getValue().edge_type == edge_type)
+                typed_edges.add(entry.getKey());
+        return Collections.unmodifiableCollection(typed_edges);
+    }
+
+    public int getEdgeCount()
+    {
+        return edges.size();
+    }
+
+    public int getVertexCount()
+    {
+        return vertices.size();
+    }
+
+    public int getEdgeCount(EdgeType edge_type)
+    {
+        return getEdges(edge_type).size();
+    }
+
+    public EdgeType getDefaultEdgeType()
+    {
+        return EdgeType.UNDIRECTED;
+    }
+
+    /**
+     * Passes to <code>visitor</code> each vertex opposite <code>vertex</code> on one of
+     * <code>incident</code> which is not already in <code>visited</code>, skipping edges
+     * which have been removed concurrently.
+     */
+    private void visitOpposites(V vertex, Collection<E> incident, Set<V> visited,
+        Consumer<? super V> visitor)
+    {
+        for (E edge : incident)
+        {
+            EdgeRecord<V> record = edges.get(edge);
+            if (record == null)
+                continue;
+            V first = record.endpoints.getFirst();
+            V opposite = vertex.equals(first) ? record.endpoints.getSecond() : first;
+            if (visited.add(opposite))
+                visitor.accept(opposite);
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(V vertex, Consumer<? super V> visitor)
+    {
+        Pair<Set<E>> adjacency = vertex == null ? null : vertices.get(vertex);
+        if (adjacency == null)
+            return;
+        Set<V> visited = new HashSet<V>();
+        visitOpposites(vertex, adjacency.getFirst(), visited, visitor);
+        visitOpposites(vertex, adjacency.getSecond(), visited, visitor);
+    }
+
+    @Override
+    public void forEachPredecessor(V vertex, Consumer<? super V> visitor)
+    {
+        Pair<Set<E>> adjacency = vertex == null ? null : vertices.get(vertex);
+        if (adjacency != null)
+            visitOpposites(vertex, adjacency.getFirst(), new HashSet<V>(), visitor);
+    }
+
+    @Override
+    public void forEachSuccessor(V vertex, Consumer<? super V> visitor)
+    {
+        Pair<Set<E>> adjacency = vertex == null ? null : vertices.get(vertex);
+        if (adjacency != null)
+            visitOpposites(vertex, adjacency.getSecond(), new HashSet<V>(), visitor);
+    }
+
+    @Override
+    public void forEachIncidentEdge(V vertex, Consumer<? super E> visitor)
+    {
+        Pair<Set<E>> adjacency = vertex == null ? null : vertices.get(vertex);
+        if (adjacency == null)
+            return;
+        for (E edge : adjacency.getFirst())
+            visitor.accept(edge);
+        // undirected edges and self-loops are in both sets
+        for (E edge : adjacency.getSecond())
+            if (!adjacency.getFirst().contains(edge))
+                visitor.accept(edge);
+    }
+
+    @Override
+    public void forEachInEdge(V vertex, Consumer<? super E> visitor)
+    {
+        Pair<Set<E>> adjacency = vertex == null ? null : vertices.get(vertex);
+        if (adjacency != null)
+            for (E edge : adjacency.getFirst())
+                visitor.accept(edge);
+    }
+
+    @Override
+    public void forEachOutEdge(V vertex, Consumer<? super E> visitor)
+    {
+        Pair<Set<E>> adjacency = vertex == null ? null : vertices.get(vertex);
+        if (adjacency != null)
+            for (E edge : adjacency.getSecond())
+                visitor.accept(edge);
+    }
+}
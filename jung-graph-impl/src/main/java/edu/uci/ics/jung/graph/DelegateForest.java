@@ -12,6 +12,13 @@ import edu.uci.ics.jung.graph.util.TreeUtils;
 /**
  * An implementation of <code>Forest</code> that delegates to a specified <code>DirectedGraph</code>
  * instance.
+ * <p>
+ * Depths, the height, the roots, and ancestry information are indexed as
+ * vertices are added and removed, so that {@link #getDepth(Object)},
+ * {@link #getHeight()} and {@link #isAncestor(Object, Object)} take
+ * constant (amortized) time, and {@link #getLowestCommonAncestor(Object, Object)}
+ * takes time logarithmic in the depth of the forest.  This index is only
+ * maintained for changes made through this instance.
  * @author Tom Nelson
  *
  * @param <V> the vertex type
@@ -20,6 +27,8 @@ import edu.uci.ics.jung.graph.util.TreeUtils;
 @SuppressWarnings("serial")
 public class DelegateForest<V,E> extends GraphDecorator<V,E> implements Forest<V,E> 
 {
+	private final ForestIndex<V> index;
+
 	/**
 	 * Creates an instance backed by a new {@code DirectedSparseGraph} instance.
 	 */
@@ -33,6 +42,7 @@ public class DelegateForest<V,E> extends GraphDecorator<V,E> implements Forest<V
 	 */
 	public DelegateForest(DirectedGraph<V,E> delegate) {
 		super(delegate);
+		this.index = new ForestIndex<V>(delegate);
 	}
 
 	/**
@@ -57,7 +67,25 @@ public class DelegateForest<V,E> extends GraphDecorator<V,E> implements Forest<V
 		if(delegate.getVertices().contains(v2)) {
 			throw new IllegalArgumentException("Tree must not already contain "+v2);
 		}
-		return delegate.addEdge(e, v1, v2, edgeType);
+		if (!delegate.addEdge(e, v1, v2, edgeType))
+			return false;
+		index.add(v2, v1);
+		return true;
+	}
+
+	/**
+	 * Add an edge to the tree, connecting v1, the parent and v2, the child.
+	 * v1 must already exist in the tree, and v2 must not already exist
+	 * the passed edge must be unique in the tree.
+	 *
+	 * @param e a unique edge to add
+	 * @param v1 the parent node
+	 * @param v2 the child node
+	 * @return true if this call mutates the underlying graph
+	 */
+	@Override
+	public boolean addEdge(E e, V v1, V v2) {
+		return addEdge(e, v1, v2, EdgeType.DIRECTED);
 	}
 
 	/**
@@ -108,6 +136,7 @@ public class DelegateForest<V,E> extends GraphDecorator<V,E> implements Forest<V
         else
         {
             delegate.removeEdge(edge);
+            index.detach(child);
             return false;
         }
 	}
@@ -139,10 +168,16 @@ public class DelegateForest<V,E> extends GraphDecorator<V,E> implements Forest<V
 	{
         if (!delegate.containsVertex(vertex))
             return false;
+        Collection<V> children = new ArrayList<V>(delegate.getSuccessors(vertex));
         if (remove_subtrees)
-            for(V v : new ArrayList<V>(delegate.getSuccessors(vertex)))
+            for(V v : children)
                 removeVertex(v, true);
-        return delegate.removeVertex(vertex);
+        delegate.removeVertex(vertex);
+        index.remove(vertex);
+        if (!remove_subtrees)
+            for(V v : children)
+                index.detach(v);
+        return true;
 	}
 
 	/**
@@ -179,18 +214,9 @@ public class DelegateForest<V,E> extends GraphDecorator<V,E> implements Forest<V
 	 * @return the root of the tree, or null if the tree has &gt; 1 roots
 	 */
 	public V getRoot() {
-		V root = null;
-		for (V v : delegate.getVertices()) {
-			if (delegate.getPredecessorCount(v) == 0) {
-				if (root == null) {
-					root = v;
-				} else {
-					// we've found > 1 root, return null
-					return null;
-				}
-			}
-		}
-		return root;
+		Collection<V> roots = index.getRoots();
+		// if there is more than one root, return null
+		return roots.size() == 1 ? roots.iterator().next() : null;
 	}
 
 	/**
@@ -199,6 +225,7 @@ public class DelegateForest<V,E> extends GraphDecorator<V,E> implements Forest<V
 	 */
 	public void setRoot(V root) {
 		delegate.addVertex(root);
+		index.add(root);
 	}
 
 	/**
@@ -212,27 +239,61 @@ public class DelegateForest<V,E> extends GraphDecorator<V,E> implements Forest<V
 	}
 
 	/**
-	 * computes and returns the depth of the tree from the
-	 * root to the passed vertex
+	 * Returns the depth of the passed vertex.  For compatibility with
+	 * earlier versions this is the number of vertices on the path from its
+	 * root to the vertex, so the depth of a root is 1.
 	 *
-	 * @param v the node who's depth is computed
-	 * @return the depth to the passed node.
+	 * @param v the node whose depth is returned
+	 * @return the depth of the passed node, or -1 if it is not in this forest
 	 */
 	public int getDepth(V v) {
-		return getPath(v).size();
+		int depth = index.getDepth(v);
+		return depth < 0 ? -1 : depth + 1;
 	}
 
 	/**
-	 * computes and returns the height of the tree
+	 * Returns the height of the forest, that is, the greatest depth
+	 * of any of its vertices.
 	 *
 	 * @return the height
 	 */
 	public int getHeight() {
-		int height = 0;
-		for(V v : getVertices()) {
-			height = Math.max(height, getDepth(v));
-		}
-		return height;
+		return index.size() == 0 ? 0 : index.getHeight() + 1;
+	}
+
+	/**
+	 * @param ancestor the candidate ancestor
+	 * @param descendant the candidate descendant
+	 * @return <code>true</code> if <code>ancestor</code> is on the path from the
+	 * root of <code>descendant</code>'s tree to <code>descendant</code>; every
+	 * vertex is its own ancestor
+	 */
+	public boolean isAncestor(V ancestor, V descendant) {
+		return index.isAncestor(ancestor, descendant);
+	}
+
+	/**
+	 * @param v1 a vertex in this forest
+	 * @param v2 a vertex in this forest
+	 * @return the deepest vertex which is an ancestor of both <code>v1</code>
+	 * and <code>v2</code>, or <code>null</code> if they are not in the same tree
+	 */
+	public V getLowestCommonAncestor(V v1, V v2) {
+		return index.getLowestCommonAncestor(v1, v2);
+	}
+
+	/**
+	 * Returns a read-only view of the subtree rooted at <code>vertex</code>.
+	 * Unlike <code>TreeUtils.getSubTree</code>, nothing is copied; the view
+	 * reflects subsequent changes to this forest.
+	 *
+	 * @param vertex the root of the subtree
+	 * @return a view of the subtree rooted at <code>vertex</code>
+	 */
+	public Tree<V,E> getSubTree(V vertex) {
+		if (!delegate.containsVertex(vertex))
+			throw new IllegalArgumentException("Forest does not contain " + vertex);
+		return new SubTreeView<V,E>(this, index, vertex);
 	}
 
 	/**
@@ -286,17 +347,17 @@ public class DelegateForest<V,E> extends GraphDecorator<V,E> implements Forest<V
 		return addEdge(edge, pair.getFirst(), pair.getSecond());
 	}
 
+	@Override
+	public boolean addEdge(E edge, Collection<? extends V> vertices, EdgeType edgeType) {
+		Pair<V> pair = new Pair<V>(vertices);
+		return addEdge(edge, pair.getFirst(), pair.getSecond(), edgeType);
+	}
+
 	/**
 	 * @return the root of each tree of this forest as a {@code Collection}.
 	 */
 	public Collection<V> getRoots() {
-		Collection<V> roots = new HashSet<V>();
-		for(V v : delegate.getVertices()) {
-			if(delegate.getPredecessorCount(v) == 0) {
-				roots.add(v);
-			}
-		}
-		return roots;
+		return new HashSet<V>(index.getRoots());
 	}
 
 	public Collection<Tree<V, E>> getTrees() {
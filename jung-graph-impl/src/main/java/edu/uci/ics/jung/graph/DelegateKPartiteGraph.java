@@ -0,0 +1,303 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.base.Predicate;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * An implementation of <code>KPartiteGraph</code> that delegates to a
+ * specified instance of <code>Graph</code>.
+ * <p>
+ * The partitions are defined by the <code>Predicate</code> instances passed
+ * to the constructor; each vertex belongs to the first partition whose
+ * predicate it satisfies, and is rejected if there is none.  Each predicate
+ * is evaluated once per vertex, when the vertex is added: the members of
+ * each partition and the sum of their degrees are indexed, so that
+ * {@link #getVertices(Predicate)} returns the members of a partition without
+ * scanning the graph.  This index is only maintained for changes made through
+ * this instance.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ */
+@SuppressWarnings("serial")
+public class DelegateKPartiteGraph<V,E> extends GraphDecorator<V,E> implements KPartiteGraph<V,E>
+{
+    private final Map<Predicate<V>, Partition<V>> partitions;
+    private final Map<V, Partition<V>> vertex_partitions;
+
+    /**
+     * The members of a partition, and the sum of their degrees.
+     */
+    private static class Partition<V> implements Serializable
+    {
+        final Predicate<V> predicate;
+        final Set<V> vertices = new LinkedHashSet<V>();
+        long degree_sum;
+
+        Partition(Predicate<V> predicate)
+        {
+            this.predicate = predicate;
+        }
+    }
+
+    /**
+     * Creates an instance with the specified partitions, which delegates to
+     * a new <code>SparseMultigraph</code>.
+     * @param partitions the predicates which define the partitions of this graph
+     */
+    public DelegateKPartiteGraph(Collection<? extends Predicate<V>> partitions)
+    {
+        this(new SparseMultigraph<V,E>(), partitions);
+    }
+
+    /**
+     * Creates an instance with the specified partitions, which delegates to
+     * <code>graph</code>.  Any vertices and edges already in <code>graph</code>
+     * are indexed, and must satisfy the constraints of this class.
+     * @param graph the graph to which this instance will delegate operations
+     * @param partitions the predicates which define the partitions of this graph
+     * @throws IllegalArgumentException if there are fewer than 2 partitions, or if
+     * <code>graph</code> has a vertex in no partition or an edge within a partition
+     */
+    public DelegateKPartiteGraph(Graph<V,E> graph, Collection<? extends Predicate<V>> partitions)
+    {
+        super(graph);
+        if (partitions.size() < 2)
+            throw new IllegalArgumentException("A k-partite graph must have at least 2 partitions");
+        this.partitions = new LinkedHashMap<Predicate<V>, Partition<V>>();
+        for (Predicate<V> predicate : partitions)
+            this.partitions.put(predicate, new Partition<V>(predicate));
+        this.vertex_partitions = new HashMap<V, Partition<V>>(Math.max(16, 2 * graph.getVertexCount()));
+        for (V v : graph.getVertices())
+            index(v, classify(v));
+        for (E e : graph.getEdges())
+        {
+            Pair<V> endpoints = graph.getEndpoints(e);
+            checkEndpoints(vertex_partitions.get(endpoints.getFirst()),
+                vertex_partitions.get(endpoints.getSecond()));
+            increment(endpoints, 1);
+        }
+    }
+
+    /**
+     * @return the partition to which <code>vertex</code> belongs or would belong
+     * @throws IllegalArgumentException if <code>vertex</code> satisfies none of the partition predicates
+     */
+    private Partition<V> classify(V vertex)
+    {
+        Partition<V> partition = vertex_partitions.get(vertex);
+        if (partition != null)
+            return partition;
+        for (Partition<V> p : partitions.values())
+            if (p.predicate.apply(vertex))
+                return p;
+        throw new IllegalArgumentException("Vertex " + vertex + " is not in any partition");
+    }
+
+    private void index(V vertex, Partition<V> partition)
+    {
+        if (vertex_partitions.put(vertex, partition) == null)
+            partition.vertices.add(vertex);
+    }
+
+    private void increment(Pair<V> endpoints, int delta)
+    {
+        vertex_partitions.get(endpoints.getFirst()).degree_sum += delta;
+        vertex_partitions.get(endpoints.getSecond()).degree_sum += delta;
+    }
+
+    private static void checkEndpoints(Partition<?> p1, Partition<?> p2)
+    {
+        if (p1 == p2)
+            throw new IllegalArgumentException("Edges must connect vertices in distinct partitions");
+    }
+
+    /**
+     * Adds <code>vertex</code> to this graph, in the first partition whose predicate it satisfies.
+     * @throws IllegalArgumentException if <code>vertex</code> satisfies none of the partition predicates
+     */
+    @Override
+    public boolean addVertex(V vertex)
+    {
+        if (delegate.containsVertex(vertex))
+            return false;
+        Partition<V> partition = classify(vertex);
+        if (!delegate.addVertex(vertex))
+            return false;
+        index(vertex, partition);
+        return true;
+    }
+
+    /**
+     * Adds an edge between vertices in distinct partitions, adding the vertices
+     * if they are not already present.
+     * @throws IllegalArgumentException if the endpoints are in the same
+     * partition, or either satisfies none of the partition predicates
+     */
+    @Override
+    public boolean addEdge(E e, V v1, V v2, EdgeType edgeType)
+    {
+        Partition<V> p1 = classify(v1);
+        Partition<V> p2 = classify(v2);
+        checkEndpoints(p1, p2);
+        if (!delegate.addEdge(e, v1, v2, edgeType))
+            return false;
+        edgeAdded(v1, p1, v2, p2);
+        return true;
+    }
+
+    /**
+     * Adds an edge between vertices in distinct partitions, adding the vertices
+     * if they are not already present.
+     * @throws IllegalArgumentException if the endpoints are in the same
+     * partition, or either satisfies none of the partition predicates
+     */
+    @Override
+    public boolean addEdge(E e, V v1, V v2)
+    {
+        Partition<V> p1 = classify(v1);
+        Partition<V> p2 = classify(v2);
+        checkEndpoints(p1, p2);
+        if (!delegate.addEdge(e, v1, v2))
+            return false;
+        edgeAdded(v1, p1, v2, p2);
+        return true;
+    }
+
+    @Override
+    public boolean addEdge(E edge, Collection<? extends V> vertices)
+    {
+        Pair<V> endpoints = new Pair<V>(vertices);
+        return addEdge(edge, endpoints.getFirst(), endpoints.getSecond());
+    }
+
+    @Override
+    public boolean addEdge(E edge, Collection<? extends V> vertices, EdgeType edge_type)
+    {
+        Pair<V> endpoints = new Pair<V>(vertices);
+        return addEdge(edge, endpoints.getFirst(), endpoints.getSecond(), edge_type);
+    }
+
+    private void edgeAdded(V v1, Partition<V> p1, V v2, Partition<V> p2)
+    {
+        index(v1, p1);
+        index(v2, p2);
+        p1.degree_sum++;
+        p2.degree_sum++;
+    }
+
+    @Override
+    public boolean removeVertex(V vertex)
+    {
+        if (!delegate.containsVertex(vertex))
+            return false;
+        for (E e : delegate.getIncidentEdges(vertex))
+            increment(delegate.getEndpoints(e), -1);
+        Partition<V> partition = vertex_partitions.remove(vertex);
+        partition.vertices.remove(vertex);
+        return delegate.removeVertex(vertex);
+    }
+
+    @Override
+    public boolean removeEdge(E edge)
+    {
+        if (!delegate.containsEdge(edge))
+            return false;
+        increment(delegate.getEndpoints(edge), -1);
+        return delegate.removeEdge(edge);
+    }
+
+    /**
+     * Returns the vertices which satisfy <code>partition</code>.  If
+     * <code>partition</code> is one of the predicates which define this graph's
+     * partitions, this is an unmodifiable view of that partition, which
+     * takes constant time; otherwise every vertex is tested.
+     */
+    public Collection<V> getVertices(Predicate<V> partition)
+    {
+        Partition<V> p = partitions.get(partition);
+        if (p != null)
+            return Collections.unmodifiableSet(p.vertices);
+        Set<V> vertices = new LinkedHashSet<V>();
+        for (V v : delegate.getVertices())
+            if (partition.apply(v))
+                vertices.add(v);
+        return Collections.unmodifiableSet(vertices);
+    }
+
+    public Collection<Predicate<V>> getPartitions()
+    {
+        return Collections.unmodifiableCollection(partitions.keySet());
+    }
+
+    /**
+     * @param vertex the vertex whose partition is to be returned
+     * @return the predicate which defines the partition of <code>vertex</code>,
+     * or <code>null</code> if <code>vertex</code> is not in this graph
+     */
+    public Predicate<V> getPartition(V vertex)
+    {
+        Partition<V> partition = vertex_partitions.get(vertex);
+        return partition == null ? null : partition.predicate;
+    }
+
+    private Partition<V> getIndexedPartition(Predicate<V> partition)
+    {
+        Partition<V> p = partitions.get(partition);
+        if (p == null)
+            throw new IllegalArgumentException("Not a partition of this graph: " + partition);
+        return p;
+    }
+
+    /**
+     * @param partition one of the predicates which define this graph's partitions
+     * @return the number of vertices in <code>partition</code>
+     */
+    public int getVertexCount(Predicate<V> partition)
+    {
+        return getIndexedPartition(partition).vertices.size();
+    }
+
+    /**
+     * Returns the sum of the degrees of the vertices in <code>partition</code>,
+     * that is, the number of edges incident to that partition.
+     * @param partition one of the predicates which define this graph's partitions
+     * @return the sum of the degrees of the vertices in <code>partition</code>
+     */
+    public long getDegreeSum(Predicate<V> partition)
+    {
+        return getIndexedPartition(partition).degree_sum;
+    }
+
+    /**
+     * @param partition one of the predicates which define this graph's partitions
+     * @return the mean degree of the vertices in <code>partition</code>, or 0 if it is empty
+     */
+    public double getMeanDegree(Predicate<V> partition)
+    {
+        Partition<V> p = getIndexedPartition(partition);
+        return p.vertices.isEmpty() ? 0 : (double)p.degree_sum / p.vertices.size();
+    }
+}
@@ -3,7 +3,6 @@ package edu.uci.ics.jung.graph;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -15,6 +14,13 @@ import edu.uci.ics.jung.graph.util.Pair;
 /**
  * An implementation of <code>Tree</code> that delegates to
  * a specified instance of <code>DirectedGraph</code>.
+ * <p>
+ * Depths, the height, and ancestry information are indexed as vertices
+ * are added and removed, so that {@link #getDepth(Object)},
+ * {@link #getHeight()} and {@link #isAncestor(Object, Object)} take
+ * constant (amortized) time, and {@link #getLowestCommonAncestor(Object, Object)}
+ * takes time logarithmic in the depth of the tree.  This index is only
+ * maintained for changes made through this instance.
  * @author Tom Nelson
  *
  * @param <V> the vertex type
@@ -37,7 +43,15 @@ public class DelegateTree<V,E> extends GraphDecorator<V,E> implements Tree<V,E>
 	}
 
 	protected V root;
+
+    /**
+     * A read-only view of the depth of each vertex.
+     * @deprecated depths are now maintained by an index; use {@link #getDepth(Object)}
+     */
+    @Deprecated
     protected Map<V, Integer> vertex_depths;
+
+    private final ForestIndex<V> index;
     
     /**
      * Creates an instance.
@@ -52,7 +66,8 @@ public class DelegateTree<V,E> extends GraphDecorator<V,E> implements Tree<V,E>
 	 */
 	public DelegateTree(Supplier<DirectedGraph<V,E>> graphFactory) {
 		super(graphFactory.get());
-        this.vertex_depths = new HashMap<V, Integer>();
+        this.index = new ForestIndex<V>(delegate);
+        this.vertex_depths = index.getDepths();
 	}
 	
 	/**
@@ -63,7 +78,8 @@ public class DelegateTree<V,E> extends GraphDecorator<V,E> implements Tree<V,E>
 	 */
 	public DelegateTree(DirectedGraph<V,E> graph) {
 		super(graph);
-        this.vertex_depths = new HashMap<V, Integer>();
+        this.index = new ForestIndex<V>(delegate);
+        this.vertex_depths = index.getDepths();
 	}
 	
 	/**
@@ -114,7 +130,7 @@ public class DelegateTree<V,E> extends GraphDecorator<V,E> implements Tree<V,E>
 	public boolean addVertex(V vertex) {
 		if(root == null) {
 			this.root = vertex;
-            vertex_depths.put(vertex, 0);
+            index.add(vertex);
 			return delegate.addVertex(vertex);
 		} else {
 			throw new UnsupportedOperationException("Unless you are setting the root, use addChild()");
@@ -132,13 +148,12 @@ public class DelegateTree<V,E> extends GraphDecorator<V,E> implements Tree<V,E>
 	public boolean removeVertex(V vertex) {
 	    if (!delegate.containsVertex(vertex))
 	        return false;
-		for(V v : getChildren(vertex)) {
+		for(V v : new ArrayList<V>(getChildren(vertex))) {
 			removeVertex(v);
-            vertex_depths.remove(v);
 		}
-        
-        // recalculate height
-		vertex_depths.remove(vertex);
+		index.remove(vertex);
+		if (vertex.equals(root))
+			root = null;
 		return delegate.removeVertex(vertex);
 	}
 	
@@ -160,8 +175,10 @@ public class DelegateTree<V,E> extends GraphDecorator<V,E> implements Tree<V,E>
 		if(vertices.contains(child)) {
 			throw new IllegalArgumentException("Tree must not already contain child "+child);
 		}
-        vertex_depths.put(child, vertex_depths.get(parent) + 1);
-		return delegate.addEdge(edge, parent, child, edgeType);
+		if (!delegate.addEdge(edge, parent, child, edgeType))
+			return false;
+		index.add(child, parent);
+		return true;
 	}
 
 	/**
@@ -180,8 +197,10 @@ public class DelegateTree<V,E> extends GraphDecorator<V,E> implements Tree<V,E>
 		if(vertices.contains(child)) {
 			throw new IllegalArgumentException("Tree must not already contain child "+child);
 		}
-        vertex_depths.put(child, vertex_depths.get(parent) + 1);
-		return delegate.addEdge(edge, parent, child);
+		if (!delegate.addEdge(edge, parent, child))
+			return false;
+		index.add(child, parent);
+		return true;
 	}
 	
 	/**
@@ -267,27 +286,57 @@ public class DelegateTree<V,E> extends GraphDecorator<V,E> implements Tree<V,E>
 	}
 
 	/**
-	 * computes and returns the depth of the tree from the
-	 * root to the passed vertex
+	 * Returns the depth of the passed vertex, that is, the number of
+	 * edges between it and the root.
 	 * 
-	 * @param v the node who's depth is computed
-	 * @return the depth to the passed node.
+	 * @param v the node whose depth is returned
+	 * @return the depth of the passed node, or -1 if it is not in this tree
 	 */
 	public int getDepth(V v) {
-        return this.vertex_depths.get(v);
+        return index.getDepth(v);
 	}
 
 	/**
-	 * Computes and returns the height of the tree.
+	 * Returns the height of the tree.
 	 * 
 	 * @return the height
 	 */
 	public int getHeight() {
-		int height = 0;
-		for(V v : getVertices()) {
-			height = Math.max(height, getDepth(v));
-		}
-		return height;
+		return index.getHeight();
+	}
+
+	/**
+	 * @param ancestor the candidate ancestor
+	 * @param descendant the candidate descendant
+	 * @return <code>true</code> if <code>ancestor</code> is on the path from the
+	 * root to <code>descendant</code>; every vertex is its own ancestor
+	 */
+	public boolean isAncestor(V ancestor, V descendant) {
+		return index.isAncestor(ancestor, descendant);
+	}
+
+	/**
+	 * @param v1 a vertex in this tree
+	 * @param v2 a vertex in this tree
+	 * @return the deepest vertex which is an ancestor of both <code>v1</code>
+	 * and <code>v2</code>, or <code>null</code> if either is not in this tree
+	 */
+	public V getLowestCommonAncestor(V v1, V v2) {
+		return index.getLowestCommonAncestor(v1, v2);
+	}
+
+	/**
+	 * Returns a read-only view of the subtree rooted at <code>vertex</code>.
+	 * Unlike <code>TreeUtils.getSubTree</code>, nothing is copied; the view
+	 * reflects subsequent changes to this tree.
+	 * 
+	 * @param vertex the root of the subtree
+	 * @return a view of the subtree rooted at <code>vertex</code>
+	 */
+	public Tree<V,E> getSubTree(V vertex) {
+		if (!delegate.containsVertex(vertex))
+			throw new IllegalArgumentException("Tree does not contain " + vertex);
+		return new SubTreeView<V,E>(this, index, vertex);
 	}
 
 	/**
@@ -330,6 +379,12 @@ public class DelegateTree<V,E> extends GraphDecorator<V,E> implements Tree<V,E>
         return 2;
     }
     
+	@Override
+	public boolean addEdge(E edge, Collection<? extends V> vertices, EdgeType edgeType) {
+		Pair<V> pair = new Pair<V>(vertices);
+		return addChild(edge, pair.getFirst(), pair.getSecond(), edgeType);
+	}
+
 	@SuppressWarnings("unchecked")
   @Override
 	public boolean addEdge(E edge, Collection<? extends V> vertices) {
@@ -17,8 +17,11 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import com.google.common.base.Function;
 import com.google.common.base.Supplier;
+import com.google.common.collect.Maps;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
 import edu.uci.ics.jung.graph.util.Pair;
@@ -56,6 +59,59 @@ public class DirectedSparseGraph<V,E> extends AbstractTypedGraph<V, E> implement
         vertices = new HashMap<V, Pair<Map<V,E>>>();
         edges = new HashMap<E, Pair<V>>();
     }
+
+    /**
+     * Creates an instance whose storage is sized to hold the specified numbers
+     * of vertices and edges without being resized.
+     * 
+     * @param expected_vertex_count the number of vertices this graph is expected to hold
+     * @param expected_edge_count the number of edges this graph is expected to hold
+     */
+    public DirectedSparseGraph(int expected_vertex_count, int expected_edge_count)
+    {
+    	super(EdgeType.DIRECTED);
+        vertices = Maps.newHashMapWithExpectedSize(expected_vertex_count);
+        edges = Maps.newHashMapWithExpectedSize(expected_edge_count);
+    }
+
+    @Override
+    public int addEdges(Iterable<? extends E> new_edges, 
+            Function<? super E, ? extends Pair<? extends V>> endpoints, EdgeType edge_type)
+    {
+        this.validateEdgeType(edge_type);
+        checkBulkArguments(new_edges, endpoints);
+        int added = 0;
+        for (E edge : new_edges)
+        {
+            Pair<V> new_endpoints = getBulkEndpoints(edge, endpoints);
+            if (isExistingEdge(edge, edges.get(edge), new_endpoints))
+                continue;
+
+            V source = new_endpoints.getFirst();
+            V dest = new_endpoints.getSecond();
+            Map<V,E> outgoing = getOrCreateAdjacency(source).getSecond();
+            if (outgoing.containsKey(dest))
+                continue;
+            
+            outgoing.put(dest, edge);
+            getOrCreateAdjacency(dest).getFirst().put(source, edge);
+            edges.put(edge, new_endpoints);
+            added++;
+        }
+        modification_count += added;
+        return added;
+    }
+    
+    private Pair<Map<V,E>> getOrCreateAdjacency(V vertex)
+    {
+        Pair<Map<V,E>> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+        {
+            addVertex(vertex);
+            adjacency = vertices.get(vertex);
+        }
+        return adjacency;
+    }
     
     @Override
     public boolean addEdge(E edge, Pair<? extends V> endpoints, EdgeType edgeType)
@@ -83,6 +139,7 @@ public class DirectedSparseGraph<V,E> extends AbstractTypedGraph<V, E> implement
         vertices.get(source).getSecond().put(dest, edge);
         vertices.get(dest).getFirst().put(source, edge);
 
+        modification_count++;
         return true;
     }
 
@@ -249,6 +306,7 @@ public class DirectedSparseGraph<V,E> extends AbstractTypedGraph<V, E> implement
         }
         if (!containsVertex(vertex)) {
             vertices.put(vertex, new Pair<Map<V,E>>(new HashMap<V,E>(), new HashMap<V,E>()));
+            modification_count++;
             return true;
         } else {
             return false;
@@ -268,6 +326,7 @@ public class DirectedSparseGraph<V,E> extends AbstractTypedGraph<V, E> implement
         
         vertices.remove(vertex);
         
+        modification_count++;
         return true;
     }
     
@@ -284,6 +343,69 @@ public class DirectedSparseGraph<V,E> extends AbstractTypedGraph<V, E> implement
         vertices.get(dest).getFirst().remove(source);
         
         edges.remove(edge);
+        modification_count++;
         return true;
     }
+
+    @Override
+    public void forEachNeighbor(V vertex, Consumer<? super V> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        Map<V,E> preds = vertices.get(vertex).getFirst();
+        for (V v : preds.keySet())
+            visitor.accept(v);
+        for (V v : getSuccs_internal(vertex))
+            if (!preds.containsKey(v))
+                visitor.accept(v);
+    }
+
+    @Override
+    public void forEachPredecessor(V vertex, Consumer<? super V> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        for (V v : getPreds_internal(vertex))
+            visitor.accept(v);
+    }
+
+    @Override
+    public void forEachSuccessor(V vertex, Consumer<? super V> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        for (V v : getSuccs_internal(vertex))
+            visitor.accept(v);
+    }
+
+    @Override
+    public void forEachIncidentEdge(V vertex, Consumer<? super E> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        for (E e : getIncoming_internal(vertex))
+            visitor.accept(e);
+        // a self-loop is in both the incoming and outgoing maps
+        for (Map.Entry<V,E> entry : vertices.get(vertex).getSecond().entrySet())
+            if (!entry.getKey().equals(vertex))
+                visitor.accept(entry.getValue());
+    }
+
+    @Override
+    public void forEachInEdge(V vertex, Consumer<? super E> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        for (E e : getIncoming_internal(vertex))
+            visitor.accept(e);
+    }
+
+    @Override
+    public void forEachOutEdge(V vertex, Consumer<? super E> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        for (E e : getOutgoing_internal(vertex))
+            visitor.accept(e);
+    }
 }
@@ -147,6 +147,7 @@ public class DirectedSparseHypergraph<V, E> extends AbstractTypedHypergraph<V, E
                 destIn.put(s, hyperedge);
             }
         }
+        modification_count++;
         return true;
     }
 
@@ -159,6 +160,7 @@ public class DirectedSparseHypergraph<V, E> extends AbstractTypedHypergraph<V, E
         Multimap<V, E> in = HashMultimap.create();
         Multimap<V, E> out = HashMultimap.create();
         vertices.put(vertex, new Pair<Multimap<V, E>>(in, out));
+        modification_count++;
         return true;
     }
 
@@ -370,6 +372,7 @@ public class DirectedSparseHypergraph<V, E> extends AbstractTypedHypergraph<V, E
         }
 
         edges.remove(edge);
+        modification_count++;
         return true;
     }
 
@@ -387,6 +390,7 @@ public class DirectedSparseHypergraph<V, E> extends AbstractTypedHypergraph<V, E
 
         vertices.remove(vertex);
 
+        modification_count++;
         return true;
     }
 
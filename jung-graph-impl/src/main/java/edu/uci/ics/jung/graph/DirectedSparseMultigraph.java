@@ -17,8 +17,11 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
+import com.google.common.base.Function;
 import com.google.common.base.Supplier;
+import com.google.common.collect.Maps;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
 import edu.uci.ics.jung.graph.util.Pair;
@@ -57,6 +60,48 @@ public class DirectedSparseMultigraph<V,E>
         vertices = new HashMap<V, Pair<Set<E>>>();
         edges = new HashMap<E, Pair<V>>();
     }
+
+    /**
+     * Creates an instance whose storage is sized to hold the specified numbers
+     * of vertices and edges without being resized.
+     * 
+     * @param expected_vertex_count the number of vertices this graph is expected to hold
+     * @param expected_edge_count the number of edges this graph is expected to hold
+     */
+    public DirectedSparseMultigraph(int expected_vertex_count, int expected_edge_count) {
+    	super(EdgeType.DIRECTED);
+        vertices = Maps.newHashMapWithExpectedSize(expected_vertex_count);
+        edges = Maps.newHashMapWithExpectedSize(expected_edge_count);
+    }
+
+    @Override
+    public int addEdges(Iterable<? extends E> new_edges, 
+            Function<? super E, ? extends Pair<? extends V>> endpoints, EdgeType edge_type) {
+        this.validateEdgeType(edge_type);
+        checkBulkArguments(new_edges, endpoints);
+        int added = 0;
+        for (E edge : new_edges) {
+            Pair<V> new_endpoints = getBulkEndpoints(edge, endpoints);
+            if (isExistingEdge(edge, edges.get(edge), new_endpoints))
+                continue;
+
+            getOrCreateAdjacency(new_endpoints.getFirst()).getSecond().add(edge);
+            getOrCreateAdjacency(new_endpoints.getSecond()).getFirst().add(edge);
+            edges.put(edge, new_endpoints);
+            added++;
+        }
+        modification_count += added;
+        return added;
+    }
+    
+    private Pair<Set<E>> getOrCreateAdjacency(V vertex) {
+        Pair<Set<E>> adjacency = vertices.get(vertex);
+        if (adjacency == null) {
+            addVertex(vertex);
+            adjacency = vertices.get(vertex);
+        }
+        return adjacency;
+    }
     
     public Collection<E> getEdges() {
         return Collections.unmodifiableCollection(edges.keySet());
@@ -90,6 +135,7 @@ public class DirectedSparseMultigraph<V,E>
     	}
         if (!containsVertex(vertex)) {
             vertices.put(vertex, new Pair<Set<E>>(new HashSet<E>(), new HashSet<E>()));
+            modification_count++;
             return true;
         } else {
             return false;
@@ -109,6 +155,7 @@ public class DirectedSparseMultigraph<V,E>
         
         vertices.remove(vertex);
         
+        modification_count++;
         return true;
     }
     
@@ -125,6 +172,7 @@ public class DirectedSparseMultigraph<V,E>
         getIncoming_internal(dest).remove(edge);
         
         edges.remove(edge);
+        modification_count++;
         return true;
     }
 
@@ -220,6 +268,7 @@ public class DirectedSparseMultigraph<V,E>
         getIncoming_internal(dest).add(edge);
         getOutgoing_internal(source).add(edge);
 
+        modification_count++;
         return true;
 	}
 
@@ -259,4 +308,68 @@ public class DirectedSparseMultigraph<V,E>
 	public int getVertexCount() {
 		return vertices.size();
 	}
+
+    // parallel edges may lead to the same vertex, so the vertex traversals
+    // below keep track of the vertices already visited
+
+    @Override
+    public void forEachNeighbor(V vertex, Consumer<? super V> visitor) {
+        if (!containsVertex(vertex))
+            return;
+        Set<V> visited = new HashSet<V>();
+        for (E edge : getIncoming_internal(vertex))
+            if (visited.add(edges.get(edge).getFirst()))
+                visitor.accept(edges.get(edge).getFirst());
+        for (E edge : getOutgoing_internal(vertex))
+            if (visited.add(edges.get(edge).getSecond()))
+                visitor.accept(edges.get(edge).getSecond());
+    }
+
+    @Override
+    public void forEachPredecessor(V vertex, Consumer<? super V> visitor) {
+        if (!containsVertex(vertex))
+            return;
+        Set<V> visited = new HashSet<V>();
+        for (E edge : getIncoming_internal(vertex))
+            if (visited.add(edges.get(edge).getFirst()))
+                visitor.accept(edges.get(edge).getFirst());
+    }
+
+    @Override
+    public void forEachSuccessor(V vertex, Consumer<? super V> visitor) {
+        if (!containsVertex(vertex))
+            return;
+        Set<V> visited = new HashSet<V>();
+        for (E edge : getOutgoing_internal(vertex))
+            if (visited.add(edges.get(edge).getSecond()))
+                visitor.accept(edges.get(edge).getSecond());
+    }
+
+    @Override
+    public void forEachIncidentEdge(V vertex, Consumer<? super E> visitor) {
+        if (!containsVertex(vertex))
+            return;
+        for (E edge : getIncoming_internal(vertex))
+            visitor.accept(edge);
+        // self-loops are in both the incoming and outgoing sets
+        for (E edge : getOutgoing_internal(vertex))
+            if (!vertex.equals(edges.get(edge).getSecond()))
+                visitor.accept(edge);
+    }
+
+    @Override
+    public void forEachInEdge(V vertex, Consumer<? super E> visitor) {
+        if (!containsVertex(vertex))
+            return;
+        for (E edge : getIncoming_internal(vertex))
+            visitor.accept(edge);
+    }
+
+    @Override
+    public void forEachOutEdge(V vertex, Consumer<? super E> visitor) {
+        if (!containsVertex(vertex))
+            return;
+        for (E edge : getOutgoing_internal(vertex))
+            visitor.accept(edge);
+    }
 }
@@ -0,0 +1,504 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Depth, ancestry, subtree size and lowest-common-ancestor information for the
+ * vertices of a forest, kept up to date by <code>DelegateTree</code> and
+ * <code>DelegateForest</code> as vertices are added and removed.
+ *
+ * <p>Each vertex records its depth, its parent, and a "jump" ancestor chosen
+ * (as in Myers' skew-binary lists) so that any ancestor of a vertex can be
+ * reached in O(log <i>depth</i>) steps; all three are set in constant time when
+ * the vertex is added.  Ancestry queries are answered in constant time from
+ * preorder interval labels: <code>a</code> is an ancestor of <code>d</code> iff
+ * the preorder number of <code>d</code> falls within the range of numbers
+ * assigned to the subtree of <code>a</code>.
+ *
+ * <p>The labels are maintained incrementally.  Adding a leaf, or removing a
+ * vertex whose children have been removed, leaves the labels of all other
+ * vertices correct; a vertex added since the labels were assigned is
+ * unlabeled, and records its nearest labeled ancestor (its <i>anchor</i>).
+ * Subtree sizes are kept in a Fenwick tree over the preorder numbers, in
+ * which each vertex is counted at its own number if it is labeled and at its
+ * anchor's otherwise, so that the size of a labeled vertex's subtree is the
+ * sum over its range, and both changes and queries take O(log <i>n</i>) time.
+ * Only moving a subtree to a new tree (<code>detach</code>) invalidates the
+ * labels.  Queries involving unlabeled vertices, or invalid labels, fall back
+ * to jump pointers (or to counting the subtree), and the labels are
+ * recomputed once enough such work has been done to pay for the relabeling.
+ *
+ * @param <V> the vertex type
+ */
+@SuppressWarnings("serial")
+class ForestIndex<V> implements Serializable
+{
+    static final class Node<V> implements Serializable
+    {
+        final V vertex;
+        Node<V> parent;
+        Node<V> jump;
+        Node<V> anchor; // nearest labeled ancestor, if this node is unlabeled
+        int depth;
+        int first = -1; // preorder number, or -1 if unlabeled
+        int last;       // largest preorder number in this node's subtree
+
+        Node(V vertex)
+        {
+            this.vertex = vertex;
+        }
+    }
+
+    private final Graph<V,?> graph;
+    private final Map<V, Node<V>> nodes;
+    private final Set<V> roots;
+    private int[] depth_counts;
+    private int height;
+    private boolean labels_valid;
+    private int unlabeled_work;
+
+    /**
+     * A Fenwick tree over the preorder numbers, counting the vertices of
+     * each labeled vertex's subtree; valid only if <code>labels_valid</code>.
+     */
+    private int[] subtree_counts;
+
+    /**
+     * Creates an index of the forest whose parent-child edges are the directed
+     * edges of <code>graph</code>, indexing any vertices that it already contains.
+     * @param graph the graph whose vertices are to be indexed
+     */
+    ForestIndex(Graph<V,?> graph)
+    {
+        this.graph = graph;
+        this.nodes = new HashMap<V, Node<V>>();
+        this.roots = new HashSet<V>();
+        this.depth_counts = new int[16];
+        for (V v : graph.getVertices())
+            if (graph.getPredecessorCount(v) == 0)
+                add(v);
+        for (V root : new HashSet<V>(roots))
+            reindex(nodes.get(root));
+    }
+
+    /**
+     * Adds <code>root</code> as the root of a new tree.
+     * @return true iff <code>root</code> was not already indexed
+     */
+    boolean add(V root)
+    {
+        if (nodes.containsKey(root))
+            return false;
+        Node<V> node = new Node<V>(root);
+        nodes.put(root, node);
+        roots.add(root);
+        countDepth(0, 1);
+        return true;
+    }
+
+    /**
+     * Adds <code>child</code>, which must not already be indexed, as a leaf
+     * whose parent is <code>parent</code>.
+     */
+    void add(V child, V parent)
+    {
+        Node<V> node = new Node<V>(child);
+        attach(node, nodes.get(parent));
+        nodes.put(child, node);
+        node.anchor = node.parent.first >= 0 ? node.parent : node.parent.anchor;
+        countSubTree(node, 1);
+    }
+
+    /**
+     * Removes <code>vertex</code> from the index.  The caller is responsible
+     * for removing or detaching the children of <code>vertex</code>.
+     */
+    void remove(V vertex)
+    {
+        Node<V> node = nodes.remove(vertex);
+        if (node == null)
+            return;
+        if (node.parent == null)
+            roots.remove(vertex);
+        countDepth(node.depth, -1);
+        countSubTree(node, -1);
+    }
+
+    /**
+     * Makes <code>vertex</code> the root of a new tree, updating the depths of
+     * its descendants.
+     */
+    void detach(V vertex)
+    {
+        Node<V> node = nodes.get(vertex);
+        if (node == null || node.parent == null)
+            return;
+        countDepth(node.depth, -1);
+        node.parent = null;
+        node.jump = null;
+        node.depth = 0;
+        countDepth(0, 1);
+        roots.add(vertex);
+        reindex(node);
+        labels_valid = false;
+    }
+
+    /**
+     * Sets the parent, jump pointer and depth of each proper descendant of
+     * <code>node</code> from the edges of the graph.
+     */
+    private void reindex(Node<V> node)
+    {
+        final Deque<Node<V>> stack = new ArrayDeque<Node<V>>();
+        stack.push(node);
+        while (!stack.isEmpty())
+        {
+            final Node<V> parent = stack.pop();
+            graph.forEachSuccessor(parent.vertex, new Consumer<V>()
+            {
+                public void accept(V v)
+                {
+                    Node<V> child = nodes.get(v);
+                    if (child == null)
+                    {
+                        child = new Node<V>(v);
+                        nodes.put(v, child);
+                    }
+                    else
+                        countDepth(child.depth, -1);
+                    attach(child, parent);
+                    stack.push(child);
+                }
+            });
+        }
+    }
+
+    private void attach(Node<V> node, Node<V> parent)
+    {
+        node.parent = parent;
+        node.depth = parent.depth + 1;
+        Node<V> jump = parent.jump;
+        if (jump != null && jump.jump != null &&
+            parent.depth - jump.depth == jump.depth - jump.jump.depth)
+            node.jump = jump.jump;
+        else
+            node.jump = parent;
+        countDepth(node.depth, 1);
+    }
+
+    private void countDepth(int depth, int delta)
+    {
+        if (depth >= depth_counts.length)
+            depth_counts = Arrays.copyOf(depth_counts, Math.max(depth + 1, 2 * depth_counts.length));
+        depth_counts[depth] += delta;
+        if (delta > 0)
+            height = Math.max(height, depth);
+        else
+            while (height > 0 && depth_counts[height] == 0)
+                height--;
+    }
+
+    /**
+     * Adds <code>delta</code> to the count of vertices at the preorder number
+     * of <code>node</code>, or of its anchor if it is unlabeled.
+     */
+    private void countSubTree(Node<V> node, int delta)
+    {
+        if (!labels_valid)
+            return;
+        Node<V> counted = node.first >= 0 ? node : node.anchor;
+        if (counted == null)
+            return;
+        for (int i = counted.first + 1; i < subtree_counts.length; i += i & -i)
+            subtree_counts[i] += delta;
+    }
+
+    /**
+     * @return the number of vertices counted at preorder numbers less than <code>end</code>
+     */
+    private int countBefore(int end)
+    {
+        int count = 0;
+        for (int i = end; i > 0; i -= i & -i)
+            count += subtree_counts[i];
+        return count;
+    }
+
+    boolean contains(V vertex)
+    {
+        return nodes.containsKey(vertex);
+    }
+
+    int size()
+    {
+        return nodes.size();
+    }
+
+    /**
+     * @return the number of edges between <code>vertex</code> and its root,
+     * or -1 if <code>vertex</code> is not indexed
+     */
+    int getDepth(V vertex)
+    {
+        Node<V> node = nodes.get(vertex);
+        return node == null ? -1 : node.depth;
+    }
+
+    /**
+     * @return an unmodifiable view of the depth of each indexed vertex
+     */
+    Map<V, Integer> getDepths()
+    {
+        return new DepthView();
+    }
+
+    /**
+     * @return the greatest depth of any indexed vertex, or 0 if there are none
+     */
+    int getHeight()
+    {
+        return height;
+    }
+
+    /**
+     * @return an unmodifiable view of the roots of the indexed trees
+     */
+    Collection<V> getRoots()
+    {
+        return Collections.unmodifiableSet(roots);
+    }
+
+    /**
+     * @return true iff <code>ancestor</code> is on the path from the root of
+     * <code>descendant</code>'s tree to <code>descendant</code> (inclusive)
+     */
+    boolean isAncestor(V ancestor, V descendant)
+    {
+        Node<V> a = nodes.get(ancestor);
+        Node<V> d = nodes.get(descendant);
+        if (a == null || d == null)
+            return false;
+        if (!isLabeled(a))
+            chargeUnlabeledWork(1);
+        if (isLabeled(a))
+        {
+            // the labeled ancestors of an unlabeled vertex are those of its anchor
+            Node<V> labeled = isLabeled(d) ? d : d.anchor;
+            return labeled != null && a.first <= labeled.first && labeled.first <= a.last;
+        }
+        return a.depth <= d.depth && getAncestor(d, a.depth) == a;
+    }
+
+    /**
+     * @return the deepest common ancestor of <code>v1</code> and <code>v2</code>,
+     * or null if they are not in the same tree
+     */
+    V getLowestCommonAncestor(V v1, V v2)
+    {
+        Node<V> a = nodes.get(v1);
+        Node<V> b = nodes.get(v2);
+        if (a == null || b == null)
+            return null;
+        if (a.depth > b.depth)
+            a = getAncestor(a, b.depth);
+        else
+            b = getAncestor(b, a.depth);
+        // jump targets depend only on depth, so a and b jump in step
+        while (a != b)
+        {
+            if (a.jump != b.jump)
+            {
+                a = a.jump;
+                b = b.jump;
+            }
+            else
+            {
+                a = a.parent;
+                b = b.parent;
+            }
+        }
+        return a == null ? null : a.vertex;
+    }
+
+    /**
+     * @return the number of vertices in the subtree rooted at <code>vertex</code>,
+     * or 0 if <code>vertex</code> is not indexed
+     */
+    int getSubTreeSize(V vertex)
+    {
+        Node<V> node = nodes.get(vertex);
+        if (node == null)
+            return 0;
+        if (isLabeled(node))
+            return countBefore(node.last + 1) - countBefore(node.first);
+        final int[] count = new int[1];
+        final Deque<V> stack = new ArrayDeque<V>();
+        Consumer<V> pusher = new Consumer<V>()
+        {
+            public void accept(V v)
+            {
+                stack.push(v);
+            }
+        };
+        stack.push(vertex);
+        while (!stack.isEmpty())
+        {
+            count[0]++;
+            graph.forEachSuccessor(stack.pop(), pusher);
+        }
+        chargeUnlabeledWork(count[0]);
+        return count[0];
+    }
+
+    private boolean isLabeled(Node<V> node)
+    {
+        return labels_valid && node.first >= 0;
+    }
+
+    /**
+     * Records work done because vertices were unlabeled, and recomputes the
+     * labels once that work is as great as the relabeling.
+     */
+    private void chargeUnlabeledWork(int work)
+    {
+        unlabeled_work += work;
+        if (unlabeled_work >= nodes.size())
+            relabel();
+    }
+
+    private Node<V> getAncestor(Node<V> node, int depth)
+    {
+        while (node.depth > depth)
+            node = node.jump.depth >= depth ? node.jump : node.parent;
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void relabel()
+    {
+        final Node<V>[] order = new Node[nodes.size()];
+        final Deque<Node<V>> stack = new ArrayDeque<Node<V>>();
+        Consumer<V> pusher = new Consumer<V>()
+        {
+            public void accept(V v)
+            {
+                stack.push(nodes.get(v));
+            }
+        };
+        int count = 0;
+        for (V root : roots)
+        {
+            stack.push(nodes.get(root));
+            while (!stack.isEmpty())
+            {
+                Node<V> node = stack.pop();
+                node.first = count;
+                node.last = count;
+                node.anchor = null;
+                order[count++] = node;
+                graph.forEachSuccessor(node.vertex, pusher);
+            }
+        }
+        // preorder numbers of a subtree are contiguous, so 'last' is the maximum over it
+        for (int i = count - 1; i > 0; i--)
+        {
+            Node<V> node = order[i];
+            if (node.parent != null && node.last > node.parent.last)
+                node.parent.last = node.last;
+        }
+        // a Fenwick tree in which each vertex is counted once, built in linear time
+        subtree_counts = new int[count + 1];
+        for (int i = 1; i <= count; i++)
+        {
+            subtree_counts[i]++;
+            int next = i + (i & -i);
+            if (next <= count)
+                subtree_counts[next] += subtree_counts[i];
+        }
+        labels_valid = true;
+        unlabeled_work = 0;
+    }
+
+    private class DepthView extends AbstractMap<V, Integer> implements Serializable
+    {
+        @Override
+        public Integer get(Object vertex)
+        {
+            Node<V> node = nodes.get(vertex);
+            return node == null ? null : node.depth;
+        }
+
+        @Override
+        public boolean containsKey(Object vertex)
+        {
+            return nodes.containsKey(vertex);
+        }
+
+        @Override
+        public int size()
+        {
+            return nodes.size();
+        }
+
+        @Override
+        public Set<Map.Entry<V, Integer>> entrySet()
+        {
+            return new AbstractSet<Map.Entry<V, Integer>>()
+            {
+                @Override
+                public Iterator<Map.Entry<V, Integer>> iterator()
+                {
+                    final Iterator<Node<V>> iterator = nodes.values().iterator();
+                    return new Iterator<Map.Entry<V, Integer>>()
+                    {
+                        public boolean hasNext()
+                        {
+                            return iterator.hasNext();
+                        }
+
+                        public Map.Entry<V, Integer> next()
+                        {
+                            Node<V> node = iterator.next();
+                            return new AbstractMap.SimpleImmutableEntry<V, Integer>(node.vertex, node.depth);
+                        }
+
+                        public void remove()
+                        {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+
+                @Override
+                public int size()
+                {
+                    return nodes.size();
+                }
+            };
+        }
+    }
+}
@@ -12,12 +12,14 @@
 package edu.uci.ics.jung.graph;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.google.common.base.Objects;
 import com.google.common.base.Supplier;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -31,16 +33,45 @@ import edu.uci.ics.jung.graph.util.Pair;
  * parameter.  A specific child (edge) can be retrieved directly by specifying the
  * index at which the child is located.  By default, new (child) vertices
  * are added at the lowest index available, if no index is specified.
- * 
+ * <p>
+ * By default, the tree is stored implicitly, as in a binary heap: each vertex
+ * occupies a slot in an array, the root is in slot 0, and the child at index
+ * <i>i</i> of the vertex in slot <i>s</i> is in slot <i>s</i>k + <i>i</i> + 1.
+ * Navigating between a vertex and its parent or children is then arithmetic on
+ * slots.  There are no per-vertex records or child lists; each vertex and each
+ * edge still has one map entry giving its slot.  This is compact for complete or
+ * nearly complete trees; if a tree becomes so sparse that its slots would far
+ * outnumber its vertices, it switches to storing an explicit record for each
+ * vertex and edge.
  */
 @SuppressWarnings("serial")
 public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements Tree<V, E> 
 {
+    /**
+     * Slots are allocated freely up to this number, regardless of the number
+     * of vertices.
+     */
+    private static final int MIN_SLOT_LIMIT = 64;
+
+    /**
+     * The maximum ratio of slots to vertices of an implicitly stored tree.
+     */
+    private static final int SLOTS_PER_VERTEX = 4;
+
+    private static final int MAX_SLOTS = Integer.MAX_VALUE - 8;
+
     protected Map<E, Pair<V>> edge_vpairs;
     protected Map<V, VertexData> vertex_data;
     protected int height;
     protected V root;
     protected int order;
+    private final int expected_vertex_count;
+
+    // implicit storage; these are null if the tree is stored explicitly
+    protected Map<V, Integer> vertex_slots;
+    protected Map<E, Integer> edge_slots;
+    protected Object[] slot_vertices;
+    protected Object[] slot_edges;  // the edge connecting each slot to its parent
     
     /**
      * @param <V> the vertex type for the graph Supplier
@@ -57,16 +88,152 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     }
     
     /**
-     * Creates a new instance with the specified order (maximum number of children).
+     * Creates a new instance with the specified order (maximum number of children),
+     * which is stored implicitly until it becomes too sparse.
      * @param order the maximum number of children ("k") that any vertex can have
      */
     public OrderedKAryTree(int order)
+    {
+        this(order, true);
+    }
+
+    /**
+     * Creates a new instance with the specified order (maximum number of children),
+     * which is stored implicitly until it becomes too sparse for a tree with the
+     * specified number of vertices.  Specifying the final size allows a tree which
+     * will be complete to be built in any order (for example, depth-first) without
+     * being judged too sparse while it is partly built.
+     * @param order the maximum number of children ("k") that any vertex can have
+     * @param expected_vertex_count the number of vertices expected to be added
+     */
+    public OrderedKAryTree(int order, int expected_vertex_count)
+    {
+        this(order, true, expected_vertex_count);
+    }
+
+    /**
+     * Creates a new instance with the specified order (maximum number of children).
+     * @param order the maximum number of children ("k") that any vertex can have
+     * @param implicit if {@code true}, the tree is stored implicitly until it becomes
+     * too sparse; otherwise an explicit record is stored for each vertex and edge
+     */
+    public OrderedKAryTree(int order, boolean implicit)
+    {
+        this(order, implicit, 0);
+    }
+
+    private OrderedKAryTree(int order, boolean implicit, int expected_vertex_count)
     {
     	super(EdgeType.DIRECTED);
+        if (order < 1)
+            throw new IllegalArgumentException("order must be positive: " + order);
     	this.order = order;
+        this.expected_vertex_count = expected_vertex_count;
     	this.height = -1;
-    	this.edge_vpairs = new HashMap<E, Pair<V>>();
-    	this.vertex_data = new HashMap<V, VertexData>();
+        if (implicit)
+        {
+            this.vertex_slots = new HashMap<V, Integer>();
+            this.edge_slots = new HashMap<E, Integer>();
+            this.slot_vertices = new Object[Math.min(MIN_SLOT_LIMIT, order + 1)];
+            this.slot_edges = new Object[slot_vertices.length];
+        }
+        else
+        {
+            this.edge_vpairs = new HashMap<E, Pair<V>>();
+            this.vertex_data = new HashMap<V, VertexData>();
+        }
+    }
+
+    /**
+     * @return {@code true} if this tree is currently stored implicitly
+     */
+    public boolean isImplicit()
+    {
+        return slot_vertices != null;
+    }
+
+    private int getSlot(V vertex)
+    {
+        Integer slot = vertex_slots.get(vertex);
+        return slot == null ? -1 : slot;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V getSlotVertex(long slot)
+    {
+        return slot < slot_vertices.length ? (V)slot_vertices[(int)slot] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E getSlotEdge(long slot)
+    {
+        return slot < slot_edges.length ? (E)slot_edges[(int)slot] : null;
+    }
+
+    private long getChildSlot(int slot, int index)
+    {
+        return (long)slot * order + index + 1;
+    }
+
+    private int getParentSlot(int slot)
+    {
+        return (slot - 1) / order;
+    }
+
+    /**
+     * Makes room for <code>slot</code> if that would not make this tree too sparse.
+     * @return {@code true} if <code>slot</code> may be used
+     */
+    private boolean ensureSlot(long slot)
+    {
+        if (slot < slot_vertices.length)
+            return true;
+        long vertex_count = Math.max(getVertexCount(), expected_vertex_count);
+        long limit = Math.max(MIN_SLOT_LIMIT, SLOTS_PER_VERTEX * (vertex_count + 1));
+        if (slot >= limit || slot >= MAX_SLOTS)
+            return false;
+        int capacity = (int)Math.min(MAX_SLOTS, Math.max(slot + 1, 2L * slot_vertices.length));
+        slot_vertices = Arrays.copyOf(slot_vertices, capacity);
+        slot_edges = Arrays.copyOf(slot_edges, capacity);
+        return true;
+    }
+
+    /**
+     * Switches from implicit to explicit storage.
+     */
+    private void makeExplicit()
+    {
+        edge_vpairs = new HashMap<E, Pair<V>>(edge_slots.size() * 2);
+        vertex_data = new HashMap<V, VertexData>(vertex_slots.size() * 2);
+        // parents precede their children
+        for (int slot = 0; slot < slot_vertices.length; slot++)
+        {
+            V vertex = getSlotVertex(slot);
+            if (vertex == null)
+                continue;
+            E edge = getSlotEdge(slot);
+            if (edge == null)
+            {
+                vertex_data.put(vertex, new VertexData(null, 0));
+                continue;
+            }
+            V parent = getSlotVertex(getParentSlot(slot));
+            VertexData parent_data = vertex_data.get(parent);
+            vertex_data.put(vertex, new VertexData(edge, parent_data.depth + 1));
+            getChildEdgeList(parent_data).set((slot - 1) % order, edge);
+            edge_vpairs.put(edge, new Pair<V>(parent, vertex));
+        }
+        vertex_slots = null;
+        edge_slots = null;
+        slot_vertices = null;
+        slot_edges = null;
+    }
+
+    private List<E> getChildEdgeList(VertexData data)
+    {
+        if (data.child_edges == null)
+            data.child_edges = new ArrayList<E>(Collections.<E>nCopies(order, null));
+        return data.child_edges;
     }
   
     /**
@@ -77,13 +244,9 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     public int getChildCount(V vertex) {
         if (!containsVertex(vertex)) 
             return 0;
-        List<E> edges = vertex_data.get(vertex).child_edges;
-        if (edges == null)
-        	return 0;
         int count = 0;
-        for (E edge : edges)
-            count += edge == null ? 0 : 1;
-    
+        for (int i = 0; i < order; i++)
+            count += getChildEdge(vertex, i) == null ? 0 : 1;
         return count;
     }
   
@@ -92,9 +255,18 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
      * @param index the index of the edge to be returned
      * @return the child edge of {@code vertex} at index {@code index}, that is, 
      *     its <i>i</i>th child edge.
+     * @throws ArrayIndexOutOfBoundsException if <code>index</code> is not in
+     * the range {@code [0, order-1]}
      */
     public E getChildEdge(V vertex, int index) 
     {
+        if (index < 0 || index >= order)
+            throw new ArrayIndexOutOfBoundsException(index + " is not in [0, order-1]");
+        if (isImplicit())
+        {
+            int slot = getSlot(vertex);
+            return slot < 0 ? null : getSlotEdge(getChildSlot(slot, index));
+        }
         if (!containsVertex(vertex)) 
         	return null;
         List<E> edges = vertex_data.get(vertex).child_edges;
@@ -104,35 +276,43 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     }
 
     /**
+     * Returns the child edges of {@code vertex}, ordered by index; indices
+     * at which there is no child are skipped.
      * @see edu.uci.ics.jung.graph.Tree#getChildEdges(java.lang.Object)
      */
     public Collection<E> getChildEdges(V vertex) 
     {
         if (!containsVertex(vertex)) 
         	return null;
-        List<E> edges = vertex_data.get(vertex).child_edges;
-        return edges == null ? Collections.<E>emptySet() : 
-        	new ImmutableList.Builder<E>().addAll(edges).build();
+        ImmutableList.Builder<E> edges = ImmutableList.builder();
+        for (int i = 0; i < order; i++)
+        {
+            E edge = getChildEdge(vertex, i);
+            if (edge != null)
+                edges.add(edge);
+        }
+        return edges.build();
     }
   
     /**
-     * Returns an ordered list of {@code vertex}'s child vertices.
-     * If there is no child in position i, then the list will contain
-     * {@code null} in position i.  If {@code vertex} has no children
-     * then the empty set will be returned.
+     * Returns {@code vertex}'s child vertices, ordered by index; indices
+     * at which there is no child are skipped, so use {@link #getChild(Object, int)}
+     * to find the child at a given index.  If {@code vertex} has no children
+     * then an empty collection will be returned.
      * @see edu.uci.ics.jung.graph.Tree#getChildren(java.lang.Object)
      */
     public Collection<V> getChildren(V vertex) 
     {
         if (!containsVertex(vertex)) 
             return null;
-        List<E> edges = vertex_data.get(vertex).child_edges;
-        if (edges == null)
-        	return Collections.emptySet();
-        Collection<V> children = new ArrayList<V>(order);
-        for (E edge : edges)
-            children.add(this.getOpposite(vertex, edge));
-        return new ImmutableList.Builder<V>().addAll(children).build();
+        ImmutableList.Builder<V> children = ImmutableList.builder();
+        for (int i = 0; i < order; i++)
+        {
+            V child = getChild(vertex, i);
+            if (child != null)
+                children.add(child);
+        }
+        return children.build();
     }
   
     /**
@@ -142,6 +322,16 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
      */
     public int getDepth(V vertex) 
     {
+        if (isImplicit())
+        {
+            int slot = getSlot(vertex);
+            if (slot < 0)
+                return -1;
+            int depth = 0;
+            for (; slot > 0; slot = getParentSlot(slot))
+                depth++;
+            return depth;
+        }
         if (!containsVertex(vertex))
             return -1;
         return vertex_data.get(vertex).depth;
@@ -161,6 +351,11 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
      */
     public V getParent(V vertex) 
     {
+        if (isImplicit())
+        {
+            int slot = getSlot(vertex);
+            return slot <= 0 ? null : getSlotVertex(getParentSlot(slot));
+        }
         if (!containsVertex(vertex))
             return null;
         else if (vertex.equals(root))
@@ -173,6 +368,11 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
      */
     public E getParentEdge(V vertex) 
     {
+        if (isImplicit())
+        {
+            int slot = getSlot(vertex);
+            return slot < 0 ? null : getSlotEdge(slot);
+        }
         if (!containsVertex(vertex))
             return null;
         return vertex_data.get(vertex).parent_edge;
@@ -223,42 +423,51 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     				"include child: " + child);
 		if (parent.equals(child))
 			throw new IllegalArgumentException("Input vertices must be distinct");
-		if (index < 0 || index >= order)
+		if (index >= order)
 		    throw new IllegalArgumentException("'index' must be in [0, [order-1]]");
     	
     	Pair<V> endpoints = new Pair<V>(parent, child);
     	if (containsEdge(e))
-    		if (!endpoints.equals(edge_vpairs.get(e)))
+    		if (!endpoints.equals(getEndpoints(e)))
     			throw new IllegalArgumentException("Tree already includes edge" + 
-    					e + " with different endpoints " + edge_vpairs.get(e));
+    					e + " with different endpoints " + getEndpoints(e));
     		else
     			return false;
 
-    	VertexData parent_data = vertex_data.get(parent);
-    	List<E> outedges = parent_data.child_edges;
-    	
-    	if (outedges == null)
-    	    outedges = new ArrayList<E>(this.order);
-
-    	boolean edge_placed = false;
     	if (index >= 0)
-    		if (outedges.get(index) != null)
+    	{
+    		if (getChildEdge(parent, index) != null)
         		throw new IllegalArgumentException("Parent " + parent + 
         				" already has a child at index " + index + " in this tree");
-    		else
-    			outedges.set(index, e);
-    	for (int i = 0; i < order; i++)
+    	}
+    	else
     	{
-    		if (outedges.get(i) == null)
-    		{
-    			outedges.set(i, e);
-    			edge_placed = true;
-    			break;
-    		}
+    		for (int i = 0; i < order && index < 0; i++)
+    			if (getChildEdge(parent, i) == null)
+    				index = i;
+    		if (index < 0)
+    			throw new IllegalArgumentException("Parent " + parent + " already" +
+    					" has " + order + " children in this tree");
     	}
-    	if (!edge_placed)
-    		throw new IllegalArgumentException("Parent " + parent + " already" +
-    				" has " + order + " children in this tree");
+
+        if (isImplicit())
+        {
+            long slot = getChildSlot(getSlot(parent), index);
+            if (ensureSlot(slot))
+            {
+                slot_vertices[(int)slot] = child;
+                slot_edges[(int)slot] = e;
+                vertex_slots.put(child, (int)slot);
+                edge_slots.put(e, (int)slot);
+                height = Math.max(height, getDepth(child));
+                modification_count++;
+                return true;
+            }
+            makeExplicit();
+        }
+
+    	VertexData parent_data = vertex_data.get(parent);
+    	getChildEdgeList(parent_data).set(index, e);
     	
     	// initialize VertexData for child; leave child's child_edges null for now
     	VertexData child_data = new VertexData(e, parent_data.depth + 1);
@@ -267,6 +476,7 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     	height = child_data.depth > height ? child_data.depth : height;
     	edge_vpairs.put(e, endpoints);
     	
+    	modification_count++;
     	return true;
     }
 
@@ -295,9 +505,8 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
      */
     public V getDest(E directed_edge) 
     {
-        if (!containsEdge(directed_edge))
-            return null;
-        return edge_vpairs.get(directed_edge).getSecond();
+        Pair<V> endpoints = getEndpoints(directed_edge);
+        return endpoints == null ? null : endpoints.getSecond();
     }
   
     /**
@@ -307,6 +516,11 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     {
         if (!containsEdge(edge))
             return null;
+        if (isImplicit())
+        {
+            int slot = edge_slots.get(edge);
+            return new Pair<V>(getSlotVertex(getParentSlot(slot)), getSlotVertex(slot));
+        }
         return edge_vpairs.get(edge);
     }
   
@@ -331,7 +545,7 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     {
         if (!containsVertex(vertex) || !containsEdge(edge))
             return null;
-        Pair<V> endpoints = edge_vpairs.get(edge);
+        Pair<V> endpoints = getEndpoints(edge);
         V v1 = endpoints.getFirst();
         V v2 = endpoints.getSecond();
         return v1.equals(vertex) ? v2 : v1;
@@ -375,9 +589,8 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
      */
     public V getSource(E directed_edge) 
     {
-        if (!containsEdge(directed_edge))
-            return null;
-        return edge_vpairs.get(directed_edge).getFirst();
+        Pair<V> endpoints = getEndpoints(directed_edge);
+        return endpoints == null ? null : endpoints.getFirst();
     }
   
     /**
@@ -417,7 +630,7 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     {
         if (!containsEdge(edge) || !containsVertex(vertex))
             return false;
-        return edge_vpairs.get(edge).getSecond().equals(vertex);
+        return getDest(edge).equals(vertex);
     }
   
     /**
@@ -445,7 +658,7 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     {
         if (!containsVertex(v2))
             return false;
-        return getParent(v2).equals(v1);
+        return Objects.equal(getParent(v2), v1);
     }
   
     /**
@@ -468,7 +681,7 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     {
         if (!containsEdge(edge) || !containsVertex(vertex))
             return false;
-        return edge_vpairs.get(edge).getFirst().equals(vertex);
+        return getSource(edge).equals(vertex);
     }
   
     /**
@@ -480,7 +693,7 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
         if (!containsVertex(v2))
             return false;
         if (containsVertex(v1))
-            return getParent(v1).equals(v2);
+            return Objects.equal(getParent(v1), v2);
         return isLeaf(v2) && v1 == null;
     }
   
@@ -490,15 +703,7 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     @Override
     public int outDegree(V vertex) 
     {
-        if (!containsVertex(vertex))
-            return 0;
-        List<E> out_edges = vertex_data.get(vertex).child_edges;
-        if (out_edges == null)
-        	return 0;
-        int degree = 0;
-        for (E e : out_edges)
-        	degree += (e == null) ? 0 : 1;
-        return degree;
+        return getChildCount(vertex);
     }
   
     /**
@@ -534,8 +739,15 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
 		if(root == null) 
 		{
 			this.root = vertex;
-			vertex_data.put(vertex, new VertexData(null, 0));
+            if (isImplicit())
+            {
+                slot_vertices[0] = vertex;
+                vertex_slots.put(vertex, 0);
+            }
+            else
+                vertex_data.put(vertex, new VertexData(null, 0));
 			this.height = 0;
+			modification_count++;
 			return true;
 		} 
 		else 
@@ -553,7 +765,7 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     {
         if (!containsVertex(vertex) || !containsEdge(edge))
             return false;
-        return edge_vpairs.get(edge).contains(vertex);
+        return getEndpoints(edge).contains(vertex);
     }
   
     /**
@@ -572,6 +784,8 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
      */
     public boolean containsEdge(E edge) 
     {
+        if (isImplicit())
+            return edge_slots.containsKey(edge);
     	return edge_vpairs.containsKey(edge);
     }
   
@@ -580,6 +794,8 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
      */
     public boolean containsVertex(V vertex) 
     {
+        if (isImplicit())
+            return vertex_slots.containsKey(vertex);
     	return vertex_data.containsKey(vertex);
     }
   
@@ -592,15 +808,10 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     {
         if (!containsVertex(v1) || !containsVertex(v2))
             return null;
-    	VertexData v1_data = vertex_data.get(v1);
-    	if (edge_vpairs.get(v1_data.parent_edge).getFirst().equals(v2))
-    		return v1_data.parent_edge;
-    	List<E> edges = v1_data.child_edges;
-    	if (edges == null)
-    		return null;
-    	for (E edge : edges)
-    		if (edge != null && edge_vpairs.get(edge).getSecond().equals(v2))
-    			return edge;
+        if (v2.equals(getParent(v1)))
+            return getParentEdge(v1);
+        if (v1.equals(getParent(v2)))
+            return getParentEdge(v2);
     	return null;
     }
   
@@ -631,6 +842,11 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     {
         if (index < 0 || index >= order)
             throw new ArrayIndexOutOfBoundsException(index + " is not in [0, order-1]");
+        if (isImplicit())
+        {
+            int slot = getSlot(vertex);
+            return slot < 0 ? null : getSlotVertex(getChildSlot(slot, index));
+        }
         if (!containsVertex(vertex))
             return null;
         List<E> edges = vertex_data.get(vertex).child_edges;
@@ -645,6 +861,8 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
      */
     public int getEdgeCount() 
     {
+        if (isImplicit())
+            return edge_slots.size();
     	return edge_vpairs.size();
     }
   
@@ -653,6 +871,8 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
      */
     public Collection<E> getEdges() 
     {
+        if (isImplicit())
+            return ImmutableSet.copyOf(edge_slots.keySet());
     	return new ImmutableSet.Builder<E>().addAll(edge_vpairs.keySet()).build();
     	//CollectionUtils.unmodifiableCollection(edge_vpairs.keySet());
     }
@@ -674,14 +894,14 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     	if (!containsVertex(vertex))
     		return null;
     	ArrayList<E> edges = new ArrayList<E>(order+1);
-    	VertexData v_data = vertex_data.get(vertex);
-    	if (v_data.parent_edge != null)
-    		edges.add(v_data.parent_edge);
-    	if (v_data.child_edges != null)
+    	E parent_edge = getParentEdge(vertex);
+    	if (parent_edge != null)
+    		edges.add(parent_edge);
+    	for (int i = 0; i < order; i++)
     	{
-    		for (E edge : v_data.child_edges)
-    			if (edge != null)
-    				edges.add(edge);
+    		E edge = getChildEdge(vertex, i);
+    		if (edge != null)
+    			edges.add(edge);
     	}
     	if (edges.isEmpty())
     		return Collections.emptySet();
@@ -694,7 +914,7 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     @Override
     public Collection<V> getIncidentVertices(E edge) 
     {
-    	return edge_vpairs.get(edge);
+    	return getEndpoints(edge);
     }
   
     /**
@@ -716,14 +936,14 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     	if (!containsVertex(vertex))
     		return null;
     	ArrayList<V> vertices = new ArrayList<V>(order+1);
-    	VertexData v_data = vertex_data.get(vertex);
-    	if (v_data.parent_edge != null)
-    		vertices.add(edge_vpairs.get(v_data.parent_edge).getFirst());
-    	if (v_data.child_edges != null)
+    	V parent = getParent(vertex);
+    	if (parent != null)
+    		vertices.add(parent);
+    	for (int i = 0; i < order; i++)
     	{
-    		for (E edge : v_data.child_edges)
-    			if (edge != null)
-    				vertices.add(edge_vpairs.get(edge).getSecond());
+    		V child = getChild(vertex, i);
+    		if (child != null)
+    			vertices.add(child);
     	}
     	if (vertices.isEmpty())
     		return Collections.emptySet();
@@ -735,6 +955,8 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
      */
     public int getVertexCount() 
     {
+        if (isImplicit())
+            return vertex_slots.size();
     	return vertex_data.size();
     }
   
@@ -743,6 +965,8 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
      */
     public Collection<V> getVertices() 
     {
+      if (isImplicit())
+          return ImmutableSet.copyOf(vertex_slots.keySet());
       return new ImmutableSet.Builder<V>().addAll(vertex_data.keySet()).build();
       //CollectionUtils.unmodifiableCollection(vertex_data.keySet());
     }
@@ -755,8 +979,7 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     	if (!containsEdge(edge))
     		return false;
     	
-    	removeVertex(edge_vpairs.get(edge).getSecond());
-    	edge_vpairs.remove(edge);
+    	removeVertex(getDest(edge));
     	
     	return true;
     }
@@ -774,13 +997,31 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
 			removeVertex(v);
 
 		E parent_edge = getParentEdge(vertex);
-		edge_vpairs.remove(parent_edge);
-		List<E> edges = vertex_data.get(vertex).child_edges;
-		if (edges != null)
-			for (E edge : edges)
-				edge_vpairs.remove(edge);
-		vertex_data.remove(vertex);
+        if (isImplicit())
+        {
+            int slot = vertex_slots.remove(vertex);
+            slot_vertices[slot] = null;
+            slot_edges[slot] = null;
+            if (parent_edge != null)
+                edge_slots.remove(parent_edge);
+        }
+        else
+        {
+            if (parent_edge != null)
+            {
+                List<E> siblings = vertex_data.get(getParent(vertex)).child_edges;
+                siblings.set(siblings.indexOf(parent_edge), null);
+                edge_vpairs.remove(parent_edge);
+            }
+            vertex_data.remove(vertex);
+        }
+        if (vertex.equals(root))
+        {
+            root = null;
+            height = -1;
+        }
 		
+		modification_count++;
 		return true;
     }
 	
@@ -62,6 +62,7 @@ public class OrderedSparseMultigraph<V,E>
         }
         if (!containsVertex(vertex)) {
             vertices.put(vertex, new Pair<Set<E>>(new LinkedHashSet<E>(), new LinkedHashSet<E>()));
+            modification_count++;
             return true;
         } else {
         	return false;
@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import com.google.common.base.Supplier;
 
@@ -34,6 +35,7 @@ public class SetHypergraph<V,H>
 {
     protected Map<V, Set<H>> vertices; // Map of vertices to incident hyperedge sets
     protected Map<H, Set<V>> edges;    // Map of hyperedges to incident vertex sets
+    protected long modification_count; // number of structural modifications
  
     /**
      * Returns a <code>Factory</code> which creates instances of this class.
@@ -97,6 +99,7 @@ public class SetHypergraph<V,H>
             // associate v with hyperedge
             vertices.get(v).add(hyperedge);
         }
+        modification_count++;
         return true;
     }
     
@@ -202,6 +205,11 @@ public class SetHypergraph<V,H>
         return Collections.unmodifiableCollection(edges);
     }
     
+    public long getModificationCount()
+    {
+        return modification_count;
+    }
+
     public boolean addVertex(V vertex)
     {
     	if(vertex == null) 
@@ -209,6 +217,7 @@ public class SetHypergraph<V,H>
         if (containsVertex(vertex))
             return false;
         vertices.put(vertex, new HashSet<H>());
+        modification_count++;
         return true;
     }
     
@@ -221,6 +230,7 @@ public class SetHypergraph<V,H>
             edges.get(hyperedge).remove(vertex);
         }
         vertices.remove(vertex);
+        modification_count++;
         return true;
     }
     
@@ -233,6 +243,7 @@ public class SetHypergraph<V,H>
             vertices.get(vertex).remove(hyperedge);
         }
         edges.remove(hyperedge);
+        modification_count++;
         return true;
     }
     
@@ -341,4 +352,45 @@ public class SetHypergraph<V,H>
 	{
 		return getNeighbors(vertex);
 	}
+
+    @Override
+    public void forEachNeighbor(V vertex, Consumer<? super V> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        Set<H> incident = vertices.get(vertex);
+        if (incident.size() == 1)
+        {
+            // no vertex can be reached more than once
+            for (V v : edges.get(incident.iterator().next()))
+                visitor.accept(v);
+            return;
+        }
+        Set<V> visited = new HashSet<V>();
+        for (H hyperedge : incident)
+            for (V v : edges.get(hyperedge))
+                if (visited.add(v))
+                    visitor.accept(v);
+    }
+
+    @Override
+    public void forEachPredecessor(V vertex, Consumer<? super V> visitor)
+    {
+        forEachNeighbor(vertex, visitor);
+    }
+
+    @Override
+    public void forEachSuccessor(V vertex, Consumer<? super V> visitor)
+    {
+        forEachNeighbor(vertex, visitor);
+    }
+
+    @Override
+    public void forEachIncidentEdge(V vertex, Consumer<? super H> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        for (H hyperedge : vertices.get(vertex))
+            visitor.accept(hyperedge);
+    }
 }
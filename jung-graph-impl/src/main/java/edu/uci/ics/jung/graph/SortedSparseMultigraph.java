@@ -118,6 +118,7 @@ public class SortedSparseMultigraph<V,E>
         {
             vertices.put(vertex, new Pair<Set<E>>(new TreeSet<E>(edge_comparator), 
                 new TreeSet<E>(edge_comparator)));
+            modification_count++;
             return true;
         } 
         else 
@@ -17,8 +17,11 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import com.google.common.base.Function;
 import com.google.common.base.Supplier;
+import com.google.common.collect.Maps;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
 import edu.uci.ics.jung.graph.util.Pair;
@@ -65,6 +68,79 @@ public class SparseGraph<V,E>
         directed_edges = new HashMap<E, Pair<V>>();
         undirected_edges = new HashMap<E, Pair<V>>();
     }
+
+    /**
+     * Creates an instance whose storage is sized to hold the specified numbers
+     * of vertices and edges without being resized.
+     * 
+     * @param expected_vertex_count the number of vertices this graph is expected to hold
+     * @param expected_edge_count the number of edges this graph is expected to hold
+     */
+    public SparseGraph(int expected_vertex_count, int expected_edge_count)
+    {
+        vertex_maps = Maps.newHashMapWithExpectedSize(expected_vertex_count);
+        // the tables are allocated lazily, so sizing both edge maps costs nothing
+        // for an edge type that is never used
+        directed_edges = Maps.newHashMapWithExpectedSize(expected_edge_count);
+        undirected_edges = Maps.newHashMapWithExpectedSize(expected_edge_count);
+    }
+
+    @Override
+    public int addEdges(Iterable<? extends E> new_edges, 
+            Function<? super E, ? extends Pair<? extends V>> endpoints, EdgeType edge_type)
+    {
+        checkBulkArguments(new_edges, endpoints);
+        Map<E, Pair<V>> edge_map = 
+            edge_type == EdgeType.DIRECTED ? directed_edges : undirected_edges;
+        int added = 0;
+        for (E edge : new_edges)
+        {
+            Pair<V> new_endpoints = getBulkEndpoints(edge, endpoints);
+            Pair<V> existing_endpoints = directed_edges.get(edge);
+            if (existing_endpoints == null)
+                existing_endpoints = undirected_edges.get(edge);
+            if (isExistingEdge(edge, existing_endpoints, new_endpoints))
+                continue;
+
+            V v1 = new_endpoints.getFirst();
+            V v2 = new_endpoints.getSecond();
+            Map<V,E>[] v1_maps = getOrCreateMaps(v1);
+            
+            // same test as addEdge: reject only a parallel edge of the same type
+            E connection = v1_maps[OUTGOING].get(v2);
+            if (connection == null)
+                connection = v1_maps[INCIDENT].get(v2);
+            if (connection != null && getEdgeType(connection) == edge_type)
+                continue;
+
+            Map<V,E>[] v2_maps = getOrCreateMaps(v2);
+            if (edge_type == EdgeType.DIRECTED)
+            {
+                v1_maps[OUTGOING].put(v2, edge);
+                v2_maps[INCOMING].put(v1, edge);
+            }
+            else
+            {
+                v1_maps[INCIDENT].put(v2, edge);
+                v2_maps[INCIDENT].put(v1, edge);
+            }
+            edge_map.put(edge, new_endpoints);
+            added++;
+        }
+        modification_count += added;
+        return added;
+    }
+    
+    private Map<V,E>[] getOrCreateMaps(V vertex)
+    {
+        Map<V,E>[] maps = vertex_maps.get(vertex);
+        if (maps == null)
+        {
+            addVertex(vertex);
+            maps = vertex_maps.get(vertex);
+        }
+        return maps;
+    }
     
     @Override
     public E findEdge(V v1, V v2)
@@ -129,6 +205,7 @@ public class SparseGraph<V,E>
             undirected_edges.put(edge, new_endpoints);
         }
         
+        modification_count++;
         return true;
     }
 
@@ -309,6 +386,7 @@ public class SparseGraph<V,E>
         }
         if (!containsVertex(vertex)) {
             vertex_maps.put(vertex, new HashMap[]{new HashMap<V,E>(), new HashMap<V,E>(), new HashMap<V,E>()});
+            modification_count++;
             return true;
         } else {
             return false;
@@ -328,6 +406,7 @@ public class SparseGraph<V,E>
         
         vertex_maps.remove(vertex);
         
+        modification_count++;
         return true;
     }
 
@@ -354,6 +433,7 @@ public class SparseGraph<V,E>
             undirected_edges.remove(edge);
         }
 
+        modification_count++;
         return true;
     }
     
@@ -370,4 +450,86 @@ public class SparseGraph<V,E>
 	{
 		return EdgeType.UNDIRECTED;
 	}
+
+    @Override
+    public void forEachNeighbor(V vertex, Consumer<? super V> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        Map<V,E>[] maps = vertex_maps.get(vertex);
+        for (V v : maps[INCOMING].keySet())
+            visitor.accept(v);
+        for (V v : maps[OUTGOING].keySet())
+            if (!maps[INCOMING].containsKey(v))
+                visitor.accept(v);
+        for (V v : maps[INCIDENT].keySet())
+            if (!maps[INCOMING].containsKey(v) && !maps[OUTGOING].containsKey(v))
+                visitor.accept(v);
+    }
+
+    @Override
+    public void forEachPredecessor(V vertex, Consumer<? super V> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        Map<V,E>[] maps = vertex_maps.get(vertex);
+        for (V v : maps[INCOMING].keySet())
+            visitor.accept(v);
+        for (V v : maps[INCIDENT].keySet())
+            if (!maps[INCOMING].containsKey(v))
+                visitor.accept(v);
+    }
+
+    @Override
+    public void forEachSuccessor(V vertex, Consumer<? super V> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        Map<V,E>[] maps = vertex_maps.get(vertex);
+        for (V v : maps[OUTGOING].keySet())
+            visitor.accept(v);
+        for (V v : maps[INCIDENT].keySet())
+            if (!maps[OUTGOING].containsKey(v))
+                visitor.accept(v);
+    }
+
+    @Override
+    public void forEachIncidentEdge(V vertex, Consumer<? super E> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        Map<V,E>[] maps = vertex_maps.get(vertex);
+        for (E e : maps[INCOMING].values())
+            visitor.accept(e);
+        // a directed self-loop is in both the incoming and outgoing maps
+        for (Map.Entry<V,E> entry : maps[OUTGOING].entrySet())
+            if (!entry.getKey().equals(vertex))
+                visitor.accept(entry.getValue());
+        for (E e : maps[INCIDENT].values())
+            visitor.accept(e);
+    }
+
+    @Override
+    public void forEachInEdge(V vertex, Consumer<? super E> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        Map<V,E>[] maps = vertex_maps.get(vertex);
+        for (E e : maps[INCOMING].values())
+            visitor.accept(e);
+        for (E e : maps[INCIDENT].values())
+            visitor.accept(e);
+    }
+
+    @Override
+    public void forEachOutEdge(V vertex, Consumer<? super E> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        Map<V,E>[] maps = vertex_maps.get(vertex);
+        for (E e : maps[OUTGOING].values())
+            visitor.accept(e);
+        for (E e : maps[INCIDENT].values())
+            visitor.accept(e);
+    }
 }
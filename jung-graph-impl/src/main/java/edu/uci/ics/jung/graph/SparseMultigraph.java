@@ -17,8 +17,12 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
+import com.google.common.base.Function;
 import com.google.common.base.Supplier;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
 import edu.uci.ics.jung.graph.util.Pair;
@@ -61,6 +65,63 @@ public class SparseMultigraph<V,E>
         directedEdges = new HashSet<E>();
     }
 
+    /**
+     * Creates an instance whose storage is sized to hold the specified numbers
+     * of vertices and edges without being resized.
+     * 
+     * @param expected_vertex_count the number of vertices this graph is expected to hold
+     * @param expected_edge_count the number of edges this graph is expected to hold
+     */
+    public SparseMultigraph(int expected_vertex_count, int expected_edge_count)
+    {
+        vertices = Maps.newHashMapWithExpectedSize(expected_vertex_count);
+        edges = Maps.newHashMapWithExpectedSize(expected_edge_count);
+        directedEdges = Sets.newHashSetWithExpectedSize(expected_edge_count);
+    }
+
+    @Override
+    public int addEdges(Iterable<? extends E> new_edges, 
+            Function<? super E, ? extends Pair<? extends V>> endpoints, EdgeType edge_type)
+    {
+        checkBulkArguments(new_edges, endpoints);
+        int added = 0;
+        for (E edge : new_edges)
+        {
+            Pair<V> new_endpoints = getBulkEndpoints(edge, endpoints);
+            if (isExistingEdge(edge, edges.get(edge), new_endpoints))
+                continue;
+
+            Pair<Set<E>> v1_adjacency = getOrCreateAdjacency(new_endpoints.getFirst());
+            Pair<Set<E>> v2_adjacency = getOrCreateAdjacency(new_endpoints.getSecond());
+            v1_adjacency.getSecond().add(edge);
+            v2_adjacency.getFirst().add(edge);
+            if (edge_type == EdgeType.DIRECTED)
+            {
+                directedEdges.add(edge);
+            }
+            else
+            {
+                v1_adjacency.getFirst().add(edge);
+                v2_adjacency.getSecond().add(edge);
+            }
+            edges.put(edge, new_endpoints);
+            added++;
+        }
+        modification_count += added;
+        return added;
+    }
+    
+    private Pair<Set<E>> getOrCreateAdjacency(V vertex)
+    {
+        Pair<Set<E>> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+        {
+            addVertex(vertex);
+            adjacency = vertices.get(vertex);
+        }
+        return adjacency;
+    }
+
     public Collection<E> getEdges()
     {
         return Collections.unmodifiableCollection(edges.keySet());
@@ -95,6 +156,7 @@ public class SparseMultigraph<V,E>
         }
         if (!vertices.containsKey(vertex)) {
             vertices.put(vertex, new Pair<Set<E>>(new HashSet<E>(), new HashSet<E>()));
+            modification_count++;
             return true;
         } else {
         	return false;
@@ -114,6 +176,7 @@ public class SparseMultigraph<V,E>
         
         vertices.remove(vertex);
         
+        modification_count++;
         return true;
     }
     
@@ -143,6 +206,7 @@ public class SparseMultigraph<V,E>
           vertices.get(v1).getFirst().add(edge);        
           vertices.get(v2).getSecond().add(edge);        
         }
+        modification_count++;
         return true;
     }
     
@@ -167,6 +231,7 @@ public class SparseMultigraph<V,E>
             vertices.get(v1).getFirst().remove(edge);
         }
         edges.remove(edge);
+        modification_count++;
         return true;
     }
     
@@ -317,4 +382,77 @@ public class SparseMultigraph<V,E>
 	{
 		return EdgeType.UNDIRECTED;
 	}
+
+    private void visitOpposites(V vertex, Collection<E> incident, Set<V> visited,
+        Consumer<? super V> visitor)
+    {
+        for (E edge : incident)
+        {
+            Pair<V> endpoints = edges.get(edge);
+            V opposite = vertex.equals(endpoints.getFirst()) ? endpoints.getSecond() : endpoints.getFirst();
+            if (visited.add(opposite))
+                visitor.accept(opposite);
+        }
+    }
+
+    // parallel edges may lead to the same vertex, so the vertex traversals
+    // keep track of the vertices already visited
+
+    @Override
+    public void forEachNeighbor(V vertex, Consumer<? super V> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        Set<V> visited = new HashSet<V>();
+        visitOpposites(vertex, getIncoming_internal(vertex), visited, visitor);
+        visitOpposites(vertex, getOutgoing_internal(vertex), visited, visitor);
+    }
+
+    @Override
+    public void forEachPredecessor(V vertex, Consumer<? super V> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        visitOpposites(vertex, getIncoming_internal(vertex), new HashSet<V>(), visitor);
+    }
+
+    @Override
+    public void forEachSuccessor(V vertex, Consumer<? super V> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        visitOpposites(vertex, getOutgoing_internal(vertex), new HashSet<V>(), visitor);
+    }
+
+    @Override
+    public void forEachIncidentEdge(V vertex, Consumer<? super E> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        Collection<E> incoming = getIncoming_internal(vertex);
+        for (E edge : incoming)
+            visitor.accept(edge);
+        // undirected edges and self-loops are in both sets
+        for (E edge : getOutgoing_internal(vertex))
+            if (!incoming.contains(edge))
+                visitor.accept(edge);
+    }
+
+    @Override
+    public void forEachInEdge(V vertex, Consumer<? super E> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        for (E edge : getIncoming_internal(vertex))
+            visitor.accept(edge);
+    }
+
+    @Override
+    public void forEachOutEdge(V vertex, Consumer<? super E> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        for (E edge : getOutgoing_internal(vertex))
+            visitor.accept(edge);
+    }
 }
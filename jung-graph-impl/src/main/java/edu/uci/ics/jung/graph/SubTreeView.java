@@ -0,0 +1,377 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * A read-only view of the subtree of a <code>DelegateTree</code> or
+ * <code>DelegateForest</code> rooted at a specified vertex.  Nothing is copied:
+ * membership is decided by the forest's ancestry index, and changes to the
+ * forest are visible in the view.  The view is only meaningful while its root
+ * remains in the forest.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ */
+@SuppressWarnings("serial")
+class SubTreeView<V,E> extends AbstractGraph<V,E> implements Tree<V,E>
+{
+    private final Forest<V,E> forest;
+    private final ForestIndex<V> index;
+    private final V root;
+
+    SubTreeView(Forest<V,E> forest, ForestIndex<V> index, V root)
+    {
+        this.forest = forest;
+        this.index = index;
+        this.root = root;
+    }
+
+    public boolean containsVertex(V vertex)
+    {
+        return index.isAncestor(root, vertex);
+    }
+
+    public boolean containsEdge(E edge)
+    {
+        if (!forest.containsEdge(edge))
+            return false;
+        V child = forest.getDest(edge);
+        return !child.equals(root) && containsVertex(child);
+    }
+
+    public Collection<V> getVertices()
+    {
+        return new AbstractCollection<V>()
+        {
+            @Override
+            public Iterator<V> iterator()
+            {
+                return new PreorderIterator();
+            }
+
+            @Override
+            public int size()
+            {
+                return getVertexCount();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public boolean contains(Object o)
+            {
+                return containsVertex((V)o);
+            }
+        };
+    }
+
+    public Collection<E> getEdges()
+    {
+        return new AbstractCollection<E>()
+        {
+            @Override
+            public Iterator<E> iterator()
+            {
+                final PreorderIterator vertices = new PreorderIterator();
+                if (vertices.hasNext())
+                    vertices.next(); // the root has no parent edge in this view
+                return new Iterator<E>()
+                {
+                    public boolean hasNext()
+                    {
+                        return vertices.hasNext();
+                    }
+
+                    public E next()
+                    {
+                        return forest.getParentEdge(vertices.next());
+                    }
+
+                    public void remove()
+                    {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public int size()
+            {
+                return getEdgeCount();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public boolean contains(Object o)
+            {
+                return containsEdge((E)o);
+            }
+        };
+    }
+
+    public Collection<E> getEdges(EdgeType edge_type)
+    {
+        if (edge_type == EdgeType.DIRECTED)
+            return getEdges();
+        return Collections.emptySet();
+    }
+
+    public int getVertexCount()
+    {
+        return index.getSubTreeSize(root);
+    }
+
+    public int getEdgeCount()
+    {
+        return Math.max(0, getVertexCount() - 1);
+    }
+
+    public int getEdgeCount(EdgeType edge_type)
+    {
+        return edge_type == EdgeType.DIRECTED ? getEdgeCount() : 0;
+    }
+
+    public EdgeType getDefaultEdgeType()
+    {
+        return EdgeType.DIRECTED;
+    }
+
+    public Collection<E> getInEdges(V vertex)
+    {
+        if (!containsVertex(vertex))
+            return null;
+        if (vertex.equals(root))
+            return Collections.emptySet();
+        return forest.getInEdges(vertex);
+    }
+
+    public Collection<E> getOutEdges(V vertex)
+    {
+        if (!containsVertex(vertex))
+            return null;
+        return forest.getOutEdges(vertex);
+    }
+
+    public Collection<E> getIncidentEdges(V vertex)
+    {
+        if (!containsVertex(vertex))
+            return null;
+        if (vertex.equals(root))
+            return forest.getOutEdges(vertex);
+        return forest.getIncidentEdges(vertex);
+    }
+
+    public Collection<V> getPredecessors(V vertex)
+    {
+        if (!containsVertex(vertex))
+            return null;
+        if (vertex.equals(root))
+            return Collections.emptySet();
+        return forest.getPredecessors(vertex);
+    }
+
+    public Collection<V> getSuccessors(V vertex)
+    {
+        if (!containsVertex(vertex))
+            return null;
+        return forest.getSuccessors(vertex);
+    }
+
+    public Collection<V> getNeighbors(V vertex)
+    {
+        if (!containsVertex(vertex))
+            return null;
+        if (vertex.equals(root))
+            return forest.getSuccessors(vertex);
+        return forest.getNeighbors(vertex);
+    }
+
+    public Pair<V> getEndpoints(E edge)
+    {
+        return containsEdge(edge) ? forest.getEndpoints(edge) : null;
+    }
+
+    public EdgeType getEdgeType(E edge)
+    {
+        return containsEdge(edge) ? EdgeType.DIRECTED : null;
+    }
+
+    public V getSource(E directed_edge)
+    {
+        return containsEdge(directed_edge) ? forest.getSource(directed_edge) : null;
+    }
+
+    public V getDest(E directed_edge)
+    {
+        return containsEdge(directed_edge) ? forest.getDest(directed_edge) : null;
+    }
+
+    public boolean isSource(V vertex, E edge)
+    {
+        return containsEdge(edge) && forest.isSource(vertex, edge);
+    }
+
+    public boolean isDest(V vertex, E edge)
+    {
+        return containsEdge(edge) && forest.isDest(vertex, edge);
+    }
+
+    /**
+     * @return the depth of <code>vertex</code> relative to the root of this
+     * view, or -1 if <code>vertex</code> is not in this view
+     */
+    public int getDepth(V vertex)
+    {
+        if (!containsVertex(vertex))
+            return -1;
+        return index.getDepth(vertex) - index.getDepth(root);
+    }
+
+    /**
+     * Returns the height of this subtree.  This requires a pass over the
+     * vertices of the subtree.
+     */
+    public int getHeight()
+    {
+        int height = 0;
+        int root_depth = index.getDepth(root);
+        for (V v : getVertices())
+            height = Math.max(height, index.getDepth(v) - root_depth);
+        return height;
+    }
+
+    public V getRoot()
+    {
+        return root;
+    }
+
+    public V getParent(V vertex)
+    {
+        if (!containsVertex(vertex) || vertex.equals(root))
+            return null;
+        return forest.getParent(vertex);
+    }
+
+    public E getParentEdge(V vertex)
+    {
+        if (!containsVertex(vertex) || vertex.equals(root))
+            return null;
+        return forest.getParentEdge(vertex);
+    }
+
+    public Collection<V> getChildren(V vertex)
+    {
+        return getSuccessors(vertex);
+    }
+
+    public Collection<E> getChildEdges(V vertex)
+    {
+        return getOutEdges(vertex);
+    }
+
+    public int getChildCount(V vertex)
+    {
+        return containsVertex(vertex) ? forest.getChildCount(vertex) : 0;
+    }
+
+    public Collection<Tree<V,E>> getTrees()
+    {
+        return Collections.<Tree<V,E>>singleton(this);
+    }
+
+    /**
+     * Returns the modification count of the underlying forest, whose changes
+     * are reflected by this view.
+     */
+    @Override
+    public long getModificationCount()
+    {
+        return forest.getModificationCount();
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>: subtree views are read-only.
+     */
+    public boolean addVertex(V vertex)
+    {
+        throw new UnsupportedOperationException("subtree views are read-only");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>: subtree views are read-only.
+     */
+    @Override
+    public boolean addEdge(E edge, Pair<? extends V> endpoints, EdgeType edgeType)
+    {
+        throw new UnsupportedOperationException("subtree views are read-only");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>: subtree views are read-only.
+     */
+    public boolean removeVertex(V vertex)
+    {
+        throw new UnsupportedOperationException("subtree views are read-only");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>: subtree views are read-only.
+     */
+    public boolean removeEdge(E edge)
+    {
+        throw new UnsupportedOperationException("subtree views are read-only");
+    }
+
+    /**
+     * Visits the vertices of this subtree in preorder without recursion.
+     */
+    private class PreorderIterator implements Iterator<V>
+    {
+        private final Deque<V> stack = new ArrayDeque<V>();
+
+        PreorderIterator()
+        {
+            if (forest.containsVertex(root))
+                stack.push(root);
+        }
+
+        public boolean hasNext()
+        {
+            return !stack.isEmpty();
+        }
+
+        public V next()
+        {
+            if (stack.isEmpty())
+                throw new NoSuchElementException();
+            V vertex = stack.pop();
+            for (V child : forest.getChildren(vertex))
+                stack.push(child);
+            return vertex;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -60,6 +60,7 @@ public class UndirectedOrderedSparseMultigraph<V,E>
         if (!containsVertex(vertex))
         {
             vertices.put(vertex, new LinkedHashSet<E>());
+            modification_count++;
             return true;
         } else {
             return false;
@@ -16,8 +16,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import com.google.common.base.Function;
 import com.google.common.base.Supplier;
+import com.google.common.collect.Maps;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
 import edu.uci.ics.jung.graph.util.Pair;
@@ -57,6 +60,58 @@ public class UndirectedSparseGraph<V, E> extends AbstractTypedGraph<V, E>
         edges = new HashMap<E, Pair<V>>();
     }
 
+    /**
+     * Creates an instance whose storage is sized to hold the specified numbers
+     * of vertices and edges without being resized.
+     * 
+     * @param expected_vertex_count the number of vertices this graph is expected to hold
+     * @param expected_edge_count the number of edges this graph is expected to hold
+     */
+    public UndirectedSparseGraph(int expected_vertex_count, int expected_edge_count) {
+    	super(EdgeType.UNDIRECTED);
+        vertices = Maps.newHashMapWithExpectedSize(expected_vertex_count);
+        edges = Maps.newHashMapWithExpectedSize(expected_edge_count);
+    }
+
+    @Override
+    public int addEdges(Iterable<? extends E> new_edges, 
+            Function<? super E, ? extends Pair<? extends V>> endpoints, EdgeType edge_type)
+    {
+        this.validateEdgeType(edge_type);
+        checkBulkArguments(new_edges, endpoints);
+        int added = 0;
+        for (E edge : new_edges)
+        {
+            Pair<V> new_endpoints = getBulkEndpoints(edge, endpoints);
+            if (isExistingEdge(edge, edges.get(edge), new_endpoints))
+                continue;
+
+            V v1 = new_endpoints.getFirst();
+            V v2 = new_endpoints.getSecond();
+            Map<V,E> v1_adjacency = getOrCreateAdjacency(v1);
+            if (v1_adjacency.containsKey(v2))
+                continue;
+            
+            v1_adjacency.put(v2, edge);
+            getOrCreateAdjacency(v2).put(v1, edge);
+            edges.put(edge, new_endpoints);
+            added++;
+        }
+        modification_count += added;
+        return added;
+    }
+    
+    private Map<V,E> getOrCreateAdjacency(V vertex)
+    {
+        Map<V,E> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+        {
+            addVertex(vertex);
+            adjacency = vertices.get(vertex);
+        }
+        return adjacency;
+    }
+
     @Override
     public boolean addEdge(E edge, Pair<? extends V> endpoints, EdgeType edgeType)
     {
@@ -83,6 +138,7 @@ public class UndirectedSparseGraph<V, E> extends AbstractTypedGraph<V, E>
         vertices.get(v1).put(v2, edge);
         vertices.get(v2).put(v1, edge);
 
+        modification_count++;
         return true;
     }
 
@@ -205,6 +261,7 @@ public class UndirectedSparseGraph<V, E> extends AbstractTypedGraph<V, E>
         }
         if (!containsVertex(vertex)) {
             vertices.put(vertex, new HashMap<V,E>());
+            modification_count++;
             return true;
         } else {
             return false;
@@ -221,6 +278,7 @@ public class UndirectedSparseGraph<V, E> extends AbstractTypedGraph<V, E>
             removeEdge(edge);
         
         vertices.remove(vertex);
+        modification_count++;
         return true;
     }
 
@@ -238,6 +296,49 @@ public class UndirectedSparseGraph<V, E> extends AbstractTypedGraph<V, E>
         vertices.get(v2).remove(v1);
 
         edges.remove(edge);
+        modification_count++;
         return true;
     }
+
+    @Override
+    public void forEachNeighbor(V vertex, Consumer<? super V> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        for (V v : vertices.get(vertex).keySet())
+            visitor.accept(v);
+    }
+
+    @Override
+    public void forEachPredecessor(V vertex, Consumer<? super V> visitor)
+    {
+        forEachNeighbor(vertex, visitor);
+    }
+
+    @Override
+    public void forEachSuccessor(V vertex, Consumer<? super V> visitor)
+    {
+        forEachNeighbor(vertex, visitor);
+    }
+
+    @Override
+    public void forEachIncidentEdge(V vertex, Consumer<? super E> visitor)
+    {
+        if (!containsVertex(vertex))
+            return;
+        for (E e : vertices.get(vertex).values())
+            visitor.accept(e);
+    }
+
+    @Override
+    public void forEachInEdge(V vertex, Consumer<? super E> visitor)
+    {
+        forEachIncidentEdge(vertex, visitor);
+    }
+
+    @Override
+    public void forEachOutEdge(V vertex, Consumer<? super E> visitor)
+    {
+        forEachIncidentEdge(vertex, visitor);
+    }
 }
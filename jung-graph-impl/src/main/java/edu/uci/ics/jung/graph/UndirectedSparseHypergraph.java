@@ -88,6 +88,7 @@ public class UndirectedSparseHypergraph<V, E> extends AbstractTypedHypergraph<V,
             // associate v with hyperedge
             vertices.get(v).add(hyperedge);
         }
+        modification_count++;
         return true;
     }
 
@@ -98,6 +99,7 @@ public class UndirectedSparseHypergraph<V, E> extends AbstractTypedHypergraph<V,
         if (containsVertex(vertex))
             return false;
         vertices.put(vertex, new HashSet<E>());
+        modification_count++;
         return true;
     }
 
@@ -256,6 +258,7 @@ public class UndirectedSparseHypergraph<V, E> extends AbstractTypedHypergraph<V,
             vertices.get(vertex).remove(hyperedge);
         }
         edges.remove(hyperedge);
+        modification_count++;
         return true;
     }
 
@@ -267,6 +270,7 @@ public class UndirectedSparseHypergraph<V, E> extends AbstractTypedHypergraph<V,
             edges.get(hyperedge).remove(vertex);
         }
         vertices.remove(vertex);
+        modification_count++;
         return true;
     }
 }
@@ -29,8 +29,11 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
+import com.google.common.base.Function;
 import com.google.common.base.Supplier;
+import com.google.common.collect.Maps;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
 import edu.uci.ics.jung.graph.util.Pair;
@@ -70,6 +73,48 @@ public class UndirectedSparseMultigraph<V,E>
         edges = new HashMap<E, Pair<V>>();
     }
 
+    /**
+     * Creates an instance whose storage is sized to hold the specified numbers
+     * of vertices and edges without being resized.
+     * 
+     * @param expected_vertex_count the number of vertices this graph is expected to hold
+     * @param expected_edge_count the number of edges this graph is expected to hold
+     */
+    public UndirectedSparseMultigraph(int expected_vertex_count, int expected_edge_count) {
+    	super(EdgeType.UNDIRECTED);
+        vertices = Maps.newHashMapWithExpectedSize(expected_vertex_count);
+        edges = Maps.newHashMapWithExpectedSize(expected_edge_count);
+    }
+
+    @Override
+    public int addEdges(Iterable<? extends E> new_edges, 
+            Function<? super E, ? extends Pair<? extends V>> endpoints, EdgeType edge_type) {
+        validateEdgeType(edge_type);
+        checkBulkArguments(new_edges, endpoints);
+        int added = 0;
+        for (E edge : new_edges) {
+            Pair<V> new_endpoints = getBulkEndpoints(edge, endpoints);
+            if (isExistingEdge(edge, edges.get(edge), new_endpoints))
+                continue;
+
+            getOrCreateIncidentEdges(new_endpoints.getFirst()).add(edge);
+            getOrCreateIncidentEdges(new_endpoints.getSecond()).add(edge);
+            edges.put(edge, new_endpoints);
+            added++;
+        }
+        modification_count += added;
+        return added;
+    }
+    
+    private Set<E> getOrCreateIncidentEdges(V vertex) {
+        Set<E> incident = vertices.get(vertex);
+        if (incident == null) {
+            addVertex(vertex);
+            incident = vertices.get(vertex);
+        }
+        return incident;
+    }
+
     public Collection<E> getEdges() {
         return Collections.unmodifiableCollection(edges.keySet());
     }
@@ -98,6 +143,7 @@ public class UndirectedSparseMultigraph<V,E>
         if (!containsVertex(vertex))
         {
             vertices.put(vertex, new HashSet<E>());
+            modification_count++;
             return true;
         } else {
             return false;
@@ -112,6 +158,7 @@ public class UndirectedSparseMultigraph<V,E>
             removeEdge(edge);
         
         vertices.remove(vertex);
+        modification_count++;
         return true;
     }
     
@@ -143,6 +190,7 @@ public class UndirectedSparseMultigraph<V,E>
         vertices.get(v1).add(edge);
         vertices.get(v2).add(edge);        
         
+        modification_count++;
         return true;
     }
 
@@ -159,6 +207,7 @@ public class UndirectedSparseMultigraph<V,E>
         vertices.get(v2).remove(edge);
 
         edges.remove(edge);
+        modification_count++;
         return true;
     }
     
@@ -246,4 +295,45 @@ public class UndirectedSparseMultigraph<V,E>
         return vertices.size();
     }
 
+    @Override
+    public void forEachNeighbor(V vertex, Consumer<? super V> visitor) {
+        if (!containsVertex(vertex))
+            return;
+        // parallel edges may lead to the same vertex
+        Set<V> visited = new HashSet<V>();
+        for (E edge : getIncident_internal(vertex)) {
+            Pair<V> endpoints = edges.get(edge);
+            V opposite = vertex.equals(endpoints.getFirst()) ? endpoints.getSecond() : endpoints.getFirst();
+            if (visited.add(opposite))
+                visitor.accept(opposite);
+        }
+    }
+
+    @Override
+    public void forEachPredecessor(V vertex, Consumer<? super V> visitor) {
+        forEachNeighbor(vertex, visitor);
+    }
+
+    @Override
+    public void forEachSuccessor(V vertex, Consumer<? super V> visitor) {
+        forEachNeighbor(vertex, visitor);
+    }
+
+    @Override
+    public void forEachIncidentEdge(V vertex, Consumer<? super E> visitor) {
+        if (!containsVertex(vertex))
+            return;
+        for (E edge : getIncident_internal(vertex))
+            visitor.accept(edge);
+    }
+
+    @Override
+    public void forEachInEdge(V vertex, Consumer<? super E> visitor) {
+        forEachIncidentEdge(vertex, visitor);
+    }
+
+    @Override
+    public void forEachOutEdge(V vertex, Consumer<? super E> visitor) {
+        forEachIncidentEdge(vertex, visitor);
+    }
 }
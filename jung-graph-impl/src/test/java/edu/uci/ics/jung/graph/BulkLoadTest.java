@@ -0,0 +1,124 @@
+package edu.uci.ics.jung.graph;
+
+import static edu.uci.ics.jung.graph.util.GraphAssert.assertSameGraph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import com.google.common.base.Functions;
+import com.google.common.base.Supplier;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+public class BulkLoadTest extends TestCase {
+
+    private List<Integer> edges;
+    private Map<Integer, Pair<String>> endpoints;
+
+    @Override
+    protected void setUp() {
+        endpoints = new HashMap<Integer, Pair<String>>();
+        endpoints.put(1, new Pair<String>("a", "b"));
+        endpoints.put(2, new Pair<String>("b", "c"));
+        endpoints.put(3, new Pair<String>("c", "a"));
+        endpoints.put(4, new Pair<String>("d", "d"));
+        endpoints.put(5, new Pair<String>("a", "b")); // parallel to 1
+        endpoints.put(6, new Pair<String>("b", "a")); // antiparallel to 1
+        // 1 appears twice: the second occurrence is ignored
+        edges = Arrays.asList(1, 2, 3, 4, 5, 6, 1);
+    }
+
+    public void testMatchesSequentialAdds() {
+        assertMatches(new Supplier<Graph<String,Integer>>() {
+            public Graph<String,Integer> get() { return new SparseGraph<String,Integer>(2, 2); }
+        }, EdgeType.DIRECTED);
+        assertMatches(new Supplier<Graph<String,Integer>>() {
+            public Graph<String,Integer> get() { return new SparseGraph<String,Integer>(); }
+        }, EdgeType.UNDIRECTED);
+        assertMatches(new Supplier<Graph<String,Integer>>() {
+            public Graph<String,Integer> get() { return new DirectedSparseGraph<String,Integer>(4, 7); }
+        }, EdgeType.DIRECTED);
+        assertMatches(new Supplier<Graph<String,Integer>>() {
+            public Graph<String,Integer> get() { return new UndirectedSparseGraph<String,Integer>(4, 7); }
+        }, EdgeType.UNDIRECTED);
+        assertMatches(new Supplier<Graph<String,Integer>>() {
+            public Graph<String,Integer> get() { return new SparseMultigraph<String,Integer>(4, 7); }
+        }, EdgeType.DIRECTED);
+        assertMatches(new Supplier<Graph<String,Integer>>() {
+            public Graph<String,Integer> get() { return new SparseMultigraph<String,Integer>(0, 0); }
+        }, EdgeType.UNDIRECTED);
+        assertMatches(new Supplier<Graph<String,Integer>>() {
+            public Graph<String,Integer> get() { return new DirectedSparseMultigraph<String,Integer>(4, 7); }
+        }, EdgeType.DIRECTED);
+        assertMatches(new Supplier<Graph<String,Integer>>() {
+            public Graph<String,Integer> get() { return new UndirectedSparseMultigraph<String,Integer>(4, 7); }
+        }, EdgeType.UNDIRECTED);
+        assertMatches(new Supplier<Graph<String,Integer>>() {
+            public Graph<String,Integer> get() { return new OrderedSparseMultigraph<String,Integer>(); }
+        }, EdgeType.DIRECTED);
+    }
+
+    public void testMixedEdgeTypes() {
+        SparseGraph<String,Integer> bulk = new SparseGraph<String,Integer>();
+        SparseGraph<String,Integer> sequential = new SparseGraph<String,Integer>();
+        bulk.addEdges(Arrays.asList(1, 2), Functions.forMap(endpoints), EdgeType.DIRECTED);
+        sequential.addEdge(1, endpoints.get(1), EdgeType.DIRECTED);
+        sequential.addEdge(2, endpoints.get(2), EdgeType.DIRECTED);
+        // 5 is not parallel to the directed edge 1, but 6 is parallel to 5
+        assertEquals(1, bulk.addEdges(Arrays.asList(5, 6), Functions.forMap(endpoints), EdgeType.UNDIRECTED));
+        assertTrue(sequential.addEdge(5, endpoints.get(5), EdgeType.UNDIRECTED));
+        assertFalse(sequential.addEdge(6, endpoints.get(6), EdgeType.UNDIRECTED));
+        assertSameGraph(sequential, bulk);
+    }
+
+    public void testConflictingEndpoints() {
+        Graph<String,Integer> g = new DirectedSparseMultigraph<String,Integer>();
+        g.addEdge(1, "x", "y");
+        try {
+            ((AbstractGraph<String,Integer>)g).addEdges(edges, Functions.forMap(endpoints));
+            fail("edge 1 re-added with different endpoints");
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    public void testNullArguments() {
+        SparseMultigraph<String,Integer> g = new SparseMultigraph<String,Integer>();
+        try {
+            g.addEdges(Arrays.asList(1, null), Functions.forMap(endpoints));
+            fail("null edge accepted");
+        } catch (IllegalArgumentException iae) {}
+        try {
+            g.addEdges(Arrays.asList(7), Functions.forMap(endpoints, null));
+            fail("null endpoints accepted");
+        } catch (IllegalArgumentException iae) {}
+        try {
+            g.addEdges(null, Functions.forMap(endpoints));
+            fail("null edge collection accepted");
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    public void testRejectsWrongEdgeType() {
+        DirectedSparseGraph<String,Integer> g = new DirectedSparseGraph<String,Integer>();
+        try {
+            g.addEdges(edges, Functions.forMap(endpoints), EdgeType.UNDIRECTED);
+            fail("undirected edges added to directed graph");
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    private void assertMatches(Supplier<Graph<String,Integer>> factory, EdgeType edge_type) {
+        Graph<String,Integer> sequential = factory.get();
+        int expected = 0;
+        for (Integer e : edges)
+            if (sequential.addEdge(e, endpoints.get(e), edge_type))
+                expected++;
+        AbstractGraph<String,Integer> bulk = (AbstractGraph<String,Integer>)factory.get();
+        bulk.addVertex("isolated");
+        sequential.addVertex("isolated");
+        assertEquals(expected, bulk.addEdges(edges, Functions.forMap(endpoints), edge_type));
+        assertSameGraph(sequential, bulk);
+    }
+}
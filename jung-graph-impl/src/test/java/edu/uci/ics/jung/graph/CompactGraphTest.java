@@ -0,0 +1,88 @@
+package edu.uci.ics.jung.graph;
+
+import static edu.uci.ics.jung.graph.util.GraphAssert.assertSameGraph;
+
+import junit.framework.TestCase;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.TestGraphs;
+
+public class CompactGraphTest extends TestCase {
+
+    public void testDirectedMatchesSource() {
+        Graph<String,Number> source = TestGraphs.createTestGraph(true);
+        source.addEdge(100, "a", "a");
+        assertSameGraph(source, new CompactDirectedGraph<String,Number>(source));
+    }
+
+    public void testUndirectedMatchesSource() {
+        Graph<String,Number> source = TestGraphs.createTestGraph(false);
+        source.addEdge(100, "a", "a");
+        assertSameGraph(source, new CompactUndirectedGraph<String,Number>(source));
+    }
+
+    public void testParallelEdges() {
+        Graph<String,Number> source = new DirectedSparseMultigraph<String,Number>();
+        source.addEdge(1, "a", "b");
+        source.addEdge(2, "a", "b");
+        source.addEdge(3, "b", "a");
+        Graph<String,Number> compact = new CompactDirectedGraph<String,Number>(source);
+        assertSameGraph(source, compact);
+        assertEquals(2, compact.findEdgeSet("a", "b").size());
+        assertEquals(1, compact.getSuccessorCount("a"));
+    }
+
+    public void testRejectsMismatchedEdgeType() {
+        Graph<String,Number> source = new SparseMultigraph<String,Number>();
+        source.addEdge(1, "a", "b", EdgeType.UNDIRECTED);
+        try {
+            new CompactDirectedGraph<String,Number>(source);
+            fail("undirected edge accepted by directed compact graph");
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    public void testIntGraphView() {
+        Graph<String,Number> source = TestGraphs.createTestGraph(true);
+        CompactDirectedGraph<String,Number> compact = new CompactDirectedGraph<String,Number>(source);
+        IntGraph<String,Number> ig = compact.asIntGraph();
+        assertEquals(source.getVertexCount(), ig.getVertexCount());
+        for (String v : source.getVertices()) {
+            int id = ig.getVertexId(v);
+            assertEquals(v, ig.getVertex(id));
+            assertEquals(source.outDegree(v), ig.outDegree(id));
+            assertEquals(source.inDegree(v), ig.inDegree(id));
+            for (int i = 0; i < ig.outDegree(id); i++) {
+                Number e = ig.getEdge(ig.outEdge(id, i));
+                assertEquals(source.getDest(e), ig.getVertex(ig.outNeighbor(id, i)));
+            }
+            for (int i = 0; i < ig.inDegree(id); i++) {
+                Number e = ig.getEdge(ig.inEdge(id, i));
+                assertEquals(source.getSource(e), ig.getVertex(ig.inNeighbor(id, i)));
+            }
+        }
+
+        Graph<String,Number> undirected = TestGraphs.createTestGraph(false);
+        IntGraph<String,Number> uig = new CompactUndirectedGraph<String,Number>(undirected).asIntGraph();
+        for (String v : undirected.getVertices()) {
+            int id = uig.getVertexId(v);
+            assertEquals(undirected.degree(v), uig.outDegree(id));
+            for (int i = 0; i < uig.outDegree(id); i++) {
+                Number e = uig.getEdge(uig.outEdge(id, i));
+                assertEquals(undirected.getOpposite(v, e), uig.getVertex(uig.outNeighbor(id, i)));
+            }
+        }
+    }
+
+    public void testImmutable() {
+        Graph<String,Number> compact =
+            new CompactDirectedGraph<String,Number>(TestGraphs.createTestGraph(true));
+        try {
+            compact.addVertex("z");
+            fail("vertex added to immutable graph");
+        } catch (UnsupportedOperationException uoe) {}
+        try {
+            compact.removeEdge(compact.getEdges().iterator().next());
+            fail("edge removed from immutable graph");
+        } catch (UnsupportedOperationException uoe) {}
+    }
+}
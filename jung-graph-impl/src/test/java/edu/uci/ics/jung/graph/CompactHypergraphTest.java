@@ -0,0 +1,131 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import junit.framework.TestCase;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+public class CompactHypergraphTest extends TestCase {
+
+    private static SetHypergraph<Integer,String> randomHypergraph(int vertex_count, int edge_count, long seed) {
+        Random random = new Random(seed);
+        SetHypergraph<Integer,String> hypergraph = new SetHypergraph<Integer,String>();
+        for (int v = 0; v < vertex_count; v++)
+            hypergraph.addVertex(v);
+        for (int e = 0; e < edge_count; e++) {
+            List<Integer> members = new ArrayList<Integer>();
+            int size = 1 + random.nextInt(5);
+            for (int i = 0; i < size; i++)
+                members.add(random.nextInt(vertex_count));
+            hypergraph.addEdge("h" + e, members);
+        }
+        return hypergraph;
+    }
+
+    public void testMatchesSetHypergraph() {
+        // some vertices are isolated, some in one hyperedge, some in several
+        SetHypergraph<Integer,String> expected = randomHypergraph(200, 150, 1);
+        CompactHypergraph<Integer,String> actual = new CompactHypergraph<Integer,String>(expected);
+
+        assertEquals(expected.getVertexCount(), actual.getVertexCount());
+        assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+        assertEquals(new HashSet<Integer>(expected.getVertices()), new HashSet<Integer>(actual.getVertices()));
+        assertEquals(new HashSet<String>(expected.getEdges()), new HashSet<String>(actual.getEdges()));
+        for (String h : expected.getEdges()) {
+            assertEquals(expected.getIncidentVertices(h), new HashSet<Integer>(actual.getIncidentVertices(h)));
+            assertEquals(expected.getIncidentCount(h), actual.getIncidentCount(h));
+            assertEquals(EdgeType.UNDIRECTED, actual.getEdgeType(h));
+        }
+        for (Integer v : expected.getVertices()) {
+            assertEquals(expected.getIncidentEdges(v), new HashSet<String>(actual.getIncidentEdges(v)));
+            assertEquals(expected.degree(v), actual.degree(v));
+            Collection<Integer> neighbors = actual.getNeighbors(v);
+            assertEquals(expected.getNeighbors(v), new HashSet<Integer>(neighbors));
+            assertEquals(neighbors.size(), new HashSet<Integer>(neighbors).size());
+            assertEquals(expected.getNeighborCount(v), actual.getNeighborCount(v));
+
+            final List<Integer> visited = new ArrayList<Integer>();
+            actual.forEachNeighbor(v, new Consumer<Integer>() {
+                public void accept(Integer w) {
+                    visited.add(w);
+                }
+            });
+            assertEquals(new ArrayList<Integer>(neighbors), visited);
+        }
+        for (int v1 = 0; v1 < 40; v1++) {
+            for (int v2 = 0; v2 < 40; v2++) {
+                assertEquals(expected.isNeighbor(v1, v2), actual.isNeighbor(v1, v2));
+                assertEquals(new HashSet<String>(expected.findEdgeSet(v1, v2)),
+                    new HashSet<String>(actual.findEdgeSet(v1, v2)));
+                String h = actual.findEdge(v1, v2);
+                assertEquals(expected.findEdge(v1, v2) == null, h == null);
+                if (h != null) {
+                    assertTrue(actual.isIncident(v1, h));
+                    assertTrue(actual.isIncident(v2, h));
+                }
+            }
+        }
+    }
+
+    public void testBuilder() {
+        CompactHypergraph.Builder<String,Integer> builder = new CompactHypergraph.Builder<String,Integer>();
+        builder.addVertex("z")
+            .addEdge(1, Arrays.asList("a", "b", "a", "c"))
+            .addEdge(2, Arrays.asList("c", "d"))
+            .addEdge(3, Arrays.asList("a", "c"));
+        try {
+            builder.addEdge(1, Arrays.asList("d"));
+            fail("edge added twice");
+        } catch (IllegalArgumentException iae) {}
+        CompactHypergraph<String,Integer> hypergraph = builder.build();
+
+        assertEquals(Arrays.asList("z", "a", "b", "c", "d"), new ArrayList<String>(hypergraph.getVertices()));
+        assertEquals(3, hypergraph.getIncidentCount(1));
+        assertEquals(Arrays.asList(1, 3), new ArrayList<Integer>(hypergraph.findEdgeSet("a", "c")));
+        assertEquals(Integer.valueOf(1), hypergraph.findEdge("c", "a"));
+        assertNull(hypergraph.findEdge("a", "d"));
+        assertNull(hypergraph.findEdge("a", "y"));
+        assertFalse(hypergraph.isNeighbor("a", "z"));
+        assertEquals(0, hypergraph.getNeighbors("z").size());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), hypergraph.getNeighbors("c"));
+        assertNull(hypergraph.getNeighbors("y"));
+        assertEquals(3, hypergraph.degree("c"));
+        assertFalse(hypergraph.isIncident("d", 1));
+
+        try {
+            builder.addVertex("y");
+            fail("builder reused");
+        } catch (IllegalStateException ise) {}
+        try {
+            hypergraph.addEdge(4, Arrays.asList("a", "z"));
+            fail("edge added to an immutable hypergraph");
+        } catch (UnsupportedOperationException uoe) {}
+        try {
+            hypergraph.removeVertex("a");
+            fail("vertex removed from an immutable hypergraph");
+        } catch (UnsupportedOperationException uoe) {}
+    }
+
+    public void testRejectsDirectedEdges() {
+        DirectedSparseGraph<String,Integer> graph = new DirectedSparseGraph<String,Integer>();
+        graph.addEdge(1, "a", "b");
+        try {
+            new CompactHypergraph<String,Integer>(graph);
+            fail("directed edges copied");
+        } catch (IllegalArgumentException iae) {}
+
+        UndirectedSparseGraph<String,Integer> undirected = new UndirectedSparseGraph<String,Integer>();
+        undirected.addEdge(1, "a", "b");
+        undirected.addEdge(2, "b", "c");
+        CompactHypergraph<String,Integer> hypergraph = new CompactHypergraph<String,Integer>(undirected);
+        assertEquals(new HashSet<String>(Arrays.asList("a", "b", "c")),
+            new HashSet<String>(hypergraph.getNeighbors("b")));
+    }
+}
@@ -0,0 +1,101 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+public class ConcurrentSparseMultigraphTest
+	extends AbstractSparseMultigraphTest {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        graph = new ConcurrentSparseMultigraph<Number,Number>();
+        graph.addEdge(1, 0, 1);
+        graph.addEdge(2, 1, 2);
+        graph.addEdge(3, 0, 2);
+        graph.addEdge(4, 2, 1);
+        graph.addEdge(5, 3, 1);
+        graph.addEdge(6, 0, 4, EdgeType.DIRECTED);
+        graph.addEdge(7, 0, 5, EdgeType.DIRECTED);
+        graph.addEdge(8, 5, 1, EdgeType.DIRECTED);
+        graph.addEdge(9, 6, 1, EdgeType.DIRECTED);
+        graph.addEdge(10, 4, 3, EdgeType.DIRECTED);
+        graph.addEdge(11, 2, 7);
+        graph.addEdge(12, 1, 5);
+        graph.addEdge(13, 2, 6);
+        graph.addEdge(14, 6, 4);
+        graph.addEdge(15, 7, 8);
+        graph.addEdge(16, 8, 3);
+        graph.addEdge(17, 5, 7);
+
+        smallGraph = new ConcurrentSparseMultigraph<Integer,Number>();
+        smallGraph.addVertex(v0);
+        smallGraph.addVertex(v1);
+        smallGraph.addVertex(v2);
+        smallGraph.addEdge(e01, v0, v1);
+        smallGraph.addEdge(e10, v1, v0);
+        smallGraph.addEdge(e12, v1, v2);
+        smallGraph.addEdge(e21, v2, v1, EdgeType.DIRECTED);
+    }
+
+    public void testConcurrentMutationAndIteration() throws Exception {
+        final Graph<Integer,Integer> g = new ConcurrentSparseMultigraph<Integer,Integer>(4);
+        final int threads = 4;
+        final int edges_per_thread = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < threads; t++) {
+                final int base = t * edges_per_thread;
+                futures.add(executor.submit(new Callable<Void>() {
+                    public Void call() {
+                        for (int i = 0; i < edges_per_thread; i++) {
+                            int e = base + i;
+                            g.addEdge(e, e % 50, (e * 7) % 50,
+                                e % 2 == 0 ? EdgeType.DIRECTED : EdgeType.UNDIRECTED);
+                            if (i % 10 == 0)
+                                g.removeEdge(e);
+                        }
+                        return null;
+                    }
+                }));
+            }
+            // a reader which iterates while the writers run
+            futures.add(executor.submit(new Callable<Void>() {
+                public Void call() {
+                    for (int i = 0; i < 200; i++)
+                        for (Integer v : g.getVertices())
+                            for (Integer w : g.getNeighbors(v))
+                                assertNotNull(w);
+                    return null;
+                }
+            }));
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads * edges_per_thread * 9 / 10, g.getEdgeCount());
+        for (Integer e : g.getEdges()) {
+            Integer v1 = g.getEndpoints(e).getFirst();
+            Integer v2 = g.getEndpoints(e).getSecond();
+            assertTrue(g.getOutEdges(v1).contains(e));
+            assertTrue(g.getInEdges(v2).contains(e));
+        }
+    }
+
+    public void testRemoveVertexRemovesIncidentEdges() {
+        assertTrue(graph.removeVertex(1));
+        assertFalse(graph.containsVertex(1));
+        for (Number e : graph.getEdges())
+            assertFalse(graph.getEndpoints(e).contains(1));
+        assertFalse(graph.removeVertex(1));
+    }
+}
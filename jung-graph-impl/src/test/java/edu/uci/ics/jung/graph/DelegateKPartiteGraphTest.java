@@ -0,0 +1,123 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import junit.framework.TestCase;
+
+import com.google.common.base.Predicate;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+public class DelegateKPartiteGraphTest extends TestCase {
+
+    private static Predicate<String> prefix(final String prefix) {
+        return new Predicate<String>() {
+            public boolean apply(String s) {
+                return s.startsWith(prefix);
+            }
+        };
+    }
+
+    private Predicate<String> users;
+    private Predicate<String> items;
+    private DelegateKPartiteGraph<String,Integer> graph;
+
+    @Override
+    protected void setUp() {
+        users = prefix("u");
+        items = prefix("i");
+        graph = new DelegateKPartiteGraph<String,Integer>(Arrays.asList(users, items));
+        graph.addEdge(1, "u1", "i1");
+        graph.addEdge(2, "u1", "i2");
+        graph.addEdge(3, "u2", "i1");
+        graph.addVertex("u3");
+    }
+
+    public void testPartitions() {
+        assertEquals(Arrays.asList(users, items), new ArrayList<Predicate<String>>(graph.getPartitions()));
+        assertEquals(new HashSet<String>(Arrays.asList("u1", "u2", "u3")),
+            graph.getVertices(users));
+        assertEquals(new HashSet<String>(Arrays.asList("i1", "i2")),
+            graph.getVertices(items));
+        assertSame(users, graph.getPartition("u2"));
+        assertSame(items, graph.getPartition("i2"));
+        assertNull(graph.getPartition("u9"));
+        assertEquals(3, graph.getVertexCount(users));
+        assertEquals(2, graph.getVertexCount(items));
+
+        // predicates which are not partitions are answered by testing every vertex
+        assertEquals(new HashSet<String>(Arrays.asList("u1", "i1")),
+            graph.getVertices(new Predicate<String>() {
+                public boolean apply(String s) {
+                    return s.endsWith("1");
+                }
+            }));
+        try {
+            graph.getVertexCount(prefix("u"));
+            fail("statistics for a predicate that is not a partition");
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    public void testDegreeStatistics() {
+        assertEquals(3, graph.getDegreeSum(users));
+        assertEquals(3, graph.getDegreeSum(items));
+        assertEquals(1.0, graph.getMeanDegree(users), 0.0);
+        assertEquals(1.5, graph.getMeanDegree(items), 0.0);
+
+        graph.addEdge(4, Arrays.asList("u3", "i3"), EdgeType.UNDIRECTED);
+        assertEquals(4, graph.getDegreeSum(users));
+        assertEquals(3, graph.getVertexCount(items));
+
+        assertTrue(graph.removeEdge(2));
+        assertFalse(graph.removeEdge(2));
+        assertEquals(3, graph.getDegreeSum(users));
+        assertEquals(3, graph.getDegreeSum(items));
+
+        assertTrue(graph.removeVertex("i1"));
+        assertFalse(graph.containsVertex("i1"));
+        assertEquals(1, graph.getDegreeSum(users));
+        assertEquals(1, graph.getDegreeSum(items));
+        assertEquals(new HashSet<String>(Arrays.asList("i2", "i3")), graph.getVertices(items));
+        assertFalse(graph.removeVertex("i1"));
+    }
+
+    public void testConstraints() {
+        try {
+            graph.addEdge(5, "u1", "u2");
+            fail("edge added within a partition");
+        } catch (IllegalArgumentException iae) {}
+        try {
+            graph.addVertex("x1");
+            fail("vertex added to no partition");
+        } catch (IllegalArgumentException iae) {}
+        try {
+            graph.addEdge(6, "u1", "x1");
+            fail("edge added to a vertex in no partition");
+        } catch (IllegalArgumentException iae) {}
+        assertFalse(graph.containsEdge(5));
+        assertFalse(graph.containsVertex("x1"));
+        assertEquals(3, graph.getDegreeSum(users));
+        try {
+            new DelegateKPartiteGraph<String,Integer>(Arrays.asList(users));
+            fail("graph with only one partition");
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    public void testExistingGraph() {
+        Graph<String,Integer> delegate = new UndirectedSparseGraph<String,Integer>();
+        delegate.addEdge(1, "u1", "i1");
+        delegate.addEdge(2, "u2", "i1");
+        DelegateKPartiteGraph<String,Integer> indexed =
+            new DelegateKPartiteGraph<String,Integer>(delegate, Arrays.asList(users, items));
+        assertEquals(2, indexed.getVertexCount(users));
+        assertEquals(2, indexed.getDegreeSum(items));
+
+        delegate.addEdge(3, "u1", "u2");
+        try {
+            new DelegateKPartiteGraph<String,Integer>(delegate, Arrays.asList(users, items));
+            fail("graph with an edge within a partition");
+        } catch (IllegalArgumentException iae) {}
+    }
+}
@@ -0,0 +1,143 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+import com.google.common.base.Function;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Graphs;
+import edu.uci.ics.jung.graph.util.Pair;
+
+public class ModificationCountTest extends TestCase {
+
+    @SuppressWarnings("unchecked")
+    public void testGraphs() {
+        for (Graph<String,Integer> graph : Arrays.<Graph<String,Integer>>asList(
+                new SparseGraph<String,Integer>(),
+                new SparseMultigraph<String,Integer>(),
+                new DirectedSparseGraph<String,Integer>(),
+                new DirectedSparseMultigraph<String,Integer>(),
+                new UndirectedSparseGraph<String,Integer>(),
+                new UndirectedSparseMultigraph<String,Integer>(),
+                new OrderedSparseMultigraph<String,Integer>(),
+                new DirectedOrderedSparseMultigraph<String,Integer>(),
+                new UndirectedOrderedSparseMultigraph<String,Integer>(),
+                new ConcurrentSparseMultigraph<String,Integer>())) {
+            assertModifications(graph);
+        }
+    }
+
+    private void assertModifications(Graph<String,Integer> graph) {
+        String name = graph.getClass().getSimpleName();
+        long count = graph.getModificationCount();
+        assertTrue(name, count >= 0);
+
+        assertTrue(graph.addVertex("a"));
+        count = assertIncreased(name, graph, count);
+        assertFalse(graph.addVertex("a"));
+        assertEquals(name, count, graph.getModificationCount());
+
+        assertTrue(graph.addEdge(1, "a", "b"));
+        count = assertIncreased(name, graph, count);
+        assertFalse(graph.addEdge(1, "a", "b"));
+        assertEquals(name, count, graph.getModificationCount());
+
+        assertTrue(graph.removeEdge(1));
+        count = assertIncreased(name, graph, count);
+        assertFalse(graph.removeEdge(1));
+        assertEquals(name, count, graph.getModificationCount());
+
+        assertTrue(graph.removeVertex("b"));
+        count = assertIncreased(name, graph, count);
+        assertFalse(graph.removeVertex("b"));
+        assertEquals(name, count, graph.getModificationCount());
+
+        // read-only operations do not count
+        graph.getNeighbors("a");
+        graph.getEdges();
+        assertEquals(name, count, graph.getModificationCount());
+    }
+
+    private static long assertIncreased(String name, Hypergraph<?,?> graph, long previous) {
+        long count = graph.getModificationCount();
+        assertTrue(name + ": " + count + " > " + previous, count > previous);
+        return count;
+    }
+
+    public void testBulkLoad() {
+        SparseMultigraph<String,Integer> graph = new SparseMultigraph<String,Integer>();
+        long count = graph.getModificationCount();
+        int added = graph.addEdges(Arrays.asList(1, 2), new Function<Integer,Pair<String>>() {
+            public Pair<String> apply(Integer edge) {
+                return new Pair<String>("a", "v" + edge);
+            }
+        }, EdgeType.UNDIRECTED);
+        assertEquals(2, added);
+        assertTrue(graph.getModificationCount() >= count + added);
+    }
+
+    public void testHypergraphs() {
+        for (Hypergraph<String,Integer> hypergraph : Arrays.<Hypergraph<String,Integer>>asList(
+                new SetHypergraph<String,Integer>(),
+                new UndirectedSparseHypergraph<String,Integer>(),
+                new DirectedSparseHypergraph<String,Integer>())) {
+            String name = hypergraph.getClass().getSimpleName();
+            long count = hypergraph.getModificationCount();
+            assertTrue(hypergraph.addEdge(1, Arrays.asList("a", "b", "c")));
+            count = assertIncreased(name, hypergraph, count);
+            assertTrue(hypergraph.removeEdge(1));
+            count = assertIncreased(name, hypergraph, count);
+            assertTrue(hypergraph.removeVertex("c"));
+            count = assertIncreased(name, hypergraph, count);
+            assertFalse(hypergraph.removeVertex("c"));
+            assertEquals(name, count, hypergraph.getModificationCount());
+        }
+    }
+
+    public void testTrees() {
+        OrderedKAryTree<String,Integer> tree = new OrderedKAryTree<String,Integer>(2);
+        long count = tree.getModificationCount();
+        tree.addVertex("root");
+        count = assertIncreased("tree", tree, count);
+        tree.addEdge(1, "root", "a");
+        count = assertIncreased("tree", tree, count);
+        tree.removeEdge(1);
+        assertIncreased("tree", tree, count);
+
+        DelegateForest<String,Integer> forest = new DelegateForest<String,Integer>();
+        forest.addVertex("root");
+        forest.addEdge(1, "root", "a");
+        Tree<String,Integer> subtree = forest.getSubTree("root");
+        count = subtree.getModificationCount();
+        forest.addEdge(2, "a", "b");
+        assertIncreased("subtree", subtree, count);
+        assertEquals(forest.getModificationCount(), subtree.getModificationCount());
+    }
+
+    public void testDecorators() {
+        Graph<String,Integer> graph = new DirectedSparseGraph<String,Integer>();
+        Graph<String,Integer> observable = new ObservableGraph<String,Integer>(graph);
+        Graph<String,Integer> unmodifiable = Graphs.unmodifiableGraph(graph);
+        Graph<String,Integer> synchronizedGraph = Graphs.synchronizedGraph(graph);
+
+        observable.addEdge(1, "a", "b");
+        synchronizedGraph.addEdge(2, "b", "c");
+        long count = graph.getModificationCount();
+        assertTrue(count > 0);
+        assertEquals(count, observable.getModificationCount());
+        assertEquals(count, unmodifiable.getModificationCount());
+        assertEquals(count, synchronizedGraph.getModificationCount());
+    }
+
+    public void testImmutableGraphs() {
+        SetHypergraph<String,Integer> source = new SetHypergraph<String,Integer>();
+        source.addEdge(1, Arrays.asList("a", "b"));
+        assertEquals(0, new CompactHypergraph<String,Integer>(source).getModificationCount());
+
+        DirectedSparseGraph<String,Integer> graph = new DirectedSparseGraph<String,Integer>();
+        graph.addEdge(1, "a", "b");
+        assertEquals(0, new CompactDirectedGraph<String,Integer>(graph).getModificationCount());
+    }
+}
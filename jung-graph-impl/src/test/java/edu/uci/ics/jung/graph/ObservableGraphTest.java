@@ -0,0 +1,96 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import edu.uci.ics.jung.graph.event.GraphEvent;
+import edu.uci.ics.jung.graph.event.GraphEventListener;
+
+public class ObservableGraphTest extends TestCase {
+
+    private ObservableGraph<String,Integer> graph;
+    private List<GraphEvent<String,Integer>> events;
+
+    @Override
+    protected void setUp() {
+        graph = new ObservableGraph<String,Integer>(new SparseMultigraph<String,Integer>());
+        graph.addEdge(1, "a", "b");
+        events = new ArrayList<GraphEvent<String,Integer>>();
+        graph.addGraphEventListener(new GraphEventListener<String,Integer>() {
+            public void handleGraphEvent(GraphEvent<String,Integer> evt) {
+                synchronized (events) {
+                    events.add(evt);
+                }
+            }
+        });
+    }
+
+    public void testIndividualEvents() {
+        graph.addEdge(2, "b", "c");
+        graph.removeVertex("a");
+        assertEquals(3, events.size());
+        assertEquals(GraphEvent.Type.EDGE_ADDED, events.get(0).getType());
+        assertEquals(GraphEvent.Type.EDGE_REMOVED, events.get(1).getType());
+        assertEquals(GraphEvent.Type.VERTEX_REMOVED, events.get(2).getType());
+    }
+
+    public void testBatchIsCoalesced() {
+        graph.beginBatch();
+        graph.addVertex("x");
+        graph.beginBatch();
+        for (int i = 10; i < 20; i++)
+            graph.addEdge(i, "c", "d" + i);
+        graph.endBatch();
+        assertTrue(events.isEmpty());
+        graph.removeVertex("x");
+        graph.removeEdge(10);
+        graph.removeEdge(1);
+        graph.removeVertex("a");
+        graph.addVertex("a");
+        assertTrue(graph.isBatching());
+        graph.endBatch();
+        assertFalse(graph.isBatching());
+
+        assertEquals(1, events.size());
+        GraphEvent.Batch<String,Integer> batch = (GraphEvent.Batch<String,Integer>)events.get(0);
+        assertEquals(GraphEvent.Type.BATCH, batch.getType());
+        assertTrue(batch.getRemovedVertices().isEmpty());
+        assertEquals(Arrays.asList(1), new ArrayList<Integer>(batch.getRemovedEdges()));
+        assertEquals(9, batch.getAddedEdges().size());
+        assertFalse(batch.getAddedEdges().contains(10));
+        // "x" was added and removed; "a" was removed and added
+        assertTrue(batch.getAddedVertices().isEmpty());
+        assertEquals(batch.size(), batch.toEvents().size());
+        assertEquals(GraphEvent.Type.EDGE_REMOVED, batch.toEvents().get(0).getType());
+    }
+
+    public void testEmptyBatchFiresNothing() {
+        graph.beginBatch();
+        graph.addVertex("x");
+        graph.removeVertex("x");
+        graph.endBatch();
+        assertTrue(events.isEmpty());
+        try {
+            graph.endBatch();
+            fail("unmatched endBatch accepted");
+        } catch (IllegalStateException ise) {}
+    }
+
+    public void testAsynchronousDispatch() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        graph.setExecutor(executor);
+        for (int i = 10; i < 110; i++)
+            graph.addEdge(i, "a", "b");
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(100, events.size());
+        for (int i = 0; i < 100; i++)
+            assertEquals(Integer.valueOf(i + 10), ((GraphEvent.Edge<String,Integer>)events.get(i)).getEdge());
+    }
+}
@@ -0,0 +1,153 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import edu.uci.ics.jung.graph.util.Pair;
+
+public class OrderedKAryTreeTest extends TestCase {
+
+    private static OrderedKAryTree<Integer,String> completeTree(int order, int size, boolean implicit) {
+        OrderedKAryTree<Integer,String> tree = new OrderedKAryTree<Integer,String>(order, implicit);
+        tree.addVertex(0);
+        for (int v = 1; v < size; v++)
+            tree.addEdge("e" + v, (v - 1) / order, v);
+        return tree;
+    }
+
+    private static void assertSameTree(OrderedKAryTree<Integer,String> expected,
+            OrderedKAryTree<Integer,String> actual) {
+        assertEquals(expected.getVertexCount(), actual.getVertexCount());
+        assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertEquals(new HashSet<Integer>(expected.getVertices()), new HashSet<Integer>(actual.getVertices()));
+        assertEquals(new HashSet<String>(expected.getEdges()), new HashSet<String>(actual.getEdges()));
+        for (Integer v : expected.getVertices()) {
+            assertEquals(expected.getDepth(v), actual.getDepth(v));
+            assertEquals(expected.getParent(v), actual.getParent(v));
+            assertEquals(expected.getParentEdge(v), actual.getParentEdge(v));
+            assertEquals(expected.getChildren(v), actual.getChildren(v));
+            assertEquals(expected.getChildEdges(v), actual.getChildEdges(v));
+            assertEquals(expected.getChildCount(v), actual.getChildCount(v));
+            assertEquals(new HashSet<Integer>(expected.getNeighbors(v)), new HashSet<Integer>(actual.getNeighbors(v)));
+            for (int i = 0; i < expected.order; i++)
+                assertEquals(expected.getChild(v, i), actual.getChild(v, i));
+        }
+        for (String e : expected.getEdges())
+            assertEquals(expected.getEndpoints(e), actual.getEndpoints(e));
+    }
+
+    public void testCompleteTreeIsImplicit() {
+        OrderedKAryTree<Integer,String> tree = completeTree(3, 1000, true);
+        assertTrue(tree.isImplicit());
+        assertEquals(1000, tree.getVertexCount());
+        assertEquals(999, tree.getEdgeCount());
+        assertEquals(6, tree.getHeight());
+        assertEquals(Integer.valueOf(4), tree.getChild(1, 0));
+        assertEquals(Arrays.asList(4, 5, 6), tree.getChildren(1));
+        assertEquals(Integer.valueOf(1), tree.getParent(5));
+        assertEquals(new Pair<Integer>(1, 5), tree.getEndpoints("e5"));
+        assertEquals("e5", tree.findEdge(1, 5));
+        assertEquals("e5", tree.findEdge(5, 1));
+        assertNull(tree.findEdge(0, 5));
+        assertNull(tree.getParent(0));
+        assertEquals(0, tree.getPredecessorCount(0));
+
+        assertSameTree(completeTree(3, 1000, false), tree);
+    }
+
+    public void testFallbackForSparseShapes() {
+        Random random = new Random(3);
+        OrderedKAryTree<Integer,String> implicit = new OrderedKAryTree<Integer,String>(4);
+        OrderedKAryTree<Integer,String> explicit = new OrderedKAryTree<Integer,String>(4, false);
+        implicit.addVertex(0);
+        explicit.addVertex(0);
+        for (int v = 1; v < 500; v++) {
+            // attach to a random vertex with a free position
+            int parent;
+            do {
+                parent = random.nextInt(v);
+            } while (implicit.getChildCount(parent) == 4);
+            int index = random.nextInt(4);
+            if (implicit.getChild(parent, index) != null)
+                index = -1;
+            implicit.addEdge("e" + v, parent, v, index);
+            explicit.addEdge("e" + v, parent, v, index);
+        }
+        assertFalse(implicit.isImplicit());
+        assertSameTree(explicit, implicit);
+    }
+
+    public void testExpectedSize() {
+        // a complete binary tree built depth-first is sparse until it is finished
+        int size = (1 << 12) - 1;
+        OrderedKAryTree<Integer,String> tree = new OrderedKAryTree<Integer,String>(2, size);
+        tree.addVertex(0);
+        addDepthFirst(tree, 0, size);
+        assertTrue(tree.isImplicit());
+        assertSameTree(completeTree(2, size, false), tree);
+
+        OrderedKAryTree<Integer,String> unhinted = new OrderedKAryTree<Integer,String>(2);
+        unhinted.addVertex(0);
+        addDepthFirst(unhinted, 0, size);
+        assertFalse(unhinted.isImplicit());
+        assertSameTree(tree, unhinted);
+    }
+
+    private static void addDepthFirst(OrderedKAryTree<Integer,String> tree, int v, int size) {
+        for (int i = 0; i < 2; i++) {
+            int child = 2 * v + i + 1;
+            if (child < size) {
+                tree.addEdge("e" + child, v, child, i);
+                addDepthFirst(tree, child, size);
+            }
+        }
+    }
+
+    public void testPositionsAndRemoval() {
+        for (boolean implicit : new boolean[] {true, false}) {
+            OrderedKAryTree<String,Integer> tree = new OrderedKAryTree<String,Integer>(3, implicit);
+            tree.addVertex("r");
+            tree.addEdge(1, "r", "b", 1);
+            tree.addEdge(2, "r", "a");
+            tree.addEdge(3, "b", "c");
+            assertEquals("a", tree.getChild("r", 0));
+            assertEquals("b", tree.getChild("r", 1));
+            assertNull(tree.getChild("r", 2));
+            assertEquals(Arrays.asList("a", "b"), tree.getChildren("r"));
+            try {
+                tree.addEdge(4, "r", "d", 1);
+                fail("child added at occupied index");
+            } catch (IllegalArgumentException iae) {}
+            try {
+                tree.getChild("r", 3);
+                fail("index beyond order");
+            } catch (ArrayIndexOutOfBoundsException aioobe) {}
+
+            assertTrue(tree.removeEdge(1));
+            assertFalse(tree.containsVertex("b"));
+            assertFalse(tree.containsVertex("c"));
+            assertFalse(tree.containsEdge(3));
+            assertEquals(2, tree.getVertexCount());
+            assertEquals(1, tree.getEdgeCount());
+            assertNull(tree.getChild("r", 1));
+            tree.addEdge(5, "r", "d", 1);
+            assertEquals("d", tree.getChild("r", 1));
+            assertEquals(1, tree.getDepth("d"));
+
+            tree.addEdge(6, "r", "e");
+            try {
+                tree.addEdge(7, "r", "f");
+                fail("child added to a full vertex");
+            } catch (IllegalArgumentException iae) {}
+
+            tree.removeVertex("r");
+            assertEquals(0, tree.getVertexCount());
+            assertEquals(-1, tree.getHeight());
+            assertNull(tree.getRoot());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+import junit.framework.TestCase;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+public class TraversalTest extends TestCase {
+
+    private static void populate(Graph<String,Integer> g, boolean parallel) {
+        g.addVertex("isolated");
+        g.addEdge(1, "a", "b");
+        g.addEdge(2, "b", "c");
+        g.addEdge(3, "c", "a");
+        g.addEdge(4, "d", "d");
+        g.addEdge(5, "c", "d");
+        if (parallel)
+            g.addEdge(6, "a", "b");
+    }
+
+    public void testSparseGraphs() {
+        List<Graph<String,Integer>> graphs = new ArrayList<Graph<String,Integer>>();
+        graphs.add(new SparseGraph<String,Integer>());
+        graphs.add(new DirectedSparseGraph<String,Integer>());
+        graphs.add(new UndirectedSparseGraph<String,Integer>());
+        for (Graph<String,Integer> g : graphs) {
+            populate(g, false);
+            assertSameTraversal(g);
+        }
+        Graph<String,Integer> mixed = new SparseGraph<String,Integer>();
+        populate(mixed, false);
+        mixed.addEdge(7, "b", "a", EdgeType.DIRECTED);
+        assertSameTraversal(mixed);
+    }
+
+    public void testMultigraphs() {
+        List<Graph<String,Integer>> graphs = new ArrayList<Graph<String,Integer>>();
+        graphs.add(new SparseMultigraph<String,Integer>());
+        graphs.add(new DirectedSparseMultigraph<String,Integer>());
+        graphs.add(new UndirectedSparseMultigraph<String,Integer>());
+        graphs.add(new ConcurrentSparseMultigraph<String,Integer>());
+        for (Graph<String,Integer> g : graphs) {
+            populate(g, true);
+            assertSameTraversal(g);
+        }
+        Graph<String,Integer> mixed = new SparseMultigraph<String,Integer>();
+        populate(mixed, true);
+        mixed.addEdge(7, "b", "a", EdgeType.DIRECTED);
+        assertSameTraversal(mixed);
+    }
+
+    public void testCompactGraphs() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            Graph<String,Integer> directed = new DirectedSparseMultigraph<String,Integer>();
+            populate(directed, parallel);
+            assertSameTraversal(new CompactDirectedGraph<String,Integer>(directed));
+            Graph<String,Integer> undirected = new UndirectedSparseMultigraph<String,Integer>();
+            populate(undirected, parallel);
+            assertSameTraversal(new CompactUndirectedGraph<String,Integer>(undirected));
+        }
+    }
+
+    public void testHypergraph() {
+        Hypergraph<String,Integer> h = new SetHypergraph<String,Integer>();
+        h.addVertex("isolated");
+        h.addEdge(1, Arrays.asList("a", "b", "c"));
+        h.addEdge(2, Arrays.asList("b", "c"));
+        h.addEdge(3, Arrays.asList("d"));
+        assertSameTraversal(h);
+    }
+
+    public void testMissingVertex() {
+        Graph<String,Integer> g = new SparseMultigraph<String,Integer>();
+        populate(g, true);
+        assertTrue(visitVertices(g, "missing", 0).isEmpty());
+        assertTrue(visitEdges(g, "missing", 0).isEmpty());
+    }
+
+    private static <V,E> void assertSameTraversal(Hypergraph<V,E> g) {
+        for (V v : g.getVertices()) {
+            assertVisited(g.getNeighbors(v), visitVertices(g, v, 0));
+            assertVisited(g.getPredecessors(v), visitVertices(g, v, 1));
+            assertVisited(g.getSuccessors(v), visitVertices(g, v, 2));
+            assertVisited(g.getIncidentEdges(v), visitEdges(g, v, 0));
+            assertVisited(g.getInEdges(v), visitEdges(g, v, 1));
+            assertVisited(g.getOutEdges(v), visitEdges(g, v, 2));
+        }
+    }
+
+    private static <T> void assertVisited(Collection<T> expected, List<T> visited) {
+        // each element must be visited exactly once
+        assertEquals(new HashSet<T>(expected), new HashSet<T>(visited));
+        assertEquals(new HashSet<T>(visited).size(), visited.size());
+    }
+
+    private static <V,E> List<V> visitVertices(Hypergraph<V,E> g, V v, int mode) {
+        final List<V> visited = new ArrayList<V>();
+        Consumer<V> collector = new Consumer<V>() {
+            public void accept(V w) {
+                visited.add(w);
+            }
+        };
+        if (mode == 0)
+            g.forEachNeighbor(v, collector);
+        else if (mode == 1)
+            g.forEachPredecessor(v, collector);
+        else
+            g.forEachSuccessor(v, collector);
+        return visited;
+    }
+
+    private static <V,E> List<E> visitEdges(Hypergraph<V,E> g, V v, int mode) {
+        final List<E> visited = new ArrayList<E>();
+        Consumer<E> collector = new Consumer<E>() {
+            public void accept(E e) {
+                visited.add(e);
+            }
+        };
+        if (mode == 0)
+            g.forEachIncidentEdge(v, collector);
+        else if (mode == 1)
+            g.forEachInEdge(v, collector);
+        else
+            g.forEachOutEdge(v, collector);
+        return visited;
+    }
+}
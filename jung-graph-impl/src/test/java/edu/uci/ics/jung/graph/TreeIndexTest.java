@@ -0,0 +1,239 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+public class TreeIndexTest extends TestCase {
+
+    private DelegateTree<Integer,Integer> randomTree(int size, long seed) {
+        Random random = new Random(seed);
+        DelegateTree<Integer,Integer> tree = new DelegateTree<Integer,Integer>();
+        tree.addVertex(0);
+        for (int i = 1; i < size; i++)
+            tree.addChild(i, random.nextInt(i), i);
+        return tree;
+    }
+
+    private static <V> boolean isAncestorByWalk(Forest<V,?> forest, V ancestor, V descendant) {
+        for (V v = descendant; v != null; v = forest.getParent(v))
+            if (v.equals(ancestor))
+                return true;
+        return false;
+    }
+
+    private static <V> V lcaByWalk(Forest<V,?> forest, V v1, V v2) {
+        HashSet<V> ancestors = new HashSet<V>();
+        for (V v = v1; v != null; v = forest.getParent(v))
+            ancestors.add(v);
+        for (V v = v2; v != null; v = forest.getParent(v))
+            if (ancestors.contains(v))
+                return v;
+        return null;
+    }
+
+    public void testDepthAndHeight() {
+        DelegateTree<Integer,Integer> tree = randomTree(500, 1);
+        int height = 0;
+        for (Integer v : tree.getVertices()) {
+            assertEquals(tree.getPath(v).size() - 1, tree.getDepth(v));
+            height = Math.max(height, tree.getDepth(v));
+        }
+        assertEquals(height, tree.getHeight());
+        assertEquals(-1, tree.getDepth(1000));
+
+        // removing the deepest vertices lowers the height
+        for (Integer v : new ArrayList<Integer>(tree.getVertices()))
+            if (tree.containsVertex(v) && tree.getDepth(v) == height)
+                tree.removeVertex(v);
+        assertEquals(height - 1, tree.getHeight());
+    }
+
+    public void testAncestryAndLowestCommonAncestor() {
+        DelegateTree<Integer,Integer> tree = randomTree(150, 2);
+        // the first pass is answered before the labels are computed
+        for (int pass = 0; pass < 2; pass++) {
+            for (int a = 0; a < 150; a++) {
+                for (int d = 0; d < 150; d++) {
+                    assertEquals(isAncestorByWalk(tree, a, d), tree.isAncestor(a, d));
+                    assertEquals(lcaByWalk(tree, a, d), tree.getLowestCommonAncestor(a, d));
+                }
+            }
+        }
+        assertFalse(tree.isAncestor(0, 1000));
+        assertNull(tree.getLowestCommonAncestor(0, 1000));
+
+        // changes are reflected in subsequent queries
+        tree.addChild(150, 149, 150);
+        assertTrue(tree.isAncestor(149, 150));
+        assertEquals(Integer.valueOf(149), tree.getLowestCommonAncestor(150, 149));
+        tree.removeVertex(149);
+        assertFalse(tree.isAncestor(0, 150));
+    }
+
+    private static <V> int subTreeSizeByWalk(Forest<V,?> forest, V root) {
+        int size = 1;
+        for (V child : forest.getChildren(root))
+            size += subTreeSizeByWalk(forest, child);
+        return size;
+    }
+
+    public void testQueriesBetweenChanges() {
+        Random random = new Random(4);
+        DelegateTree<Integer,Integer> tree = randomTree(300, 3);
+        List<Integer> vertices = new ArrayList<Integer>(tree.getVertices());
+        int next = 300;
+        for (int round = 0; round < 200; round++) {
+            // add a few leaves, some below other new leaves, and remove a few subtrees
+            for (int i = 0; i < 3; i++) {
+                tree.addChild(next, vertices.get(random.nextInt(vertices.size())), next);
+                vertices.add(next++);
+            }
+            Integer removed = vertices.get(1 + random.nextInt(vertices.size() - 1));
+            tree.removeVertex(removed);
+            vertices = new ArrayList<Integer>(tree.getVertices());
+            for (int i = 0; i < 20; i++) {
+                Integer a = vertices.get(random.nextInt(vertices.size()));
+                Integer d = vertices.get(random.nextInt(vertices.size()));
+                assertEquals(isAncestorByWalk(tree, a, d), tree.isAncestor(a, d));
+                assertEquals(subTreeSizeByWalk(tree, a), tree.getSubTree(a).getVertexCount());
+            }
+        }
+        assertEquals(tree.getVertexCount(), tree.getSubTree(0).getVertexCount());
+    }
+
+    @SuppressWarnings("deprecation")
+    public void testVertexDepthsView() {
+        DelegateTree<Integer,Integer> tree = randomTree(50, 5);
+        for (Integer v : tree.getVertices())
+            assertEquals(Integer.valueOf(tree.getDepth(v)), tree.vertex_depths.get(v));
+        assertEquals(50, tree.vertex_depths.size());
+        tree.addChild(50, 0, 50);
+        assertEquals(Integer.valueOf(1), tree.vertex_depths.get(50));
+    }
+
+    public void testDeepTree() {
+        DelegateTree<Integer,Integer> tree = new DelegateTree<Integer,Integer>();
+        tree.addVertex(0);
+        int size = 100000;
+        for (int i = 1; i < size; i++)
+            tree.addChild(i, i - 1, i);
+        tree.addChild(size, size / 2, size);
+        assertEquals(size - 1, tree.getHeight());
+        assertEquals(size / 2 + 1, tree.getDepth(size));
+        assertTrue(tree.isAncestor(10, size - 1));
+        assertFalse(tree.isAncestor(size - 1, 10));
+        assertEquals(Integer.valueOf(size / 2), tree.getLowestCommonAncestor(size, size - 1));
+        assertEquals(size / 2 + 1, tree.getSubTree(size / 2).getVertexCount());
+    }
+
+    public void testForest() {
+        DelegateForest<String,Integer> forest = new DelegateForest<String,Integer>();
+        forest.addVertex("a");
+        forest.addEdge(1, "a", "b");
+        forest.addEdge(2, "b", "c");
+        forest.addEdge(3, "c", "d");
+        forest.addEdge(4, "c", "e");
+        forest.addVertex("x");
+        forest.addEdge(5, "x", "y");
+
+        assertEquals(new HashSet<String>(Arrays.asList("a", "x")), forest.getRoots());
+        assertNull(forest.getRoot());
+        assertEquals(4, forest.getDepth("d"));
+        assertEquals(4, forest.getHeight());
+        assertEquals("c", forest.getLowestCommonAncestor("d", "e"));
+        assertNull(forest.getLowestCommonAncestor("d", "y"));
+        assertFalse(forest.isAncestor("a", "y"));
+
+        // detaching a subtree makes its root a new root
+        forest.removeEdge(2, false);
+        assertEquals(new HashSet<String>(Arrays.asList("a", "c", "x")), forest.getRoots());
+        assertEquals(2, forest.getDepth("d"));
+        assertEquals(2, forest.getHeight());
+        assertFalse(forest.isAncestor("a", "d"));
+        assertTrue(forest.isAncestor("c", "e"));
+
+        // so does removing a vertex but not its subtrees
+        forest.removeVertex("c", false);
+        assertEquals(new HashSet<String>(Arrays.asList("a", "d", "e", "x")), forest.getRoots());
+        assertEquals(1, forest.getDepth("e"));
+        assertEquals(-1, forest.getDepth("c"));
+
+        forest.removeVertex("x");
+        assertEquals(new HashSet<String>(Arrays.asList("a", "d", "e")), forest.getRoots());
+        assertFalse(forest.containsVertex("y"));
+    }
+
+    public void testForestOfExistingGraph() {
+        DirectedGraph<String,Integer> graph = new DirectedSparseGraph<String,Integer>();
+        graph.addEdge(1, "a", "b");
+        graph.addEdge(2, "b", "c");
+        graph.addEdge(3, "x", "y");
+        DelegateForest<String,Integer> forest = new DelegateForest<String,Integer>(graph);
+        assertEquals(3, forest.getDepth("c"));
+        assertEquals(new HashSet<String>(Arrays.asList("a", "x")), forest.getRoots());
+        assertTrue(forest.isAncestor("a", "c"));
+    }
+
+    public void testSubTreeView() {
+        DelegateTree<String,Integer> tree = new DelegateTree<String,Integer>();
+        tree.addVertex("a");
+        tree.addChild(1, "a", "b");
+        tree.addChild(2, "b", "c");
+        tree.addChild(3, "b", "d");
+        tree.addChild(4, "a", "e");
+
+        Tree<String,Integer> subtree = tree.getSubTree("b");
+        assertEquals("b", subtree.getRoot());
+        assertEquals(new HashSet<String>(Arrays.asList("b", "c", "d")),
+            new HashSet<String>(subtree.getVertices()));
+        assertEquals(3, subtree.getVertexCount());
+        assertEquals(new HashSet<Integer>(Arrays.asList(2, 3)),
+            new HashSet<Integer>(subtree.getEdges()));
+        assertEquals(2, subtree.getEdgeCount());
+        assertTrue(subtree.containsVertex("c"));
+        assertFalse(subtree.containsVertex("a"));
+        assertFalse(subtree.containsEdge(1));
+        assertNull(subtree.getParent("b"));
+        assertEquals(0, subtree.getInEdges("b").size());
+        assertEquals(1, subtree.getDepth("c"));
+        assertEquals(-1, subtree.getDepth("e"));
+        assertEquals(1, subtree.getHeight());
+        assertNull(subtree.getOutEdges("e"));
+
+        // the view reflects changes to the tree
+        tree.addChild(5, "d", "f");
+        assertEquals(4, subtree.getVertexCount());
+        assertEquals(2, subtree.getHeight());
+        assertTrue(subtree.containsEdge(5));
+        tree.removeVertex("c");
+        assertEquals(3, subtree.getVertexCount());
+
+        try {
+            subtree.addEdge(6, "f", "g");
+            fail("edge added to view");
+        } catch (UnsupportedOperationException uoe) {}
+        try {
+            tree.getSubTree("z");
+            fail("view of a missing vertex");
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    public void testAddEdgeWithCollectionAndType() {
+        DelegateTree<String,Integer> tree = new DelegateTree<String,Integer>();
+        tree.addVertex("a");
+        List<String> endpoints = Arrays.asList("a", "b");
+        tree.addEdge(1, endpoints, EdgeType.DIRECTED);
+        assertEquals(1, tree.getDepth("b"));
+        try {
+            tree.addEdge(2, Arrays.asList("z", "c"), EdgeType.DIRECTED);
+            fail("edge added from a vertex not in the tree");
+        } catch (IllegalArgumentException iae) {}
+    }
+}
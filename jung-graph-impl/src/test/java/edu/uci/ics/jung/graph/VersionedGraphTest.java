@@ -0,0 +1,76 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import junit.framework.TestCase;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+import edu.uci.ics.jung.graph.util.TestGraphs;
+
+public class VersionedGraphTest extends TestCase {
+
+    public void testSnapshotMatchesGraph() {
+        Graph<String,Number> source = TestGraphs.createTestGraph(true);
+        VersionedGraph<String,Number> graph = new VersionedGraph<String,Number>(source);
+        Graph<String,Number> snapshot = graph.snapshot();
+        assertEquals(source.getVertexCount(), snapshot.getVertexCount());
+        assertEquals(source.getEdgeCount(), snapshot.getEdgeCount());
+        for (String v : source.getVertices()) {
+            assertEquals(new HashSet<Number>(source.getInEdges(v)), new HashSet<Number>(snapshot.getInEdges(v)));
+            assertEquals(new HashSet<Number>(source.getOutEdges(v)), new HashSet<Number>(snapshot.getOutEdges(v)));
+            assertEquals(new HashSet<String>(source.getNeighbors(v)), new HashSet<String>(snapshot.getNeighbors(v)));
+            assertEquals(source.degree(v), snapshot.degree(v));
+        }
+        for (Number e : source.getEdges()) {
+            assertEquals(source.getEndpoints(e), snapshot.getEndpoints(e));
+            assertEquals(source.getSource(e), snapshot.getSource(e));
+            assertEquals(EdgeType.DIRECTED, snapshot.getEdgeType(e));
+        }
+    }
+
+    public void testSnapshotIsolatedFromMutations() {
+        VersionedGraph<String,Integer> graph =
+            new VersionedGraph<String,Integer>(new SparseMultigraph<String,Integer>());
+        graph.addEdge(1, "a", "b");
+        graph.addEdge(2, "b", "c", EdgeType.DIRECTED);
+        Graph<String,Integer> first = graph.snapshot();
+
+        graph.addEdge(3, "a", "c");
+        graph.removeVertex("b");
+        graph.addVertex("d");
+        Graph<String,Integer> second = graph.snapshot();
+        graph.removeEdge(3);
+
+        assertEquals(new HashSet<String>(Arrays.asList("a", "b", "c")), new HashSet<String>(first.getVertices()));
+        assertEquals(2, first.getEdgeCount());
+        assertEquals(new Pair<String>("b", "c"), first.getEndpoints(2));
+        assertEquals("b", first.getSource(2));
+        assertEquals(new HashSet<String>(Arrays.asList("b")), new HashSet<String>(first.getNeighbors("a")));
+        assertNull(first.findEdge("a", "c"));
+
+        assertEquals(new HashSet<String>(Arrays.asList("a", "c", "d")), new HashSet<String>(second.getVertices()));
+        assertEquals(1, second.getEdgeCount());
+        assertEquals(Integer.valueOf(3), second.findEdge("c", "a"));
+        assertEquals(1, second.degree("a"));
+
+        assertEquals(0, graph.getEdgeCount());
+        assertEquals(0, graph.snapshot().degree("a"));
+    }
+
+    public void testSnapshotIsReadOnly() {
+        VersionedGraph<String,Integer> graph =
+            new VersionedGraph<String,Integer>(new SparseMultigraph<String,Integer>());
+        graph.addEdge(1, "a", "b");
+        Graph<String,Integer> snapshot = graph.snapshot();
+        try {
+            snapshot.addVertex("c");
+            fail("vertex added to snapshot");
+        } catch (UnsupportedOperationException uoe) {}
+        try {
+            snapshot.removeEdge(1);
+            fail("edge removed from snapshot");
+        } catch (UnsupportedOperationException uoe) {}
+    }
+}
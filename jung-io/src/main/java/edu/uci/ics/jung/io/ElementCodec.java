@@ -0,0 +1,39 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.io;
+
+/**
+ * Converts vertices or edges to and from a binary representation, for
+ * storage in a <code>MappedGraph</code> file.
+ * <p>
+ * Implementations must be consistent: <code>decode(encode(t)).equals(t)</code>
+ * must hold for every element <code>t</code>, and distinct elements must have
+ * distinct encodings.
+ *
+ * @param <T> the type of element to be encoded
+ * @see ElementCodecs
+ * @see MappedGraphWriter
+ */
+public interface ElementCodec<T>
+{
+    /**
+     * @param element the element to be encoded
+     * @return the binary representation of <code>element</code>
+     */
+    byte[] encode(T element);
+
+    /**
+     * @param bytes the binary representation of an element
+     * @return the element represented by <code>bytes</code>
+     */
+    T decode(byte[] bytes);
+}
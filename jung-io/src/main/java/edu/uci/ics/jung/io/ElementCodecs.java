@@ -0,0 +1,99 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.io;
+
+import java.nio.charset.Charset;
+
+/**
+ * Provides <code>ElementCodec</code> implementations for commonly used
+ * vertex and edge types.
+ */
+public class ElementCodecs
+{
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private static final ElementCodec<String> STRINGS = new ElementCodec<String>()
+    {
+        public byte[] encode(String element)
+        {
+            return element.getBytes(UTF8);
+        }
+
+        public String decode(byte[] bytes)
+        {
+            return new String(bytes, UTF8);
+        }
+    };
+
+    private static final ElementCodec<Integer> INTEGERS = new ElementCodec<Integer>()
+    {
+        public byte[] encode(Integer element)
+        {
+            int value = element;
+            return new byte[] { (byte)(value >>> 24), (byte)(value >>> 16),
+                (byte)(value >>> 8), (byte)value };
+        }
+
+        public Integer decode(byte[] bytes)
+        {
+            return ((bytes[0] & 0xff) << 24) | ((bytes[1] & 0xff) << 16)
+                | ((bytes[2] & 0xff) << 8) | (bytes[3] & 0xff);
+        }
+    };
+
+    private static final ElementCodec<Long> LONGS = new ElementCodec<Long>()
+    {
+        public byte[] encode(Long element)
+        {
+            long value = element;
+            byte[] bytes = new byte[8];
+            for (int i = 7; i >= 0; i--)
+            {
+                bytes[i] = (byte)value;
+                value >>>= 8;
+            }
+            return bytes;
+        }
+
+        public Long decode(byte[] bytes)
+        {
+            long value = 0;
+            for (int i = 0; i < 8; i++)
+                value = (value << 8) | (bytes[i] & 0xff);
+            return value;
+        }
+    };
+
+    /**
+     * @return a codec which stores strings as UTF-8
+     */
+    public static ElementCodec<String> strings()
+    {
+        return STRINGS;
+    }
+
+    /**
+     * @return a codec which stores integers as 4 big-endian bytes
+     */
+    public static ElementCodec<Integer> integers()
+    {
+        return INTEGERS;
+    }
+
+    /**
+     * @return a codec which stores longs as 8 big-endian bytes
+     */
+    public static ElementCodec<Long> longs()
+    {
+        return LONGS;
+    }
+}
@@ -0,0 +1,610 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.zip.CRC32;
+
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.GraphDecorator;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * A graph decorator which records each change to the graph in an append-only
+ * journal on disk, so that the graph can be restored after a restart.
+ * <p>
+ * The journal and a snapshot are kept in a directory.  On construction, the
+ * snapshot (if any) is loaded into the (empty) delegate graph and the journal
+ * is replayed on top of it.  {@link #checkpoint()} writes a new snapshot of
+ * the current graph and empties the journal, so that restart time depends on
+ * the size of the graph rather than on the length of its history; this may be
+ * done periodically by calling {@link #setCheckpointInterval(long)}.
+ * <p>
+ * Each journal record holds one change (vertex or edge added or removed),
+ * preceded by its length and a CRC-32 checksum.  Records are buffered:
+ * {@link #flush()} hands them to the operating system and {@link #sync()}
+ * forces them to disk.  A record which was only partly written when the
+ * process stopped is detected and discarded when the journal is reopened;
+ * since only the final record can have been partly written, a damaged record
+ * anywhere else causes the constructor to throw an <code>IOException</code>
+ * naming its offset, and the journal is left as it was.
+ * Snapshots use the same record format, are written to a temporary file and
+ * renamed into place, and carry a generation number which identifies the
+ * journals whose changes they already include.
+ * <p>
+ * Changes are recorded after they have been made to the delegate; if a record
+ * cannot be written, the mutator throws <code>UncheckedIOException</code>.
+ * The journal records only changes made through this decorator.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ * @see ElementCodec
+ */
+@SuppressWarnings("serial")
+public class JournaledGraph<V,E> extends GraphDecorator<V,E> implements Closeable
+{
+    static final int MAGIC = 0x4A4E4C47; // "JNLG"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 4 + 4 + 8;
+    static final byte ADD_VERTEX = 1;
+    static final byte REMOVE_VERTEX = 2;
+    static final byte ADD_EDGE = 3;
+    static final byte REMOVE_EDGE = 4;
+
+    /**
+     * The name of the snapshot file within the journal directory.
+     */
+    public static final String SNAPSHOT_FILE = "graph.snapshot";
+
+    /**
+     * The name of the journal file within the journal directory.
+     */
+    public static final String JOURNAL_FILE = "graph.journal";
+
+    protected final File directory;
+    protected final ElementCodec<V> vertex_codec;
+    protected final ElementCodec<E> edge_codec;
+
+    private transient FileOutputStream journal_file;
+    private transient DataOutputStream journal;
+    private transient ByteArrayOutputStream record_buffer;
+    private transient DataOutputStream record;
+    private transient CRC32 crc;
+    private long generation;
+    private long record_count;
+    private long checkpoint_interval;
+
+    /**
+     * Creates an instance which restores the graph from the snapshot and journal
+     * in <code>directory</code>, if they exist, and records subsequent changes
+     * in that journal.
+     *
+     * @param delegate the (empty) graph into which the stored graph is loaded
+     * @param directory the directory which holds the snapshot and journal;
+     * it is created if it does not exist
+     * @param vertex_codec the codec used to store vertices
+     * @param edge_codec the codec used to store edges
+     * @throws IOException if the snapshot or journal cannot be read or is damaged
+     * before its final record, or if the journal cannot be opened for writing
+     * @throws IllegalArgumentException if <code>delegate</code> is not empty
+     */
+    public JournaledGraph(Graph<V,E> delegate, File directory,
+            ElementCodec<V> vertex_codec, ElementCodec<E> edge_codec) throws IOException
+    {
+        super(delegate);
+        if (delegate.getVertexCount() > 0)
+            throw new IllegalArgumentException("the delegate graph must be empty");
+        if (!directory.isDirectory() && !directory.mkdirs())
+            throw new IOException("unable to create journal directory " + directory);
+        this.directory = directory;
+        this.vertex_codec = vertex_codec;
+        this.edge_codec = edge_codec;
+        this.record_buffer = new ByteArrayOutputStream();
+        this.record = new DataOutputStream(record_buffer);
+        this.crc = new CRC32();
+
+        File snapshot_file = new File(directory, SNAPSHOT_FILE);
+        long snapshot_generation = 0;
+        if (snapshot_file.exists())
+            snapshot_generation = read(snapshot_file, delegate, true).generation;
+
+        File file = new File(directory, JOURNAL_FILE);
+        ReadResult journal_state = null;
+        if (file.exists() && file.length() >= HEADER_SIZE)
+        {
+            journal_state = read(file, null, false);
+            // a journal older than the snapshot is already included in it
+            if (journal_state.generation < snapshot_generation)
+                journal_state = null;
+            else if (journal_state.generation > snapshot_generation)
+                throw new IOException(file + " does not follow snapshot " + snapshot_file);
+            else
+                journal_state = read(file, delegate, false);
+        }
+        if (journal_state == null)
+        {
+            resetJournal(snapshot_generation);
+        }
+        else
+        {
+            RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            try
+            {
+                // discard a partly-written final record, if there is one
+                raf.setLength(journal_state.length);
+            }
+            finally
+            {
+                raf.close();
+            }
+            openJournal(true);
+            this.generation = journal_state.generation;
+            this.record_count = journal_state.records;
+        }
+    }
+
+    /**
+     * Applies the changes stored in <code>file</code> (a journal or snapshot
+     * written by this class) to <code>graph</code>, in the order in which they
+     * were recorded.  Applying a journal to an <code>ObservableGraph</code>
+     * yields the sequence of changes as events.  A partly-written final record
+     * is ignored.
+     *
+     * @param <V> the vertex type
+     * @param <E> the edge type
+     * @param file the journal or snapshot to be read
+     * @param graph the graph to which the changes are to be applied
+     * @param vertex_codec the codec used to decode vertices
+     * @param edge_codec the codec used to decode edges
+     * @return the number of changes applied
+     * @throws IOException if the file cannot be read, is not a journal, or
+     * has a damaged record before its final record
+     */
+    public static <V,E> long replay(File file, Graph<V,E> graph,
+            ElementCodec<V> vertex_codec, ElementCodec<E> edge_codec) throws IOException
+    {
+        JournalReader<V,E> reader = new JournalReader<V,E>(vertex_codec, edge_codec);
+        return reader.read(file, graph, false).records;
+    }
+
+    private ReadResult read(File file, Graph<V,E> graph, boolean strict) throws IOException
+    {
+        return new JournalReader<V,E>(vertex_codec, edge_codec).read(file, graph, strict);
+    }
+
+    /**
+     * Writes a snapshot of the current graph and empties the journal.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    public synchronized void checkpoint() throws IOException
+    {
+        journal.flush();
+        long next_generation = generation + 1;
+        File snapshot_file = new File(directory, SNAPSHOT_FILE);
+        File temp_file = new File(directory, SNAPSHOT_FILE + ".tmp");
+        FileOutputStream fos = new FileOutputStream(temp_file);
+        try
+        {
+            DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(fos, 1 << 16));
+            writeHeader(dos, next_generation);
+            for (V v : delegate.getVertices())
+                writeVertexRecord(dos, ADD_VERTEX, v);
+            for (E e : delegate.getEdges())
+                writeEdgeRecord(dos, e);
+            dos.flush();
+            fos.getFD().sync();
+        }
+        finally
+        {
+            fos.close();
+        }
+        Files.move(temp_file.toPath(), snapshot_file.toPath(),
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // if we stop here, the old journal will be ignored on restart since its
+        // generation is older than that of the snapshot
+        journal.close();
+        resetJournal(next_generation);
+    }
+
+    /**
+     * Specifies that {@link #checkpoint()} is to be called whenever the journal
+     * holds <code>records</code> changes.
+     *
+     * @param records the number of changes after which the journal is compacted,
+     * or 0 to disable automatic checkpoints
+     */
+    public synchronized void setCheckpointInterval(long records)
+    {
+        if (records < 0)
+            throw new IllegalArgumentException("checkpoint interval must be non-negative");
+        this.checkpoint_interval = records;
+    }
+
+    /**
+     * @return the number of changes recorded in the journal since the last checkpoint
+     */
+    public synchronized long getJournalRecordCount()
+    {
+        return record_count;
+    }
+
+    /**
+     * @return the number of checkpoints taken of this graph; identifies the
+     * current snapshot and journal
+     */
+    public synchronized long getGeneration()
+    {
+        return generation;
+    }
+
+    /**
+     * Writes any buffered journal records to the operating system.
+     * @throws IOException if the records cannot be written
+     */
+    public synchronized void flush() throws IOException
+    {
+        journal.flush();
+    }
+
+    /**
+     * Writes any buffered journal records and forces them to disk.
+     * @throws IOException if the records cannot be written
+     */
+    public synchronized void sync() throws IOException
+    {
+        journal.flush();
+        journal_file.getFD().sync();
+    }
+
+    /**
+     * Flushes and closes the journal.  Subsequent changes to this graph fail.
+     */
+    public synchronized void close() throws IOException
+    {
+        journal.close();
+    }
+
+    private void openJournal(boolean append) throws IOException
+    {
+        journal_file = new FileOutputStream(new File(directory, JOURNAL_FILE), append);
+        journal = new DataOutputStream(new BufferedOutputStream(journal_file, 1 << 16));
+    }
+
+    private void resetJournal(long new_generation) throws IOException
+    {
+        openJournal(false);
+        writeHeader(journal, new_generation);
+        journal.flush();
+        journal_file.getFD().sync();
+        generation = new_generation;
+        record_count = 0;
+    }
+
+    private static void writeHeader(DataOutputStream dos, long generation) throws IOException
+    {
+        dos.writeInt(MAGIC);
+        dos.writeInt(VERSION);
+        dos.writeLong(generation);
+    }
+
+    private void writeVertexRecord(DataOutputStream out, byte op, V vertex) throws IOException
+    {
+        record_buffer.reset();
+        record.writeByte(op);
+        writeElement(record, vertex_codec.encode(vertex));
+        writeRecord(out);
+    }
+
+    private void writeEdgeRecord(DataOutputStream out, E edge) throws IOException
+    {
+        Pair<V> endpoints = delegate.getEndpoints(edge);
+        record_buffer.reset();
+        record.writeByte(ADD_EDGE);
+        writeElement(record, edge_codec.encode(edge));
+        record.writeByte(delegate.getEdgeType(edge) == EdgeType.DIRECTED ? 1 : 0);
+        writeElement(record, vertex_codec.encode(endpoints.getFirst()));
+        writeElement(record, vertex_codec.encode(endpoints.getSecond()));
+        writeRecord(out);
+    }
+
+    private void writeRecord(DataOutputStream out) throws IOException
+    {
+        byte[] payload = record_buffer.toByteArray();
+        crc.reset();
+        crc.update(payload, 0, payload.length);
+        out.writeInt(payload.length);
+        out.writeInt((int)crc.getValue());
+        out.write(payload);
+    }
+
+    private static void writeElement(DataOutputStream out, byte[] bytes) throws IOException
+    {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private void journalVertex(byte op, V vertex)
+    {
+        try
+        {
+            writeVertexRecord(journal, op, vertex);
+        }
+        catch (IOException ioe)
+        {
+            throw new UncheckedIOException(ioe);
+        }
+        recorded();
+    }
+
+    private void journalEdge(E edge)
+    {
+        try
+        {
+            writeEdgeRecord(journal, edge);
+        }
+        catch (IOException ioe)
+        {
+            throw new UncheckedIOException(ioe);
+        }
+        recorded();
+    }
+
+    private void journalEdgeRemoval(E edge)
+    {
+        try
+        {
+            record_buffer.reset();
+            record.writeByte(REMOVE_EDGE);
+            writeElement(record, edge_codec.encode(edge));
+            writeRecord(journal);
+        }
+        catch (IOException ioe)
+        {
+            throw new UncheckedIOException(ioe);
+        }
+        recorded();
+    }
+
+    private void recorded()
+    {
+        record_count++;
+        if (checkpoint_interval > 0 && record_count >= checkpoint_interval)
+        {
+            try
+            {
+                checkpoint();
+            }
+            catch (IOException ioe)
+            {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+    }
+
+    @Override
+    public synchronized boolean addVertex(V vertex)
+    {
+        boolean added = delegate.addVertex(vertex);
+        if (added)
+            journalVertex(ADD_VERTEX, vertex);
+        return added;
+    }
+
+    @Override
+    public synchronized boolean removeVertex(V vertex)
+    {
+        boolean removed = delegate.removeVertex(vertex);
+        if (removed)
+            journalVertex(REMOVE_VERTEX, vertex);
+        return removed;
+    }
+
+    @Override
+    public synchronized boolean addEdge(E edge, Collection<? extends V> vertices)
+    {
+        boolean added = delegate.addEdge(edge, vertices);
+        if (added)
+            journalEdge(edge);
+        return added;
+    }
+
+    @Override
+    public synchronized boolean addEdge(E edge, Collection<? extends V> vertices, EdgeType edge_type)
+    {
+        boolean added = delegate.addEdge(edge, vertices, edge_type);
+        if (added)
+            journalEdge(edge);
+        return added;
+    }
+
+    @Override
+    public synchronized boolean addEdge(E e, V v1, V v2)
+    {
+        boolean added = delegate.addEdge(e, v1, v2);
+        if (added)
+            journalEdge(e);
+        return added;
+    }
+
+    @Override
+    public synchronized boolean addEdge(E e, V v1, V v2, EdgeType edge_type)
+    {
+        boolean added = delegate.addEdge(e, v1, v2, edge_type);
+        if (added)
+            journalEdge(e);
+        return added;
+    }
+
+    @Override
+    public synchronized boolean removeEdge(E edge)
+    {
+        boolean removed = delegate.removeEdge(edge);
+        if (removed)
+            journalEdgeRemoval(edge);
+        return removed;
+    }
+
+    private static class ReadResult
+    {
+        long generation;
+        long length;
+        long records;
+    }
+
+    /**
+     * Reads journal and snapshot files, applying their records to a graph.
+     */
+    private static class JournalReader<V,E>
+    {
+        private final ElementCodec<V> vertex_codec;
+        private final ElementCodec<E> edge_codec;
+
+        JournalReader(ElementCodec<V> vertex_codec, ElementCodec<E> edge_codec)
+        {
+            this.vertex_codec = vertex_codec;
+            this.edge_codec = edge_codec;
+        }
+
+        /**
+         * Reads <code>file</code>, applying its records to <code>graph</code>
+         * unless it is <code>null</code>.  If <code>strict</code> is false, a
+         * final record which runs past the end of the file or fails its
+         * checksum ends the file (and <code>result.length</code> excludes it);
+         * otherwise it is an error.  A damaged record before the final one is
+         * always an error.
+         */
+        ReadResult read(File file, Graph<V,E> graph, boolean strict) throws IOException
+        {
+            ReadResult result = new ReadResult();
+            long file_length = file.length();
+            DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file), 1 << 16));
+            try
+            {
+                if (file_length < HEADER_SIZE || in.readInt() != MAGIC)
+                    throw new IOException(file + " is not a graph journal");
+                int version = in.readInt();
+                if (version != VERSION)
+                    throw new IOException("unsupported graph journal version " + version);
+                result.generation = in.readLong();
+                result.length = HEADER_SIZE;
+                if (graph == null)
+                    return result;
+
+                CRC32 crc = new CRC32();
+                while (result.length < file_length)
+                {
+                    long remaining = file_length - result.length;
+                    // a record cut short by EOF was being written when the
+                    // process stopped, and (unless strict) ends the file
+                    if (remaining < 8)
+                    {
+                        if (strict)
+                            throw new IOException(file + " is damaged at offset " + result.length);
+                        break;
+                    }
+                    int length = in.readInt();
+                    int checksum = in.readInt();
+                    if (length > remaining - 8)
+                    {
+                        if (strict)
+                            throw new IOException(file + " is damaged at offset " + result.length);
+                        break;
+                    }
+                    if (length <= 0)
+                        throw new IOException(file + " is damaged at offset " + result.length
+                            + ": invalid record length " + length);
+                    byte[] payload = new byte[length];
+                    in.readFully(payload);
+                    crc.reset();
+                    crc.update(payload, 0, length);
+                    if ((int)crc.getValue() != checksum)
+                    {
+                        // only the final record can have been partly written;
+                        // damage before it must not discard the records which follow
+                        if (strict || length < remaining - 8)
+                            throw new IOException(file + " is damaged at offset " + result.length
+                                + ": checksum mismatch");
+                        break;
+                    }
+                    apply(payload, graph);
+                    result.length += 8 + payload.length;
+                    result.records++;
+                }
+            }
+            catch (EOFException eofe)
+            {
+                throw new IOException(file + " is truncated", eofe);
+            }
+            finally
+            {
+                in.close();
+            }
+            return result;
+        }
+
+        private void apply(byte[] payload, Graph<V,E> graph) throws IOException
+        {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            byte op = in.readByte();
+            switch (op)
+            {
+                case ADD_VERTEX:
+                    graph.addVertex(vertex_codec.decode(readElement(in)));
+                    break;
+                case REMOVE_VERTEX:
+                    graph.removeVertex(vertex_codec.decode(readElement(in)));
+                    break;
+                case ADD_EDGE:
+                    E edge = edge_codec.decode(readElement(in));
+                    EdgeType edge_type = in.readByte() == 1 ? EdgeType.DIRECTED : EdgeType.UNDIRECTED;
+                    V v1 = vertex_codec.decode(readElement(in));
+                    V v2 = vertex_codec.decode(readElement(in));
+                    // decode a self-loop's endpoints to a single object, as it was added
+                    if (v2.equals(v1))
+                        v2 = v1;
+                    graph.addEdge(edge, v1, v2, edge_type);
+                    break;
+                case REMOVE_EDGE:
+                    graph.removeEdge(edge_codec.decode(readElement(in)));
+                    break;
+                default:
+                    throw new IOException("unknown journal record type " + op);
+            }
+        }
+
+        private static byte[] readElement(DataInputStream in) throws IOException
+        {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return bytes;
+        }
+    }
+}
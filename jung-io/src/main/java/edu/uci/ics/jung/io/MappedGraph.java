@@ -0,0 +1,791 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import com.google.common.base.Function;
+
+import edu.uci.ics.jung.graph.AbstractTypedGraph;
+import edu.uci.ics.jung.graph.IntGraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * A read-only <code>Graph</code> backed by a memory-mapped file written by
+ * <code>MappedGraphWriter</code>.
+ * <p>
+ * None of the graph's structure is copied onto the heap: adjacency is read
+ * directly from compressed sparse row arrays in the mapped file, vertices and
+ * edges are found by binary search over their encodings, and are decoded
+ * (using the supplied <code>ElementCodec</code>s) only when they are returned.
+ * This makes it possible to open graphs which are larger than the heap, and
+ * to share a single copy of a graph's pages between processes; the price is
+ * that each lookup of a vertex or edge costs a binary search, and that the
+ * elements returned are freshly decoded (equal to, but not identical to, the
+ * elements that were written).
+ * <p>
+ * Each section of the file is mapped as one or more chunks of at most
+ * 2<sup>30</sup> bytes, so that sections larger than a single
+ * <code>ByteBuffer</code> can address (such as the encodings of billions of
+ * elements) can be read; positions within a section are <code>long</code>s.
+ * <p>
+ * All mutators throw <code>UnsupportedOperationException</code>.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ * @see MappedGraphWriter
+ */
+@SuppressWarnings("serial")
+public class MappedGraph<V,E> extends AbstractTypedGraph<V,E>
+{
+    protected final ElementCodec<V> vertex_codec;
+    protected final ElementCodec<E> edge_codec;
+    protected final int vertex_count;
+    protected final int edge_count;
+    protected final boolean parallel_edges;
+
+    protected final transient Section vertex_index;
+    protected final transient Section vertex_data;
+    protected final transient Section edge_index;
+    protected final transient Section edge_data;
+    protected final transient Section edge_first;
+    protected final transient Section edge_second;
+    protected final transient Section out_offsets;
+    protected final transient Section out_edges;
+    protected final transient Section in_offsets;
+    protected final transient Section in_edges;
+    protected final transient Section weights;
+
+    /**
+     * Maps the graph stored in <code>file</code>.  The file may be closed
+     * (but should not be modified) once this constructor returns.
+     * @param file the file to be mapped
+     * @param vertex_codec the codec with which the vertices were written
+     * @param edge_codec the codec with which the edges were written
+     * @throws IOException if the file cannot be read or is not in the expected format
+     */
+    public MappedGraph(File file, ElementCodec<V> vertex_codec, ElementCodec<E> edge_codec)
+        throws IOException
+    {
+        this(file, vertex_codec, edge_codec, Section.CHUNK_BITS);
+    }
+
+    /**
+     * Maps the graph stored in <code>file</code>, in chunks of
+     * 2<sup><code>chunk_bits</code></sup> bytes; this allows the handling
+     * of sections which span several chunks to be tested on small files.
+     */
+    MappedGraph(File file, ElementCodec<V> vertex_codec, ElementCodec<E> edge_codec,
+        int chunk_bits) throws IOException
+    {
+        this(file, vertex_codec, edge_codec, readEdgeType(file), chunk_bits);
+    }
+
+    private MappedGraph(File file, ElementCodec<V> vertex_codec, ElementCodec<E> edge_codec,
+        EdgeType edge_type, int chunk_bits) throws IOException
+    {
+        super(edge_type);
+        this.vertex_codec = vertex_codec;
+        this.edge_codec = edge_codec;
+
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try
+        {
+            FileChannel channel = raf.getChannel();
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                MappedGraphWriter.HEADER_SIZE);
+            int flags = header.getInt(8);
+            this.vertex_count = header.getInt(12);
+            this.edge_count = header.getInt(16);
+            this.parallel_edges = (flags & MappedGraphWriter.PARALLEL_EDGES) != 0;
+            long[] sections = new long[MappedGraphWriter.SECTION_COUNT + 1];
+            for (int i = 0; i < sections.length; i++)
+                sections[i] = header.getLong(20 + i * 8);
+            if (sections[sections.length - 1] > channel.size())
+                throw new IOException(file + " is truncated");
+
+            this.vertex_index = new Section(channel, sections, 0, chunk_bits);
+            this.vertex_data = new Section(channel, sections, 1, chunk_bits);
+            this.edge_index = new Section(channel, sections, 2, chunk_bits);
+            this.edge_data = new Section(channel, sections, 3, chunk_bits);
+            this.edge_first = new Section(channel, sections, 4, chunk_bits);
+            this.edge_second = new Section(channel, sections, 5, chunk_bits);
+            this.out_offsets = new Section(channel, sections, 6, chunk_bits);
+            this.out_edges = new Section(channel, sections, 7, chunk_bits);
+            if (edge_type == EdgeType.DIRECTED)
+            {
+                this.in_offsets = new Section(channel, sections, 8, chunk_bits);
+                this.in_edges = new Section(channel, sections, 9, chunk_bits);
+            }
+            else
+            {
+                this.in_offsets = out_offsets;
+                this.in_edges = out_edges;
+            }
+            this.weights = (flags & MappedGraphWriter.WEIGHTED) != 0
+                ? new Section(channel, sections, 10, chunk_bits) : null;
+        }
+        finally
+        {
+            raf.close();
+        }
+    }
+
+    private static EdgeType readEdgeType(File file) throws IOException
+    {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try
+        {
+            if (raf.length() < MappedGraphWriter.HEADER_SIZE
+                    || raf.readInt() != MappedGraphWriter.MAGIC)
+                throw new IOException(file + " is not a mapped graph file");
+            int version = raf.readInt();
+            if (version != MappedGraphWriter.VERSION)
+                throw new IOException("unsupported mapped graph version " + version);
+            return (raf.readInt() & MappedGraphWriter.DIRECTED) != 0
+                ? EdgeType.DIRECTED : EdgeType.UNDIRECTED;
+        }
+        finally
+        {
+            raf.close();
+        }
+    }
+
+    /**
+     * A section of the file, mapped as one or more chunks of 2<sup>chunk_bits</sup>
+     * bytes (the last of which may be shorter).  A position within the section
+     * is a <code>long</code>, split into the index of a chunk and an offset
+     * within that chunk.  Chunks are at least 8 bytes long and the sections'
+     * <code>int</code>, <code>long</code> and <code>double</code> values are
+     * aligned to their own size, so no value spans two chunks.
+     */
+    protected static class Section
+    {
+        /**
+         * The base 2 logarithm of the default chunk size.
+         */
+        static final int CHUNK_BITS = 30;
+
+        private final ByteBuffer[] chunks;
+        private final int chunk_bits;
+        private final long chunk_mask;
+        private final long size;
+
+        Section(FileChannel channel, long[] sections, int section, int chunk_bits)
+            throws IOException
+        {
+            if (chunk_bits < 3 || chunk_bits > CHUNK_BITS)
+                throw new IllegalArgumentException("chunk_bits must be in [3, " + CHUNK_BITS + "]: " + chunk_bits);
+            this.chunk_bits = chunk_bits;
+            this.chunk_mask = (1L << chunk_bits) - 1;
+            this.size = sections[section + 1] - sections[section];
+            long chunk_count = (size + chunk_mask) >>> chunk_bits;
+            if (chunk_count > Integer.MAX_VALUE)
+                throw new IOException("section " + section + " is too large to be mapped (" + size + " bytes)");
+            this.chunks = new ByteBuffer[(int)chunk_count];
+            for (int i = 0; i < chunks.length; i++)
+            {
+                long offset = (long)i << chunk_bits;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, sections[section] + offset,
+                    Math.min(chunk_mask + 1, size - offset));
+            }
+        }
+
+        /**
+         * @return the size of this section in bytes
+         */
+        public long size()
+        {
+            return size;
+        }
+
+        /**
+         * @param position the position of the byte, in bytes from the start of this section
+         * @return the byte at <code>position</code>
+         */
+        public byte get(long position)
+        {
+            return chunks[(int)(position >>> chunk_bits)].get((int)(position & chunk_mask));
+        }
+
+        /**
+         * @param index the index of the value, in units of 4 bytes
+         * @return the <code>int</code> at <code>index</code>
+         */
+        public int getInt(long index)
+        {
+            long position = index << 2;
+            return chunks[(int)(position >>> chunk_bits)].getInt((int)(position & chunk_mask));
+        }
+
+        /**
+         * @param index the index of the value, in units of 8 bytes
+         * @return the <code>long</code> at <code>index</code>
+         */
+        public long getLong(long index)
+        {
+            long position = index << 3;
+            return chunks[(int)(position >>> chunk_bits)].getLong((int)(position & chunk_mask));
+        }
+
+        /**
+         * @param index the index of the value, in units of 8 bytes
+         * @return the <code>double</code> at <code>index</code>
+         */
+        public double getDouble(long index)
+        {
+            long position = index << 3;
+            return chunks[(int)(position >>> chunk_bits)].getDouble((int)(position & chunk_mask));
+        }
+    }
+
+    /**
+     * @return <code>true</code> if edge weights were stored with this graph
+     */
+    public boolean hasEdgeWeights()
+    {
+        return weights != null;
+    }
+
+    /**
+     * Returns the weight stored for <code>edge</code>.
+     * @param edge the edge whose weight is to be returned
+     * @return the weight of <code>edge</code>
+     * @throws IllegalStateException if no weights were stored with this graph
+     * @throws IllegalArgumentException if <code>edge</code> is not in this graph
+     */
+    public double getEdgeWeight(E edge)
+    {
+        if (weights == null)
+            throw new IllegalStateException("no edge weights were stored with this graph");
+        int e = edgeId(edge);
+        if (e < 0)
+            throw new IllegalArgumentException(edge + " is not an edge in this graph");
+        return weights.getDouble(e);
+    }
+
+    /**
+     * @return a function which returns the stored weight of each edge
+     * @throws IllegalStateException if no weights were stored with this graph
+     */
+    public Function<E, Double> getEdgeWeights()
+    {
+        if (weights == null)
+            throw new IllegalStateException("no edge weights were stored with this graph");
+        return new Function<E, Double>()
+        {
+            public Double apply(E edge)
+            {
+                return getEdgeWeight(edge);
+            }
+        };
+    }
+
+    /**
+     * Returns a view of this graph as an <code>IntGraph</code> whose ids are the
+     * positions of the vertices and edges in the file; no copying is done.
+     * @return an <code>IntGraph</code> view of this graph
+     */
+    public IntGraph<V,E> asIntGraph()
+    {
+        return new IntGraph<V,E>()
+        {
+            public int getVertexCount()
+            {
+                return vertex_count;
+            }
+
+            public int getEdgeCount()
+            {
+                return edge_count;
+            }
+
+            public V getVertex(int id)
+            {
+                return vertex(id);
+            }
+
+            public int getVertexId(V vertex)
+            {
+                return vertexId(vertex);
+            }
+
+            public E getEdge(int id)
+            {
+                return edge(id);
+            }
+
+            public int getEdgeId(E edge)
+            {
+                return edgeId(edge);
+            }
+
+            public int outDegree(int v)
+            {
+                return out_offsets.getInt(v + 1) - out_offsets.getInt(v);
+            }
+
+            public int outNeighbor(int v, int i)
+            {
+                return opposite(v, out_edges.getInt(out_offsets.getInt(v) + i));
+            }
+
+            public int outEdge(int v, int i)
+            {
+                return out_edges.getInt(out_offsets.getInt(v) + i);
+            }
+
+            public int inDegree(int v)
+            {
+                return in_offsets.getInt(v + 1) - in_offsets.getInt(v);
+            }
+
+            public int inNeighbor(int v, int i)
+            {
+                return opposite(v, in_edges.getInt(in_offsets.getInt(v) + i));
+            }
+
+            public int inEdge(int v, int i)
+            {
+                return in_edges.getInt(in_offsets.getInt(v) + i);
+            }
+        };
+    }
+
+    /**
+     * Returns the id of <code>vertex</code>, or -1 if it is not in this graph.
+     * @param vertex the vertex whose id is to be returned
+     * @return the id of <code>vertex</code>, or -1 if it is not in this graph
+     */
+    protected int vertexId(V vertex)
+    {
+        return vertex == null ? -1 : search(vertex_index, vertex_data, vertex_codec.encode(vertex));
+    }
+
+    /**
+     * Returns the id of <code>edge</code>, or -1 if it is not in this graph.
+     * @param edge the edge whose id is to be returned
+     * @return the id of <code>edge</code>, or -1 if it is not in this graph
+     */
+    protected int edgeId(E edge)
+    {
+        return edge == null ? -1 : search(edge_index, edge_data, edge_codec.encode(edge));
+    }
+
+    protected V vertex(int id)
+    {
+        return vertex_codec.decode(read(vertex_index, vertex_data, id));
+    }
+
+    protected E edge(int id)
+    {
+        return edge_codec.decode(read(edge_index, edge_data, id));
+    }
+
+    protected int opposite(int v, int e)
+    {
+        int first = edge_first.getInt(e);
+        return first == v ? edge_second.getInt(e) : first;
+    }
+
+    private static byte[] read(Section index, Section data, int id)
+    {
+        long from = index.getLong(id);
+        byte[] bytes = new byte[(int)(index.getLong(id + 1) - from)];
+        for (int i = 0; i < bytes.length; i++)
+            bytes[i] = data.get(from + i);
+        return bytes;
+    }
+
+    /**
+     * Binary search for <code>key</code> among the (sorted) encodings in <code>data</code>.
+     */
+    private static int search(Section index, Section data, byte[] key)
+    {
+        int low = 0;
+        int high = (int)(index.size() >>> 3) - 2;
+        while (low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(data, index.getLong(mid), index.getLong(mid + 1), key);
+            if (cmp < 0)
+                low = mid + 1;
+            else if (cmp > 0)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -1;
+    }
+
+    private static int compare(Section data, long from, long to, byte[] key)
+    {
+        int length = (int)Math.min(to - from, key.length);
+        for (int i = 0; i < length; i++)
+        {
+            int diff = (data.get(from + i) & 0xff) - (key[i] & 0xff);
+            if (diff != 0)
+                return diff;
+        }
+        return Long.signum((to - from) - key.length);
+    }
+
+    private Collection<E> edgeView(final Section ids, final int from, final int to)
+    {
+        return new AbstractList<E>()
+        {
+            @Override
+            public E get(int index)
+            {
+                return edge(ids.getInt(from + index));
+            }
+
+            @Override
+            public int size()
+            {
+                return to - from;
+            }
+        };
+    }
+
+    private Collection<V> oppositeView(final int v, final Section ids, final int from,
+        final int to)
+    {
+        Collection<V> view = new AbstractList<V>()
+        {
+            @Override
+            public V get(int index)
+            {
+                return vertex(opposite(v, ids.getInt(from + index)));
+            }
+
+            @Override
+            public int size()
+            {
+                return to - from;
+            }
+        };
+        if (parallel_edges)
+            return Collections.unmodifiableCollection(new LinkedHashSet<V>(view));
+        return view;
+    }
+
+    public Collection<V> getVertices()
+    {
+        return new AbstractList<V>()
+        {
+            @Override
+            public V get(int index)
+            {
+                return vertex(index);
+            }
+
+            @Override
+            public int size()
+            {
+                return vertex_count;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public boolean contains(Object o)
+            {
+                return containsVertex((V)o);
+            }
+        };
+    }
+
+    public Collection<E> getEdges()
+    {
+        return new AbstractList<E>()
+        {
+            @Override
+            public E get(int index)
+            {
+                return edge(index);
+            }
+
+            @Override
+            public int size()
+            {
+                return edge_count;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public boolean contains(Object o)
+            {
+                return containsEdge((E)o);
+            }
+        };
+    }
+
+    public boolean containsVertex(V vertex)
+    {
+        return vertexId(vertex) >= 0;
+    }
+
+    public boolean containsEdge(E edge)
+    {
+        return edgeId(edge) >= 0;
+    }
+
+    public int getVertexCount()
+    {
+        return vertex_count;
+    }
+
+    public int getEdgeCount()
+    {
+        return edge_count;
+    }
+
+    public Collection<E> getInEdges(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        return edgeView(in_edges, in_offsets.getInt(v), in_offsets.getInt(v + 1));
+    }
+
+    public Collection<E> getOutEdges(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        return edgeView(out_edges, out_offsets.getInt(v), out_offsets.getInt(v + 1));
+    }
+
+    public Collection<E> getIncidentEdges(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        if (edge_type == EdgeType.UNDIRECTED)
+            return edgeView(out_edges, out_offsets.getInt(v), out_offsets.getInt(v + 1));
+        List<E> incident = new ArrayList<E>(degree(v));
+        for (int i = out_offsets.getInt(v); i < out_offsets.getInt(v + 1); i++)
+            incident.add(edge(out_edges.getInt(i)));
+        for (int i = in_offsets.getInt(v); i < in_offsets.getInt(v + 1); i++)
+        {
+            int e = in_edges.getInt(i);
+            if (edge_first.getInt(e) != edge_second.getInt(e))
+                incident.add(edge(e));
+        }
+        return Collections.unmodifiableList(incident);
+    }
+
+    public Collection<V> getPredecessors(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        return oppositeView(v, in_edges, in_offsets.getInt(v), in_offsets.getInt(v + 1));
+    }
+
+    public Collection<V> getSuccessors(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        return oppositeView(v, out_edges, out_offsets.getInt(v), out_offsets.getInt(v + 1));
+    }
+
+    public Collection<V> getNeighbors(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            return null;
+        if (edge_type == EdgeType.UNDIRECTED)
+            return oppositeView(v, out_edges, out_offsets.getInt(v), out_offsets.getInt(v + 1));
+        Collection<V> neighbors = new LinkedHashSet<V>();
+        for (int i = out_offsets.getInt(v); i < out_offsets.getInt(v + 1); i++)
+            neighbors.add(vertex(opposite(v, out_edges.getInt(i))));
+        for (int i = in_offsets.getInt(v); i < in_offsets.getInt(v + 1); i++)
+            neighbors.add(vertex(opposite(v, in_edges.getInt(i))));
+        return Collections.unmodifiableCollection(neighbors);
+    }
+
+    private int degree(int v)
+    {
+        int degree = out_offsets.getInt(v + 1) - out_offsets.getInt(v);
+        if (edge_type == EdgeType.DIRECTED)
+        {
+            for (int i = in_offsets.getInt(v); i < in_offsets.getInt(v + 1); i++)
+            {
+                int e = in_edges.getInt(i);
+                if (edge_first.getInt(e) != edge_second.getInt(e))
+                    degree++;
+            }
+        }
+        return degree;
+    }
+
+    @Override
+    public int degree(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return degree(v);
+    }
+
+    @Override
+    public int inDegree(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return in_offsets.getInt(v + 1) - in_offsets.getInt(v);
+    }
+
+    @Override
+    public int outDegree(V vertex)
+    {
+        int v = vertexId(vertex);
+        if (v < 0)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return out_offsets.getInt(v + 1) - out_offsets.getInt(v);
+    }
+
+    @Override
+    public E findEdge(V v1, V v2)
+    {
+        int id1 = vertexId(v1);
+        int id2 = vertexId(v2);
+        if (id1 < 0 || id2 < 0)
+            return null;
+        for (int i = out_offsets.getInt(id1); i < out_offsets.getInt(id1 + 1); i++)
+            if (opposite(id1, out_edges.getInt(i)) == id2)
+                return edge(out_edges.getInt(i));
+        return null;
+    }
+
+    @Override
+    public Collection<E> findEdgeSet(V v1, V v2)
+    {
+        int id1 = vertexId(v1);
+        int id2 = vertexId(v2);
+        if (id1 < 0 || id2 < 0)
+            return null;
+        Collection<E> edge_collection = new ArrayList<E>(1);
+        for (int i = out_offsets.getInt(id1); i < out_offsets.getInt(id1 + 1); i++)
+            if (opposite(id1, out_edges.getInt(i)) == id2)
+                edge_collection.add(edge(out_edges.getInt(i)));
+        return Collections.unmodifiableCollection(edge_collection);
+    }
+
+    @Override
+    public boolean isNeighbor(V v1, V v2)
+    {
+        if (!containsVertex(v1) || !containsVertex(v2))
+            throw new IllegalArgumentException("At least one of these not in this graph: " + v1 + ", " + v2);
+        return findEdge(v1, v2) != null || findEdge(v2, v1) != null;
+    }
+
+    public Pair<V> getEndpoints(E edge)
+    {
+        int e = edgeId(edge);
+        if (e < 0)
+            return null;
+        int first = edge_first.getInt(e);
+        int second = edge_second.getInt(e);
+        // a self-loop's endpoints are a single object, as in the other implementations
+        V v1 = vertex(first);
+        return new Pair<V>(v1, first == second ? v1 : vertex(second));
+    }
+
+    @Override
+    public int getIncidentCount(E edge)
+    {
+        int e = edgeId(edge);
+        if (e < 0)
+            return 0;
+        return edge_first.getInt(e) == edge_second.getInt(e) ? 1 : 2;
+    }
+
+    public V getSource(E directed_edge)
+    {
+        if (edge_type == EdgeType.UNDIRECTED)
+            return null;
+        int e = edgeId(directed_edge);
+        return e < 0 ? null : vertex(edge_first.getInt(e));
+    }
+
+    public V getDest(E directed_edge)
+    {
+        if (edge_type == EdgeType.UNDIRECTED)
+            return null;
+        int e = edgeId(directed_edge);
+        return e < 0 ? null : vertex(edge_second.getInt(e));
+    }
+
+    public boolean isSource(V vertex, E edge)
+    {
+        if (edge_type == EdgeType.UNDIRECTED)
+            return false;
+        int e = edgeId(edge);
+        return e >= 0 && edge_first.getInt(e) == vertexId(vertex);
+    }
+
+    public boolean isDest(V vertex, E edge)
+    {
+        if (edge_type == EdgeType.UNDIRECTED)
+            return false;
+        int e = edgeId(edge);
+        return e >= 0 && edge_second.getInt(e) == vertexId(vertex);
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>; this graph is read-only.
+     */
+    @Override
+    public boolean addEdge(E edge, Pair<? extends V> endpoints, EdgeType edgeType)
+    {
+        throw new UnsupportedOperationException("this graph is read-only");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>; this graph is read-only.
+     */
+    public boolean addVertex(V vertex)
+    {
+        throw new UnsupportedOperationException("this graph is read-only");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>; this graph is read-only.
+     */
+    public boolean removeVertex(V vertex)
+    {
+        throw new UnsupportedOperationException("this graph is read-only");
+    }
+
+    /**
+     * Throws <code>UnsupportedOperationException</code>; this graph is read-only.
+     */
+    public boolean removeEdge(E edge)
+    {
+        throw new UnsupportedOperationException("this graph is read-only");
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.io;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.base.Function;
+
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * Writes graphs in the binary format read by <code>MappedGraph</code>.
+ * <p>
+ * The file consists of a fixed-size header followed by a sequence of sections:
+ * the encoded vertices and edges (each sorted by their encodings, so that they
+ * can be found by binary search without an in-memory index), the endpoints
+ * of each edge, compressed sparse row adjacency arrays, and optionally a
+ * <code>double</code> weight for each edge.  All values are big-endian.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ * @see MappedGraph
+ */
+public class MappedGraphWriter<V,E>
+{
+    static final int MAGIC = 0x4A554E47; // "JUNG"
+    static final int VERSION = 1;
+    static final int DIRECTED = 1;
+    static final int WEIGHTED = 2;
+    static final int PARALLEL_EDGES = 4;
+    static final int SECTION_COUNT = 11;
+    static final int HEADER_SIZE = 5 * 4 + (SECTION_COUNT + 1) * 8;
+
+    protected ElementCodec<? super V> vertex_codec;
+    protected ElementCodec<? super E> edge_codec;
+
+    /**
+     * Creates a writer which uses the specified codecs.
+     * @param vertex_codec the codec used to encode vertices
+     * @param edge_codec the codec used to encode edges
+     */
+    public MappedGraphWriter(ElementCodec<? super V> vertex_codec, ElementCodec<? super E> edge_codec)
+    {
+        this.vertex_codec = vertex_codec;
+        this.edge_codec = edge_codec;
+    }
+
+    /**
+     * Saves the graph to the specified file, without edge weights.
+     * @param g the graph to be saved
+     * @param file the file to which the graph is to be written
+     * @throws IOException if the graph cannot be saved
+     */
+    public void save(Graph<V,E> g, File file) throws IOException
+    {
+        save(g, file, null);
+    }
+
+    /**
+     * Saves the graph and its edge weights to the specified file.
+     * @param g the graph to be saved
+     * @param file the file to which the graph is to be written
+     * @param edge_weights the edge weights to be stored, or <code>null</code>
+     * @throws IOException if the graph cannot be saved
+     * @throws IllegalArgumentException if <code>g</code> has both directed and undirected edges,
+     * or if two elements of <code>g</code> have the same encoding
+     */
+    public void save(Graph<V,E> g, File file, Function<? super E, ? extends Number> edge_weights)
+        throws IOException
+    {
+        boolean directed;
+        if (g.getEdgeCount(EdgeType.DIRECTED) == g.getEdgeCount())
+            directed = g.getEdgeCount() > 0 || g.getDefaultEdgeType() == EdgeType.DIRECTED;
+        else if (g.getEdgeCount(EdgeType.UNDIRECTED) == g.getEdgeCount())
+            directed = false;
+        else
+            throw new IllegalArgumentException("graphs with both directed and undirected edges are not supported");
+
+        // encode and sort elements; ids are positions in sorted order
+        Object[] vertices = g.getVertices().toArray();
+        byte[][] vertex_data = encode(vertices, vertex_codec);
+        Object[] edges = g.getEdges().toArray();
+        byte[][] edge_data = encode(edges, edge_codec);
+        Map<Object, Integer> vertex_ids = new HashMap<Object, Integer>();
+        for (int i = 0; i < vertices.length; i++)
+            vertex_ids.put(vertices[i], i);
+
+        int n = vertices.length;
+        int m = edges.length;
+        int[] edge_first = new int[m];
+        int[] edge_second = new int[m];
+        for (int e = 0; e < m; e++)
+        {
+            @SuppressWarnings("unchecked")
+            Pair<V> endpoints = g.getEndpoints((E)edges[e]);
+            edge_first[e] = vertex_ids.get(endpoints.getFirst());
+            edge_second[e] = vertex_ids.get(endpoints.getSecond());
+        }
+        int[][] out = buildIndex(n, edge_first, directed ? null : edge_second);
+        int[][] in = directed ? buildIndex(n, edge_second, null) : new int[][] { new int[0], new int[0] };
+        int flags = (directed ? DIRECTED : 0) | (edge_weights != null ? WEIGHTED : 0)
+            | (hasParallelEdges(out[0], out[1], edge_first, edge_second) ? PARALLEL_EDGES : 0);
+
+        long[] sections = new long[SECTION_COUNT + 1];
+        long[] lengths = {
+            (n + 1) * 8L, totalLength(vertex_data),
+            (m + 1) * 8L, totalLength(edge_data),
+            m * 4L, m * 4L,
+            out[0].length * 4L, out[1].length * 4L,
+            in[0].length * 4L, in[1].length * 4L,
+            edge_weights != null ? m * 8L : 0 };
+        sections[0] = HEADER_SIZE;
+        for (int i = 0; i < SECTION_COUNT; i++)
+            sections[i + 1] = sections[i] + lengths[i];
+
+        DataOutputStream dos = new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(file), 1 << 16));
+        try
+        {
+            dos.writeInt(MAGIC);
+            dos.writeInt(VERSION);
+            dos.writeInt(flags);
+            dos.writeInt(n);
+            dos.writeInt(m);
+            for (long offset : sections)
+                dos.writeLong(offset);
+
+            writeElements(dos, vertex_data);
+            writeElements(dos, edge_data);
+            writeInts(dos, edge_first);
+            writeInts(dos, edge_second);
+            writeInts(dos, out[0]);
+            writeInts(dos, out[1]);
+            writeInts(dos, in[0]);
+            writeInts(dos, in[1]);
+            if (edge_weights != null)
+            {
+                for (int e = 0; e < m; e++)
+                {
+                    @SuppressWarnings("unchecked")
+                    Number weight = edge_weights.apply((E)edges[e]);
+                    dos.writeDouble(weight.doubleValue());
+                }
+            }
+        }
+        finally
+        {
+            dos.close();
+        }
+    }
+
+    /**
+     * Encodes <code>elements</code> and sorts both arrays by encoding.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> byte[][] encode(Object[] elements, ElementCodec<? super T> codec)
+    {
+        final byte[][] encoded = new byte[elements.length][];
+        Integer[] order = new Integer[elements.length];
+        for (int i = 0; i < elements.length; i++)
+        {
+            encoded[i] = codec.encode((T)elements[i]);
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>()
+        {
+            public int compare(Integer i, Integer j)
+            {
+                return compareBytes(encoded[i], encoded[j]);
+            }
+        });
+        Object[] sorted_elements = new Object[elements.length];
+        byte[][] sorted = new byte[elements.length][];
+        for (int i = 0; i < order.length; i++)
+        {
+            sorted_elements[i] = elements[order[i]];
+            sorted[i] = encoded[order[i]];
+            if (i > 0 && compareBytes(sorted[i - 1], sorted[i]) == 0)
+                throw new IllegalArgumentException("elements " + sorted_elements[i - 1] +
+                    " and " + sorted_elements[i] + " have the same encoding");
+        }
+        System.arraycopy(sorted_elements, 0, elements, 0, elements.length);
+        return sorted;
+    }
+
+    /**
+     * Compares two byte arrays lexicographically, treating bytes as unsigned.
+     */
+    static int compareBytes(byte[] a, byte[] b)
+    {
+        int length = Math.min(a.length, b.length);
+        for (int i = 0; i < length; i++)
+        {
+            int diff = (a[i] & 0xff) - (b[i] & 0xff);
+            if (diff != 0)
+                return diff;
+        }
+        return a.length - b.length;
+    }
+
+    private static long totalLength(byte[][] data)
+    {
+        long total = 0;
+        for (byte[] bytes : data)
+            total += bytes.length;
+        return total;
+    }
+
+    private static void writeElements(DataOutputStream dos, byte[][] data) throws IOException
+    {
+        long offset = 0;
+        dos.writeLong(offset);
+        for (byte[] bytes : data)
+        {
+            offset += bytes.length;
+            dos.writeLong(offset);
+        }
+        for (byte[] bytes : data)
+            dos.write(bytes);
+    }
+
+    private static void writeInts(DataOutputStream dos, int[] values) throws IOException
+    {
+        for (int value : values)
+            dos.writeInt(value);
+    }
+
+    /**
+     * Returns <code>{offsets, ids}</code>, where the ids of the edges filed under
+     * vertex <code>v</code> (by <code>keys</code>, and by <code>also_keys</code> if
+     * it is non-null and differs) are in <code>ids[offsets[v]..offsets[v+1])</code>.
+     */
+    private static int[][] buildIndex(int n, int[] keys, int[] also_keys)
+    {
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < keys.length; e++)
+        {
+            offsets[keys[e] + 1]++;
+            if (also_keys != null && also_keys[e] != keys[e])
+                offsets[also_keys[e] + 1]++;
+        }
+        for (int v = 0; v < n; v++)
+            offsets[v + 1] += offsets[v];
+        int[] ids = new int[offsets[n]];
+        int[] next = Arrays.copyOf(offsets, n);
+        for (int e = 0; e < keys.length; e++)
+        {
+            ids[next[keys[e]]++] = e;
+            if (also_keys != null && also_keys[e] != keys[e])
+                ids[next[also_keys[e]]++] = e;
+        }
+        return new int[][] { offsets, ids };
+    }
+
+    private static boolean hasParallelEdges(int[] offsets, int[] ids, int[] first, int[] second)
+    {
+        int n = offsets.length - 1;
+        int[] seen = new int[n];
+        for (int v = 0; v < n; v++)
+        {
+            for (int i = offsets[v]; i < offsets[v + 1]; i++)
+            {
+                int e = ids[i];
+                int w = first[e] == v ? second[e] : first[e];
+                if (seen[w] == v + 1)
+                    return true;
+                seen[w] = v + 1;
+            }
+        }
+        return false;
+    }
+}
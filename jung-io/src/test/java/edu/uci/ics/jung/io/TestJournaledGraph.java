@@ -0,0 +1,222 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.io;
+
+import static edu.uci.ics.jung.graph.util.GraphAssert.assertSameGraph;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.ObservableGraph;
+import edu.uci.ics.jung.graph.SparseMultigraph;
+import edu.uci.ics.jung.graph.event.GraphEvent;
+import edu.uci.ics.jung.graph.event.GraphEventListener;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+public class TestJournaledGraph extends TestCase
+{
+    private File directory;
+
+    @Override
+    protected void setUp() throws IOException
+    {
+        directory = Files.createTempDirectory("journal").toFile();
+    }
+
+    @Override
+    protected void tearDown()
+    {
+        for (File f : directory.listFiles())
+            f.delete();
+        directory.delete();
+    }
+
+    private JournaledGraph<String,Integer> open() throws IOException
+    {
+        return new JournaledGraph<String,Integer>(new SparseMultigraph<String,Integer>(),
+            directory, ElementCodecs.strings(), ElementCodecs.integers());
+    }
+
+    private static void mutate(Graph<String,Integer> g, int base)
+    {
+        g.addVertex("isolated" + base);
+        g.addEdge(base + 1, "a", "b");
+        g.addEdge(base + 2, "b", "c", EdgeType.DIRECTED);
+        g.addEdge(base + 3, "c", "c");
+        g.addEdge(base + 4, "c", "d");
+        g.removeEdge(base + 1);
+        g.removeVertex("d");
+    }
+
+    public void testRestore() throws IOException
+    {
+        JournaledGraph<String,Integer> g = open();
+        mutate(g, 0);
+        assertEquals(7, g.getJournalRecordCount());
+        g.close();
+
+        JournaledGraph<String,Integer> restored = open();
+        assertSameGraph(g, restored);
+        assertEquals(7, restored.getJournalRecordCount());
+        restored.close();
+    }
+
+    public void testCheckpoint() throws IOException
+    {
+        JournaledGraph<String,Integer> g = open();
+        mutate(g, 0);
+        g.checkpoint();
+        assertEquals(0, g.getJournalRecordCount());
+        assertEquals(1, g.getGeneration());
+        g.removeVertex("a");
+        mutate(g, 10);
+        g.close();
+
+        JournaledGraph<String,Integer> restored = open();
+        assertSameGraph(g, restored);
+        assertEquals(1, restored.getGeneration());
+        restored.close();
+    }
+
+    public void testAutomaticCheckpoint() throws IOException
+    {
+        JournaledGraph<String,Integer> g = open();
+        g.setCheckpointInterval(5);
+        mutate(g, 0);
+        assertEquals(1, g.getGeneration());
+        assertEquals(2, g.getJournalRecordCount());
+        g.close();
+        assertSameGraph(g, open());
+    }
+
+    public void testStaleJournalIgnored() throws IOException
+    {
+        JournaledGraph<String,Integer> g = open();
+        mutate(g, 0);
+        g.flush();
+        File journal = new File(directory, JournaledGraph.JOURNAL_FILE);
+        File saved = new File(directory, "saved");
+        Files.copy(journal.toPath(), saved.toPath());
+        g.checkpoint();
+        g.close();
+        // as if we had stopped after writing the snapshot but before resetting the journal
+        Files.move(saved.toPath(), journal.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        JournaledGraph<String,Integer> restored = open();
+        assertSameGraph(g, restored);
+        assertEquals(0, restored.getJournalRecordCount());
+        restored.close();
+    }
+
+    public void testPartialRecordDiscarded() throws IOException
+    {
+        JournaledGraph<String,Integer> g = open();
+        mutate(g, 0);
+        g.close();
+        FileOutputStream out = new FileOutputStream(new File(directory, JournaledGraph.JOURNAL_FILE), true);
+        out.write(new byte[] { 0, 0, 0, 20, 1, 2, 3 });
+        out.close();
+
+        JournaledGraph<String,Integer> restored = open();
+        assertSameGraph(g, restored);
+        restored.addVertex("z");
+        restored.close();
+        JournaledGraph<String,Integer> again = open();
+        assertTrue(again.containsVertex("z"));
+        assertEquals(8, again.getJournalRecordCount());
+        again.close();
+    }
+
+    public void testDamagedFinalRecordDiscarded() throws IOException
+    {
+        JournaledGraph<String,Integer> g = open();
+        mutate(g, 0);
+        g.close();
+        File journal = new File(directory, JournaledGraph.JOURNAL_FILE);
+        corrupt(journal, journal.length() - 1);
+
+        // the final change (removal of "d") is lost
+        JournaledGraph<String,Integer> restored = open();
+        assertEquals(6, restored.getJournalRecordCount());
+        assertTrue(restored.containsVertex("d"));
+        restored.close();
+    }
+
+    public void testDamagedRecordNotTruncated() throws IOException
+    {
+        JournaledGraph<String,Integer> g = open();
+        mutate(g, 0);
+        g.close();
+        File journal = new File(directory, JournaledGraph.JOURNAL_FILE);
+        long length = journal.length();
+        // a byte of the first record's payload
+        corrupt(journal, JournaledGraph.HEADER_SIZE + 9);
+        try
+        {
+            open();
+            fail("damaged journal accepted");
+        }
+        catch (IOException ioe)
+        {
+            assertTrue(ioe.getMessage(), ioe.getMessage().contains("offset " + JournaledGraph.HEADER_SIZE));
+        }
+        assertEquals(length, journal.length());
+    }
+
+    private static void corrupt(File file, long offset) throws IOException
+    {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try
+        {
+            raf.seek(offset);
+            int b = raf.read();
+            raf.seek(offset);
+            raf.write(b ^ 0xff);
+        }
+        finally
+        {
+            raf.close();
+        }
+    }
+
+    public void testReplayAsEvents() throws IOException
+    {
+        JournaledGraph<String,Integer> g = open();
+        mutate(g, 0);
+        g.close();
+
+        ObservableGraph<String,Integer> observed =
+            new ObservableGraph<String,Integer>(new SparseMultigraph<String,Integer>());
+        final List<GraphEvent.Type> types = new ArrayList<GraphEvent.Type>();
+        observed.addGraphEventListener(new GraphEventListener<String,Integer>()
+        {
+            public void handleGraphEvent(GraphEvent<String,Integer> evt)
+            {
+                types.add(evt.getType());
+            }
+        });
+        assertEquals(7, JournaledGraph.replay(new File(directory, JournaledGraph.JOURNAL_FILE),
+            observed, ElementCodecs.strings(), ElementCodecs.integers()));
+        assertSameGraph(g, observed);
+        assertEquals(GraphEvent.Type.VERTEX_ADDED, types.get(0));
+        assertEquals(GraphEvent.Type.VERTEX_REMOVED, types.get(types.size() - 1));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.io;
+
+import static edu.uci.ics.jung.graph.util.GraphAssert.assertSameGraph;
+
+import java.io.File;
+import java.io.IOException;
+
+import junit.framework.TestCase;
+
+import com.google.common.base.Function;
+
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IntGraph;
+import edu.uci.ics.jung.graph.SparseMultigraph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+public class TestMappedGraph extends TestCase
+{
+    private File file;
+    private MappedGraphWriter<String,Integer> writer;
+
+    @Override
+    protected void setUp() throws IOException
+    {
+        file = File.createTempFile("mapped", ".graph");
+        writer = new MappedGraphWriter<String,Integer>(ElementCodecs.strings(), ElementCodecs.integers());
+    }
+
+    @Override
+    protected void tearDown()
+    {
+        file.delete();
+    }
+
+    private static void populate(Graph<String,Integer> g)
+    {
+        g.addVertex("isolated");
+        g.addEdge(1, "a", "b");
+        g.addEdge(2, "a", "c");
+        g.addEdge(3, "b", "c");
+        g.addEdge(4, "c", "a");
+        g.addEdge(5, "d", "d");
+        g.addEdge(6, "a", "b");
+    }
+
+    private MappedGraph<String,Integer> roundTrip(Graph<String,Integer> g) throws IOException
+    {
+        writer.save(g, file);
+        return new MappedGraph<String,Integer>(file, ElementCodecs.strings(), ElementCodecs.integers());
+    }
+
+    public void testDirected() throws IOException
+    {
+        Graph<String,Integer> g = new DirectedSparseMultigraph<String,Integer>();
+        populate(g);
+        MappedGraph<String,Integer> mapped = roundTrip(g);
+        assertEquals(EdgeType.DIRECTED, mapped.getDefaultEdgeType());
+        assertSameGraph(g, mapped);
+        assertFalse(mapped.containsVertex(null));
+    }
+
+    public void testUndirected() throws IOException
+    {
+        Graph<String,Integer> g = new UndirectedSparseMultigraph<String,Integer>();
+        populate(g);
+        MappedGraph<String,Integer> mapped = roundTrip(g);
+        assertEquals(EdgeType.UNDIRECTED, mapped.getDefaultEdgeType());
+        assertSameGraph(g, mapped);
+    }
+
+    public void testChunkedSections() throws IOException
+    {
+        // 8-byte chunks, so that every section, and many encodings, span several chunks
+        Graph<String,Integer> g = new DirectedSparseMultigraph<String,Integer>();
+        populate(g);
+        g.addEdge(7, "a long vertex name", "another long vertex name");
+        writer.save(g, file, new Function<Integer, Number>()
+        {
+            public Number apply(Integer e)
+            {
+                return e * 0.5;
+            }
+        });
+        MappedGraph<String,Integer> mapped =
+            new MappedGraph<String,Integer>(file, ElementCodecs.strings(), ElementCodecs.integers(), 3);
+        assertSameGraph(g, mapped);
+        for (Integer e : g.getEdges())
+            assertEquals(e * 0.5, mapped.getEdgeWeight(e), 0);
+    }
+
+    public void testEdgeWeights() throws IOException
+    {
+        Graph<String,Integer> g = new DirectedSparseMultigraph<String,Integer>();
+        populate(g);
+        writer.save(g, file, new Function<Integer, Number>()
+        {
+            public Number apply(Integer e)
+            {
+                return e * 0.5;
+            }
+        });
+        MappedGraph<String,Integer> mapped =
+            new MappedGraph<String,Integer>(file, ElementCodecs.strings(), ElementCodecs.integers());
+        assertTrue(mapped.hasEdgeWeights());
+        for (Integer e : g.getEdges())
+            assertEquals(e * 0.5, mapped.getEdgeWeights().apply(e), 0);
+    }
+
+    public void testIntGraphView() throws IOException
+    {
+        Graph<String,Integer> g = new DirectedSparseMultigraph<String,Integer>();
+        populate(g);
+        IntGraph<String,Integer> ig = roundTrip(g).asIntGraph();
+        assertEquals(g.getVertexCount(), ig.getVertexCount());
+        assertEquals(-1, ig.getVertexId("missing"));
+        for (String v : g.getVertices())
+        {
+            int id = ig.getVertexId(v);
+            assertEquals(v, ig.getVertex(id));
+            assertEquals(g.outDegree(v), ig.outDegree(id));
+            assertEquals(g.inDegree(v), ig.inDegree(id));
+            for (int i = 0; i < ig.outDegree(id); i++)
+                assertEquals(g.getDest(ig.getEdge(ig.outEdge(id, i))),
+                    ig.getVertex(ig.outNeighbor(id, i)));
+        }
+    }
+
+    public void testRejectsMixedGraph() throws IOException
+    {
+        Graph<String,Integer> g = new SparseMultigraph<String,Integer>();
+        g.addEdge(1, "a", "b", EdgeType.DIRECTED);
+        g.addEdge(2, "a", "b", EdgeType.UNDIRECTED);
+        try
+        {
+            writer.save(g, file);
+            fail("mixed graph accepted");
+        }
+        catch (IllegalArgumentException iae) {}
+    }
+
+    public void testReadOnly() throws IOException
+    {
+        Graph<String,Integer> g = new DirectedSparseMultigraph<String,Integer>();
+        populate(g);
+        MappedGraph<String,Integer> mapped = roundTrip(g);
+        try
+        {
+            mapped.addVertex("z");
+            fail("vertex added to read-only graph");
+        }
+        catch (UnsupportedOperationException uoe) {}
+    }
+}
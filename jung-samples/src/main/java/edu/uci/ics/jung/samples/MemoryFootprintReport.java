@@ -0,0 +1,225 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Copyright (c) 2026, The JUNG Authors
+ *
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * https://github.com/jrtom/jung/blob/master/LICENSE for a description.
+ */
+package edu.uci.ics.jung.samples;
+
+import java.awt.Dimension;
+import java.io.PrintStream;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import com.google.common.base.Function;
+import com.google.common.base.Supplier;
+
+import edu.uci.ics.jung.algorithms.layout.FRLayout;
+import edu.uci.ics.jung.algorithms.scoring.PageRank;
+import edu.uci.ics.jung.algorithms.shortestpath.DijkstraDistance;
+import edu.uci.ics.jung.algorithms.util.MemoryFootprint;
+import edu.uci.ics.jung.algorithms.util.MemoryFootprint.GraphFootprint;
+import edu.uci.ics.jung.graph.CompactDirectedGraph;
+import edu.uci.ics.jung.graph.CompactUndirectedGraph;
+import edu.uci.ics.jung.graph.ConcurrentSparseMultigraph;
+import edu.uci.ics.jung.graph.DirectedOrderedSparseMultigraph;
+import edu.uci.ics.jung.graph.DirectedSparseGraph;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.Hypergraph;
+import edu.uci.ics.jung.graph.OrderedSparseMultigraph;
+import edu.uci.ics.jung.graph.SortedSparseMultigraph;
+import edu.uci.ics.jung.graph.SparseGraph;
+import edu.uci.ics.jung.graph.SparseMultigraph;
+import edu.uci.ics.jung.graph.UndirectedOrderedSparseMultigraph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+/**
+ * Prints a table of the heap retained by each of the graph implementations,
+ * and by the state of some commonly used algorithms, for a random graph.
+ * The graph is determined by the arguments, so that runs are comparable:
+ * <pre>
+ * MemoryFootprintReport [vertex count] [edge count] [seed] [sources]
+ * </pre>
+ * The defaults are 10000 vertices, 50000 edges, seed 1, and 10 sources for
+ * the shortest path measurements.  For stable results, run with a fixed heap
+ * size (for instance, <code>-Xms1g -Xmx1g</code>) and no other activity.
+ *
+ * @see MemoryFootprint
+ */
+public class MemoryFootprintReport
+{
+    private static final String ROW_FORMAT = "%-36s %10s %10s %14s %14s%n";
+
+    private final Graph<Integer,Integer> template;
+    private final Graph<Integer,Integer> undirected_template;
+    private final int source_count;
+    private final PrintStream out;
+
+    /**
+     * Creates a report for a random directed graph with the specified numbers
+     * of vertices and edges, with neither self-loops nor pairs of vertices
+     * that are connected in both directions, so that every implementation
+     * accepts every edge.  (Graphs which can only be copied from undirected
+     * graphs are measured on an undirected copy.)
+     * @param vertex_count the number of vertices in the measured graph
+     * @param edge_count the number of edges in the measured graph
+     * @param seed the seed for the random choice of edges
+     * @param source_count the number of sources for shortest path measurements
+     * (at least 1; at most <code>vertex_count</code> are used)
+     * @param out the stream to which the report is written
+     */
+    public MemoryFootprintReport(int vertex_count, int edge_count, long seed, int source_count,
+            PrintStream out)
+    {
+        if (vertex_count < 2)
+            throw new IllegalArgumentException("at least 2 vertices are required");
+        if (edge_count > (long)vertex_count * (vertex_count - 1) / 2)
+            throw new IllegalArgumentException("too many edges for " + vertex_count + " vertices");
+        if (source_count < 1)
+            throw new IllegalArgumentException("at least 1 source is required");
+        this.source_count = Math.min(source_count, vertex_count);
+        this.out = out;
+        this.template = new DirectedSparseGraph<Integer,Integer>(vertex_count, edge_count);
+        Random random = new Random(seed);
+        for (int v = 0; v < vertex_count; v++)
+            template.addVertex(v);
+        Set<Long> pairs = new HashSet<Long>();
+        int e = 0;
+        while (e < edge_count)
+        {
+            int v1 = random.nextInt(vertex_count);
+            int v2 = random.nextInt(vertex_count);
+            if (v1 == v2 || !pairs.add((long)Math.min(v1, v2) * vertex_count + Math.max(v1, v2)))
+                continue;
+            template.addEdge(e++, v1, v2);
+        }
+        this.undirected_template = new UndirectedSparseGraph<Integer,Integer>(vertex_count, edge_count);
+        for (Integer v : template.getVertices())
+            undirected_template.addVertex(v);
+        for (Integer edge : template.getEdges())
+            undirected_template.addEdge(edge, template.getEndpoints(edge));
+    }
+
+    /**
+     * Writes the report.
+     */
+    public void run()
+    {
+        out.printf("%d vertices, %d edges%n%n", template.getVertexCount(), template.getEdgeCount());
+        out.printf(ROW_FORMAT, "graph implementation", "vertices", "edges",
+            "bytes/vertex", "bytes/edge");
+        graphRow("SparseGraph", SparseGraph.<Integer,Integer>getFactory());
+        graphRow("SparseGraph (sized)", new Supplier<Graph<Integer,Integer>>()
+        {
+            public Graph<Integer,Integer> get()
+            {
+                return new SparseGraph<Integer,Integer>(template.getVertexCount(),
+                    template.getEdgeCount());
+            }
+        });
+        graphRow("SparseMultigraph", SparseMultigraph.<Integer,Integer>getFactory());
+        graphRow("DirectedSparseGraph", DirectedSparseGraph.<Integer,Integer>getFactory());
+        graphRow("DirectedSparseMultigraph", DirectedSparseMultigraph.<Integer,Integer>getFactory());
+        graphRow("UndirectedSparseGraph", UndirectedSparseGraph.<Integer,Integer>getFactory());
+        graphRow("UndirectedSparseMultigraph", UndirectedSparseMultigraph.<Integer,Integer>getFactory());
+        graphRow("OrderedSparseMultigraph", OrderedSparseMultigraph.<Integer,Integer>getFactory());
+        graphRow("DirectedOrderedSparseMultigraph",
+            DirectedOrderedSparseMultigraph.<Integer,Integer>getFactory());
+        graphRow("UndirectedOrderedSparseMultigraph",
+            UndirectedOrderedSparseMultigraph.<Integer,Integer>getFactory());
+        graphRow("SortedSparseMultigraph", SortedSparseMultigraph.<Integer,Integer>getFactory());
+        graphRow("ConcurrentSparseMultigraph", ConcurrentSparseMultigraph.<Integer,Integer>getFactory());
+        graphRow("CompactDirectedGraph", new Function<Graph<Integer,Integer>, Hypergraph<Integer,Integer>>()
+        {
+            public Hypergraph<Integer,Integer> apply(Graph<Integer,Integer> source)
+            {
+                return new CompactDirectedGraph<Integer,Integer>(source);
+            }
+        }, template);
+        graphRow("CompactUndirectedGraph", new Function<Graph<Integer,Integer>, Hypergraph<Integer,Integer>>()
+        {
+            public Hypergraph<Integer,Integer> apply(Graph<Integer,Integer> source)
+            {
+                return new CompactUndirectedGraph<Integer,Integer>(source);
+            }
+        }, undirected_template);
+
+        out.println();
+        out.printf(ROW_FORMAT, "algorithm state", "instances", "",
+            "bytes/vertex", "bytes/instance");
+        stateRow("DijkstraDistance (per source)", source_count, new Supplier<Object>()
+        {
+            public Object get()
+            {
+                DijkstraDistance<Integer,Integer> distance =
+                    new DijkstraDistance<Integer,Integer>(template);
+                for (int v = 0; v < source_count; v++)
+                    distance.getDistanceMap(v);
+                return distance;
+            }
+        });
+        stateRow("FRLayout", 1, new Supplier<Object>()
+        {
+            public Object get()
+            {
+                FRLayout<Integer,Integer> layout =
+                    new FRLayout<Integer,Integer>(template, new Dimension(1000, 1000));
+                layout.step();
+                return layout;
+            }
+        });
+        stateRow("PageRank", 1, new Supplier<Object>()
+        {
+            public Object get()
+            {
+                PageRank<Integer,Integer> ranker = new PageRank<Integer,Integer>(template, 0.15);
+                ranker.evaluate();
+                return ranker;
+            }
+        });
+    }
+
+    private void graphRow(String name, Supplier<? extends Graph<Integer,Integer>> factory)
+    {
+        printGraphRow(name, MemoryFootprint.measureGraph(factory, template));
+    }
+
+    private void graphRow(String name,
+            Function<Graph<Integer,Integer>, Hypergraph<Integer,Integer>> copier,
+            Graph<Integer,Integer> source)
+    {
+        printGraphRow(name, MemoryFootprint.measureGraph(copier, source));
+    }
+
+    private void printGraphRow(String name, GraphFootprint footprint)
+    {
+        out.printf(ROW_FORMAT, name, footprint.getVertexCount(), footprint.getEdgeCount(),
+            String.format("%.1f", footprint.getBytesPerVertex()),
+            String.format("%.1f", footprint.getBytesPerEdge()));
+    }
+
+    private void stateRow(String name, int instances, Supplier<Object> state)
+    {
+        long bytes = MemoryFootprint.measure(state);
+        out.printf(ROW_FORMAT, name, instances, "",
+            String.format("%.1f", (double)bytes / (instances * template.getVertexCount())),
+            bytes / instances);
+    }
+
+    public static void main(String[] args)
+    {
+        int vertex_count = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int edge_count = args.length > 1 ? Integer.parseInt(args[1]) : 50000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1;
+        int source_count = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        new MemoryFootprintReport(vertex_count, edge_count, seed, source_count, System.out).run();
+    }
+}
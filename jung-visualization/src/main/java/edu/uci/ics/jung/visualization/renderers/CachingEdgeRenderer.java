@@ -34,6 +34,7 @@ public class CachingEdgeRenderer<V, E> extends BasicEdgeRenderer<V, E>
 	
 	protected Map<E,Shape> edgeShapeMap = new HashMap<E,Shape>();
 	protected Set<E> dirtyEdges = new HashSet<E>();
+	protected long graphModifications = -1;
 	
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public CachingEdgeRenderer(BasicVisualizationServer<V,E> vv) {
@@ -55,6 +56,13 @@ public class CachingEdgeRenderer<V, E> extends BasicEdgeRenderer<V, E>
     	int[] coords = new int[4];
     	boolean[] loop = new boolean[1];
     	
+    	// edges may have been added or removed since the shapes were cached
+    	long modifications = layout.getGraph().getModificationCount();
+    	if(modifications != graphModifications) {
+    		edgeShapeMap.clear();
+    		graphModifications = modifications;
+    	}
+    	
     	Shape edgeShape = edgeShapeMap.get(e);
     	if(edgeShape == null || dirtyEdges.contains(e)) {
     		edgeShape = prepareFinalEdgeShape(rc, layout, e, coords, loop);